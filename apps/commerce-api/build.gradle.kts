@@ -1,3 +1,8 @@
+plugins {
+    // 마이크로 벤치마크 (src/jmh, 실행: ./gradlew :apps:commerce-api:jmh)
+    id("me.champeau.jmh")
+}
+
 dependencies {
     // add-ons
     implementation(project(":modules:jpa"))
@@ -20,8 +25,6 @@ dependencies {
     implementation("io.github.resilience4j:resilience4j-timelimiter:2.1.0")
     implementation ("org.springframework.boot:spring-boot-starter-aop")
 
-    // feign
-    implementation ("org.springframework.cloud:spring-cloud-starter-openfeign")
     // querydsl
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
@@ -32,3 +35,13 @@ dependencies {
     testImplementation(testFixtures(project(":modules:redis")))
     testImplementation("org.awaitility:awaitility:4.2.0")
 }
+
+jmh {
+    warmupIterations = 2
+    iterations = 3
+    fork = 1
+    includeTests = false
+}
+
+// apps 모듈은 Jar 태스크가 비활성화되어 있으므로 벤치마크용 jar 만 허용
+tasks.named<Jar>("jmhJar") { enabled = true }
@@ -0,0 +1,57 @@
+package com.loopers.application.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 릴레이의 이벤트당 메시지 생성 비용
+ *
+ * - reparse: 기존 방식 (payload 파싱 → Map 으로 감싸기 → 재직렬화)
+ * - splice: JsonEnvelopeMessageCodec (payload 를 그대로 이어 붙임)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutboxMessageCodecBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonEnvelopeMessageCodec codec = new JsonEnvelopeMessageCodec();
+
+    private OutboxEvent orderCreated;
+
+    @Setup
+    public void setUp() {
+        String payload = """
+                {"orderId":12345,"userId":987,"totalAmount":159000,"discountAmount":5000,\
+                "couponId":77,"items":[{"productId":101,"quantity":2,"price":50000},\
+                {"productId":202,"quantity":1,"price":59000}],"occurredAt":"2026-10-19T10:15:30"}""";
+        orderCreated = OutboxEvent.create("ORDER", "12345", "OrderCreated", payload);
+    }
+
+    @Benchmark
+    public Object reparse() throws Exception {
+        Object payloadObject = objectMapper.readValue(orderCreated.getPayload(), Object.class);
+        return objectMapper.writeValueAsString(Map.of(
+                "eventId", orderCreated.getId().toString(),
+                "eventType", orderCreated.getEventType(),
+                "aggregateType", orderCreated.getAggregateType(),
+                "aggregateId", orderCreated.getAggregateId(),
+                "payload", payloadObject
+        ));
+    }
+
+    @Benchmark
+    public Object splice() {
+        return codec.encode(orderCreated);
+    }
+}
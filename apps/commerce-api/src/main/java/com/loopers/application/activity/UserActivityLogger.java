@@ -21,7 +21,7 @@ public class UserActivityLogger {
      *
      * @Async로 비동기 처리하여 메인 비즈니스 로직에 영향 없음
      */
-    @Async("taskExecutor")
+    @Async("activityExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void logActivity(UserActivityEvent event) {
         try {
@@ -0,0 +1,85 @@
+package com.loopers.application.coupon;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.coupon.event.CouponExpiredEvent;
+import com.loopers.domain.issuedcoupon.IssuedCoupon;
+import com.loopers.domain.issuedcoupon.IssuedCouponService;
+import com.loopers.domain.outbox.OutboxEventService;
+import com.loopers.kafka.AggregateTypes;
+import com.loopers.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 발급 쿠폰 만료 처리
+ *
+ * 한 청크(쿠폰 하나의 id 구간)를 짧은 트랜잭션 하나로 처리한다.
+ * - 다른 트랜잭션이 잠근 행(사용 중인 쿠폰 등)은 SKIP LOCKED 로 건너뛰고 다음 실행에서 다시 본다.
+ * - 만료 UPDATE 는 USABLE 상태 조건을 함께 걸어 동시에 사용된 쿠폰을 덮어쓰지 않는다.
+ * - COUPON_EXPIRED 이벤트는 커밋 직전에 Outbox 로 한 번에 저장된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponExpiryFacade {
+
+    private final IssuedCouponService issuedCouponService;
+    private final OutboxEventService outboxEventService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 쿠폰의 USABLE 발급 건 중 afterId 이후 한 청크 만료
+     *
+     * @param couponId 유효 기간이 끝난 쿠폰
+     * @param afterId 이전 청크의 마지막 발급 쿠폰 ID (처음이면 0)
+     * @param chunkSize 한 트랜잭션에서 처리할 최대 건수
+     */
+    @Transactional
+    public ExpiredChunk expireChunk(Long couponId, Long afterId, int chunkSize) {
+        List<IssuedCoupon> issuedCoupons = issuedCouponService.lockUsableChunk(couponId, afterId, chunkSize);
+        if (issuedCoupons.isEmpty()) {
+            return new ExpiredChunk(0, afterId, 0);
+        }
+
+        List<Long> issuedCouponIds = issuedCoupons.stream().map(BaseEntity::getId).toList();
+        int expired = issuedCouponService.expireCoupons(issuedCouponIds);
+
+        issuedCoupons.forEach(this::publishCouponExpiredEvent);
+
+        return new ExpiredChunk(issuedCoupons.size(), issuedCouponIds.get(issuedCouponIds.size() - 1), expired);
+    }
+
+    private void publishCouponExpiredEvent(IssuedCoupon issuedCoupon) {
+        try {
+            CouponExpiredEvent couponExpiredEvent = CouponExpiredEvent.of(
+                    issuedCoupon.getId(),
+                    issuedCoupon.getUser().getId(),
+                    issuedCoupon.getCoupon().getId()
+            );
+
+            outboxEventService.createOutboxEvent(
+                    AggregateTypes.COUPON,
+                    issuedCoupon.getId().toString(),
+                    KafkaTopics.Coupon.COUPON_EXPIRED,
+                    objectMapper.writeValueAsString(couponExpiredEvent)
+            );
+        } catch (JsonProcessingException e) {
+            // 이벤트 직렬화 실패 시 로그만 남기고 만료는 그대로 반영
+            log.error("CouponExpiredEvent 직렬화 실패 - issuedCouponId: {}", issuedCoupon.getId(), e);
+        }
+    }
+
+    /**
+     * @param selected 잠금 조회한 건수 (chunkSize 보다 작으면 이 쿠폰의 마지막 청크)
+     * @param lastId 다음 청크의 시작 기준 ID
+     * @param expired 실제 만료된 건수
+     */
+    public record ExpiredChunk(int selected, Long lastId, int expired) {
+    }
+}
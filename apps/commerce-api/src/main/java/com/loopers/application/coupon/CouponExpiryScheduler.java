@@ -0,0 +1,89 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.CouponService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 발급 쿠폰 만료 스케줄러
+ *
+ * 유효 기간(validEndDate)이 지난 쿠폰의 USABLE 발급 건을 쿠폰별 id 구간 청크로 나눠 EXPIRED 로 바꾼다.
+ * (coupon_id, status) 인덱스를 따라 청크마다 짧은 트랜잭션으로 처리하므로 오래 잡는 잠금이 없고,
+ * 한 번 실행에 최대 max-chunks-per-run 청크까지만 처리하고 남은 건은 다음 주기에 이어서 처리한다.
+ * - 대상 쿠폰은 USABLE 발급 건이 남아 있는 종료 쿠폰만 조회하므로, 만료가 끝난 쿠폰이 쌓여도 매 실행 앞쪽에서 막히지 않는다.
+ * - 잠금 조회 결과가 없는 청크(모두 SKIP LOCKED 등)는 청크 수에 포함하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponExpiryScheduler {
+
+    private final CouponService couponService;
+    private final CouponExpiryFacade couponExpiryFacade;
+
+    @Value("${coupon.expiry.enabled:true}")
+    private boolean enabled;
+
+    @Value("${coupon.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${coupon.expiry.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Value("${coupon.expiry.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    @Scheduled(cron = "${coupon.expiry.cron:0 5 * * * *}")
+    public void expireIssuedCoupons() {
+        if (!enabled) {
+            return;
+        }
+
+        int totalExpired = 0;
+        int chunks = 0;
+
+        try {
+            List<Long> endedCouponIds = couponService.getEndedCouponIds(LocalDate.now());
+
+            for (Long couponId : endedCouponIds) {
+                long afterId = 0L;
+
+                while (chunks < maxChunksPerRun) {
+                    CouponExpiryFacade.ExpiredChunk chunk = couponExpiryFacade.expireChunk(couponId, afterId, chunkSize);
+                    if (chunk.selected() == 0) {
+                        break;
+                    }
+                    chunks++;
+                    totalExpired += chunk.expired();
+
+                    if (chunk.selected() < chunkSize) {
+                        break;
+                    }
+                    afterId = chunk.lastId();
+
+                    // 복제 지연/락 경합을 줄이기 위해 청크 사이에 잠시 쉰다
+                    Thread.sleep(chunkPauseMs);
+                }
+
+                if (chunks >= maxChunksPerRun) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("발급 쿠폰 만료 처리 실패 - 만료 건수: {}", totalExpired, e);
+            return;
+        }
+
+        if (totalExpired > 0) {
+            log.info("발급 쿠폰 만료 처리 완료 - 청크: {}, 만료 건수: {}", chunks, totalExpired);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.CouponIssuanceClaim;
+import com.loopers.domain.coupon.CouponIssuanceService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 선착순 쿠폰 발급 저장 워커
+ *
+ * 발급이 확정된 요청을 batch-size 만큼 가져와 한 트랜잭션에서 IssuedCoupon 으로 저장하고 발급 수량을 보정한다.
+ * - 저장이 커밋된 뒤에만 대기열에서 제거하므로, 저장 전에 종료되면 lease-ms 이후 다른 노드가 다시 가져간다.
+ * - 같은 요청이 두 번 저장되어도 (사용자, 쿠폰) 유니크 키에 의해 한 건만 남는다.
+ * - 묶음 저장이 실패하면 요청별로 나누어 저장하고, 실패한 요청은 대기열에 남겨 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssuanceWorker {
+
+    private final CouponIssuanceService couponIssuanceService;
+    private final CouponIssueFacade couponIssueFacade;
+
+    @Value("${coupon.issuance.consumer-name:}")
+    private String consumerName;
+
+    @Value("${coupon.issuance.batch-size:500}")
+    private int batchSize;
+
+    @Value("${coupon.issuance.lease-ms:30000}")
+    private long leaseMs;
+
+    @PostConstruct
+    void init() {
+        if (consumerName == null || consumerName.isBlank()) {
+            consumerName = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issuance.poll-interval-ms:200}")
+    public void persistAdmittedClaims() {
+        List<CouponIssuanceClaim> claims = couponIssuanceService.claim(consumerName, batchSize, Duration.ofMillis(leaseMs));
+        if (claims.isEmpty()) {
+            return;
+        }
+
+        try {
+            couponIssueFacade.persistIssuedCoupons(claims);
+            couponIssuanceService.acknowledge(claims);
+            log.info("선착순 쿠폰 발급 저장 완료 - {}건", claims.size());
+        } catch (Exception e) {
+            log.warn("선착순 쿠폰 발급 일괄 저장 실패, 요청별로 다시 저장 - {}건", claims.size(), e);
+            persistEach(claims);
+        }
+    }
+
+    private void persistEach(List<CouponIssuanceClaim> claims) {
+        List<CouponIssuanceClaim> persisted = new ArrayList<>();
+
+        for (CouponIssuanceClaim claim : claims) {
+            try {
+                couponIssueFacade.persistIssuedCoupons(List.of(claim));
+                persisted.add(claim);
+            } catch (Exception e) {
+                log.error("선착순 쿠폰 발급 저장 실패 - couponId: {}, userId: {}", claim.couponId(), claim.userId(), e);
+            }
+        }
+
+        couponIssuanceService.acknowledge(persisted);
+    }
+
+    private String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
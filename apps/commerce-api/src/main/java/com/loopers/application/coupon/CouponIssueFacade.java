@@ -0,0 +1,47 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.CouponIssuanceClaim;
+import com.loopers.domain.coupon.CouponIssuanceService;
+import com.loopers.domain.coupon.CouponService;
+import com.loopers.domain.coupon.CouponSnapshot;
+import com.loopers.domain.issuedcoupon.IssuedCouponService;
+import com.loopers.domain.user.UserIdentity;
+import com.loopers.domain.user.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class CouponIssueFacade {
+
+    private final UserService userService;
+    private final CouponService couponService;
+    private final CouponIssuanceService couponIssuanceService;
+    private final IssuedCouponService issuedCouponService;
+
+    /**
+     * 선착순 쿠폰 발급 요청
+     *
+     * 발급 여부만 확정하고 응답한다. IssuedCoupon 은 CouponIssuanceWorker 가 묶어서 저장한다.
+     */
+    public CouponIssueInfo requestIssue(Long couponId, String userId) {
+        UserIdentity identity = userService.getUserIdentity(userId);
+
+        CouponSnapshot coupon = couponService.getValidCoupon(couponId);
+        couponIssuanceService.requestIssue(coupon, identity.id());
+
+        return CouponIssueInfo.of(couponId, userId);
+    }
+
+    /**
+     * 발급 확정 건 저장 및 쿠폰별 발급 수량 보정
+     */
+    @Transactional
+    public void persistIssuedCoupons(List<CouponIssuanceClaim> claims) {
+        issuedCouponService.issueAll(claims);
+        couponService.syncIssuanceCounts(claims.stream().map(CouponIssuanceClaim::couponId).distinct().toList());
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.application.coupon;
+
+public record CouponIssueInfo(
+        Long couponId,
+        String userId
+) {
+    public static CouponIssueInfo of(Long couponId, String userId) {
+        return new CouponIssueInfo(couponId, userId);
+    }
+}
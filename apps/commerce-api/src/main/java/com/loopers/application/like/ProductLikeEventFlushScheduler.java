@@ -0,0 +1,62 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.CoalescedLikeChange;
+import com.loopers.domain.like.ProductLikeEventCoalescer;
+import com.loopers.domain.like.ProductLikeService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 병합된 좋아요 이벤트 발행 스케줄러
+ *
+ * ProductLikeEventCoalescer에 쌓인 토글 중 윈도우가 종료된 건의 최종 상태 변화만 Outbox에 기록한다.
+ * like.coalescing.enabled=false 인 경우 쌓이는 토글이 없으므로 아무 작업도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductLikeEventFlushScheduler {
+
+    private final ProductLikeEventCoalescer productLikeEventCoalescer;
+    private final ProductLikeService productLikeService;
+
+    @Scheduled(fixedDelayString = "${like.coalescing.flush-interval-ms:500}")
+    public void flushExpiredToggles() {
+        if (!productLikeEventCoalescer.isEnabled()) {
+            return;
+        }
+
+        publish(productLikeEventCoalescer.drainExpired(System.currentTimeMillis()));
+    }
+
+    /**
+     * 애플리케이션 종료 시 윈도우가 끝나지 않은 토글도 모두 발행
+     */
+    @PreDestroy
+    public void flushAllOnShutdown() {
+        if (!productLikeEventCoalescer.isEnabled()) {
+            return;
+        }
+
+        publish(productLikeEventCoalescer.drainAll());
+    }
+
+    private void publish(List<CoalescedLikeChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        try {
+            productLikeService.publishCoalescedChanges(changes);
+            log.debug("병합된 좋아요 이벤트 발행 완료 - 건수: {}", changes.size());
+        } catch (Exception e) {
+            // 발행 실패 건은 ProductLikeSyncScheduler의 좋아요 수 동기화로 보정됨
+            log.error("병합된 좋아요 이벤트 발행 실패 - 건수: {}", changes.size(), e);
+        }
+    }
+}
@@ -26,7 +26,7 @@ public class ProductLikeEventListener {
      * 좋아요 추가 시 집계 처리
      * - 집계 이벤트는 별도 트랜잭션으로 처리( 집계 로직의 성공/실패와 상관 없이, 좋아요 처리는 정상적으로 완료되어야함 )
      */
-    @Async
+    @Async("likeExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleProductLikeAdded(ProductLikeAddedEvent event) {
@@ -46,7 +46,7 @@ public class ProductLikeEventListener {
      * 좋아요 취소 시 집계 처리
      * - 집계 이벤트는 별도 트랜잭션으로 처리( 집계 로직의 성공/실패와 상관 없이, 좋아요 처리는 정상적으로 완료되어야함 )
      * */
-    @Async
+    @Async("likeExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleProductLikeRemoved(ProductLikeRemovedEvent event) {
@@ -4,7 +4,7 @@ import com.loopers.domain.like.ProductLike;
 import com.loopers.domain.like.ProductLikeService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
-import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserIdentity;
 import com.loopers.domain.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -20,25 +20,25 @@ public class ProductLikeFacade {
 
     @Transactional
     public ProductLikeInfo addLike(Long productId, String userId) {
-        // User 정보 조회
-        User user = userService.getUser(userId);
+        // User 식별 정보 조회 (캐시, 사용자 행은 조회/잠금하지 않음)
+        UserIdentity identity = userService.getUserIdentity(userId);
 
         // Product 정보 조회 (동시성 제어를 위해 비관적 락 사용)
         Product product = productService.getProductWithLock(productId);
 
-        ProductLike saved = productLikeService.addLike(user, product);
+        ProductLike saved = productLikeService.addLike(userService.getUserReference(identity), identity.userId(), product);
 
         return ProductLikeInfo.from(saved);
     }
 
     @Transactional
     public void cancelLike(Long productId, String userId) {
-        // User 정보 조회
-        User user = userService.getUser(userId);
+        // User 식별 정보 조회 (캐시, 사용자 행은 조회/잠금하지 않음)
+        UserIdentity identity = userService.getUserIdentity(userId);
 
         // Product 정보 조회 (동시성 제어를 위해 비관적 락 사용)
         Product product = productService.getProductWithLock(productId);
 
-        productLikeService.cancelLike(user, product);
+        productLikeService.cancelLike(userService.getUserReference(identity), identity.userId(), product);
     }
 }
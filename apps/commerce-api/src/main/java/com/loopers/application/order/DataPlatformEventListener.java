@@ -21,7 +21,7 @@ public class DataPlatformEventListener {
      * 주문 완료 이벤트 처리
      * 트랜잭션 커밋 후에 데이터 플랫폼으로 전송
      */
-    @Async
+    @Async("dataPlatformExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleOrderCompleted(OrderCompletedEvent event) {
         log.info("주문 완료 이벤트 수신 - orderId: {}", event.orderId());
@@ -51,7 +51,7 @@ public class DataPlatformEventListener {
      * 주문 실패 이벤트 처리
      * 트랜잭션 커밋 후에 데이터 플랫폼으로 전송
      */
-    @Async
+    @Async("dataPlatformExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleOrderFailure(OrderFailureEvent event) {
         log.info("주문 실패 이벤트 수신 - orderId: {}", event.orderId());
@@ -1,13 +1,26 @@
 package com.loopers.application.order;
 
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.issuedcoupon.IssuedCouponService;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderCompensation;
+import com.loopers.domain.order.OrderCompensationQueueService;
 import com.loopers.domain.order.OrderService;
-import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 주문 보상 트랜잭션 서비스
@@ -17,6 +30,12 @@ import org.springframework.transaction.annotation.Transactional;
  * - 쿠폰 복구
  * - 포인트 환불 (선택적)
  * - 주문 취소
+ *
+ * 여러 주문을 한 트랜잭션에서 묶어 보상합니다.
+ * - 재고는 상품별로 합산하여 전체 상품을 UPDATE 한 번, 포인트는 사용자별로 합산하여 사용자마다 UPDATE 한 번
+ * - 재고는 엔티티를 거치지 않고 갱신하므로, 커밋 이후 복구한 상품의 상세 캐시를 제거한다.
+ * - 쿠폰 복구와 주문 취소는 IN 조건의 일괄 UPDATE 한 번
+ * - 이미 취소되었거나 완료된 주문은 잠금 조회 단계에서 제외되어 중복 보상되지 않음 (주문 단위 멱등성)
  */
 @Slf4j
 @Component
@@ -24,90 +43,101 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderCompensationService {
 
     private final OrderService orderService;
+    private final ProductService productService;
+    private final UserService userService;
+    private final IssuedCouponService issuedCouponService;
+    private final OrderCompensationQueueService orderCompensationQueueService;
+    private final ProductFacade productFacade;
 
     /**
-     * 기본 주문 보상 트랜잭션
-     *
-     * 사용 시나리오: 포인트 결제 이벤트 처리 실패
-     * - 재고 복구
-     * - 쿠폰 복구
-     * - 주문 취소
+     * 보상 요청 등록
+     * 호출한 트랜잭션과 함께 커밋되며, 실제 보상은 OrderCompensationWorker 가 묶어서 처리한다.
      *
      * @param orderId 보상 대상 주문
+     * @param refundPoint 포인트 환불 포함 여부
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void compensateOrder(Long orderId) {
-        Order order = orderService.getOrderWithDetailsById(orderId);
+    public void requestCompensation(Long orderId, boolean refundPoint) {
+        orderCompensationQueueService.request(orderId, refundPoint);
+    }
 
-        // 멱등성 보장: 이미 취소된 주문은 스킵
-        if (order.getStatus() == OrderStatus.CANCELED) {
-            log.info("이미 취소된 주문입니다 - OrderId: {}", order.getId());
-            return;
+    /**
+     * 점유한 보상 요청 일괄 처리
+     *
+     * @param compensationIds 점유한 보상 요청 ID 목록
+     * @return 처리한 요청 수
+     */
+    @Transactional
+    public int compensateRequests(List<Long> compensationIds) {
+        List<OrderCompensation> pending = orderCompensationQueueService.lockPending(compensationIds);
+        if (pending.isEmpty()) {
+            return 0;
         }
 
-        log.info("보상 트랜잭션 시작 - OrderId: {}", order.getId());
+        List<Long> orderIds = pending.stream().map(OrderCompensation::getOrderId).toList();
+        Set<Long> refundOrderIds = pending.stream()
+                .filter(OrderCompensation::isRefundPoint)
+                .map(OrderCompensation::getOrderId)
+                .collect(Collectors.toSet());
 
-        // 1. 재고 복구
-        order.getOrderItems().forEach(orderItem -> {
-            orderItem.getProduct().increaseStock(orderItem.getQuantity());
-            log.info("재고 복구 완료 - Product: {}, Quantity: {}",
-                    orderItem.getProduct().getProductName(), orderItem.getQuantity());
-        });
-
-        // 2. 쿠폰 복구
-        if (order.getIssuedCoupon() != null) {
-            order.getIssuedCoupon().restoreCoupon();
-            log.info("쿠폰 복구 완료 - IssuedCouponId: {}", order.getIssuedCoupon().getId());
-        }
-
-        // 3. 주문 취소
-        order.cancelOrder();
+        compensate(orderIds, refundOrderIds);
+        orderCompensationQueueService.markCompleted(pending.stream().map(BaseEntity::getId).toList());
 
-        log.info("보상 트랜잭션 완료 - OrderId: {}", order.getId());
+        return pending.size();
     }
 
-    /**
-     * 포인트 환불 포함 보상 트랜잭션
-     *
-     * 사용 시나리오: PG 결제 실패 콜백 처리
-     * - 기본 보상 트랜잭션 실행
-     * - 포인트 환불 추가
-     *
-     * @param orderId 보상 대상 주문
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void compensateOrderWithPointRefund(Long orderId) {
-        Order order = orderService.getOrderWithDetailsById(orderId);
+    private void compensate(List<Long> orderIds, Set<Long> refundOrderIds) {
+        // 주문 잠금 (id 순) - 이미 취소/완료된 주문은 제외
+        List<Long> cancelableIds = orderService.lockCancelableOrders(orderIds).stream()
+                .map(Order::getId)
+                .toList();
 
-        // 멱등성 보장: 이미 취소된 주문은 스킵
-        if (order.getStatus() == OrderStatus.CANCELED) {
-            log.info("이미 취소된 주문입니다 - OrderId: {}", order.getId());
+        if (cancelableIds.size() < orderIds.size()) {
+            log.info("이미 취소되었거나 완료된 주문은 보상하지 않습니다 - 요청: {}건, 대상: {}건",
+                    orderIds.size(), cancelableIds.size());
+        }
+        if (cancelableIds.isEmpty()) {
             return;
         }
 
-        log.info("포인트 환불 포함 보상 트랜잭션 시작 - OrderId: {}", order.getId());
+        log.info("보상 트랜잭션 시작 - 주문 {}건", cancelableIds.size());
 
-        // 1. 재고 복구
-        order.getOrderItems().forEach(orderItem -> {
-            orderItem.getProduct().increaseStock(orderItem.getQuantity());
-            log.info("재고 복구 완료 - Product: {}, Quantity: {}",
-                    orderItem.getProduct().getProductName(), orderItem.getQuantity());
-        });
+        // 1. 재고 복구 (상품별 합산)
+        Map<Long, Integer> quantitiesByProductId = orderService.sumItemQuantitiesByProduct(cancelableIds);
+        productService.increaseStocks(quantitiesByProductId);
+        evictProductCachesAfterCommit(quantitiesByProductId.keySet());
 
-        // 2. 포인트 환불
-        order.getUser().refundPoint(order.getTotalPrice());
-        log.info("포인트 환불 완료 - UserId: {}, Amount: {}",
-                order.getUser().getUserId(), order.getTotalPrice().getAmount());
+        // 2. 포인트 환불 (사용자별 합산)
+        List<Long> refundIds = cancelableIds.stream().filter(refundOrderIds::contains).toList();
+        userService.refundPoints(orderService.sumTotalPriceByUser(refundIds));
 
         // 3. 쿠폰 복구
-        if (order.getIssuedCoupon() != null) {
-            order.getIssuedCoupon().restoreCoupon();
-            log.info("쿠폰 복구 완료 - IssuedCouponId: {}", order.getIssuedCoupon().getId());
-        }
+        int restoredCoupons = issuedCouponService.restoreUsedCoupons(orderService.getIssuedCouponIds(cancelableIds));
 
         // 4. 주문 취소
-        order.cancelOrder();
+        orderService.cancelOrders(cancelableIds);
+
+        log.info("보상 트랜잭션 완료 - 주문: {}건, 포인트 환불: {}건, 쿠폰 복구: {}건",
+                cancelableIds.size(), refundIds.size(), restoredCoupons);
+    }
 
-        log.info("포인트 환불 포함 보상 트랜잭션 완료 - OrderId: {}", order.getId());
+    /**
+     * 재고를 복구한 상품의 상세 캐시 제거
+     * 커밋 이전에 제거하면 다른 요청이 복구 전 재고로 다시 채울 수 있으므로 커밋 이후에 제거한다.
+     */
+    private void evictProductCachesAfterCommit(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(productIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(productFacade::evictProductCache);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(productFacade::evictProductCache);
+            }
+        });
     }
 }
@@ -0,0 +1,62 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.order.OrderCompensationQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주문 보상 대기열 처리 워커
+ *
+ * 보상 요청을 batch-size 만큼 점유하여 한 트랜잭션에서 묶어 보상한다.
+ * - 묶음 보상이 실패하면 주문별 트랜잭션으로 나누어 다시 처리하여 문제 주문만 실패로 기록한다.
+ * - 실패한 요청은 retry-delay-ms 이후 재시도하며, max-attempts 에 도달하면 FAILED 로 남는다.
+ * - 처리 도중 서버가 종료되면 점유(lease)가 만료된 뒤 다른 노드가 다시 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCompensationWorker {
+
+    private final OrderCompensationQueueService orderCompensationQueueService;
+    private final OrderCompensationService orderCompensationService;
+
+    @Value("${order.compensation.batch-size:200}")
+    private int batchSize;
+
+    @Value("${order.compensation.lease-ms:30000}")
+    private long leaseMs;
+
+    @Scheduled(fixedDelayString = "${order.compensation.poll-interval-ms:500}")
+    public void compensatePendingOrders() {
+        List<Long> claimedIds = orderCompensationQueueService.claim(batchSize, Duration.ofMillis(leaseMs)).stream()
+                .map(BaseEntity::getId)
+                .toList();
+        if (claimedIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            int compensated = orderCompensationService.compensateRequests(claimedIds);
+            log.info("주문 보상 일괄 처리 완료 - 점유: {}건, 처리: {}건", claimedIds.size(), compensated);
+        } catch (Exception e) {
+            log.warn("주문 보상 일괄 처리 실패, 주문별로 다시 처리 - {}건", claimedIds.size(), e);
+            claimedIds.forEach(this::compensateEach);
+        }
+    }
+
+    private void compensateEach(Long compensationId) {
+        try {
+            orderCompensationService.compensateRequests(List.of(compensationId));
+        } catch (Exception e) {
+            log.error("주문 보상 실패 - compensationId: {}", compensationId, e);
+            orderCompensationQueueService.recordFailure(compensationId, e.getMessage());
+        }
+    }
+}
@@ -4,8 +4,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.payment.PaymentProcessor;
 import com.loopers.domain.activity.event.UserActivityEvent;
-import com.loopers.domain.coupon.Coupon;
 import com.loopers.domain.coupon.CouponService;
+import com.loopers.domain.coupon.CouponSnapshot;
 import com.loopers.domain.coupon.event.CouponUsedEvent;
 import com.loopers.domain.issuedcoupon.IssuedCoupon;
 import com.loopers.domain.issuedcoupon.IssuedCouponService;
@@ -17,6 +17,7 @@ import com.loopers.domain.payment.PaymentType;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserIdentity;
 import com.loopers.domain.user.UserService;
 import com.loopers.kafka.AggregateTypes;
 import com.loopers.kafka.KafkaTopics;
@@ -51,11 +52,12 @@ public class OrderFacade {
 
     @Transactional
     public OrderInfo createOrder(OrderCommand command) {
-        // 1. User 정보 조회
-        User user = userService.getUser(command.userId());
+        // 1. User 식별 정보 조회 (캐시, 사용자 행 잠금은 포인트 결제 시에만 PaymentProcessor 에서)
+        UserIdentity identity = userService.getUserIdentity(command.userId());
+        User user = userService.getUserReference(identity);
 
         // 2. 쿠폰 처리
-        Coupon coupon = null;
+        CouponSnapshot coupon = null;
         IssuedCoupon issuedCoupon = null;
         if (command.couponId() != null) {
             // 1. 쿠폰 유효성 검증 (실패 시 예외)
@@ -65,13 +67,16 @@ public class OrderFacade {
 
             // 2. 사전 검증을 통해 쿠폰 사용 가능 여부 검증
             issuedCoupon.validateCanUseCoupon();
+
+            // 3. 쿠폰 사용 처리 (조건부 UPDATE - 동시 주문 중 한 건만 성공, 주문 실패 시 함께 롤백)
+            issuedCouponService.useCoupon(issuedCoupon);
         }
 
         // 3. 상품 조회 (Pessimistic Lock)
         Map<Product, Integer> productQuantities = getProductQuantities(command);
 
         // 4. 주문 생성
-        Order order = Order.createOrder(user, productQuantities, coupon, issuedCoupon);
+        Order order = Order.createOrder(user, productQuantities, coupon != null ? coupon.discount() : null, issuedCoupon);
 
         // 5. 재고 차감
         productQuantities.forEach(Product::decreaseStock);
@@ -93,7 +98,7 @@ public class OrderFacade {
             );
         }
 
-        // 8. 쿠폰 사용 처리 (이벤트 발행 실패 시에도 주문은 성공 처리)
+        // 8. 쿠폰 사용 이벤트 발행 (이벤트 발행 실패 시에도 주문은 성공 처리)
         if (issuedCoupon != null) {
             publishCouponUsedEvent(user, coupon, savedOrder, order);
         }
@@ -102,9 +107,9 @@ public class OrderFacade {
         publishOrderCreatedEvent(savedOrder, user, command);
 
         // 10. 사용자 행동 추적 이벤트 발행 (이벤트 발행 실패 시에도 주문은 성공 처리)
-        publishUserActivityEvent(user, savedOrder);
+        publishUserActivityEvent(identity, savedOrder);
 
-        return OrderInfo.from(savedOrder);
+        return OrderInfo.from(savedOrder, identity.userId());
     }
 
     /**
@@ -128,11 +133,11 @@ public class OrderFacade {
      * 쿠폰 사용 이벤트 발행
      * 실패 시에도 주문 트랜잭션에 영향을 주지 않음
      */
-    private void publishCouponUsedEvent(User user, Coupon coupon, Order savedOrder, Order order) {
+    private void publishCouponUsedEvent(User user, CouponSnapshot coupon, Order savedOrder, Order order) {
         try {
             CouponUsedEvent couponUsedEvent = CouponUsedEvent.of(
                     user.getId(),
-                    coupon.getId(),
+                    coupon.id(),
                     savedOrder.getId(),
                     order.getTotalPrice()
             );
@@ -148,7 +153,7 @@ public class OrderFacade {
         } catch (JsonProcessingException e) {
             // 이벤트 발행 실패 시 로그만 남기고 주문은 성공 처리
             log.error("CouponUsedEvent 직렬화 실패 - 주문은 성공 처리됨. orderId: {}, couponId: {}",
-                    savedOrder.getId(), coupon.getId(), e);
+                    savedOrder.getId(), coupon.id(), e);
         }
     }
 
@@ -194,10 +199,10 @@ public class OrderFacade {
      * 사용자 활동 이벤트 발행
      * 실패 시에도 주문 트랜잭션에 영향을 주지 않음
      */
-    private void publishUserActivityEvent(User user, Order savedOrder) {
+    private void publishUserActivityEvent(UserIdentity identity, Order savedOrder) {
         try {
             UserActivityEvent userActivityEvent = UserActivityEvent.of(
-                    user.getUserId(),
+                    identity.userId(),
                     "ORDER_CREATED",
                     "ORDER",
                     savedOrder.getId()
@@ -214,7 +219,7 @@ public class OrderFacade {
         } catch (JsonProcessingException e) {
             // 이벤트 발행 실패 시 로그만 남기고 주문은 성공 처리
             log.error("UserActivityEvent 직렬화 실패 - 주문은 성공 처리됨. orderId: {}, userId: {}",
-                    savedOrder.getId(), user.getId(), e);
+                    savedOrder.getId(), identity.id(), e);
         }
     }
 }
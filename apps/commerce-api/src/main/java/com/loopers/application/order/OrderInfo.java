@@ -17,11 +17,18 @@ public record OrderInfo (
         LocalDateTime createdAt
 ) {
     public static OrderInfo from(Order order) {
+        return from(order, order.getUser().getUserId());
+    }
+
+    /**
+     * 주문자의 로그인 ID 를 따로 받아 사용자 참조의 지연 조회를 피한다.
+     */
+    public static OrderInfo from(Order order, String userId) {
         return new OrderInfo(
                 order.getId(),
                 order.getStatus(),
                 order.getTotalPrice().getAmount(),
-                order.getUser().getUserId(),
+                userId,
                 order.getOrderItems().stream().map(OrderItemInfo::from).toList(),
                 order.getCreatedAt().toLocalDateTime()
         );
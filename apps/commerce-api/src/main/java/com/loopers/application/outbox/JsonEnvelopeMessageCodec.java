@@ -0,0 +1,45 @@
+package com.loopers.application.outbox;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.loopers.domain.outbox.OutboxEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON envelope 코덱
+ *
+ * {"eventId":..,"eventType":..,"aggregateType":..,"aggregateId":..,"payload":{원본 payload}}
+ * 저장된 payload 는 생성 시점에 이미 JSON 으로 직렬화되어 있으므로 파싱하지 않고 그대로 이어 붙이고,
+ * envelope 문자열 필드만 escape 한다.
+ */
+@Component
+public class JsonEnvelopeMessageCodec implements OutboxMessageCodec {
+
+    private static final int ENVELOPE_OVERHEAD = 128;
+
+    @Override
+    public Object encode(OutboxEvent outboxEvent) {
+        String payload = outboxEvent.getPayload();
+        StringBuilder message = new StringBuilder(payload.length() + ENVELOPE_OVERHEAD);
+
+        message.append('{');
+        appendField(message, "eventId", outboxEvent.getId().toString()).append(',');
+        appendField(message, "eventType", outboxEvent.getEventType()).append(',');
+        appendField(message, "aggregateType", outboxEvent.getAggregateType()).append(',');
+        appendField(message, "aggregateId", outboxEvent.getAggregateId()).append(',');
+        message.append("\"payload\":").append(payload);
+        message.append('}');
+
+        return message.toString();
+    }
+
+    @Override
+    public String contentType() {
+        return "application/json";
+    }
+
+    private StringBuilder appendField(StringBuilder message, String name, String value) {
+        message.append('"').append(name).append("\":\"");
+        JsonStringEncoder.getInstance().quoteAsString(value, message);
+        return message.append('"');
+    }
+}
@@ -1,20 +1,61 @@
 package com.loopers.application.outbox;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.domain.outbox.OutboxEvent;
 import com.loopers.domain.outbox.OutboxEventService;
+import com.loopers.kafka.EventHeaders;
 import com.loopers.kafka.KafkaTopics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+/**
+ * Outbox 이벤트 릴레이
+ *
+ * 배치 단위로 모든 이벤트를 비동기로 전송한 뒤 한꺼번에 완료를 기다리고,
+ * 결과는 성공/실패 각각 한 번의 UPDATE ... WHERE id IN (...) 으로 반영한다.
+ * - 전송은 id(저장) 순서대로 호출되며, 같은 aggregateId 는 같은 파티션으로 가므로
+ *   멱등성 프로듀서(enable.idempotence)가 파티션 내 순서를 보장한다.
+ * - 전송 요청 자체가 실패한 aggregateId 는 같은 배치의 이후 이벤트를 보내지 않고
+ *   PENDING 으로 남겨 다음 주기에 순서대로 재시도한다.
+ * - 전송 결과(브로커 응답)가 실패한 aggregateId 는 같은 배치의 이후 이벤트가 성공했더라도 발행 완료로 처리하지 않고
+ *   점유만 해제하여, 앞선 이벤트가 발행된 뒤 다시 보낸다. (Consumer 는 eventId 로 중복을 걸러낸다)
+ * - 메시지를 만들 수 없는 이벤트(잘못된 payload, 알 수 없는 aggregateType)는 재시도 없이 바로 PARKED 처리한다.
+ * - 앞선 이벤트가 FAILED/PARKED 인 aggregate 의 이후 이벤트는 조회 단계에서 제외되어, 앞선 이벤트가 발행될 때까지 기다린다.
+ *
+ * 여러 노드에서 실행되는 경우 각 노드는 SKIP LOCKED + 점유(lease)로 서로 겹치지 않는 배치를 가져간다.
+ * outbox.relay.partition-count / partitions 로 aggregateId 해시 파티션을 나눠 맡기면
+ * 같은 aggregateId 는 항상 한 노드만 발행하므로 노드 간에도 키 단위 순서가 유지된다.
+ *
+ * 일반적인 발행은 커밋 직후 OutboxImmediateDispatcher 가 처리하며,
+ * 이 스케줄러는 즉시 발행에서 누락된 이벤트(서버 종료, 큐 초과 등)와 재시도 시각이 지난 FAILED 이벤트를 처리한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -22,68 +63,248 @@ public class OutboxEventPublisher {
 
     private final OutboxEventService outboxEventService;
     private final KafkaTemplate<Object, Object> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxMessageCodec outboxMessageCodec;
+    private final MeterRegistry meterRegistry;
 
     private final int QUERY_LIMIT = 200;
+    private final int RETRY_QUERY_LIMIT = 50;  // 신규 이벤트가 많아도 재시도가 밀리지 않도록 별도 할당
+    private final long SEND_TIMEOUT_SECONDS = 10;
+
+    @Value("${outbox.relay.owner-id:}")
+    private String ownerId;
+
+    @Value("${outbox.relay.lease-seconds:30}")
+    private long leaseSeconds;
+
+    @Value("${outbox.relay.partition-count:1}")
+    private int partitionCount;
+
+    @Value("${outbox.relay.partitions:}")
+    private List<Integer> partitions;
+
+    @Value("${outbox.dispatch.immediate.enabled:true}")
+    private boolean immediateDispatchEnabled;
+
+    // 즉시 발행이 처리 중인 최근 이벤트는 폴러가 가져가지 않도록 하는 유예 시간
+    @Value("${outbox.relay.sweep-grace-ms:5000}")
+    private long sweepGraceMs;
+
+    @PostConstruct
+    void init() {
+        if (ownerId == null || ownerId.isBlank()) {
+            ownerId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        if (partitions == null || partitions.isEmpty()) {
+            partitions = IntStream.range(0, partitionCount).boxed().toList();
+        }
+        log.info("Outbox 릴레이 설정 - owner: {}, partitionCount: {}, partitions: {}",
+                ownerId, partitionCount, partitions);
+    }
 
     @Scheduled(fixedDelay = 3000)  // 3초마다 실행하여 이벤트 발행 처리
     public void publishPendingEvents() {
-        // 이벤트 발행 상태가 PENDING 인 목록을 가져온다.
-        List<OutboxEvent> pendingEvents = outboxEventService.getPendingEvents(QUERY_LIMIT);
+        ZonedDateTime createdBefore = immediateDispatchEnabled
+                ? ZonedDateTime.now().minus(Duration.ofMillis(sweepGraceMs))
+                : ZonedDateTime.now();
+
+        // 다른 노드가 점유하지 않은 PENDING 이벤트를 점유하여 가져온다.
+        List<OutboxEvent> claimedEvents = outboxEventService.claimPendingEvents(
+                ownerId,
+                Duration.ofSeconds(leaseSeconds),
+                createdBefore,
+                partitionCount,
+                partitions,
+                QUERY_LIMIT
+        );
+        // 재시도 시각이 지난 FAILED 이벤트도 함께 가져온다.
+        List<OutboxEvent> retryEvents = outboxEventService.claimRetryableEvents(
+                ownerId,
+                Duration.ofSeconds(leaseSeconds),
+                partitionCount,
+                partitions,
+                RETRY_QUERY_LIMIT
+        );
+        if (claimedEvents.isEmpty() && retryEvents.isEmpty()) {
+            return;
+        }
+
+        List<OutboxEvent> batch = new ArrayList<>(retryEvents);
+        batch.addAll(claimedEvents);
+        // 한 트랜잭션에서 저장된 이벤트는 createdAt 이 같으므로 id 순으로 정렬한다.
+        batch.sort(Comparator.comparing(OutboxEvent::getId));
+
+        List<OutboxEvent> publishedEvents = publishBatch(batch);
+
+        // 커밋 시각을 알 수 없으므로 생성 시각 기준으로 기록
+        ZonedDateTime now = ZonedDateTime.now();
+        Timer latency = publishLatencyTimer("poller");
+        publishedEvents.forEach(event -> latency.record(Duration.between(event.getCreatedAt(), now)));
+    }
+
+    /**
+     * 지정한 이벤트 즉시 발행 (커밋 직후 호출)
+     * 이 노드가 맡은 파티션이 아니거나 이미 다른 곳에서 점유/발행된 이벤트는 건너뛴다.
+     *
+     * @return 발행에 성공한 이벤트 목록
+     */
+    public List<OutboxEvent> publishByIds(List<Long> ids) {
+        List<OutboxEvent> claimedEvents = outboxEventService.claimEventsByIds(
+                ids,
+                ownerId,
+                Duration.ofSeconds(leaseSeconds),
+                partitionCount,
+                partitions
+        );
+        if (claimedEvents.isEmpty()) {
+            return List.of();
+        }
+
+        return publishBatch(claimedEvents);
+    }
+
+    /**
+     * 커밋(생성) → 브로커 ack 까지의 지연 시간
+     *
+     * @param path immediate: 커밋 직후 발행, poller: 폴링으로 발행
+     */
+    public Timer publishLatencyTimer(String path) {
+        return Timer.builder("outbox.publish.latency")
+                .description("Outbox 이벤트 커밋부터 Kafka 발행 완료까지 걸린 시간")
+                .tag("path", path)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배치 발행
+     *
+     * @param events id 오름차순으로 정렬된 이벤트 목록
+     * @return 발행에 성공한 이벤트 목록
+     */
+    public List<OutboxEvent> publishBatch(List<OutboxEvent> events) {
+        Map<OutboxEvent, CompletableFuture<SendResult<Object, Object>>> inFlight = new LinkedHashMap<>();
+        Set<String> blockedKeys = new HashSet<>();
+        Map<Long, String> failures = new LinkedHashMap<>();
+        Map<Long, String> parked = new LinkedHashMap<>();
+        List<Long> deferredIds = new ArrayList<>();
+
+        // 1. 전체 이벤트 비동기 전송 (응답을 기다리지 않음)
+        for (OutboxEvent event : events) {
+            String orderingKey = orderingKey(event);
+            if (blockedKeys.contains(orderingKey)) {
+                deferredIds.add(event.getId());
+                continue;
+            }
 
-        for(OutboxEvent event : pendingEvents) {
             try {
-                publishEvent(event);
+                inFlight.put(event, kafkaTemplate.send(createRecord(event)));
+            } catch (IllegalArgumentException e) {
+                // 메시지 자체가 잘못된 경우 재시도해도 성공할 수 없으므로 바로 PARKED 처리
+                // (같은 키의 이후 이벤트는 보내지 않고 PARKED 이벤트 뒤에서 대기)
+                log.error("Outbox 이벤트 메시지 생성 실패 - id: {}", event.getId(), e);
+                parked.put(event.getId(), e.toString());
+                blockedKeys.add(orderingKey);
             } catch (Exception e) {
-                log.error("Outbox 이벤트 발행 실패 - id: {}", event.getId(), e);
+                // 프로듀서 버퍼 부족 등 일시적 실패 - 같은 키의 이후 이벤트는 순서 보장을 위해 다음 주기로 미룬다
+                log.warn("Outbox 이벤트 전송 요청 실패, 다음 주기에 재시도 - id: {}", event.getId(), e);
+                blockedKeys.add(orderingKey);
+                deferredIds.add(event.getId());
             }
         }
-    }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void publishEvent(OutboxEvent outboxEvent) {
-        try {
-            // 토픽 결정 (aggregateType 기반)
-            String topic = determineTopicByAggregateType(outboxEvent.getAggregateType());
-
-            // 전체 메시지 구조 생성 (Consumer가 기대하는 형식)
-            String message = createEventMessage(outboxEvent);
-
-            // Kafka 발행
-            kafkaTemplate.send(
-                    topic,
-                    outboxEvent.getAggregateId(),  // Partition Key
-                    message  // JSON String으로 전송
-            ).get(10, TimeUnit.SECONDS);  // 타임아웃 설정
-
-            // 발행 성공 시 상태 업데이트
-            outboxEvent.markAsPublished();
-            outboxEventService.save(outboxEvent);
-
-            log.info("Outbox 이벤트 발행 완료 - id: {}, aggregateType: {}, eventType: {}",
-                    outboxEvent.getId(), outboxEvent.getAggregateType(), outboxEvent.getEventType());
-
-        } catch (Exception e) {
-            log.error("Kafka 발행 실패 - Outbox id: {}", outboxEvent.getId(), e);
-            outboxEvent.markAsFailed();
-            outboxEventService.save(outboxEvent);
+        // 2. 공통 타임아웃 내에서 전체 전송 결과 대기 (생성 순서대로 확인)
+        List<OutboxEvent> publishedEvents = new ArrayList<>();
+        List<Long> publishedIds = new ArrayList<>();
+        Set<String> failedKeys = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SEND_TIMEOUT_SECONDS);
+        boolean interrupted = false;
+
+        for (Map.Entry<OutboxEvent, CompletableFuture<SendResult<Object, Object>>> entry : inFlight.entrySet()) {
+            OutboxEvent event = entry.getKey();
+            String orderingKey = orderingKey(event);
+            CompletableFuture<SendResult<Object, Object>> future = entry.getValue();
+            if (interrupted && !future.isDone()) {
+                // 인터럽트 이후에는 기다리지 않는다 - 결과를 모르는 이벤트는 점유만 해제하고 같은 키의 이후 이벤트도 보류
+                failedKeys.add(orderingKey);
+                deferredIds.add(event.getId());
+                continue;
+            }
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                future.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Outbox 발행 결과 대기 중 인터럽트, 완료되지 않은 이벤트는 점유를 해제 - id: {}", event.getId());
+                interrupted = true;
+                failedKeys.add(orderingKey);
+                deferredIds.add(event.getId());
+                continue;
+            } catch (Exception e) {
+                if (failedKeys.add(orderingKey)) {
+                    log.error("Kafka 발행 실패 - Outbox id: {}, attemptCount: {}", event.getId(), event.getAttemptCount() + 1, e);
+                    failures.put(event.getId(), e.toString());
+                    continue;
+                }
+            }
+
+            if (failedKeys.contains(orderingKey)) {
+                // 같은 키의 앞선 이벤트가 실패 - 순서가 뒤바뀌지 않도록 발행 완료로 처리하지 않고 이후에 다시 보낸다
+                log.warn("앞선 이벤트 발행 실패로 보류 - Outbox id: {}, key: {}", event.getId(), orderingKey);
+                deferredIds.add(event.getId());
+                continue;
+            }
+
+            publishedEvents.add(event);
+            publishedIds.add(event.getId());
         }
+
+        // 3. 결과 일괄 반영 (미룬 이벤트는 점유를 해제하여 다음 주기에 다시 가져가도록 함)
+        outboxEventService.markAsPublished(publishedIds, ownerId);
+        outboxEventService.markAsFailed(failures, ownerId);
+        outboxEventService.markAsParked(parked, ownerId);
+        outboxEventService.releaseLease(deferredIds, ownerId);
+
+        log.info("Outbox 이벤트 배치 발행 완료 - 대상: {}, 성공: {}, 실패: {}, PARKED: {}, 보류: {}",
+                events.size(), publishedIds.size(), failures.size(), parked.size(), deferredIds.size());
+
+        return publishedEvents;
+    }
+
+    private String orderingKey(OutboxEvent event) {
+        return event.getAggregateType() + ":" + event.getAggregateId();
     }
 
-    private String createEventMessage(OutboxEvent outboxEvent) throws Exception {
-        // payload를 Object로 파싱
-        Object payloadObject = objectMapper.readValue(outboxEvent.getPayload(), Object.class);
-
-        // 전체 메시지 구조 생성
-        var message = java.util.Map.of(
-                "eventId", outboxEvent.getId().toString(),
-                "eventType", outboxEvent.getEventType(),
-                "aggregateType", outboxEvent.getAggregateType(),
-                "aggregateId", outboxEvent.getAggregateId(),
-                "payload", payloadObject
+    private ProducerRecord<Object, Object> createRecord(OutboxEvent outboxEvent) {
+        String topic = determineTopicByAggregateType(outboxEvent.getAggregateType());
+
+        // envelope 필드는 헤더로도 전달 (Consumer 가 본문 파싱 없이 라우팅/중복 체크 가능)
+        List<Header> headers = List.of(
+                header(EventHeaders.EVENT_ID, outboxEvent.getId().toString()),
+                header(EventHeaders.EVENT_TYPE, outboxEvent.getEventType()),
+                header(EventHeaders.AGGREGATE_TYPE, outboxEvent.getAggregateType()),
+                header(EventHeaders.AGGREGATE_ID, outboxEvent.getAggregateId()),
+                header(EventHeaders.CONTENT_TYPE, outboxMessageCodec.contentType())
+        );
+
+        return new ProducerRecord<>(
+                topic,
+                null,
+                outboxEvent.getAggregateId(),  // Partition Key
+                outboxMessageCodec.encode(outboxEvent),
+                headers
         );
+    }
+
+    private Header header(String name, String value) {
+        return new RecordHeader(name, value.getBytes(StandardCharsets.UTF_8));
+    }
 
-        return objectMapper.writeValueAsString(message);
+    private String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
     }
 
     private String determineTopicByAggregateType(String aggregateType) {
@@ -0,0 +1,29 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxFacade {
+
+    private final OutboxEventService outboxEventService;
+
+    /**
+     * PARKED 이벤트 일괄 재처리
+     * PENDING 으로 되돌리면 다음 폴링 주기에 발행된다.
+     */
+    public int requeueParkedEvents(List<Long> ids, String aggregateType) {
+        int requeuedCount = outboxEventService.requeueParkedEvents(ids, aggregateType);
+
+        log.info("PARKED Outbox 이벤트 재처리 요청 - ids: {}, aggregateType: {}, 건수: {}",
+                ids, aggregateType, requeuedCount);
+
+        return requeuedCount;
+    }
+}
@@ -0,0 +1,135 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.event.OutboxEventSavedEvent;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 이벤트 즉시 발행기
+ *
+ * 비즈니스 트랜잭션이 커밋되면 저장된 Outbox 이벤트 id를 메모리 큐에 넣고,
+ * 전용 스레드가 큐에서 꺼낸 id들을 점유(claim)하여 바로 Kafka로 발행한다.
+ * - 큐가 가득 차거나 발행에 실패한 이벤트는 PENDING 으로 남아 OutboxEventPublisher 폴러가 처리한다.
+ * - 같은 aggregate 의 앞선 이벤트가 재시도 대기/폴러 점유 중이면 바로 발행하지 않고 폴러에 맡겨 순서를 지킨다.
+ * - 서버가 종료되어 큐의 내용이 사라져도 DB에 PENDING 으로 남아 있으므로 유실되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxImmediateDispatcher {
+
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    private final int BATCH_SIZE = 200;
+    private final long POLL_TIMEOUT_MS = 500;
+
+    @Value("${outbox.dispatch.immediate.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.dispatch.immediate.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BlockingQueue<CommittedEvent> queue;
+    private ExecutorService worker;
+    private Timer latencyTimer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        latencyTimer = outboxEventPublisher.publishLatencyTimer("immediate");
+        running = true;
+
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.submit(this::runLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+
+        running = false;
+        worker.shutdown();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 커밋 직후 발행 대상 등록
+     * 트랜잭션 없이 저장된 경우(fallbackExecution)에도 바로 등록한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOutboxEventSaved(OutboxEventSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!queue.offer(new CommittedEvent(event.outboxEventId(), System.nanoTime()))) {
+            log.warn("Outbox 즉시 발행 큐 초과, 폴링으로 발행 예정 - id: {}", event.outboxEventId());
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                dispatchNextBatch();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 발행하지 못한 이벤트는 PENDING 으로 남아 폴러가 처리
+                log.error("Outbox 즉시 발행 실패", e);
+            }
+        }
+    }
+
+    void dispatchNextBatch() throws InterruptedException {
+        CommittedEvent first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+
+        List<CommittedEvent> batch = new ArrayList<>();
+        batch.add(first);
+        queue.drainTo(batch, BATCH_SIZE - 1);
+
+        Map<Long, Long> committedAtNanos = new HashMap<>();
+        batch.forEach(committed -> committedAtNanos.put(committed.outboxEventId(), committed.committedAtNanos()));
+
+        List<OutboxEvent> publishedEvents = outboxEventPublisher.publishByIds(new ArrayList<>(committedAtNanos.keySet()));
+
+        long now = System.nanoTime();
+        publishedEvents.forEach(event ->
+                latencyTimer.record(now - committedAtNanos.get(event.getId()), TimeUnit.NANOSECONDS));
+    }
+
+    private record CommittedEvent(Long outboxEventId, long committedAtNanos) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+
+/**
+ * Outbox 이벤트 → Kafka 메시지 본문 변환
+ *
+ * 구현체를 교체하면 메시지 포맷(JSON, 바이너리 등)을 바꿀 수 있다.
+ * 반환 값은 KafkaTemplate 의 value serializer 로 그대로 전달되며,
+ * 포맷은 contentType 헤더로 Consumer 에게 알린다.
+ */
+public interface OutboxMessageCodec {
+
+    Object encode(OutboxEvent outboxEvent);
+
+    String contentType();
+}
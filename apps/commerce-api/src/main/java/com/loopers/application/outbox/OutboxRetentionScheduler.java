@@ -0,0 +1,77 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * 발행 완료 Outbox 이벤트 정리 스케줄러
+ *
+ * 보관 기간(retention-days)이 지난 PUBLISHED 이벤트를 작은 청크로 나눠 삭제하여
+ * outbox_events 테이블 크기와 폴링 쿼리 비용이 시간이 지나도 일정하게 유지되도록 한다.
+ * 한 번 실행에 최대 max-chunks-per-run 청크까지만 처리하고, 남은 건은 다음 주기에 이어서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRetentionScheduler {
+
+    private final OutboxEventService outboxEventService;
+
+    @Value("${outbox.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.retention.retention-days:7}")
+    private long retentionDays;
+
+    @Value("${outbox.retention.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${outbox.retention.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${outbox.retention.chunk-pause-ms:100}")
+    private long chunkPauseMs;
+
+    @Value("${outbox.retention.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Scheduled(cron = "${outbox.retention.cron:0 */10 * * * *}")
+    public void purgePublishedEvents() {
+        if (!enabled) {
+            return;
+        }
+
+        ZonedDateTime publishedBefore = ZonedDateTime.now().minus(Duration.ofDays(retentionDays));
+        int totalDeleted = 0;
+
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int deleted = outboxEventService.deletePublishedChunk(publishedBefore, chunkSize, archiveEnabled);
+                totalDeleted += deleted;
+
+                if (deleted < chunkSize) {
+                    break;
+                }
+
+                // 복제 지연/락 경합을 줄이기 위해 청크 사이에 잠시 쉰다
+                Thread.sleep(chunkPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Outbox 이벤트 정리 실패 - 삭제 건수: {}", totalDeleted, e);
+            return;
+        }
+
+        if (totalDeleted > 0) {
+            log.info("Outbox 이벤트 정리 완료 - 기준: {}, 삭제 건수: {}", publishedBefore, totalDeleted);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxService;
+import com.loopers.infrastructure.payment.PaymentMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PG 콜백 Inbox 처리 워커
+ *
+ * Inbox 에 저장된 콜백을 배치 단위로 점유하여 결제/주문에 반영한다.
+ * - 콜백 한 건은 PaymentFacade.handlePaymentCallback 의 트랜잭션 하나로 처리되어 실패가 다른 콜백에 영향을 주지 않는다.
+ * - 처리에 실패한 콜백은 retry-delay-ms 이후 재시도하며, max-attempts 에 도달하면 FAILED 로 남는다.
+ * - 같은 거래 키(pgTransactionId)의 콜백은 수신 순서대로 반영한다. 앞선 콜백이 실패하면 같은 배치의 이후 콜백은
+ *   반영하지 않고 점유만 해제하며, 앞선 콜백이 재시도 대기 중인 동안에는 점유 조회에서도 제외된다.
+ * - 처리 도중 서버가 종료되면 점유(lease)가 만료된 뒤 다른 노드가 다시 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentCallbackInboxWorker {
+
+    private final PaymentCallbackInboxService paymentCallbackInboxService;
+    private final PaymentFacade paymentFacade;
+    private final PaymentMetrics paymentMetrics;
+
+    @Value("${payment.callback.inbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${payment.callback.inbox.lease-ms:30000}")
+    private long leaseMs;
+
+    @Scheduled(fixedDelayString = "${payment.callback.inbox.poll-interval-ms:200}")
+    public void processReceivedCallbacks() {
+        List<PaymentCallbackInbox> claimed = paymentCallbackInboxService.claim(batchSize, Duration.ofMillis(leaseMs));
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<Long> processedIds = new ArrayList<>();
+        List<Long> deferredIds = new ArrayList<>();
+        Set<String> failedKeys = new HashSet<>();
+
+        for (PaymentCallbackInbox inbox : claimed) {
+            if (failedKeys.contains(inbox.getPgTransactionId())) {
+                // 같은 거래 키의 앞선 콜백이 실패 - 순서가 뒤바뀌지 않도록 반영하지 않고 앞선 콜백 재시도 이후에 처리
+                log.warn("[PG 콜백] 앞선 콜백 처리 실패로 보류 - transactionKey: {}, id: {}",
+                        inbox.getPgTransactionId(), inbox.getId());
+                deferredIds.add(inbox.getId());
+                continue;
+            }
+            try {
+                paymentFacade.handlePaymentCallback(new PaymentCallbackInfo(
+                        inbox.getPgTransactionId(),
+                        inbox.getCallbackStatus(),
+                        inbox.getReason()
+                ));
+                processedIds.add(inbox.getId());
+                paymentMetrics.recordCallbackLag(inbox.getCreatedAt());
+            } catch (Exception e) {
+                log.error("[PG 콜백] 처리 실패 - transactionKey: {}", inbox.getPgTransactionId(), e);
+                failedKeys.add(inbox.getPgTransactionId());
+                paymentCallbackInboxService.recordFailure(inbox.getId(), e.getMessage());
+            }
+        }
+
+        paymentCallbackInboxService.markProcessed(processedIds);
+        paymentCallbackInboxService.releaseLease(deferredIds);
+
+        log.debug("[PG 콜백] 배치 처리 완료 - 점유: {}, 성공: {}, 보류: {}", claimed.size(), processedIds.size(), deferredIds.size());
+    }
+}
@@ -5,12 +5,19 @@ import com.loopers.domain.order.Order;
 import com.loopers.domain.order.event.OrderCompletedEvent;
 import com.loopers.domain.order.event.OrderFailureEvent;
 import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentCallbackInboxService;
 import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.infrastructure.payment.PaymentMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
 
 @Slf4j
 @Component
@@ -20,6 +27,16 @@ public class PaymentFacade {
     private final PaymentService paymentService;
     private final OrderCompensationService compensationService;
     private final ApplicationEventPublisher eventPublisher;
+    private final PaymentCallbackInboxService paymentCallbackInboxService;
+    private final PaymentMetrics paymentMetrics;
+
+    /**
+     * PG 콜백 수신
+     * 콜백은 Inbox 에 저장만 하고, 실제 반영은 PaymentCallbackInboxWorker 가 handlePaymentCallback 으로 처리한다.
+     */
+    public void receivePaymentCallback(PaymentCallbackInfo command) {
+        paymentCallbackInboxService.receive(command.transactionKey(), command.status(), command.reason());
+    }
 
     /**
      * PG 콜백 처리
@@ -48,8 +65,15 @@ public class PaymentFacade {
     private void handleSuccessPayment(Payment payment) {
         log.info("결제 성공 처리 시작 - PaymentId: {}", payment.getPaymentId());
 
+        // 멱등성 보장: 상태 확인 스케줄러 등으로 이미 성공 처리된 결제는 스킵
+        if (payment.getStatus() == PaymentStatus.SUCCESS) {
+            log.warn("이미 성공 처리된 결제입니다 - PaymentId: {}", payment.getPaymentId());
+            return;
+        }
+
         // 결제 완료 처리 (도메인 로직)
         payment.completePayment();
+        recordCompletionAfterCommit(payment, PaymentStatus.SUCCESS, payment.getCompletedAt());
 
         // Order 완료 처리 (도메인 로직)
         Order order = payment.getOrder();
@@ -78,19 +102,20 @@ public class PaymentFacade {
                 payment.getPaymentId(), reason);
 
         // 멱등성 보장: 이미 실패 처리된 결제는 스킵
-        if (payment.getStatus() == com.loopers.domain.payment.PaymentStatus.FAILED) {
+        if (payment.getStatus() == PaymentStatus.FAILED) {
             log.warn("이미 실패 처리된 결제입니다 - PaymentId: {}", payment.getPaymentId());
             return;
         }
 
         // 결제 실패 처리 (도메인 로직)
         payment.failPayment(reason);
+        recordCompletionAfterCommit(payment, PaymentStatus.FAILED, LocalDateTime.now());
 
         // Order 가져오기
         Order order = payment.getOrder();
 
-        // 보상 트랜잭션 실행 (포인트 환불 포함)
-        compensationService.compensateOrderWithPointRefund(order.getId());
+        // 보상 요청 등록 (포인트 환불 포함) - 결제 실패와 함께 커밋되고 OrderCompensationWorker 가 묶어서 보상
+        compensationService.requestCompensation(order.getId(), true);
 
         eventPublisher.publishEvent(
                 OrderFailureEvent.of(
@@ -105,4 +130,21 @@ public class PaymentFacade {
         log.info("결제 실패 처리 완료 - PaymentId: {}, OrderId: {}",
                 payment.getPaymentId(), order.getId());
     }
+
+    /**
+     * 결제 결과 메트릭은 커밋된 경우에만 기록 (롤백되어 재처리되면 중복 기록되지 않도록)
+     */
+    private void recordCompletionAfterCommit(Payment payment, PaymentStatus result, LocalDateTime completedAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    paymentMetrics.recordCompletion(payment, result, completedAt);
+                }
+            });
+            return;
+        }
+
+        paymentMetrics.recordCompletion(payment, result, completedAt);
+    }
 }
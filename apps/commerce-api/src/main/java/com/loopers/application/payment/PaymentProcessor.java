@@ -42,7 +42,7 @@ public class PaymentProcessor {
      * @param orderId 결제할 주문 ID
      *
      * 처리 순서:
-     * 1. User와 Order 조회 (영속 상태로 가져옴)
+     * 1. User(잠금)와 Order 조회 (영속 상태로 가져옴)
      * 2. 포인트 차감
      * 3. Payment 생성 및 완료 (PENDING → SUCCESS)
      * 4. Payment 저장
@@ -53,8 +53,8 @@ public class PaymentProcessor {
     public void processPointPayment(Long userId, Long orderId) {
         log.info("[포인트 결제 시작] userId={}, orderId={}", userId, orderId);
 
-        // 1. User와 Order 조회
-        User user = userService.getUserById(userId);
+        // 1. User와 Order 조회 (같은 사용자의 동시 결제 시 포인트 차감이 유실되지 않도록 사용자 행 잠금)
+        User user = userService.getUserByIdWithLock(userId);
         Order order = orderService.getOrderById(orderId);
 
         // 2. 포인트 차감
@@ -0,0 +1,79 @@
+package com.loopers.application.product;
+
+import com.loopers.support.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 상품 요약 정보 로컬 캐시 (productId → ProductInfo)
+ *
+ * 랭킹 목록처럼 같은 상품 묶음을 반복해서 보여주는 조회에서 요청마다 상품/브랜드를 조회하지 않도록
+ * 목록 표시용 요약 정보만 노드 메모리에 보관한다.
+ * - 별도 제거 없이 ttl-ms 이후 다시 조회되므로, 좋아요 수와 가격은 최대 ttl-ms 만큼 늦게 반영될 수 있다.
+ * - 존재하지 않는 상품은 보관하지 않는다.
+ */
+@Component
+public class ProductSummaryCache {
+
+    private final boolean enabled;
+    private final LocalCache<Long, ProductInfo> products;
+
+    public ProductSummaryCache(
+            @Value("${product.summary-cache.enabled:true}") boolean enabled,
+            @Value("${product.summary-cache.ttl-ms:60000}") long ttlMs,
+            @Value("${product.summary-cache.max-size:10000}") int maxSize
+    ) {
+        this.enabled = enabled;
+        this.products = new LocalCache<>(ttlMs, maxSize);
+    }
+
+    /**
+     * 캐시에서 상품 요약 정보를 조회하고, 없거나 만료된 상품만 loader 로 한 번에 조회하여 보관한다.
+     *
+     * @param productIds 조회할 상품 ID 목록
+     * @param loader 캐시에 없는 상품 ID 목록을 받아 요약 정보를 조회
+     * @return productId → ProductInfo (존재하지 않는 상품은 제외)
+     */
+    public Map<Long, ProductInfo> getAll(List<Long> productIds, Function<List<Long>, List<ProductInfo>> loader) {
+        return getAll(productIds, loader, System.currentTimeMillis());
+    }
+
+    Map<Long, ProductInfo> getAll(List<Long> productIds, Function<List<Long>, List<ProductInfo>> loader, long nowMillis) {
+        Map<Long, ProductInfo> result = new HashMap<>();
+
+        if (!enabled) {
+            loader.apply(productIds).forEach(product -> result.put(product.id(), product));
+            return result;
+        }
+
+        List<Long> missingIds = new ArrayList<>();
+        for (Long productId : productIds) {
+            Optional<ProductInfo> cached = products.get(productId, nowMillis);
+            if (cached.isPresent()) {
+                result.put(productId, cached.get());
+            } else {
+                missingIds.add(productId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            for (ProductInfo product : loader.apply(missingIds)) {
+                result.put(product.id(), product);
+                products.put(product.id(), product, nowMillis);
+            }
+        }
+
+        return result;
+    }
+
+    int size() {
+        return products.size();
+    }
+}
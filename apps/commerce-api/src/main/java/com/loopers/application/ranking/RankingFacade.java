@@ -1,6 +1,7 @@
 package com.loopers.application.ranking;
 
 import com.loopers.application.product.ProductInfo;
+import com.loopers.application.product.ProductSummaryCache;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.ranking.*;
@@ -20,11 +21,14 @@ public class RankingFacade {
     private final RankingService rankingService;
     private final PeriodRankingService periodRankingService;
     private final ProductService productService;
+    private final RankingResponseCache rankingResponseCache;
+    private final ProductSummaryCache productSummaryCache;
 
     /**
      * TOP N 랭킹 조회 (상품 정보 포함)
+     * 같은 조건의 결과는 랭킹 버전이 바뀌기 전까지 RankingResponseCache 에서 반환한다.
+     * (캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회)
      */
-    @Transactional(readOnly = true)
     public List<RankingInfo> getTopRanking(
             RankingType rankingType,
             PeriodType periodType,
@@ -33,12 +37,25 @@ public class RankingFacade {
     ) {
         // period가 null이면 DAILY로 처리
         PeriodType period = periodType != null ? periodType : PeriodType.DAILY;
+        LocalDate targetDate = date != null ? date : LocalDate.now();
 
-        List<Ranking> entries = switch (period) {
-            case DAILY -> rankingService.getTopRanking(rankingType, LocalDate.now(), limit);
-            case WEEKLY -> periodRankingService.getTopWeeklyRanking(rankingType, date, limit);
-            case MONTHLY -> periodRankingService.getTopMonthlyRanking(rankingType, date, limit);
-        };
+        return rankingResponseCache.get(
+                String.join(":", "top", String.valueOf(rankingType), period.name(), targetDate.toString(), String.valueOf(limit)),
+                () -> loadTopRanking(rankingType, period, targetDate, limit)
+        );
+    }
+
+    private List<RankingInfo> loadTopRanking(RankingType rankingType, PeriodType period, LocalDate targetDate, int limit) {
+        List<Ranking> entries = rankingService.getTopRanking(rankingType, period, targetDate, limit);
+
+        // Redis 보관 기간이 지난 주/월은 배치 집계 테이블에서 조회
+        if (entries.isEmpty()) {
+            entries = switch (period) {
+                case DAILY -> entries;
+                case WEEKLY -> periodRankingService.getTopWeeklyRanking(rankingType, targetDate, limit);
+                case MONTHLY -> periodRankingService.getTopMonthlyRanking(rankingType, targetDate, limit);
+            };
+        }
 
         if (entries.isEmpty()) {
             return List.of();
@@ -60,12 +77,18 @@ public class RankingFacade {
     ) {
 
         PeriodType period = periodType != null ? periodType : PeriodType.DAILY;
+        LocalDate targetDate = date != null ? date : LocalDate.now();
 
-        List<Ranking> entries = switch (period) {
-            case DAILY -> rankingService.getRankingWithPaging(rankingType, LocalDate.now(), page, size);
-            case WEEKLY -> periodRankingService.getWeeklyRankingWithPaging(rankingType, date, page, size);
-            case MONTHLY -> periodRankingService.getMonthlyRankingWithPaging(rankingType, date, page, size);
-        };
+        List<Ranking> entries = rankingService.getRankingWithPaging(rankingType, period, targetDate, page, size);
+
+        // Redis 보관 기간이 지난 주/월은 배치 집계 테이블에서 조회
+        if (entries.isEmpty() && rankingService.getTotalRankingCount(rankingType, period, targetDate) == 0) {
+            entries = switch (period) {
+                case DAILY -> entries;
+                case WEEKLY -> periodRankingService.getWeeklyRankingWithPaging(rankingType, targetDate, page, size);
+                case MONTHLY -> periodRankingService.getMonthlyRankingWithPaging(rankingType, targetDate, page, size);
+            };
+        }
 
         if (entries.isEmpty()) {
             return List.of();
@@ -125,30 +148,47 @@ public class RankingFacade {
 
     /**
      * RankingEntry 리스트에 상품 정보 결합
+     * 상품 요약 정보는 ProductSummaryCache 에 없는 상품만 조회한다.
      */
     private List<RankingInfo> enrichWithProductInfo(List<Ranking> entries) {
         List<Long> productIds = entries.stream()
                 .map(Ranking::getProductId)
                 .collect(Collectors.toList());
 
-        Map<Long, Product> productMap = productService.getAllByIdIn(productIds).stream()
-                .collect(Collectors.toMap(Product::getId, product -> product));
+        Map<Long, ProductInfo> productMap = productSummaryCache.getAll(productIds, missingIds ->
+                productService.getAllByIdIn(missingIds).stream()
+                        .map(ProductInfo::from)
+                        .toList());
 
         return entries.stream()
-                .map(entry -> {
-                    Product product = productMap.get(entry.getProductId());
-                    ProductInfo productInfo = product != null
-                            ? ProductInfo.from(product)
-                            : null;
-                    return RankingInfo.of(entry, productInfo);
-                })
+                .map(entry -> RankingInfo.of(entry, productMap.get(entry.getProductId())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 전체 랭킹 개수 조회
+     * 전체 랭킹 개수 조회 (기간별)
+     * TOP N 조회와 함께 호출되므로 같은 랭킹 버전 동안 캐시한다.
      */
-    public long getTotalRankingCount(RankingType rankingType, LocalDate date) {
-        return rankingService.getTotalRankingCount(rankingType, date);
+    public long getTotalRankingCount(RankingType rankingType, PeriodType periodType, LocalDate date) {
+        PeriodType period = periodType != null ? periodType : PeriodType.DAILY;
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+
+        return rankingResponseCache.get(
+                String.join(":", "count", String.valueOf(rankingType), period.name(), targetDate.toString()),
+                () -> loadTotalRankingCount(rankingType, period, targetDate)
+        );
+    }
+
+    private long loadTotalRankingCount(RankingType rankingType, PeriodType period, LocalDate targetDate) {
+        long count = rankingService.getTotalRankingCount(rankingType, period, targetDate);
+        if (count > 0) {
+            return count;
+        }
+
+        return switch (period) {
+            case DAILY -> 0;
+            case WEEKLY -> periodRankingService.getWeeklyRankingCount(targetDate);
+            case MONTHLY -> periodRankingService.getMonthlyRankingCount(targetDate);
+        };
     }
 }
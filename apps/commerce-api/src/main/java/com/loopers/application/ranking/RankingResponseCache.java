@@ -0,0 +1,94 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.support.cache.LocalCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 랭킹 조회 결과 로컬 캐시
+ *
+ * 랭킹은 commerce-collector 의 증분 반영(5분 주기) 때만 바뀌므로, 같은 조건의 TOP N 조회 결과를
+ * 랭킹 버전과 함께 노드 메모리에 보관한다.
+ * - 랭킹 버전(ranking:version)은 collector 가 증분 반영을 마칠 때마다 올린다.
+ * - 버전은 version-refresh-ms 마다 한 번만 Redis 에서 읽고, 버전이 바뀌면 이전 버전의 결과는 쓰지 않는다.
+ * - 배치 집계 테이블(지난 주/월) 결과도 함께 보관되며 ttl-ms 이후 다시 조회된다.
+ */
+@Slf4j
+@Component
+public class RankingResponseCache {
+
+    private final RankingService rankingService;
+    private final boolean enabled;
+    private final long versionRefreshMs;
+    private final LocalCache<String, CachedResponse> responses;
+
+    public RankingResponseCache(
+            RankingService rankingService,
+            @Value("${ranking.cache.enabled:true}") boolean enabled,
+            @Value("${ranking.cache.ttl-ms:30000}") long ttlMs,
+            @Value("${ranking.cache.version-refresh-ms:1000}") long versionRefreshMs,
+            @Value("${ranking.cache.max-size:1000}") int maxSize
+    ) {
+        this.rankingService = rankingService;
+        this.enabled = enabled;
+        this.versionRefreshMs = versionRefreshMs;
+        this.responses = new LocalCache<>(ttlMs, maxSize);
+    }
+
+    private volatile long version = -1L;
+    private volatile long versionCheckedAtMillis;
+
+    /**
+     * 캐시에서 조회 결과를 꺼내고, 없거나 만료되었거나 랭킹 버전이 바뀌었으면 loader 로 조회하여 보관한다.
+     *
+     * @param key 조회 조건 (타입, 기간, 날짜, 개수)
+     */
+    public <T> T get(String key, Supplier<T> loader) {
+        return get(key, loader, System.currentTimeMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(String key, Supplier<T> loader, long nowMillis) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long currentVersion = currentVersion(nowMillis);
+
+        Optional<CachedResponse> cached = responses.get(key, nowMillis);
+        if (cached.isPresent() && cached.get().version() == currentVersion) {
+            return (T) cached.get().value();
+        }
+
+        T loaded = loader.get();
+        responses.put(key, new CachedResponse(loaded, currentVersion), nowMillis);
+        return loaded;
+    }
+
+    int size() {
+        return responses.size();
+    }
+
+    private long currentVersion(long nowMillis) {
+        if (version >= 0 && nowMillis - versionCheckedAtMillis < versionRefreshMs) {
+            return version;
+        }
+
+        try {
+            version = rankingService.getRankingVersion();
+        } catch (Exception e) {
+            // 버전을 읽지 못하면 이전 버전 유지 (ttl-ms 이후에는 다시 조회됨)
+            log.warn("랭킹 버전 조회 실패, 이전 버전 사용 - version: {}", version, e);
+        }
+        versionCheckedAtMillis = nowMillis;
+        return version;
+    }
+
+    private record CachedResponse(Object value, long version) {
+    }
+}
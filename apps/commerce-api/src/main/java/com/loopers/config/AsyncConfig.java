@@ -1,57 +1,78 @@
 package com.loopers.config;
 
+import com.loopers.support.async.BulkheadExecutor;
+import com.loopers.support.async.BulkheadExecutor.RejectionPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
 
 /**
- * 비동기 처리를 위한 스레드 풀 설정
+ * 비동기 처리를 위한 실행기 설정
+ *
+ * 하나의 공용 스레드 풀을 함께 쓰면 PG 지연 시 풀이 포화되어 좋아요 집계, 로깅까지 밀리고,
+ * CallerRunsPolicy 로 인해 PG 호출이 커밋 중인 요청 스레드에서 실행되는 문제가 있었다.
+ * 작업 유형별로 동시 실행 수와 대기열을 따로 둔 BulkheadExecutor 로 격리한다.
  *
- * 결제 이벤트 처리, 사용자 행동 로깅 등 @Async를 위한 전용 스레드 풀 구성:
- * - 코어 스레드: 5개 (기본 유지)
- * - 최대 스레드: 10개 (부하 시 확장)
- * - 큐 용량: 100개 (대기 가능한 작업 수)
- * - 거부 정책: CallerRunsPolicy (큐 초과 시 호출 스레드에서 실행)
+ * AFTER_COMMIT 리스너에서 던진 예외는 이미 커밋된 호출자에게 전달되지 않고 로그만 남으므로,
+ * 대기열 초과 시 동작은 작업별 복구 경로에 맞춰 정한다. (거부 건수는 bulkhead.rejected 로 확인)
+ * - pgExecutor           : PG 결제 요청 - CALLER_RUNS
+ *                          다시 요청할 경로가 없어 버리면 결제가 PENDING 에 멈춘다.
+ *                          PG 호출은 논블로킹이라 호출 스레드에서 실행해도 요청만 보내고 바로 돌아온다.
+ * - dataPlatformExecutor : 데이터 플랫폼 전송 - CALLER_RUNS (outbox 등 재전송 경로가 없음)
+ * - likeExecutor         : 좋아요 집계 - DISCARD (ProductLikeSyncScheduler 가 좋아요 수를 다시 맞춤)
+ * - activityExecutor     : 사용자 행동 로깅 - DISCARD (로그 유실 허용)
+ * - taskExecutor         : 실행기를 지정하지 않은 @Async 기본값 - ABORT (현재 사용처 없음)
  */
 @Slf4j
 @EnableAsync
 @Configuration
 public class AsyncConfig {
 
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-
-        // 기본 유지 스레드 수
-        executor.setCorePoolSize(5);
-
-        // 최대 스레드 수 (부하 증가 시 확장)
-        executor.setMaxPoolSize(10);
-
-        // 큐 용량 (대기 작업 수)
-        executor.setQueueCapacity(100);
-
-        executor.setThreadNamePrefix("payment-async-");
-
-        // 유휴 스레드 유지 시간 (초)
-        executor.setKeepAliveSeconds(60);
-
-        // 애플리케이션 종료 시 대기 중인 작업 완료 대기
-        executor.setWaitForTasksToCompleteOnShutdown(true);
+    @Bean(name = "pgExecutor", destroyMethod = "destroy")
+    public BulkheadExecutor pgExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.bulkhead.pg.max-concurrent:20}") int maxConcurrent,
+            @Value("${async.bulkhead.pg.queue-capacity:200}") int queueCapacity
+    ) {
+        return new BulkheadExecutor("pg", maxConcurrent, queueCapacity, RejectionPolicy.CALLER_RUNS, meterRegistry);
+    }
 
-        // 종료 시 최대 대기 시간 (초)
-        executor.setAwaitTerminationSeconds(30);
+    @Bean(name = "likeExecutor", destroyMethod = "destroy")
+    public BulkheadExecutor likeExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.bulkhead.like.max-concurrent:10}") int maxConcurrent,
+            @Value("${async.bulkhead.like.queue-capacity:1000}") int queueCapacity
+    ) {
+        return new BulkheadExecutor("like", maxConcurrent, queueCapacity, RejectionPolicy.DISCARD, meterRegistry);
+    }
 
-        // 거부 정책: 큐가 가득 차면 호출 스레드에서 실행
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    @Bean(name = "dataPlatformExecutor", destroyMethod = "destroy")
+    public BulkheadExecutor dataPlatformExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.bulkhead.data-platform.max-concurrent:10}") int maxConcurrent,
+            @Value("${async.bulkhead.data-platform.queue-capacity:500}") int queueCapacity
+    ) {
+        return new BulkheadExecutor("data-platform", maxConcurrent, queueCapacity, RejectionPolicy.CALLER_RUNS, meterRegistry);
+    }
 
-        executor.initialize();
+    @Bean(name = "activityExecutor", destroyMethod = "destroy")
+    public BulkheadExecutor activityExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.bulkhead.activity.max-concurrent:10}") int maxConcurrent,
+            @Value("${async.bulkhead.activity.queue-capacity:1000}") int queueCapacity
+    ) {
+        return new BulkheadExecutor("activity", maxConcurrent, queueCapacity, RejectionPolicy.DISCARD, meterRegistry);
+    }
 
-        return executor;
+    @Bean(name = "taskExecutor", destroyMethod = "destroy")
+    public BulkheadExecutor taskExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.bulkhead.default.max-concurrent:10}") int maxConcurrent,
+            @Value("${async.bulkhead.default.queue-capacity:100}") int queueCapacity
+    ) {
+        return new BulkheadExecutor("default", maxConcurrent, queueCapacity, RejectionPolicy.ABORT, meterRegistry);
     }
 }
@@ -0,0 +1,81 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.support.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 쿠폰 정의 로컬 캐시
+ *
+ * 쿠폰 정의(할인 정책, 유효 기간, 활성 여부)는 여러 사용자가 공유하고 거의 바뀌지 않으므로
+ * 주문 시마다 coupons 를 조회하지 않도록 노드 메모리에 보관한다.
+ * - 조회한 엔티티가 아닌 불변 스냅샷(CouponSnapshot)을 보관하므로 요청 간에 영속 상태가 공유되지 않는다.
+ * - 활성화/비활성화/발급 수량 변경은 커밋 이후 이 노드의 캐시에서 바로 제거한다.
+ * - 다른 노드의 캐시와 DB 직접 수정은 ttl-ms 이후 만료되어 다시 조회될 때 반영된다.
+ * - 캐시된 쿠폰의 currentIssuanceCount 는 최신이 아닐 수 있다. (발급 수량은 선착순 발급 카운터가 기준)
+ */
+@Component
+public class CouponCache {
+
+    private final boolean enabled;
+    private final LocalCache<Long, CouponSnapshot> coupons;
+
+    public CouponCache(
+            @Value("${coupon.cache.enabled:true}") boolean enabled,
+            @Value("${coupon.cache.ttl-ms:60000}") long ttlMs,
+            @Value("${coupon.cache.max-size:10000}") int maxSize
+    ) {
+        this.enabled = enabled;
+        this.coupons = new LocalCache<>(ttlMs, maxSize);
+    }
+
+    /**
+     * 캐시에서 쿠폰을 조회하고, 없거나 만료되었으면 loader 로 조회하여 보관한다.
+     * 존재하지 않는 쿠폰은 보관하지 않는다.
+     */
+    public Optional<CouponSnapshot> get(Long couponId, Supplier<Optional<Coupon>> loader) {
+        return get(couponId, loader, System.currentTimeMillis());
+    }
+
+    Optional<CouponSnapshot> get(Long couponId, Supplier<Optional<Coupon>> loader, long nowMillis) {
+        if (!enabled) {
+            return loader.get().map(CouponSnapshot::from);
+        }
+
+        Optional<CouponSnapshot> cached = coupons.get(couponId, nowMillis);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<CouponSnapshot> loaded = loader.get().map(CouponSnapshot::from);
+        loaded.ifPresent(coupon -> coupons.put(couponId, coupon, nowMillis));
+        return loaded;
+    }
+
+    /**
+     * 쿠폰 정의 변경 시 캐시 제거
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거한다. (커밋 전 다른 요청이 이전 값을 다시 채우는 것을 방지)
+     */
+    public void invalidate(Long couponId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    coupons.remove(couponId);
+                }
+            });
+            return;
+        }
+
+        coupons.remove(couponId);
+    }
+
+    int size() {
+        return coupons.size();
+    }
+}
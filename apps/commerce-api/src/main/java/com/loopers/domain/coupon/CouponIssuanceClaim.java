@@ -0,0 +1,11 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 발급이 확정되어 저장을 기다리는 쿠폰 발급 요청
+ *
+ * @param claimId 발급 요청 대기열 상의 ID (저장 완료 후 확인 처리에 사용)
+ * @param couponId 쿠폰 ID
+ * @param userId 사용자 PK
+ */
+public record CouponIssuanceClaim(String claimId, Long couponId, Long userId) {
+}
@@ -0,0 +1,31 @@
+package com.loopers.domain.coupon;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급 판정 및 발급 요청 대기열
+ */
+public interface CouponIssuanceRepository {
+
+    /**
+     * 발급 수량 카운터와 발급 사용자 집합을 한 번에 확인하여 발급 여부를 판정한다.
+     * 발급이 확정되면 같은 연산 안에서 발급 요청 대기열에 추가한다.
+     */
+    CouponIssuanceResult admit(CouponSnapshot coupon, Long userId);
+
+    /**
+     * 아직 아무 노드도 가져가지 않은 발급 요청 조회 (조회한 노드가 점유)
+     */
+    List<CouponIssuanceClaim> readClaims(String consumer, int count);
+
+    /**
+     * 점유 후 minIdle 이상 확인되지 않은 발급 요청을 다시 점유 (처리 중 종료된 노드의 요청)
+     */
+    List<CouponIssuanceClaim> reclaimStaleClaims(String consumer, Duration minIdle, int count);
+
+    /**
+     * 저장이 끝난 발급 요청을 대기열에서 제거
+     */
+    void acknowledge(List<String> claimIds);
+}
@@ -0,0 +1,10 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 선착순 쿠폰 발급 요청 판정 결과
+ */
+public enum CouponIssuanceResult {
+    ADMITTED,   // 발급 확정 (비동기 저장 대기)
+    DUPLICATE,  // 이미 발급받은 사용자
+    SOLD_OUT    // 발급 수량 소진
+}
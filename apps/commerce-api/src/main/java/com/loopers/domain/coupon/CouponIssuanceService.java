@@ -0,0 +1,53 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급 서비스
+ *
+ * 요청 시점에는 Redis 에서 발급 여부만 판정하고, 실제 IssuedCoupon 저장은 대기열을 통해 비동기로 처리한다.
+ * 쿠폰 행을 잠그지 않으므로 발급 요청이 몰려도 coupons 행에서 대기하지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class CouponIssuanceService {
+
+    private final CouponIssuanceRepository couponIssuanceRepository;
+
+    public void requestIssue(CouponSnapshot coupon, Long userId) {
+        if (!coupon.active()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "비활성화된 쿠폰입니다");
+        }
+
+        CouponIssuanceResult result = couponIssuanceRepository.admit(coupon, userId);
+
+        switch (result) {
+            case DUPLICATE -> throw new CoreException(ErrorType.CONFLICT, "이미 발급받은 쿠폰입니다.");
+            case SOLD_OUT -> throw new CoreException(ErrorType.CONFLICT, "쿠폰이 모두 소진되었습니다.");
+            case ADMITTED -> { }
+        }
+    }
+
+    /**
+     * 저장할 발급 요청 점유
+     * 점유 후 lease 동안 확인되지 않은 요청을 먼저 가져오고, 남은 수량만큼 새 요청을 가져온다.
+     */
+    public List<CouponIssuanceClaim> claim(String consumer, int count, Duration lease) {
+        List<CouponIssuanceClaim> claims = new ArrayList<>(couponIssuanceRepository.reclaimStaleClaims(consumer, lease, count));
+        if (claims.size() < count) {
+            claims.addAll(couponIssuanceRepository.readClaims(consumer, count - claims.size()));
+        }
+        return claims;
+    }
+
+    public void acknowledge(List<CouponIssuanceClaim> claims) {
+        couponIssuanceRepository.acknowledge(claims.stream().map(CouponIssuanceClaim::claimId).toList());
+    }
+}
@@ -1,9 +1,27 @@
 package com.loopers.domain.coupon;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponRepository {
     Coupon registerCoupon(Coupon coupon);
 
     Optional<Coupon> findValidCoupon(Long couponId);
+
+    /**
+     * 발급 수량을 실제 발급된 쿠폰 수로 맞춘다.
+     *
+     * @return 변경된 쿠폰 수
+     */
+    int syncIssuanceCounts(Collection<Long> couponIds);
+
+    /**
+     * 유효 기간이 끝났고 아직 USABLE 발급 건이 남아 있는 쿠폰 ID 조회
+     * (만료 처리가 끝난 쿠폰은 다시 조회되지 않는다)
+     *
+     * @param today 기준일 (validEndDate 가 이 날짜보다 이전인 쿠폰)
+     */
+    List<Long> findEndedCouponIds(LocalDate today);
 }
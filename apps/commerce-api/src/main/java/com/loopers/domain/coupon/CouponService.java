@@ -4,20 +4,30 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 @RequiredArgsConstructor
 @Component
 public class CouponService {
 
     private final CouponRepository couponRepository;
+    private final CouponCache couponCache;
 
-    public Coupon getValidCoupon(Long couponId) {
+    /**
+     * 사용 가능한 쿠폰 정의 조회 (캐시)
+     * 영속 엔티티가 아닌 스냅샷을 반환하므로 쿠폰 정의를 변경하는 용도로 사용하지 않는다.
+     */
+    public CouponSnapshot getValidCoupon(Long couponId) {
 
         if( couponId == null ) {
             throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 쿠폰입니다.");
         }
 
-        Coupon coupon = couponRepository.findValidCoupon(couponId)
+        CouponSnapshot coupon = couponCache.get(couponId, () -> couponRepository.findValidCoupon(couponId))
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "유효하지 않은 쿠폰입니다"));
 
         if( !coupon.isValidNow() ) {
@@ -26,4 +36,51 @@ public class CouponService {
 
         return coupon;
     }
+
+    @Transactional
+    public Coupon activate(Long couponId) {
+        Coupon coupon = getCoupon(couponId);
+        coupon.activate();
+        couponCache.invalidate(couponId);
+        return coupon;
+    }
+
+    @Transactional
+    public Coupon deactivate(Long couponId) {
+        Coupon coupon = getCoupon(couponId);
+        coupon.deactivate();
+        couponCache.invalidate(couponId);
+        return coupon;
+    }
+
+    @Transactional
+    public Coupon changeMaxIssuanceLimit(Long couponId, Integer limit) {
+        Coupon coupon = getCoupon(couponId);
+        coupon.setMaxIssuanceLimit(limit);
+        couponCache.invalidate(couponId);
+        return coupon;
+    }
+
+    /**
+     * 선착순 발급 저장 후 쿠폰별 발급 수량 보정
+     */
+    public void syncIssuanceCounts(Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return;
+        }
+        couponRepository.syncIssuanceCounts(couponIds);
+    }
+
+    /**
+     * 유효 기간이 끝났고 USABLE 발급 건이 남아 있는 쿠폰 ID 조회 (발급 쿠폰 만료 처리 대상)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getEndedCouponIds(LocalDate today) {
+        return couponRepository.findEndedCouponIds(today);
+    }
+
+    private Coupon getCoupon(Long couponId) {
+        return couponRepository.findValidCoupon(couponId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "유효하지 않은 쿠폰입니다"));
+    }
 }
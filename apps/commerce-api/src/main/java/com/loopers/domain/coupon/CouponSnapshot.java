@@ -0,0 +1,39 @@
+package com.loopers.domain.coupon;
+
+import java.time.LocalDate;
+
+/**
+ * 쿠폰 정의 스냅샷 (CouponCache 보관용)
+ *
+ * 영속성 컨텍스트에 속하지 않는 불변 값이므로 여러 요청/스레드가 함께 읽어도 안전하다.
+ * 주문 할인과 선착순 발급 판정에 필요한 값만 담는다.
+ */
+public record CouponSnapshot(
+        Long id,
+        Discount discount,
+        LocalDate validStartDate,
+        LocalDate validEndDate,
+        boolean active,
+        Integer maxIssuanceLimit,  // null 이면 무제한
+        int currentIssuanceCount
+) {
+    public static CouponSnapshot from(Coupon coupon) {
+        return new CouponSnapshot(
+                coupon.getId(),
+                coupon.getDiscount(),
+                coupon.getValidStartDate(),
+                coupon.getValidEndDate(),
+                coupon.isActive(),
+                coupon.getMaxIssuanceLimit(),
+                coupon.getCurrentIssuanceCount()
+        );
+    }
+
+    /**
+     * 현재 시점에 쿠폰이 유효한지 확인
+     */
+    public boolean isValidNow() {
+        LocalDate today = LocalDate.now();
+        return !today.isBefore(validStartDate) && !today.isAfter(validEndDate);
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.domain.coupon.event;
+
+import java.time.LocalDateTime;
+
+public record CouponExpiredEvent(
+        Long issuedCouponId,
+        Long userId,
+        Long couponId,
+        LocalDateTime occurredAt
+) {
+    public static CouponExpiredEvent of(
+            Long issuedCouponId,
+            Long userId,
+            Long couponId
+    ) {
+        return new CouponExpiredEvent(
+                issuedCouponId,
+                userId,
+                couponId,
+                LocalDateTime.now()
+        );
+    }
+}
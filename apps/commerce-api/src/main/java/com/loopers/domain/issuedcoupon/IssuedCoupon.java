@@ -13,7 +13,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "issued_coupons")
+@Table(
+        name = "issued_coupons",
+        uniqueConstraints = @UniqueConstraint(name = "uk_issued_coupons_user_coupon", columnNames = {"user_id", "coupon_id"}),
+        indexes = @Index(name = "idx_issued_coupons_coupon_status", columnList = "coupon_id, status")
+)
 @NoArgsConstructor
 @Getter
 public class IssuedCoupon extends BaseEntity {
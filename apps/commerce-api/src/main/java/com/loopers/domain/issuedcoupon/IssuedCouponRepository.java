@@ -1,9 +1,48 @@
 package com.loopers.domain.issuedcoupon;
 
+import com.loopers.domain.coupon.CouponIssuanceClaim;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface IssuedCouponRepository {
     IssuedCoupon save(IssuedCoupon issuedCoupon);
 
     Optional<IssuedCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
+
+    /**
+     * USABLE 상태인 경우에만 사용 처리 (USABLE → USED)
+     *
+     * @return 변경된 건수 (이미 사용되었거나 만료된 쿠폰이면 0)
+     */
+    int useIfUsable(Long issuedCouponId, LocalDateTime usedAt);
+
+    /**
+     * 사용된 쿠폰 일괄 복구 (USED → USABLE)
+     * 이미 복구되었거나 만료된 쿠폰은 변경하지 않는다.
+     *
+     * @return 변경된 건수
+     */
+    int restoreUsedCoupons(List<Long> issuedCouponIds);
+
+    /**
+     * 선착순 발급 요청 일괄 저장
+     * 이미 발급된 (사용자, 쿠폰) 은 uk_issued_coupons_user_coupon 에 의해 건너뛴다.
+     */
+    void saveAllIfAbsent(List<CouponIssuanceClaim> claims);
+
+    /**
+     * 쿠폰의 USABLE 발급 건 중 afterId 이후 최대 limit 건을 id 순으로 잠금 조회
+     * 다른 트랜잭션이 잠근 행은 건너뛴다.
+     */
+    List<IssuedCoupon> findUsableByCouponIdForUpdate(Long couponId, Long afterId, int limit);
+
+    /**
+     * USABLE 발급 건 일괄 만료 (USABLE → EXPIRED)
+     *
+     * @return 변경된 건수
+     */
+    int expireUsableCoupons(List<Long> issuedCouponIds, ZonedDateTime expiredAt);
 }
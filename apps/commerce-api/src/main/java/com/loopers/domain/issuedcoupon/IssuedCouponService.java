@@ -1,10 +1,15 @@
 package com.loopers.domain.issuedcoupon;
 
+import com.loopers.domain.coupon.CouponIssuanceClaim;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+
 @RequiredArgsConstructor
 @Component
 public class IssuedCouponService {
@@ -32,14 +37,57 @@ public class IssuedCouponService {
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "쿠폰에 대한 사용 권한이 없습니다"));
     }
 
-    public void useCoupon(Long userId, Long couponId) {
-        IssuedCoupon issuedCoupon = issuedCouponRepository.findByUserIdAndCouponId(userId, couponId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "쿠폰에 대한 사용 권한이 없습니다"));
+    /**
+     * 쿠폰 사용 처리 (주문 트랜잭션 안에서 호출)
+     *
+     * 별도 잠금 없이 USABLE 조건을 건 UPDATE 한 번으로 사용 처리한다.
+     * 같은 쿠폰으로 동시에 주문하면 뒤의 주문은 앞 주문의 커밋/롤백을 기다린 뒤 0건 변경으로 실패한다.
+     * 조회해 둔 엔티티의 상태는 갱신되지 않으므로 이후 같은 트랜잭션에서 상태를 다시 읽지 않는다.
+     */
+    public void useCoupon(IssuedCoupon issuedCoupon) {
+        int updated = issuedCouponRepository.useIfUsable(issuedCoupon.getId(), LocalDateTime.now());
 
-        if( issuedCoupon.getStatus() != CouponStatus.USABLE ) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "이미 사용되거나 만료된 쿠폰입니다");
+        if (updated == 0) {
+            throw new CoreException(ErrorType.CONFLICT, "이미 사용되거나 만료된 쿠폰입니다");
         }
+    }
 
-        issuedCoupon.useCoupon();
+    /**
+     * 사용된 쿠폰 일괄 복구 (주문 보상)
+     *
+     * @return 복구된 쿠폰 수
+     */
+    public int restoreUsedCoupons(List<Long> issuedCouponIds) {
+        if (issuedCouponIds.isEmpty()) {
+            return 0;
+        }
+        return issuedCouponRepository.restoreUsedCoupons(issuedCouponIds);
+    }
+
+    /**
+     * 선착순 발급 확정 건 일괄 저장 (중복 저장 시 무시)
+     */
+    public void issueAll(List<CouponIssuanceClaim> claims) {
+        if (claims.isEmpty()) {
+            return;
+        }
+        issuedCouponRepository.saveAllIfAbsent(claims);
+    }
+
+    /**
+     * 쿠폰의 USABLE 발급 건 중 afterId 이후 한 청크를 잠금 조회 (만료 처리용)
+     */
+    public List<IssuedCoupon> lockUsableChunk(Long couponId, Long afterId, int limit) {
+        return issuedCouponRepository.findUsableByCouponIdForUpdate(couponId, afterId, limit);
+    }
+
+    /**
+     * 잠금 조회한 발급 건 일괄 만료
+     */
+    public int expireCoupons(List<Long> issuedCouponIds) {
+        if (issuedCouponIds.isEmpty()) {
+            return 0;
+        }
+        return issuedCouponRepository.expireUsableCoupons(issuedCouponIds, ZonedDateTime.now());
     }
 }
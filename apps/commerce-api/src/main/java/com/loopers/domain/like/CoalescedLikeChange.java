@@ -0,0 +1,19 @@
+package com.loopers.domain.like;
+
+/**
+ * 병합 윈도우 동안의 최종 좋아요 상태 변화
+ *
+ * @param userIdx 사용자 PK
+ * @param userId 사용자 ID (행동 추적 이벤트용)
+ * @param productId 상품 ID
+ * @param likeId 마지막으로 생성/삭제된 좋아요 ID
+ * @param liked 최종 상태 (true: 좋아요 추가, false: 좋아요 취소)
+ */
+public record CoalescedLikeChange(
+        Long userIdx,
+        String userId,
+        Long productId,
+        Long likeId,
+        boolean liked
+) {
+}
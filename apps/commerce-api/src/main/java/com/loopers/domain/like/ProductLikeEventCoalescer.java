@@ -0,0 +1,134 @@
+package com.loopers.domain.like;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요/취소 토글 이벤트 병합기
+ *
+ * (사용자, 상품) 단위로 일정 시간(window) 동안 발생한 좋아요/취소를 모아
+ * 윈도우 종료 시점에 "최종 상태 변화"만 Outbox로 발행한다.
+ * - 좋아요 → 취소 → 좋아요 : LIKE_ADDED 1건
+ * - 좋아요 → 취소          : 이벤트 없음 (상쇄)
+ *
+ * product_like 테이블은 기존과 동일하게 동기적으로 반영되며,
+ * 이벤트만 지연 발행되므로 서버 비정상 종료 시 유실분은 ProductLikeSyncScheduler가 보정한다.
+ */
+@Slf4j
+@Component
+public class ProductLikeEventCoalescer {
+
+    @Value("${like.coalescing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${like.coalescing.window-ms:1000}")
+    private long windowMs;
+
+    private final Map<LikeKey, PendingToggle> pendingToggles = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요 상태 변경 기록
+     * 트랜잭션 안에서 호출되면 커밋 이후에만 반영한다. (롤백된 토글은 병합 대상에서 제외)
+     *
+     * @param liked 변경 후 좋아요 상태 (true: 좋아요, false: 취소)
+     */
+    public void record(Long userIdx, String userId, Long productId, Long likeId, boolean liked) {
+        Runnable apply = () -> apply(userIdx, userId, productId, likeId, liked, System.currentTimeMillis());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+            return;
+        }
+
+        apply.run();
+    }
+
+    /**
+     * 윈도우가 종료된 토글을 꺼내 최종 상태 변화 목록으로 반환
+     * 최종 상태가 윈도우 시작 시점과 같으면(상쇄) 결과에서 제외한다.
+     */
+    public List<CoalescedLikeChange> drainExpired(long nowMillis) {
+        List<CoalescedLikeChange> changes = new ArrayList<>();
+
+        for (Map.Entry<LikeKey, PendingToggle> entry : pendingToggles.entrySet()) {
+            PendingToggle toggle = entry.getValue();
+            if (nowMillis - toggle.windowStartedAt() < windowMs) {
+                continue;
+            }
+
+            // 꺼내는 사이 새 토글이 병합되었다면 다음 주기에 처리
+            if (!pendingToggles.remove(entry.getKey(), toggle)) {
+                continue;
+            }
+
+            if (toggle.hasNetChange()) {
+                changes.add(toggle.toChange(entry.getKey()));
+            }
+        }
+
+        return changes;
+    }
+
+    /**
+     * 윈도우 종료 여부와 관계없이 모든 토글을 꺼낸다. (애플리케이션 종료 시 사용)
+     */
+    public List<CoalescedLikeChange> drainAll() {
+        return drainExpired(Long.MAX_VALUE);
+    }
+
+    public int pendingCount() {
+        return pendingToggles.size();
+    }
+
+    void apply(Long userIdx, String userId, Long productId, Long likeId, boolean liked, long nowMillis) {
+        pendingToggles.merge(
+                new LikeKey(userIdx, productId),
+                PendingToggle.start(userId, likeId, liked, nowMillis),
+                (previous, current) -> previous.toggle(likeId, liked)
+        );
+    }
+
+    private record LikeKey(Long userIdx, Long productId) {
+    }
+
+    private record PendingToggle(
+            String userId,
+            Long likeId,
+            boolean initialLiked,   // 윈도우 시작 직전 상태
+            boolean finalLiked,     // 마지막 토글 이후 상태
+            long windowStartedAt
+    ) {
+        static PendingToggle start(String userId, Long likeId, boolean liked, long nowMillis) {
+            return new PendingToggle(userId, likeId, !liked, liked, nowMillis);
+        }
+
+        PendingToggle toggle(Long likeId, boolean liked) {
+            return new PendingToggle(userId, likeId, initialLiked, liked, windowStartedAt);
+        }
+
+        boolean hasNetChange() {
+            return initialLiked != finalLiked;
+        }
+
+        CoalescedLikeChange toChange(LikeKey key) {
+            return new CoalescedLikeChange(key.userIdx(), userId, key.productId(), likeId, finalLiked);
+        }
+    }
+}
@@ -16,6 +16,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static com.loopers.kafka.KafkaTopics.ProductLike.*;
 import static com.loopers.kafka.KafkaTopics.UserActivity;
 
@@ -27,9 +29,16 @@ public class ProductLikeService {
     private final ProductLikeRepository productLikeRepository;
     private final OutboxEventService outboxEventService;
     private final ObjectMapper objectMapper;
+    private final ProductLikeEventCoalescer productLikeEventCoalescer;
 
+    /**
+     * 좋아요 추가
+     *
+     * @param user 사용자 (getReference 로 만든 참조여도 됨)
+     * @param userId 이벤트에 기록할 로그인 ID (참조의 지연 조회를 피하기 위해 따로 받음)
+     */
     @Transactional
-    public ProductLike addLike(User user, Product product) {
+    public ProductLike addLike(User user, String userId, Product product) {
         // 멱등성 처리: 이미 좋아요가 존재하면 기존 것을 반환
         return productLikeRepository.findByLikeUserAndLikeProduct(user, product)
                 .orElseGet(() -> {
@@ -37,41 +46,66 @@ public class ProductLikeService {
                     ProductLike like = ProductLike.addLike(user, product);
                     ProductLike savedLike = productLikeRepository.save(like);
 
+                    // 병합 윈도우 사용 시 이벤트는 윈도우 종료 후 최종 상태만 발행
+                    if (productLikeEventCoalescer.isEnabled()) {
+                        productLikeEventCoalescer.record(
+                                user.getId(), userId, product.getId(), savedLike.getId(), true
+                        );
+                        return savedLike;
+                    }
+
                     // 좋아요 집계 처리 이벤트 발행
-                    publishProductLikeAddedEvent(product, savedLike);
+                    publishProductLikeAddedEvent(product.getId(), savedLike.getId());
 
                     // 사용자 행동 추적 이벤트 발행
-                    publishUserActivityEvent(user, product, "PRODUCT_LIKE_ADDED");
+                    publishUserActivityEvent(userId, product.getId(), "PRODUCT_LIKE_ADDED");
 
                     return savedLike;
                 });
     }
 
+    /**
+     * 병합된 좋아요 상태 변화 발행
+     * 윈도우 동안 상쇄되지 않은 최종 상태 변화만 Outbox에 기록한다.
+     */
+    @Transactional
+    public void publishCoalescedChanges(List<CoalescedLikeChange> changes) {
+        for (CoalescedLikeChange change : changes) {
+            if (change.liked()) {
+                publishProductLikeAddedEvent(change.productId(), change.likeId());
+                publishUserActivityEvent(change.userId(), change.productId(), "PRODUCT_LIKE_ADDED");
+            } else {
+                publishProductLikeRemovedEvent(change.productId(), change.likeId());
+                publishUserActivityEvent(change.userId(), change.productId(), "PRODUCT_LIKE_CANCELLED");
+            }
+        }
+    }
+
     /**
      * 상품 좋아요 집계 이벤트 발행
      * 실패 시에도 좋아요 추가 트랜잭션에 영향을 주지 않음
      * */
-    private void publishProductLikeAddedEvent(Product product, ProductLike savedLike) {
+    private void publishProductLikeAddedEvent(Long productId, Long likeId) {
 
         try {
             // Product의 좋아요 수(집계) 증가 이벤트 분리
             ProductLikeAddedEvent productLikeAddedEvent = ProductLikeAddedEvent.of(
-                    savedLike.getId(),
-                    product.getId()
+                    likeId,
+                    productId
             );
 
             String likeAddedPayload = objectMapper.writeValueAsString(productLikeAddedEvent);
 
             outboxEventService.createOutboxEvent(
                     AggregateTypes.PRODUCT_LIKE,
-                    product.getId().toString(),
+                    productId.toString(),
                     LIKE_ADDED,
                     likeAddedPayload
             );
         } catch (JsonProcessingException e) {
             // 이벤트 발행 실패 시 로그만 저장
             log.error("ProductLikeAddedEvent 직렬화 실패 - 좋아요 추가는 성공 처리됨. productLikeId: {}, productId: {}",
-                    product.getId(), savedLike.getId(), e);
+                    likeId, productId, e);
         }
     }
 
@@ -79,68 +113,82 @@ public class ProductLikeService {
      * 사용자 활동 이벤트 발행
      * 실패 시에도 좋아요 트랜잭션에 영향을 주지 않음
      */
-    private void publishUserActivityEvent(User user, Product product, String activityType) {
+    private void publishUserActivityEvent(String userId, Long productId, String activityType) {
         try {
             UserActivityEvent userActivityEvent = UserActivityEvent.of(
-                    user.getUserId(),
+                    userId,
                     activityType,
                     "PRODUCT",
-                    product.getId()
+                    productId
             );
 
             String userActivityPayload = objectMapper.writeValueAsString(userActivityEvent);
 
             outboxEventService.createOutboxEvent(
                     AggregateTypes.ACTIVITY,
-                    product.getId().toString(),
+                    productId.toString(),
                     UserActivity.USER_ACTIVITY,
                     userActivityPayload
             );
         } catch (JsonProcessingException e) {
             // 이벤트 발행 실패 시 로그만 남기고 좋아요 처리는 성공
             log.error("UserActivityEvent 직렬화 실패 - 좋아요 처리는 성공 처리됨. productId: {}, userId: {}, activityType: {}",
-                    product.getId(), user.getId(), activityType, e);
+                    productId, userId, activityType, e);
         }
     }
 
+    /**
+     * 좋아요 취소
+     *
+     * @param user 사용자 (getReference 로 만든 참조여도 됨)
+     * @param userId 이벤트에 기록할 로그인 ID
+     */
     @Transactional
-    public void cancelLike(User user, Product product) {
+    public void cancelLike(User user, String userId, Product product) {
         ProductLike like = productLikeRepository.findByLikeUserAndLikeProduct(user, product)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "좋아요가 존재하지 않습니다"));
 
         // ProductLike hard delete 처리
         productLikeRepository.delete(like);
 
+        // 병합 윈도우 사용 시 이벤트는 윈도우 종료 후 최종 상태만 발행
+        if (productLikeEventCoalescer.isEnabled()) {
+            productLikeEventCoalescer.record(
+                    user.getId(), userId, product.getId(), like.getId(), false
+            );
+            return;
+        }
+
         // 좋아요 집계 처리 이벤트 발행
-        publishProductLikeRemovedEvent(product, like);
+        publishProductLikeRemovedEvent(product.getId(), like.getId());
 
         // 사용자 행동 추적 이벤트 발행
-        publishUserActivityEvent(user, product, "PRODUCT_LIKE_CANCELLED");
+        publishUserActivityEvent(userId, product.getId(), "PRODUCT_LIKE_CANCELLED");
     }
 
     /**
      * 상품 좋아요 취소 집계 이벤트 발행
      * 실패 시에도 좋아요 취소 트랜잭션에 영향을 주지 않음
      */
-    private void publishProductLikeRemovedEvent(Product product, ProductLike like) {
+    private void publishProductLikeRemovedEvent(Long productId, Long likeId) {
         try {
             ProductLikeRemovedEvent productLikeRemovedEvent = ProductLikeRemovedEvent.of(
-                    like.getId(),
-                    product.getId()
+                    likeId,
+                    productId
             );
 
             String likeRemovedPayload = objectMapper.writeValueAsString(productLikeRemovedEvent);
 
             outboxEventService.createOutboxEvent(
                     AggregateTypes.PRODUCT_LIKE,
-                    product.getId().toString(),
+                    productId.toString(),
                     LIKE_REMOVED,
                     likeRemovedPayload
             );
         } catch (JsonProcessingException e) {
             // 이벤트 발행 실패 시 로그만 저장
             log.error("ProductLikeRemovedEvent 직렬화 실패 - 좋아요 취소는 성공 처리됨. productLikeId: {}, productId: {}",
-                    like.getId(), product.getId(), e);
+                    likeId, productId, e);
         }
     }
 }
@@ -47,6 +47,12 @@ public class ProductMetricsMonthly {
     @Column(name = "total_order_count", nullable = false)
     private Long totalOrderCount;
 
+    /**
+     * 종합 점수 (commerce-collector 집계 시 ranking.weight.* 가중치로 계산)
+     */
+    @Column(name = "composite_score", nullable = false)
+    private Double compositeScore;
+
     @Column(name = "aggregated_at")
     private ZonedDateTime aggregatedAt;
 
@@ -55,12 +61,4 @@ public class ProductMetricsMonthly {
 
     @Column(name = "updated_at")
     private ZonedDateTime updatedAt;
-
-    /**
-     * 종합 점수 계산 (가중치 적용)
-     * Score = (like * 0.2) + (view * 0.1) + (order * 0.6)
-     */
-    public double calculateCompositeScore() {
-        return (totalLikeCount * 0.2) + (totalViewCount * 0.1) + (totalOrderCount * 0.6);
-    }
 }
@@ -3,26 +3,29 @@ package com.loopers.domain.metrics;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 랭킹 조회는 page/size 단위로 DB 에서 잘라 온다 (OFFSET = page * size)
+ */
 public interface ProductMetricsMonthlyRepository {
     /**
      * 특정 년도/월의 랭킹 조회 (좋아요 기준 정렬)
      */
-    List<ProductMetricsMonthly> findByYearAndMonthOrderByLikeCountDesc(int year, int month, int limit);
+    List<ProductMetricsMonthly> findByYearAndMonthOrderByLikeCountDesc(int year, int month, int page, int size);
 
     /**
      * 특정 년도/월의 랭킹 조회 (조회수 기준 정렬)
      */
-    List<ProductMetricsMonthly> findByYearAndMonthOrderByViewCountDesc(int year, int month, int limit);
+    List<ProductMetricsMonthly> findByYearAndMonthOrderByViewCountDesc(int year, int month, int page, int size);
 
     /**
      * 특정 년도/월의 랭킹 조회 (주문수 기준 정렬)
      */
-    List<ProductMetricsMonthly> findByYearAndMonthOrderByOrderCountDesc(int year, int month, int limit);
+    List<ProductMetricsMonthly> findByYearAndMonthOrderByOrderCountDesc(int year, int month, int page, int size);
 
     /**
      * 특정 년도/월의 랭킹 조회 (Score 기준 정렬)
      */
-    List<ProductMetricsMonthly> findByYearAndMonthOrderByCompositeScoreDesc(int year, int month, int limit);
+    List<ProductMetricsMonthly> findByYearAndMonthOrderByCompositeScoreDesc(int year, int month, int page, int size);
 
     /**
      * 특정 상품의 월간 랭킹 조회
@@ -3,26 +3,29 @@ package com.loopers.domain.metrics;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 랭킹 조회는 page/size 단위로 DB 에서 잘라 온다 (OFFSET = page * size)
+ */
 public interface ProductMetricsWeeklyRepository {
     /**
      * 특정 년도/주차의 랭킹 조회 (좋아요 기준 정렬)
      */
-    List<ProductMetricsWeekly> findByYearAndWeekOrderByLikeCountDesc(int year, int week, int limit);
+    List<ProductMetricsWeekly> findByYearAndWeekOrderByLikeCountDesc(int year, int week, int page, int size);
 
     /**
      * 특정 년도/주차의 랭킹 조회 (조회수 기준 정렬)
      */
-    List<ProductMetricsWeekly> findByYearAndWeekOrderByViewCountDesc(int year, int week, int limit);
+    List<ProductMetricsWeekly> findByYearAndWeekOrderByViewCountDesc(int year, int week, int page, int size);
 
     /**
      * 특정 년도/주차의 랭킹 조회 (주문수 기준 정렬)
      */
-    List<ProductMetricsWeekly> findByYearAndWeekOrderByOrderCountDesc(int year, int week, int limit);
+    List<ProductMetricsWeekly> findByYearAndWeekOrderByOrderCountDesc(int year, int week, int page, int size);
 
     /**
      * 특정 년도/주차의 랭킹 조회 (score 기준 정렬)
      */
-    List<ProductMetricsWeekly> findByYearAndWeekOrderByCompositeScoreDesc(int year, int week, int limit);
+    List<ProductMetricsWeekly> findByYearAndWeekOrderByCompositeScoreDesc(int year, int week, int page, int size);
 
     /**
      * 특정 상품의 주간 랭킹 조회
@@ -0,0 +1,73 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 주문 보상 요청 (보상 대기열)
+ *
+ * 결제 실패 시 주문 단위로 한 건씩 쌓이고, OrderCompensationWorker 가 여러 건을 묶어 한 트랜잭션에서 보상한다.
+ * order_id 유니크 제약으로 같은 주문의 보상 요청은 한 번만 저장된다.
+ */
+@Entity
+@Table(
+        name = "order_compensation",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_compensation_order_id", columnNames = "order_id"),
+        indexes = @Index(name = "idx_order_compensation_status_id", columnList = "status, id")
+)
+@Getter
+public class OrderCompensation extends BaseEntity {
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private boolean refundPoint;  // 포인트 환불 포함 여부
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderCompensationStatus status;
+
+    // 처리 중 점유 만료 시각 (처리 실패 시 다음 재시도 시각으로도 사용)
+    private ZonedDateTime leaseExpiresAt;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private ZonedDateTime completedAt;
+
+    public static OrderCompensation request(Long orderId, boolean refundPoint) {
+        OrderCompensation compensation = new OrderCompensation();
+        compensation.orderId = orderId;
+        compensation.refundPoint = refundPoint;
+        compensation.status = OrderCompensationStatus.PENDING;
+        return compensation;
+    }
+
+    public void lease(ZonedDateTime expiresAt) {
+        this.leaseExpiresAt = expiresAt;
+    }
+
+    /**
+     * 보상 실패 기록
+     * 최대 시도 횟수 미만이면 retryAt 이후 다시 처리하고, 도달하면 FAILED 로 전환한다.
+     */
+    public void recordFailure(String error, int maxAttempts, ZonedDateTime retryAt) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+
+        if (this.attemptCount >= maxAttempts) {
+            this.status = OrderCompensationStatus.FAILED;
+            this.leaseExpiresAt = null;
+            return;
+        }
+
+        this.leaseExpiresAt = retryAt;
+    }
+}
@@ -0,0 +1,84 @@
+package com.loopers.domain.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 주문 보상 대기열 서비스
+ * 보상 요청 저장, 점유, 완료/실패 기록을 담당하고 실제 보상은 OrderCompensationService 가 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCompensationQueueService {
+
+    private final OrderCompensationRepository orderCompensationRepository;
+
+    @Value("${order.compensation.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${order.compensation.retry-delay-ms:10000}")
+    private long retryDelayMs;
+
+    /**
+     * 보상 요청 저장
+     * 호출한 트랜잭션에 함께 커밋되며, 같은 주문의 요청이 이미 있으면 저장하지 않는다.
+     */
+    public void request(Long orderId, boolean refundPoint) {
+        if (!orderCompensationRepository.saveIfAbsent(orderId, refundPoint)) {
+            log.info("이미 보상 요청된 주문입니다 - OrderId: {}", orderId);
+        }
+    }
+
+    /**
+     * 실패 처리된 결제들의 주문 보상 요청 일괄 저장
+     */
+    public void requestForFailedPayments(List<String> paymentIds, boolean refundPoint) {
+        int requested = orderCompensationRepository.saveIfAbsentForFailedPayments(paymentIds, refundPoint);
+        log.info("주문 보상 요청 - {}건 (실패 결제 {}건)", requested, paymentIds.size());
+    }
+
+    /**
+     * 보상 대기 요청 점유
+     * SKIP LOCKED 로 조회하고 점유 만료 시각을 기록하여 여러 노드가 같은 요청을 처리하지 않도록 한다.
+     */
+    @Transactional
+    public List<OrderCompensation> claim(int limit, Duration leaseDuration) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<OrderCompensation> claimed = orderCompensationRepository.findPendingForUpdate(now, limit);
+        claimed.forEach(compensation -> compensation.lease(now.plus(leaseDuration)));
+        return claimed;
+    }
+
+    /**
+     * 보상할 요청 잠금 조회 (보상 트랜잭션 안에서 호출)
+     * 점유 이후 이미 완료된 요청은 제외된다.
+     */
+    public List<OrderCompensation> lockPending(List<Long> ids) {
+        return orderCompensationRepository.findPendingByIdsForUpdate(ids);
+    }
+
+    public void markCompleted(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        orderCompensationRepository.markCompleted(ids, ZonedDateTime.now());
+    }
+
+    @Transactional
+    public void recordFailure(Long id, String error) {
+        orderCompensationRepository.findById(id).ifPresent(compensation -> {
+            compensation.recordFailure(error, maxAttempts, ZonedDateTime.now().plus(Duration.ofMillis(retryDelayMs)));
+            if (compensation.getStatus() == OrderCompensationStatus.FAILED) {
+                log.error("주문 보상 최대 시도 초과 - OrderId: {}, error: {}", compensation.getOrderId(), error);
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderCompensationRepository {
+
+    /**
+     * 같은 주문의 보상 요청이 없을 때만 저장 (INSERT IGNORE)
+     *
+     * @return 새로 저장되었으면 true
+     */
+    boolean saveIfAbsent(Long orderId, boolean refundPoint);
+
+    /**
+     * 실패 처리된 결제의 주문에 대한 보상 요청 일괄 저장 (INSERT IGNORE ... SELECT)
+     * 결제가 FAILED 가 아니거나 이미 요청된 주문은 제외된다.
+     *
+     * @return 새로 저장된 건수
+     */
+    int saveIfAbsentForFailedPayments(List<String> paymentIds, boolean refundPoint);
+
+    /**
+     * 보상 대기 요청 점유 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * - 점유가 없거나 만료된 PENDING 요청을 요청 순서대로 조회
+     */
+    List<OrderCompensation> findPendingForUpdate(ZonedDateTime now, int limit);
+
+    /**
+     * 보상 처리할 요청 잠금 조회 (SELECT ... FOR UPDATE)
+     * 점유 이후 다른 곳에서 완료된 요청은 제외하기 위해 PENDING 만 조회한다.
+     */
+    List<OrderCompensation> findPendingByIdsForUpdate(List<Long> ids);
+
+    Optional<OrderCompensation> findById(Long id);
+
+    /**
+     * 보상 완료 일괄 반영
+     *
+     * @return 변경된 건수
+     */
+    int markCompleted(List<Long> ids, ZonedDateTime completedAt);
+}
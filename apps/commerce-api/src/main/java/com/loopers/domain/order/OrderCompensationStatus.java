@@ -0,0 +1,7 @@
+package com.loopers.domain.order;
+
+public enum OrderCompensationStatus {
+    PENDING,    // 보상 대기
+    COMPLETED,  // 보상 완료 (이미 취소/완료된 주문으로 건너뛴 경우 포함)
+    FAILED      // 최대 시도 횟수 초과 (수동 확인 필요)
+}
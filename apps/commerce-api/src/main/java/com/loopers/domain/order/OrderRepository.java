@@ -1,5 +1,8 @@
 package com.loopers.domain.order;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface OrderRepository {
@@ -8,4 +11,32 @@ public interface OrderRepository {
     Optional<Order> findById(Long id);
 
     Optional<Order> findOrderWithDetailsById(Long id);
+
+    /**
+     * 취소 가능한 주문(취소/완료되지 않은 주문) 잠금 조회 (SELECT ... FOR UPDATE, id 순)
+     */
+    List<Order> findCancelableByIdsForUpdate(List<Long> orderIds);
+
+    /**
+     * 주문 상품 수량을 상품별로 합산
+     *
+     * @return 상품 ID → 수량 합계 (상품 ID 오름차순)
+     */
+    Map<Long, Integer> sumItemQuantitiesByProduct(List<Long> orderIds);
+
+    /**
+     * 주문 금액을 사용자별로 합산
+     *
+     * @return 사용자 PK → 금액 합계 (사용자 PK 오름차순)
+     */
+    Map<Long, BigDecimal> sumTotalPriceByUser(List<Long> orderIds);
+
+    List<Long> findIssuedCouponIds(List<Long> orderIds);
+
+    /**
+     * 주문 일괄 취소 (취소/완료된 주문은 변경하지 않음)
+     *
+     * @return 변경된 건수
+     */
+    int cancelOrders(List<Long> orderIds);
 }
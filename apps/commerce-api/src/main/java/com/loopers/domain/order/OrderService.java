@@ -5,6 +5,10 @@ import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
 @RequiredArgsConstructor
 @Component
 public class OrderService {
@@ -24,4 +28,31 @@ public class OrderService {
         return orderRepository.findOrderWithDetailsById(orderId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "주문 정보가 없습니다"));
     }
+
+    /**
+     * 취소 가능한 주문 잠금 조회 (주문 보상)
+     * 이미 취소되었거나 완료된 주문은 제외된다.
+     */
+    public List<Order> lockCancelableOrders(List<Long> orderIds) {
+        return orderRepository.findCancelableByIdsForUpdate(orderIds);
+    }
+
+    public Map<Long, Integer> sumItemQuantitiesByProduct(List<Long> orderIds) {
+        return orderRepository.sumItemQuantitiesByProduct(orderIds);
+    }
+
+    public Map<Long, BigDecimal> sumTotalPriceByUser(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        return orderRepository.sumTotalPriceByUser(orderIds);
+    }
+
+    public List<Long> getIssuedCouponIds(List<Long> orderIds) {
+        return orderRepository.findIssuedCouponIds(orderIds);
+    }
+
+    public int cancelOrders(List<Long> orderIds) {
+        return orderRepository.cancelOrders(orderIds);
+    }
 }
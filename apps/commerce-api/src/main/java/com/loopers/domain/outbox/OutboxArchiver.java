@@ -0,0 +1,14 @@
+package com.loopers.domain.outbox;
+
+import java.util.List;
+
+/**
+ * 삭제 전 발행 완료 Outbox 이벤트 보관
+ */
+public interface OutboxArchiver {
+
+    /**
+     * 이벤트 보관 (실패 시 예외를 던져 삭제가 진행되지 않도록 한다)
+     */
+    void archive(List<OutboxEvent> events);
+}
@@ -7,7 +7,15 @@ import lombok.Getter;
 import java.time.ZonedDateTime;
 
 @Entity
-@Table(name = "outbox_events")
+@Table(
+        name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_status_created_at", columnList = "status, created_at"),
+                @Index(name = "idx_outbox_events_status_next_attempt_at", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_outbox_events_status_published_at", columnList = "status, published_at"),
+                @Index(name = "idx_outbox_events_aggregate", columnList = "aggregate_type, aggregate_id")  // 같은 aggregate 의 앞선 이벤트 확인용
+        }
+)
 @Getter
 public class OutboxEvent extends BaseEntity {
     @Column(nullable = false)
@@ -24,12 +32,29 @@ public class OutboxEvent extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    private OutboxStatus status;  // PENDING, PUBLISHED, FAILED
+    private OutboxStatus status;  // PENDING, PUBLISHED, FAILED, PARKED
 
     // createdAt은 BaseEntity에서 자동으로 관리됨 (@PrePersist)
 
     private ZonedDateTime publishedAt;
 
+    // 다중 노드 릴레이용 점유(lease) 정보
+    @Column(nullable = false)
+    private int aggregateHash;  // aggregateId 해시 (릴레이 파티셔닝용, 음수 아님)
+
+    private String leaseOwner;
+
+    private ZonedDateTime leaseExpiresAt;
+
+    // 발행 재시도 정보
+    @Column(nullable = false)
+    private int attemptCount;
+
+    private ZonedDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
     public static OutboxEvent create(
             String aggregateType,
             String aggregateId,
@@ -42,15 +67,46 @@ public class OutboxEvent extends BaseEntity {
         event.eventType = eventType;
         event.payload = payload;
         event.status = OutboxStatus.PENDING;
+        event.aggregateHash = aggregateId.hashCode() & Integer.MAX_VALUE;
         return event;
     }
 
+    /**
+     * 릴레이 노드가 발행을 위해 점유
+     * 점유가 만료되기 전까지 다른 노드는 이 이벤트를 가져가지 않는다.
+     */
+    public void lease(String owner, ZonedDateTime expiresAt) {
+        this.leaseOwner = owner;
+        this.leaseExpiresAt = expiresAt;
+    }
+
     public void markAsPublished() {
         this.status = OutboxStatus.PUBLISHED;
         this.publishedAt = ZonedDateTime.now();
     }
 
-    public void markAsFailed() {
+    /**
+     * 발행 실패 기록 후 nextAttemptAt 이후 재시도
+     */
+    public void markAsFailed(String error, ZonedDateTime nextAttemptAt) {
+        recordFailure(error);
         this.status = OutboxStatus.FAILED;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 발행 실패 기록 후 자동 재시도 중단 (관리자 재처리 대상)
+     */
+    public void park(String error) {
+        recordFailure(error);
+        this.status = OutboxStatus.PARKED;
+        this.nextAttemptAt = null;
+    }
+
+    private void recordFailure(String error) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
     }
 }
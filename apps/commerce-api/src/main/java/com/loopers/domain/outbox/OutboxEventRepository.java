@@ -1,9 +1,100 @@
 package com.loopers.domain.outbox;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 public interface OutboxEventRepository {
     OutboxEvent save(OutboxEvent outboxEvent);
 
-    List<OutboxEvent> findByStatusOrderByCreatedAtAsc(OutboxStatus outboxStatus, int limit);
+    /**
+     * multi-row INSERT 로 일괄 저장
+     *
+     * @return 생성된 id (입력 순서와 동일)
+     */
+    List<Long> saveAll(List<OutboxEvent> outboxEvents);
+
+    /**
+     * 점유 가능한 PENDING 이벤트 조회 (FOR UPDATE SKIP LOCKED)
+     * 다른 노드가 잠근 row는 기다리지 않고 건너뛴다.
+     * 같은 aggregate 의 앞선 이벤트가 FAILED/PARKED 이거나 점유 중이면 제외한다. (aggregate 단위 순서 유지)
+     *
+     * @param createdBefore 이 시각 이전에 생성된 이벤트만 조회 (즉시 발행 대상과 겹치지 않도록)
+     * @param partitionCount 전체 파티션 수
+     * @param partitions 조회할 파티션 번호 (aggregateHash % partitionCount)
+     */
+    List<OutboxEvent> findClaimableForUpdate(
+            ZonedDateTime now,
+            ZonedDateTime createdBefore,
+            int partitionCount,
+            List<Integer> partitions,
+            int limit
+    );
+
+    /**
+     * 재시도 시각이 지난 FAILED 이벤트 조회 (FOR UPDATE SKIP LOCKED)
+     * 같은 aggregate 의 앞선 이벤트가 아직 발행되지 않았으면 제외한다.
+     */
+    List<OutboxEvent> findRetryableForUpdate(
+            ZonedDateTime now,
+            int partitionCount,
+            List<Integer> partitions,
+            int limit
+    );
+
+    List<OutboxEvent> findAllByIds(List<Long> ids);
+
+    /**
+     * 지정한 id 중 점유 가능한 PENDING 이벤트 조회 (FOR UPDATE SKIP LOCKED)
+     * 같은 aggregate 의 앞선 이벤트가 아직 발행되지 않은(PENDING/FAILED/PARKED, 점유 중 포함) 이벤트는 제외한다.
+     */
+    List<OutboxEvent> findClaimableByIdsForUpdate(
+            List<Long> ids,
+            ZonedDateTime now,
+            int partitionCount,
+            List<Integer> partitions
+    );
+
+    /**
+     * 발행 완료 상태로 일괄 변경 (UPDATE ... WHERE id IN (...))
+     * 점유가 만료되어 다른 노드가 다시 가져간 이벤트는 변경하지 않는다.
+     *
+     * @return 변경된 row 수
+     */
+    int markAsPublished(List<Long> ids, String leaseOwner, ZonedDateTime publishedAt);
+
+    /**
+     * 지정한 aggregateType 의 PARKED 이벤트를 PENDING 으로 되돌림 (재시도 횟수 초기화)
+     *
+     * @return 변경된 row 수
+     */
+    int requeueParked(String aggregateType, ZonedDateTime now);
+
+    /**
+     * 지정한 PARKED 이벤트를 PENDING 으로 되돌림 (재시도 횟수 초기화)
+     *
+     * @return 변경된 row 수
+     */
+    int requeueParkedByIds(List<Long> ids, ZonedDateTime now);
+
+    /**
+     * 점유 해제 (발행하지 않은 이벤트를 만료 전에 다른 노드/다음 주기에 돌려줌)
+     */
+    int releaseLease(List<Long> ids, String leaseOwner);
+
+    /**
+     * 보관 기간이 지난 PUBLISHED 이벤트 조회 (FOR UPDATE SKIP LOCKED, publishedAt 오름차순)
+     */
+    List<OutboxEvent> findPublishedBeforeForUpdate(ZonedDateTime publishedBefore, int limit);
+
+    /**
+     * @return 삭제된 row 수
+     */
+    int deleteByIds(List<Long> ids);
+
+    /**
+     * 보관 기간이 지난 PUBLISHED 이벤트를 publishedAt 오름차순으로 limit 건까지 바로 삭제 (조회 없이)
+     *
+     * @return 삭제된 row 수
+     */
+    int deletePublishedBefore(ZonedDateTime publishedBefore, int limit);
 }
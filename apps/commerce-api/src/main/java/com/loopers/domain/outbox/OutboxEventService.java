@@ -1,17 +1,33 @@
 package com.loopers.domain.outbox;
 
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class OutboxEventService {
 
     private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventWriter outboxEventWriter;
+    private final OutboxRetryPolicy outboxRetryPolicy;
+    private final OutboxArchiver outboxArchiver;
 
-    public OutboxEvent createOutboxEvent(
+    /**
+     * Outbox 이벤트 기록
+     * 트랜잭션 안에서 호출되면 커밋 직전에 같은 트랜잭션의 이벤트와 함께 한 번에 저장된다. (OutboxEventWriter)
+     */
+    public void createOutboxEvent(
             String aggregateType,
             String aggregateId,
             String eventType,
@@ -24,17 +40,202 @@ public class OutboxEventService {
                 payload
         );
 
-        OutboxEvent savedOutboxEvent = outboxEventRepository.save(outboxEvent);
+        outboxEventWriter.write(outboxEvent);
+    }
 
-        return savedOutboxEvent;
+    public void save(OutboxEvent outboxEvent) {
+        outboxEventRepository.save(outboxEvent);
     }
 
-    public List<OutboxEvent> getPendingEvents(int limit) {
-        return outboxEventRepository
-                .findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING, limit);
+    /**
+     * 발행할 이벤트 점유 (claim)
+     *
+     * SKIP LOCKED로 다른 노드가 점유 중인 row는 건너뛰고, 가져온 row에는 owner와 만료 시각을 기록한다.
+     * 트랜잭션은 점유 기록까지만 유지하므로 Kafka 발행 동안 row lock을 잡고 있지 않는다.
+     * 점유한 노드가 발행 도중 종료되면 만료 시각 이후 다른 노드가 다시 가져간다.
+     */
+    @Transactional
+    public List<OutboxEvent> claimPendingEvents(
+            String leaseOwner,
+            Duration leaseDuration,
+            ZonedDateTime createdBefore,
+            int partitionCount,
+            List<Integer> partitions,
+            int limit
+    ) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository
+                .findClaimableForUpdate(now, createdBefore, partitionCount, partitions, limit);
+
+        return lease(events, leaseOwner, now.plus(leaseDuration));
     }
 
-    public void save(OutboxEvent outboxEvent) {
-        outboxEventRepository.save(outboxEvent);
+    /**
+     * 재시도 시각이 지난 FAILED 이벤트 점유
+     */
+    @Transactional
+    public List<OutboxEvent> claimRetryableEvents(
+            String leaseOwner,
+            Duration leaseDuration,
+            int partitionCount,
+            List<Integer> partitions,
+            int limit
+    ) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository
+                .findRetryableForUpdate(now, partitionCount, partitions, limit);
+
+        return lease(events, leaseOwner, now.plus(leaseDuration));
+    }
+
+    /**
+     * 지정한 이벤트 점유 (커밋 직후 즉시 발행용)
+     * 이미 발행되었거나 다른 노드가 점유 중인 이벤트, 같은 aggregate 의 앞선 이벤트가 아직 발행되지 않은 이벤트는 제외된다.
+     */
+    @Transactional
+    public List<OutboxEvent> claimEventsByIds(
+            List<Long> ids,
+            String leaseOwner,
+            Duration leaseDuration,
+            int partitionCount,
+            List<Integer> partitions
+    ) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        ZonedDateTime now = ZonedDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository
+                .findClaimableByIdsForUpdate(ids, now, partitionCount, partitions);
+
+        return lease(events, leaseOwner, now.plus(leaseDuration));
+    }
+
+    private List<OutboxEvent> lease(List<OutboxEvent> events, String leaseOwner, ZonedDateTime expiresAt) {
+        events.forEach(event -> event.lease(leaseOwner, expiresAt));
+        return events;
+    }
+
+    /**
+     * 발행 완료 처리 (단건 save 대신 한 번의 UPDATE로 처리)
+     */
+    @Transactional
+    public void markAsPublished(List<Long> ids, String leaseOwner) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventRepository.markAsPublished(ids, leaseOwner, ZonedDateTime.now());
+    }
+
+    /**
+     * 발행 실패 처리
+     *
+     * 실패 횟수에 따라 다음 재시도 시각(지수 백오프 + 지터)을 기록하고,
+     * 최대 재시도 횟수를 넘으면 PARKED 로 전환한다.
+     * 이벤트마다 재시도 시각이 다르므로 엔티티 단위로 변경한다. (실패는 예외적인 경우라 건수가 적음)
+     *
+     * @param failures 실패한 이벤트 id → 실패 사유
+     */
+    @Transactional
+    public void markAsFailed(Map<Long, String> failures, String leaseOwner) {
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        ZonedDateTime now = ZonedDateTime.now();
+        for (OutboxEvent event : outboxEventRepository.findAllByIds(new ArrayList<>(failures.keySet()))) {
+            // 점유가 만료되어 다른 노드가 가져간 이벤트는 변경하지 않음
+            if (!leaseOwner.equals(event.getLeaseOwner())) {
+                continue;
+            }
+
+            String error = failures.get(event.getId());
+            int attemptCount = event.getAttemptCount() + 1;
+            if (outboxRetryPolicy.shouldPark(attemptCount)) {
+                event.park(error);
+                log.error("Outbox 이벤트 최대 재시도 초과로 PARKED 처리 - id: {}, attemptCount: {}, error: {}",
+                        event.getId(), attemptCount, error);
+            } else {
+                event.markAsFailed(error, now.plus(outboxRetryPolicy.nextDelay(attemptCount)));
+            }
+        }
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 이벤트(메시지 생성 실패, 알 수 없는 aggregateType)를 바로 PARKED 처리
+     * 같은 aggregate 의 이후 이벤트는 관리자 재처리 전까지 발행되지 않는다.
+     *
+     * @param failures PARKED 처리할 이벤트 id → 실패 사유
+     */
+    @Transactional
+    public void markAsParked(Map<Long, String> failures, String leaseOwner) {
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        for (OutboxEvent event : outboxEventRepository.findAllByIds(new ArrayList<>(failures.keySet()))) {
+            if (!leaseOwner.equals(event.getLeaseOwner())) {
+                continue;
+            }
+
+            event.park(failures.get(event.getId()));
+            log.error("Outbox 이벤트 재시도 불가로 PARKED 처리 - id: {}, error: {}", event.getId(), failures.get(event.getId()));
+        }
+    }
+
+    /**
+     * PARKED 이벤트 재처리 요청 (PENDING 으로 되돌리고 재시도 횟수 초기화)
+     * 실수로 전체 PARKED 이벤트가 한꺼번에 재발행되지 않도록 id 목록 또는 aggregateType 중 하나는 반드시 지정해야 한다.
+     *
+     * @param ids 비어 있으면 aggregateType 조건으로 대상 지정
+     * @param aggregateType ids 가 비어 있을 때 재처리할 aggregateType
+     * @return 재처리 대상으로 변경된 이벤트 수
+     */
+    @Transactional
+    public int requeueParkedEvents(List<Long> ids, String aggregateType) {
+        ZonedDateTime now = ZonedDateTime.now();
+        if (ids != null && !ids.isEmpty()) {
+            return outboxEventRepository.requeueParkedByIds(ids, now);
+        }
+        if (aggregateType == null || aggregateType.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재처리할 이벤트 id 목록 또는 aggregateType 을 지정해야 합니다.");
+        }
+        return outboxEventRepository.requeueParked(aggregateType, now);
+    }
+
+    /**
+     * 점유 해제 (발행을 미룬 이벤트를 점유 만료 전에 다시 가져갈 수 있도록 함)
+     */
+    @Transactional
+    public void releaseLease(List<Long> ids, String leaseOwner) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventRepository.releaseLease(ids, leaseOwner);
+    }
+
+    /**
+     * 보관 기간이 지난 PUBLISHED 이벤트를 한 청크만 삭제
+     *
+     * 청크 단위로 트랜잭션을 짧게 끊어 row lock 과 undo/binlog 부담을 제한한다.
+     * archive=true 이면 삭제 전에 보관하며, 보관에 실패하면 삭제하지 않는다.
+     * archive=false 이면 이벤트를 읽지 않고 DELETE ... LIMIT 한 번으로 삭제한다.
+     *
+     * @return 삭제된 이벤트 수 (chunkSize 보다 작으면 더 이상 대상 없음)
+     */
+    @Transactional
+    public int deletePublishedChunk(ZonedDateTime publishedBefore, int chunkSize, boolean archive) {
+        if (!archive) {
+            return outboxEventRepository.deletePublishedBefore(publishedBefore, chunkSize);
+        }
+
+        List<OutboxEvent> events = outboxEventRepository.findPublishedBeforeForUpdate(publishedBefore, chunkSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        outboxArchiver.archive(events);
+
+        return outboxEventRepository.deleteByIds(events.stream().map(OutboxEvent::getId).toList());
     }
 }
@@ -0,0 +1,83 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.outbox.event.OutboxEventSavedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 트랜잭션 단위 Outbox 이벤트 기록기
+ *
+ * 트랜잭션 안에서 생성된 Outbox 이벤트를 모아 두었다가 커밋 직전(beforeCommit)에
+ * 한 번의 multi-row INSERT 로 저장한다. (주문 생성 시 3번의 INSERT 왕복 → 1번)
+ * 트랜잭션 밖에서 호출되면 기존처럼 바로 저장한다.
+ *
+ * 버퍼는 TransactionSynchronization 자체에 보관하므로 REQUIRES_NEW 로 트랜잭션이 중첩되어도
+ * 각 트랜잭션의 이벤트가 섞이지 않는다. (중첩 시 바깥 트랜잭션의 synchronization 은 일시 중단됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void write(OutboxEvent outboxEvent) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            OutboxEvent savedOutboxEvent = outboxEventRepository.save(outboxEvent);
+            notifySaved(List.of(savedOutboxEvent.getId()));
+            return;
+        }
+
+        currentBuffer().add(outboxEvent);
+    }
+
+    private OutboxBuffer currentBuffer() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof OutboxBuffer buffer) {
+                return buffer;
+            }
+        }
+
+        OutboxBuffer buffer = new OutboxBuffer();
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+        return buffer;
+    }
+
+    private void notifySaved(List<Long> ids) {
+        // 커밋 이후 즉시 발행 대상으로 전달 (OutboxImmediateDispatcher)
+        ids.forEach(id -> eventPublisher.publishEvent(new OutboxEventSavedEvent(id)));
+    }
+
+    private class OutboxBuffer implements TransactionSynchronization {
+
+        private final List<OutboxEvent> events = new ArrayList<>();
+
+        void add(OutboxEvent outboxEvent) {
+            events.add(outboxEvent);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (events.isEmpty()) {
+                return;
+            }
+
+            List<OutboxEvent> pending = List.copyOf(events);
+            events.clear();
+            notifySaved(outboxEventRepository.saveAll(pending));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            // 롤백된 경우 저장하지 않은 이벤트는 버린다
+            events.clear();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.domain.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outbox 발행 재시도 정책
+ *
+ * 지수 백오프(base * 2^(attempt-1), 최대 maxDelay)에 지터를 더해
+ * 브로커 장애 복구 시점에 실패 이벤트가 한꺼번에 몰리지 않도록 한다.
+ * maxAttempts 회 실패한 이벤트는 PARKED 로 전환하여 더 이상 자동 재시도하지 않는다.
+ */
+@Component
+public class OutboxRetryPolicy {
+
+    @Value("${outbox.retry.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retry.base-delay-ms:1000}")
+    private long baseDelayMs;
+
+    @Value("${outbox.retry.max-delay-ms:300000}")
+    private long maxDelayMs;
+
+    public boolean shouldPark(int attemptCount) {
+        return attemptCount >= maxAttempts;
+    }
+
+    /**
+     * 다음 재시도까지 대기 시간 (equal jitter: 백오프의 절반 + 0 ~ 절반 사이 랜덤)
+     *
+     * @param attemptCount 지금까지 실패한 횟수 (1부터)
+     */
+    public Duration nextDelay(int attemptCount) {
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 30);
+        long backoff = Math.min(maxDelayMs, baseDelayMs << exponent);
+        long half = backoff / 2;
+        long jitter = ThreadLocalRandom.current().nextLong(half + 1);
+        return Duration.ofMillis(half + jitter);
+    }
+}
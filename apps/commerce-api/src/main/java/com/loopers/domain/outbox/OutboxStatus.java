@@ -3,5 +3,6 @@ package com.loopers.domain.outbox;
 public enum OutboxStatus {
     PENDING,
     PUBLISHED,
-    FAILED
+    FAILED,     // 재시도 대기 (nextAttemptAt 이후 다시 발행)
+    PARKED      // 최대 재시도 횟수 초과 (관리자 재처리 필요)
 }
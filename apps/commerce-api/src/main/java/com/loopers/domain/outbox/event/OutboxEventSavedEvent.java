@@ -0,0 +1,10 @@
+package com.loopers.domain.outbox.event;
+
+/**
+ * Outbox 이벤트 저장 알림
+ * 비즈니스 트랜잭션 커밋 직후 릴레이가 폴링을 기다리지 않고 바로 발행하도록 전달된다.
+ */
+public record OutboxEventSavedEvent(
+        Long outboxEventId
+) {
+}
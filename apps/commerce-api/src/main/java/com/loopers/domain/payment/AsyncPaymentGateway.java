@@ -0,0 +1,33 @@
+package com.loopers.domain.payment;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 논블로킹 외부 결제 시스템 연동
+ *
+ * PG 응답을 기다리는 동안 호출 스레드를 점유하지 않도록 결과를 CompletableFuture 로 반환한다.
+ * PG 장애(서킷 오픈, 동시 요청 한도 초과, 타임아웃/I/O 오류, 재시도 소진) 시에는 예외로 완료하지 않고
+ * fallback 결과(PaymentResult.fallback() == true)로 정상 완료된다.
+ * - 결제 요청: status "FAIL" 로 완료된다.
+ * - 상태 조회: status "PROCESSING" 으로 완료된다. (결제 상태는 바꾸지 않음)
+ */
+public interface AsyncPaymentGateway {
+
+    /**
+     * 외부 결제 시스템을 통해 결제를 처리합니다.
+     *
+     * @param userId 사용자 ID
+     * @param payment 결제 정보
+     * @param callbackUrl 결제 완료 후 콜백 URL
+     * @return 결제 처리 결과
+     */
+    CompletableFuture<PaymentResult> processPayment(String userId, Payment payment, String callbackUrl);
+
+    /**
+     * PG사에 결제 상태를 조회합니다.
+     *
+     * @param pgTransactionId PG 거래 ID
+     * @return 결제 상태 조회 결과
+     */
+    CompletableFuture<PaymentResult> checkPaymentStatus(String pgTransactionId);
+}
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @NoArgsConstructor
-@Table(name = "payment")
+@Table(
+        name = "payment",
+        indexes = @Index(name = "idx_payment_status_next_check_at", columnList = "status, next_check_at")
+)
 @Getter
 public class Payment {
 
@@ -50,6 +53,9 @@ public class Payment {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;    // 결제 생성 일시
 
+    @Column(name = "processing_started_at")
+    private LocalDateTime processingStartedAt;  // PG 접수(PROCESSING 전환) 일시
+
     @Column(name = "completed_at")
     private LocalDateTime completedAt;  // 결제 완료 일시
 
@@ -59,6 +65,9 @@ public class Payment {
     @Column(name = "last_status_check_at")
     private LocalDateTime lastStatusCheckAt;  // 마지막 상태 확인 시간
 
+    @Column(name = "next_check_at")
+    private LocalDateTime nextCheckAt;  // 다음 상태 확인 예정 시간
+
     @PrePersist
     private void prePersist() {
         this.createdAt = LocalDateTime.now();
@@ -136,6 +145,16 @@ public class Payment {
         }
         this.pgTransactionId = pgTransactionId;
         this.status = PaymentStatus.PROCESSING;
+        this.processingStartedAt = LocalDateTime.now();
+        this.nextCheckAt = this.processingStartedAt;
+    }
+
+    /**
+     * 다음 상태 확인 시간 지정
+     * 스케줄러가 확인 대상을 점유할 때 미리 다음 시간으로 밀어 두어 다른 노드가 중복 확인하지 않도록 한다.
+     */
+    public void scheduleNextCheck(LocalDateTime nextCheckAt) {
+        this.nextCheckAt = nextCheckAt;
     }
 
     /**
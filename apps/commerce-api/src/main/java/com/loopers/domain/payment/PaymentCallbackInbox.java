@@ -0,0 +1,81 @@
+package com.loopers.domain.payment;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+/**
+ * PG 콜백 수신함 (Inbox)
+ *
+ * 콜백 요청은 이 테이블에 저장만 하고 바로 응답하며, 결제/주문 반영은 PaymentCallbackInboxWorker 가 처리한다.
+ * (pg_transaction_id, callback_status) 유니크 제약으로 같은 거래, 같은 결과의 재전송 콜백은 한 번만 저장되고,
+ * 같은 거래라도 결과가 다른 콜백(예: 처리 중 → 성공)은 각각 저장되어 수신 순서대로 반영된다.
+ */
+@Entity
+@Table(
+        name = "payment_callback_inbox",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_payment_callback_inbox_pg_transaction_id_callback_status",
+                columnNames = {"pg_transaction_id", "callback_status"}
+        ),
+        indexes = @Index(name = "idx_payment_callback_inbox_status_id", columnList = "status, id")
+)
+@Getter
+public class PaymentCallbackInbox extends BaseEntity {
+
+    @Column(name = "pg_transaction_id", nullable = false)
+    private String pgTransactionId;
+
+    @Column(nullable = false)
+    private String callbackStatus;  // PG 결제 결과 ("SUCCESS", "FAILED")
+
+    @Column(length = 500)
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentCallbackInboxStatus status;
+
+    // 처리 중 점유 만료 시각 (처리 실패 시 다음 재시도 시각으로도 사용)
+    private ZonedDateTime leaseExpiresAt;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private ZonedDateTime processedAt;
+
+    public static PaymentCallbackInbox receive(String pgTransactionId, String callbackStatus, String reason) {
+        PaymentCallbackInbox inbox = new PaymentCallbackInbox();
+        inbox.pgTransactionId = pgTransactionId;
+        inbox.callbackStatus = callbackStatus;
+        inbox.reason = reason;
+        inbox.status = PaymentCallbackInboxStatus.RECEIVED;
+        return inbox;
+    }
+
+    public void lease(ZonedDateTime expiresAt) {
+        this.leaseExpiresAt = expiresAt;
+    }
+
+    /**
+     * 처리 실패 기록
+     * 최대 시도 횟수 미만이면 retryAt 이후 다시 처리하고, 도달하면 FAILED 로 전환한다.
+     */
+    public void recordFailure(String error, int maxAttempts, ZonedDateTime retryAt) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+
+        if (this.attemptCount >= maxAttempts) {
+            this.status = PaymentCallbackInboxStatus.FAILED;
+            this.leaseExpiresAt = null;
+            return;
+        }
+
+        this.leaseExpiresAt = retryAt;
+    }
+}
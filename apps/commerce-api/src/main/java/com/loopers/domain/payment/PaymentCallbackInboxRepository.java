@@ -0,0 +1,40 @@
+package com.loopers.domain.payment;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentCallbackInboxRepository {
+
+    /**
+     * 같은 PG 거래 키, 같은 결과의 콜백이 없을 때만 저장 (INSERT IGNORE)
+     *
+     * @return 새로 저장되었으면 true, 중복 콜백이면 false
+     */
+    boolean saveIfAbsent(String pgTransactionId, String callbackStatus, String reason);
+
+    /**
+     * 처리 대기 중인 콜백 점유 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * - 점유가 없거나 만료된 RECEIVED 콜백을 수신 순서대로 조회
+     * - 같은 거래 키의 앞선 콜백이 재시도 대기/점유 중이면 제외
+     */
+    List<PaymentCallbackInbox> findReceivedForUpdate(ZonedDateTime now, int limit);
+
+    Optional<PaymentCallbackInbox> findById(Long id);
+
+    /**
+     * 처리 완료 일괄 반영
+     *
+     * @return 변경된 건수
+     */
+    int markProcessed(List<Long> ids, ZonedDateTime processedAt);
+
+    /**
+     * 처리하지 않은 콜백의 점유 해제 (다음 주기에 다시 점유)
+     *
+     * @return 변경된 건수
+     */
+    int releaseLease(List<Long> ids);
+
+    long countByStatus(PaymentCallbackInboxStatus status);
+}
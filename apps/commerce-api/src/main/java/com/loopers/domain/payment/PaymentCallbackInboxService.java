@@ -0,0 +1,90 @@
+package com.loopers.domain.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentCallbackInboxService {
+
+    private final PaymentCallbackInboxRepository paymentCallbackInboxRepository;
+
+    @Value("${payment.callback.inbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${payment.callback.inbox.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    /**
+     * 콜백 수신 저장
+     * 같은 거래 키, 같은 결과로 이미 수신한 콜백은 저장하지 않는다. (PG 재전송 대비)
+     * 결과가 바뀐 콜백은 새로 저장되어 이전 콜백 다음에 반영된다.
+     *
+     * @return 새로 저장되었으면 true
+     */
+    public boolean receive(String pgTransactionId, String callbackStatus, String reason) {
+        boolean saved = paymentCallbackInboxRepository.saveIfAbsent(pgTransactionId, callbackStatus, reason);
+        if (!saved) {
+            log.info("[PG 콜백] 중복 콜백 무시 - transactionKey: {}, status: {}", pgTransactionId, callbackStatus);
+        }
+        return saved;
+    }
+
+    /**
+     * 처리 대기 중인 콜백 점유
+     * SKIP LOCKED 로 조회하고 점유 만료 시각을 기록하여 여러 노드가 같은 콜백을 처리하지 않도록 한다.
+     */
+    @Transactional
+    public List<PaymentCallbackInbox> claim(int limit, Duration leaseDuration) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<PaymentCallbackInbox> claimed = paymentCallbackInboxRepository.findReceivedForUpdate(now, limit);
+        claimed.forEach(inbox -> inbox.lease(now.plus(leaseDuration)));
+        return claimed;
+    }
+
+    @Transactional
+    public void markProcessed(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        paymentCallbackInboxRepository.markProcessed(ids, ZonedDateTime.now());
+    }
+
+    /**
+     * 처리하지 않고 미룬 콜백의 점유 해제
+     */
+    @Transactional
+    public void releaseLease(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        paymentCallbackInboxRepository.releaseLease(ids);
+    }
+
+    /**
+     * 처리 대기 중인 콜백 수 (메트릭 용)
+     */
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return paymentCallbackInboxRepository.countByStatus(PaymentCallbackInboxStatus.RECEIVED);
+    }
+
+    @Transactional
+    public void recordFailure(Long id, String error) {
+        paymentCallbackInboxRepository.findById(id).ifPresent(inbox -> {
+            inbox.recordFailure(error, maxAttempts, ZonedDateTime.now().plus(Duration.ofMillis(retryDelayMs)));
+            if (inbox.getStatus() == PaymentCallbackInboxStatus.FAILED) {
+                log.error("[PG 콜백] 최대 처리 시도 초과 - transactionKey: {}, error: {}",
+                        inbox.getPgTransactionId(), error);
+            }
+        });
+    }
+}
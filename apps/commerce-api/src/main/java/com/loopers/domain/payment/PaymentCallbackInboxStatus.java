@@ -0,0 +1,7 @@
+package com.loopers.domain.payment;
+
+public enum PaymentCallbackInboxStatus {
+    RECEIVED,   // 수신 완료, 처리 대기
+    PROCESSED,  // 결제/주문 반영 완료
+    FAILED      // 최대 시도 횟수 초과 (수동 확인 필요)
+}
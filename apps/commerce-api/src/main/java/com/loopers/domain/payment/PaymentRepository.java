@@ -23,16 +23,52 @@ public interface PaymentRepository {
     Payment save(Payment payment);
 
     /**
-     * PROCESSING 상태인 Payment 목록 조회 (상태 확인 대상)
-     * - PROCESSING 상태
-     * - 마지막 확인 시간이 기준 시간 이전 (또는 확인한 적 없음)
+     * 상태 확인 시간이 된 PROCESSING 결제 점유 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * - 다음 확인 시간이 지났거나 지정되지 않은 결제
      * - 최대 확인 횟수 미만
+     * - 다른 노드가 점유 중인 행은 건너뜀
      *
-     * @param thresholdTime 기준 시간 (이 시간 이전에 마지막으로 확인된 결제만 조회)
+     * @param now 기준 시간
      * @param maxCheckCount 최대 확인 횟수
-     * @return PROCESSING 상태인 Payment 목록
+     * @param limit 최대 조회 건수
+     * @return 다음 확인 시간이 빠른 순서의 Payment 목록
      */
-    List<Payment> findProcessingPaymentsForStatusCheck(LocalDateTime thresholdTime, int maxCheckCount);
+    List<Payment> findDueForStatusCheckForUpdate(LocalDateTime now, int maxCheckCount, int limit);
 
     Optional<Payment> findByPaymentId(String paymentId);
+
+    /**
+     * 상태 확인 횟수 일괄 증가
+     *
+     * @param paymentIds 확인한 결제 ID 목록
+     * @param checkedAt 확인 시각
+     * @return 변경된 건수
+     */
+    int incrementStatusCheckCount(List<String> paymentIds, LocalDateTime checkedAt);
+
+    /**
+     * PROCESSING 상태인 결제 일괄 완료 처리
+     * - 그 사이 콜백으로 상태가 바뀐 결제는 변경하지 않는다.
+     *
+     * @return 변경된 건수
+     */
+    int completeProcessingPayments(List<String> paymentIds, LocalDateTime completedAt);
+
+    /**
+     * PROCESSING 상태인 결제 일괄 실패 처리
+     * - 그 사이 콜백으로 상태가 바뀐 결제는 변경하지 않는다.
+     *
+     * @return 변경된 건수
+     */
+    int failProcessingPayments(List<String> paymentIds);
+
+    /**
+     * 확인 시간이 지난 PROCESSING 결제 수 (최대 확인 횟수 미만)
+     */
+    long countDueForStatusCheck(LocalDateTime now, int maxCheckCount);
+
+    /**
+     * 최대 확인 횟수에 도달하여 더 이상 확인하지 않는 PROCESSING 결제 수
+     */
+    long countStatusCheckExhausted(int maxCheckCount);
 }
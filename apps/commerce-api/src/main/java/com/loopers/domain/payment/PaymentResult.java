@@ -1,6 +1,20 @@
 package com.loopers.domain.payment;
 
-public record PaymentResult(String transactionId, String status, String message) {
+/**
+ * @param fallback PG 호출 실패(서킷 오픈, 동시 요청 한도 초과, I/O 오류 등)로 PG 응답 없이 만든 결과 여부
+ */
+public record PaymentResult(String transactionId, String status, String message, boolean fallback) {
+
+    public PaymentResult(String transactionId, String status, String message) {
+        this(transactionId, status, message, false);
+    }
+
+    /**
+     * PG 응답 없이 만든 fallback 결과
+     */
+    public static PaymentResult fallbackOf(String transactionId, String status, String message) {
+        return new PaymentResult(transactionId, status, message, true);
+    }
 
     public boolean isSuccess() {
         return "SUCCESS".equals(status);
@@ -0,0 +1,49 @@
+package com.loopers.domain.payment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 상태 확인 주기 정책
+ *
+ * PG 승인 직후에는 짧은 간격으로 확인하고, 확인할수록 간격을 두 배씩 늘려(최대 maxDelay)
+ * 오래된 결제를 매번 조회하지 않도록 한다.
+ * maxCheckCount 회 확인한 결제는 더 이상 자동 확인하지 않는다.
+ */
+@Component
+public class PaymentStatusCheckPolicy {
+
+    @Value("${payment.status-check.max-check-count:10}")
+    private int maxCheckCount;
+
+    @Value("${payment.status-check.first-delay-ms:5000}")
+    private long firstDelayMs;
+
+    @Value("${payment.status-check.max-delay-ms:600000}")
+    private long maxDelayMs;
+
+    public int getMaxCheckCount() {
+        return maxCheckCount;
+    }
+
+    /**
+     * PG 승인 직후 첫 확인 시각
+     */
+    public LocalDateTime firstCheckAt(LocalDateTime now) {
+        return now.plus(Duration.ofMillis(firstDelayMs));
+    }
+
+    /**
+     * 다음 확인 시각 (firstDelay * 2^(checkCount+1), 최대 maxDelay)
+     *
+     * @param checkCount 지금까지 확인한 횟수 (이번 확인 제외)
+     */
+    public LocalDateTime nextCheckAt(int checkCount, LocalDateTime now) {
+        int exponent = Math.min(Math.max(checkCount + 1, 0), 30);
+        long delayMs = Math.min(maxDelayMs, firstDelayMs << exponent);
+        return now.plus(Duration.ofMillis(delayMs));
+    }
+}
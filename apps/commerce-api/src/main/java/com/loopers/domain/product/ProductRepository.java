@@ -3,6 +3,7 @@ package com.loopers.domain.product;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -18,4 +19,12 @@ public interface ProductRepository {
     Optional<Product> findByIdWithLock(Long productId);
 
     List<Product> findAllByIdIn(List<Long> productIds);
+
+    /**
+     * 상품별 재고 일괄 증가 (stock = stock + ?)
+     * 전체 상품을 CASE 조건의 UPDATE 한 문장으로 갱신한다. (상품 id 순으로 잠금)
+     *
+     * @param quantitiesByProductId 상품 ID → 증가량
+     */
+    void increaseStocks(Map<Long, Integer> quantitiesByProductId);
 }
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
@@ -86,4 +87,13 @@ public class ProductService {
 
         return productRepository.findAllByIdIn(productIds);
     }
+
+    /**
+     * 상품별 재고 일괄 복구 (주문 보상)
+     *
+     * @param quantitiesByProductId 상품 ID → 복구 수량
+     */
+    public void increaseStocks(Map<Long, Integer> quantitiesByProductId) {
+        productRepository.increaseStocks(quantitiesByProductId);
+    }
 }
@@ -12,6 +12,12 @@ import java.time.temporal.IsoFields;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 주간/월간 랭킹 조회 (배치 집계 테이블 mv_product_metrics_weekly/monthly)
+ *
+ * 현재 주/월은 Redis 주간/월간 ZSET 으로 조회하고,
+ * Redis 보관 기간이 지나 키가 없는 과거 기간만 이 서비스로 조회한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class PeriodRankingService {
@@ -23,73 +29,84 @@ public class PeriodRankingService {
      * 주간 TOP N 랭킹 조회
      */
     public List<Ranking> getTopWeeklyRanking(RankingType type, LocalDate date, int limit) {
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        int year = targetDate.getYear();
-        int week = targetDate.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
-
-        List<ProductMetricsWeekly> weeklyMetrics = switch (type) {
-            case LIKE -> weeklyRepository.findByYearAndWeekOrderByLikeCountDesc(year, week, limit);
-            case VIEW -> weeklyRepository.findByYearAndWeekOrderByViewCountDesc(year, week, limit);
-            case ORDER -> weeklyRepository.findByYearAndWeekOrderByOrderCountDesc(year, week, limit);
-            case ALL -> weeklyRepository.findByYearAndWeekOrderByCompositeScoreDesc(year, week, limit);
-        };
-
-        return convertWeeklyToRanking(weeklyMetrics, type);
+        return getWeeklyRankingWithPaging(type, date, 0, limit);
     }
 
     /**
      * 월간 TOP N 랭킹 조회
      */
     public List<Ranking> getTopMonthlyRanking(RankingType type, LocalDate date, int limit) {
-        LocalDate targetDate = date != null ? date : LocalDate.now();
-        int year = targetDate.getYear();
-        int month = targetDate.getMonthValue();
+        return getMonthlyRankingWithPaging(type, date, 0, limit);
+    }
 
-        List<ProductMetricsMonthly> monthlyMetrics = switch (type) {
-            case LIKE -> monthlyRepository.findByYearAndMonthOrderByLikeCountDesc(year, month, limit);
-            case VIEW -> monthlyRepository.findByYearAndMonthOrderByViewCountDesc(year, month, limit);
-            case ORDER -> monthlyRepository.findByYearAndMonthOrderByOrderCountDesc(year, month, limit);
-            case ALL -> monthlyRepository.findByYearAndMonthOrderByCompositeScoreDesc(year, month, limit);
-        };
+    /**
+     * 주간 집계 상품 수
+     */
+    public long getWeeklyRankingCount(LocalDate date) {
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        return weeklyRepository.countByYearAndWeek(targetDate.getYear(), targetDate.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
 
-        return convertMonthlyToRanking(monthlyMetrics, type);
+    /**
+     * 월간 집계 상품 수
+     */
+    public long getMonthlyRankingCount(LocalDate date) {
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        return monthlyRepository.countByYearAndMonth(targetDate.getYear(), targetDate.getMonthValue());
     }
 
     /**
      * 주간 페이징 랭킹 조회
+     * 요청한 페이지만 DB 에서 조회하고, 순위는 OFFSET(page * size) 기준으로 매긴다.
      */
     public List<Ranking> getWeeklyRankingWithPaging(RankingType type, LocalDate date, int page, int size) {
-        return getTopWeeklyRanking(type, date, (page + 1) * size)
-                .stream()
-                .skip((long) page * size)
-                .limit(size)
-                .toList();
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        int year = targetDate.getYear();
+        int week = targetDate.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+
+        List<ProductMetricsWeekly> weeklyMetrics = switch (type) {
+            case LIKE -> weeklyRepository.findByYearAndWeekOrderByLikeCountDesc(year, week, page, size);
+            case VIEW -> weeklyRepository.findByYearAndWeekOrderByViewCountDesc(year, week, page, size);
+            case ORDER -> weeklyRepository.findByYearAndWeekOrderByOrderCountDesc(year, week, page, size);
+            case ALL -> weeklyRepository.findByYearAndWeekOrderByCompositeScoreDesc(year, week, page, size);
+        };
+
+        return convertWeeklyToRanking(weeklyMetrics, type, page * size + 1);
     }
 
     /**
      * 월간 페이징 랭킹 조회
+     * 요청한 페이지만 DB 에서 조회하고, 순위는 OFFSET(page * size) 기준으로 매긴다.
      */
     public List<Ranking> getMonthlyRankingWithPaging(RankingType type, LocalDate date, int page, int size) {
-        return getTopMonthlyRanking(type, date, (page + 1) * size)
-                .stream()
-                .skip((long) page * size)
-                .limit(size)
-                .toList();
-    }
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        int year = targetDate.getYear();
+        int month = targetDate.getMonthValue();
 
+        List<ProductMetricsMonthly> monthlyMetrics = switch (type) {
+            case LIKE -> monthlyRepository.findByYearAndMonthOrderByLikeCountDesc(year, month, page, size);
+            case VIEW -> monthlyRepository.findByYearAndMonthOrderByViewCountDesc(year, month, page, size);
+            case ORDER -> monthlyRepository.findByYearAndMonthOrderByOrderCountDesc(year, month, page, size);
+            case ALL -> monthlyRepository.findByYearAndMonthOrderByCompositeScoreDesc(year, month, page, size);
+        };
+
+        return convertMonthlyToRanking(monthlyMetrics, type, page * size + 1);
+    }
 
     private List<Ranking> convertWeeklyToRanking(
             List<ProductMetricsWeekly> metrics,
-            RankingType type
+            RankingType type,
+            int startRank
     ) {
-        int rank = 1;
+        int rank = startRank;
         List<Ranking> rankings = new ArrayList<>();
 
         for (ProductMetricsWeekly metric : metrics) {
             double score = calculateScore(type,
                     metric.getTotalLikeCount(),
                     metric.getTotalViewCount(),
-                    metric.getTotalOrderCount());
+                    metric.getTotalOrderCount(),
+                    metric.getCompositeScore());
 
             rankings.add(Ranking.of(
                     rank++,
@@ -104,8 +121,8 @@ public class PeriodRankingService {
         return rankings;
     }
 
-    private List<Ranking> convertMonthlyToRanking(List<ProductMetricsMonthly> metrics, RankingType type) {
-        int rank = 1;
+    private List<Ranking> convertMonthlyToRanking(List<ProductMetricsMonthly> metrics, RankingType type, int startRank) {
+        int rank = startRank;
         List<Ranking> rankings = new ArrayList<>();
 
         for (ProductMetricsMonthly metric : metrics) {
@@ -113,7 +130,8 @@ public class PeriodRankingService {
                     type,
                     metric.getTotalLikeCount(),
                     metric.getTotalViewCount(),
-                    metric.getTotalOrderCount()
+                    metric.getTotalOrderCount(),
+                    metric.getCompositeScore()
             );
 
             rankings.add(Ranking.of(
@@ -129,12 +147,15 @@ public class PeriodRankingService {
         return rankings;
     }
 
-    private double calculateScore(RankingType type, long likeCount, long viewCount, long orderCount) {
+    /**
+     * 종합 점수는 집계 시 저장한 값을 그대로 사용 (정렬 기준과 응답 점수를 일치시킴)
+     */
+    private double calculateScore(RankingType type, long likeCount, long viewCount, long orderCount, double compositeScore) {
         return switch (type) {
             case LIKE -> likeCount;
             case VIEW -> viewCount;
             case ORDER -> orderCount;
-            case ALL -> (likeCount * 0.2) + (viewCount * 0.1) + (orderCount * 0.6);
+            case ALL -> compositeScore;
         };
     }
 }
@@ -7,6 +7,12 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * Redis 랭킹 조회
+ *
+ * 일간/주간/월간 ZSET 은 commerce-collector 가 같은 증분으로 함께 갱신하므로
+ * 모든 기간을 ZREVRANGE/ZCARD 로 조회한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class RankingService {
@@ -16,18 +22,18 @@ public class RankingService {
     /**
      * TOP N 랭킹 조회
      */
-    public List<Ranking> getTopRanking(RankingType rankingType, LocalDate date, int limit) {
+    public List<Ranking> getTopRanking(RankingType rankingType, PeriodType periodType, LocalDate date, int limit) {
         if (limit <= 0 || limit > 100) {
             throw new IllegalArgumentException("limit은 1~100 사이여야 합니다: " + limit);
         }
 
-        return redisRankingRepository.getTopRanking(rankingType, date, limit);
+        return redisRankingRepository.getTopRanking(rankingType, periodType, date, limit);
     }
 
     /**
      * 페이지네이션 랭킹 조회
      */
-    public List<Ranking> getRankingWithPaging(RankingType rankingType, LocalDate date,
+    public List<Ranking> getRankingWithPaging(RankingType rankingType, PeriodType periodType, LocalDate date,
                                                    int page, int size) {
         if (page < 0) {
             throw new IllegalArgumentException("page는 0 이상이어야 합니다: " + page);
@@ -37,11 +43,11 @@ public class RankingService {
         }
 
         int offset = page * size;
-        return redisRankingRepository.getRankingWithPaging(rankingType, date, offset, size);
+        return redisRankingRepository.getRankingWithPaging(rankingType, periodType, date, offset, size);
     }
 
     /**
-     * 특정 상품의 랭킹 조회
+     * 특정 상품의 랭킹 조회 (일간)
      */
     public Ranking getProductRanking(RankingType rankingType, LocalDate date, Long productId) {
         return redisRankingRepository.getProductRanking(rankingType, date, productId);
@@ -50,7 +56,14 @@ public class RankingService {
     /**
      * 전체 랭킹 개수
      */
-    public long getTotalRankingCount(RankingType rankingType, LocalDate date) {
-        return redisRankingRepository.getRankingSize(rankingType, date);
+    public long getTotalRankingCount(RankingType rankingType, PeriodType periodType, LocalDate date) {
+        return redisRankingRepository.getRankingSize(rankingType, periodType, date);
+    }
+
+    /**
+     * 현재 랭킹 버전 (랭킹 응답 캐시 무효화 기준)
+     */
+    public long getRankingVersion() {
+        return redisRankingRepository.getRankingVersion();
     }
 }
@@ -0,0 +1,23 @@
+package com.loopers.domain.user;
+
+/**
+ * 사용자 식별 정보 (로그인 ID → 내부 PK)
+ *
+ * 가입 이후 바뀌지 않는 값만 담으므로 노드 메모리에 캐시해도 안전하다.
+ * (포인트, 이메일 등 변경되는 값은 포함하지 않음)
+ */
+public record UserIdentity(
+        Long id,
+        String userId,
+        Gender gender,
+        String birthdate
+) {
+    public static UserIdentity from(User user) {
+        return new UserIdentity(
+                user.getId(),
+                user.getUserId(),
+                user.getGender(),
+                user.getBirthdate()
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.loopers.domain.user;
+
+import com.loopers.support.cache.LocalCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 식별 정보 로컬 캐시 (userId → UserIdentity)
+ *
+ * 대부분의 요청은 X-USER-ID 헤더의 userId 문자열로 시작하므로, 요청마다 users 를 user_id 로 조회하지 않도록
+ * 바뀌지 않는 식별 정보만 노드 메모리에 보관한다.
+ * - 회원 가입 시 커밋 이후 바로 채운다. (롤백된 가입의 id 가 남지 않도록)
+ * - 사용자 삭제가 없으므로 별도 제거는 없고, ttl-ms 와 max-size 로 메모리만 제한한다. (가득 차면 오래된 항목부터 제거)
+ */
+@Component
+public class UserIdentityCache {
+
+    private final boolean enabled;
+    private final LocalCache<String, UserIdentity> identities;
+
+    public UserIdentityCache(
+            @Value("${user.identity-cache.enabled:true}") boolean enabled,
+            @Value("${user.identity-cache.ttl-ms:600000}") long ttlMs,
+            @Value("${user.identity-cache.max-size:100000}") int maxSize
+    ) {
+        this.enabled = enabled;
+        this.identities = new LocalCache<>(ttlMs, maxSize);
+    }
+
+    /**
+     * 캐시에서 식별 정보를 조회하고, 없거나 만료되었으면 loader 로 조회하여 보관한다.
+     * 존재하지 않는 사용자는 보관하지 않는다.
+     */
+    public Optional<UserIdentity> get(String userId, Supplier<Optional<UserIdentity>> loader) {
+        return get(userId, loader, System.currentTimeMillis());
+    }
+
+    Optional<UserIdentity> get(String userId, Supplier<Optional<UserIdentity>> loader, long nowMillis) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Optional<UserIdentity> cached = identities.get(userId, nowMillis);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<UserIdentity> loaded = loader.get();
+        loaded.ifPresent(identity -> identities.put(identity.userId(), identity, nowMillis));
+        return loaded;
+    }
+
+    /**
+     * 가입한 사용자 등록
+     * 트랜잭션 안에서 호출되면 커밋 이후에 등록한다.
+     */
+    public void register(UserIdentity identity) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    identities.put(identity.userId(), identity, System.currentTimeMillis());
+                }
+            });
+            return;
+        }
+
+        identities.put(identity.userId(), identity, System.currentTimeMillis());
+    }
+
+    int size() {
+        return identities.size();
+    }
+}
@@ -1,5 +1,7 @@
 package com.loopers.domain.user;
 
+import java.math.BigDecimal;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -10,7 +12,24 @@ public interface UserRepository {
 
     Optional<User> findUserByUserId(String userId);
 
-    Optional<User> findUserByUserIdWithLock(String userId);
-
     Optional<User> findById(Long id);
+
+    Optional<User> findByIdWithLock(Long id);
+
+    /**
+     * 로그인 ID 로 식별 정보만 조회 (잠금 없음)
+     */
+    Optional<UserIdentity> findIdentityByUserId(String userId);
+
+    /**
+     * SELECT 없이 PK 로 사용자 참조 생성 (연관관계 설정용)
+     */
+    User getReference(Long id);
+
+    /**
+     * 사용자별 포인트 일괄 환불 (point = point + ?)
+     *
+     * @param amountsByUserId 사용자 PK → 환불 금액 (순회 순서대로 갱신)
+     */
+    void refundPoints(Map<Long, BigDecimal> amountsByUserId);
 }
@@ -8,18 +8,45 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
 
     public User getUserById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자 정보가 없습니다"));
     }
 
+    /**
+     * 포인트 차감 등 사용자 행을 변경하기 전 잠금 조회
+     */
+    public User getUserByIdWithLock(Long id) {
+        return userRepository.findByIdWithLock(id)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자 정보가 없습니다"));
+    }
+
+    /**
+     * 로그인 ID → 식별 정보 조회 (캐시 우선)
+     */
+    public UserIdentity getUserIdentity(String userId) {
+        return findUserIdentity(userId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자 정보가 없습니다"));
+    }
+
+    /**
+     * SELECT 없이 사용자 참조 생성
+     * 연관관계 설정과 getId() 외의 필드 접근은 지연 조회를 일으키므로, 식별 정보는 UserIdentity 에서 읽는다.
+     */
+    public User getUserReference(UserIdentity identity) {
+        return userRepository.getReference(identity.id());
+    }
+
     @Transactional
     public User accountUser(String userId, String email, String birthdate, Gender gender) {
 
@@ -29,7 +56,10 @@ public class UserService {
 
         User user = User.createUser(userId, email, birthdate, gender);
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userIdentityCache.register(UserIdentity.from(savedUser));
+
+        return savedUser;
     }
 
     @Transactional( readOnly = true )
@@ -40,7 +70,8 @@ public class UserService {
 
     @Transactional( readOnly = true )
     public User getUserPointByUserId(String userId) {
-        return userRepository.findUserByUserId(userId)
+        return findUserIdentity(userId)
+                .flatMap(identity -> userRepository.findById(identity.id()))
                 .orElse(null);
     }
 
@@ -57,9 +88,17 @@ public class UserService {
         return findUser;
     }
 
-    @Transactional
-    public User getUser(String userId) {
-        return userRepository.findUserByUserIdWithLock(userId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자 정보가 없습니다"));
+
+    /**
+     * 사용자별 포인트 일괄 환불 (주문 보상)
+     *
+     * @param amountsByUserId 사용자 PK → 환불 금액
+     */
+    public void refundPoints(Map<Long, BigDecimal> amountsByUserId) {
+        userRepository.refundPoints(amountsByUserId);
+    }
+
+    private Optional<UserIdentity> findUserIdentity(String userId) {
+        return userIdentityCache.get(userId, () -> userRepository.findIdentityByUserId(userId));
     }
 }
@@ -2,6 +2,39 @@ package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
+
+    @Modifying
+    @Query(value = """
+        UPDATE coupons c
+        SET c.current_issuance_count = (SELECT COUNT(*) FROM issued_coupons ic WHERE ic.coupon_id = c.id),
+            c.updated_at = :updatedAt
+        WHERE c.id IN :ids
+    """, nativeQuery = true)
+    int syncIssuanceCounts(@Param("ids") Collection<Long> ids, @Param("updatedAt") ZonedDateTime updatedAt);
+
+    /**
+     * 만료할 USABLE 발급 건이 남아 있는 종료 쿠폰만 조회
+     * 이미 모두 만료/사용된 쿠폰은 (coupon_id, status) 인덱스의 EXISTS 확인으로 제외된다.
+     */
+    @Query("""
+        SELECT c.id FROM Coupon c
+        WHERE c.validEndDate < :today
+          AND EXISTS (
+              SELECT 1 FROM IssuedCoupon ic
+              WHERE ic.coupon.id = c.id
+                AND ic.status = com.loopers.domain.issuedcoupon.CouponStatus.USABLE
+          )
+        ORDER BY c.id
+    """)
+    List<Long> findEndedCouponIds(@Param("today") LocalDate today);
 }
@@ -5,6 +5,10 @@ import com.loopers.domain.coupon.CouponRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -22,4 +26,14 @@ public class CouponRepositoryImpl implements CouponRepository {
     public Optional<Coupon> findValidCoupon(Long couponId) {
         return couponJpaRepository.findById(couponId);
     }
+
+    @Override
+    public int syncIssuanceCounts(Collection<Long> couponIds) {
+        return couponJpaRepository.syncIssuanceCounts(couponIds, ZonedDateTime.now());
+    }
+
+    @Override
+    public List<Long> findEndedCouponIds(LocalDate today) {
+        return couponJpaRepository.findEndedCouponIds(today);
+    }
 }
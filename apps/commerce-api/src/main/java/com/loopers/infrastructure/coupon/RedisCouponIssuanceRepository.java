@@ -0,0 +1,224 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponIssuanceClaim;
+import com.loopers.domain.coupon.CouponIssuanceRepository;
+import com.loopers.domain.coupon.CouponIssuanceResult;
+import com.loopers.domain.coupon.CouponSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Redis 기반 선착순 쿠폰 발급 저장소
+ *
+ * - coupon:issuance:{couponId}:count  발급 확정 수량 (최초 요청 시 DB 발급 수량으로 초기화)
+ * - coupon:issuance:{couponId}:users  발급 확정 사용자 집합
+ * - coupon:issuance:requests          발급 요청 스트림 (consumer group 으로 노드 간 분배)
+ *
+ * 판정과 대기열 추가는 하나의 Lua 스크립트로 실행되므로, 동시에 몇 명이 요청하더라도
+ * 최대 발급 수량을 넘거나 한 사용자에게 두 번 발급되지 않는다.
+ * 카운터/사용자 집합은 쿠폰 유효 기간이 끝난 다음 날 만료된다.
+ */
+@Slf4j
+@Repository
+public class RedisCouponIssuanceRepository implements CouponIssuanceRepository {
+
+    static final String STREAM_KEY = "coupon:issuance:requests";
+    static final String GROUP = "coupon-issuance";
+
+    private static final String FIELD_COUPON_ID = "couponId";
+    private static final String FIELD_USER_ID = "userId";
+
+    private static final long ADMITTED = 1L;
+    private static final long DUPLICATE = 0L;
+
+    // KEYS[1]: 발급 수량, KEYS[2]: 발급 사용자 집합, KEYS[3]: 발급 요청 스트림
+    // ARGV[1]: userId, ARGV[2]: 최대 발급 수량 (-1 이면 무제한), ARGV[3]: DB 발급 수량, ARGV[4]: 만료 시각 (epoch ms), ARGV[5]: couponId
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[3], 'NX')
+            local limit = tonumber(ARGV[2])
+            if limit >= 0 and tonumber(redis.call('GET', KEYS[1])) >= limit then
+                return -1
+            end
+            redis.call('INCR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+            redis.call('PEXPIREAT', KEYS[2], ARGV[4])
+            redis.call('XADD', KEYS[3], '*', 'couponId', ARGV[5], 'userId', ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 판정 결과가 복제 지연의 영향을 받지 않도록 master 에서만 읽고 쓴다
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile boolean groupReady;
+
+    public RedisCouponIssuanceRepository(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public CouponIssuanceResult admit(CouponSnapshot coupon, Long userId) {
+        Long couponId = coupon.id();
+        long expireAt = coupon.validEndDate().plusDays(2)
+                .atStartOfDay(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+
+        Long result = redisTemplate.execute(
+                ADMIT_SCRIPT,
+                List.of(countKey(couponId), usersKey(couponId), STREAM_KEY),
+                String.valueOf(userId),
+                String.valueOf(coupon.maxIssuanceLimit() == null ? -1 : coupon.maxIssuanceLimit()),
+                String.valueOf(coupon.currentIssuanceCount()),
+                String.valueOf(expireAt),
+                String.valueOf(couponId)
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("쿠폰 발급 판정 결과가 없습니다 - couponId: " + couponId);
+        }
+        if (result == ADMITTED) {
+            return CouponIssuanceResult.ADMITTED;
+        }
+        return result == DUPLICATE ? CouponIssuanceResult.DUPLICATE : CouponIssuanceResult.SOLD_OUT;
+    }
+
+    @Override
+    public List<CouponIssuanceClaim> readClaims(String consumer, int count) {
+        return withGroup(() -> {
+            StreamOffset<String> offset = StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed());
+            // 단일 StreamOffset<String> 을 제네릭 가변 인자로 넘기기 때문에 생기는 경고 (배열은 read 안에서만 읽힌다)
+            @SuppressWarnings("unchecked")
+            List<MapRecord<String, Object, Object>> records = streamOps().read(
+                    Consumer.from(GROUP, consumer),
+                    StreamReadOptions.empty().count(count),
+                    offset
+            );
+            return toClaims(records);
+        });
+    }
+
+    @Override
+    public List<CouponIssuanceClaim> reclaimStaleClaims(String consumer, Duration minIdle, int count) {
+        return withGroup(() -> {
+            RecordId[] staleIds = streamOps().pending(STREAM_KEY, GROUP, Range.unbounded(), count).stream()
+                    .filter(pending -> pending.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (staleIds.length == 0) {
+                return List.of();
+            }
+
+            return toClaims(streamOps().claim(STREAM_KEY, GROUP, consumer, minIdle, staleIds));
+        });
+    }
+
+    @Override
+    public void acknowledge(List<String> claimIds) {
+        if (claimIds.isEmpty()) {
+            return;
+        }
+
+        String[] ids = claimIds.toArray(String[]::new);
+        withGroup(() -> streamOps().acknowledge(STREAM_KEY, GROUP, ids));
+        streamOps().delete(STREAM_KEY, ids);
+    }
+
+    /**
+     * consumer group 이 있는 상태에서 스트림 명령을 실행한다.
+     * 스트림 키가 지워지거나(FLUSH, 장애 조치 후 빈 노드) group 이 삭제되면 NOGROUP 이 발생하므로,
+     * 이때는 group 을 다시 만들고 한 번 더 실행한다.
+     * (0 부터 다시 읽더라도 발급 저장은 INSERT IGNORE 라 중복 저장되지 않는다)
+     */
+    private <T> T withGroup(Supplier<T> command) {
+        ensureGroup();
+
+        try {
+            return command.get();
+        } catch (RedisSystemException e) {
+            if (!hasError(e, "NOGROUP")) {
+                throw e;
+            }
+            log.warn("쿠폰 발급 요청 consumer group 없음, 다시 생성 - stream: {}, group: {}", STREAM_KEY, GROUP);
+            groupReady = false;
+            ensureGroup();
+            return command.get();
+        }
+    }
+
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+            log.info("쿠폰 발급 요청 consumer group 생성 - stream: {}, group: {}", STREAM_KEY, GROUP);
+        } catch (RedisSystemException e) {
+            // 다른 노드가 먼저 생성한 경우
+            if (!hasError(e, "BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    private boolean hasError(RedisSystemException e, String code) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(code);
+    }
+
+    private List<CouponIssuanceClaim> toClaims(List<MapRecord<String, Object, Object>> records) {
+        if (records == null) {
+            return List.of();
+        }
+
+        return records.stream()
+                .map(record -> new CouponIssuanceClaim(
+                        record.getId().getValue(),
+                        Long.valueOf((String) record.getValue().get(FIELD_COUPON_ID)),
+                        Long.valueOf((String) record.getValue().get(FIELD_USER_ID))
+                ))
+                .toList();
+    }
+
+    private StreamOperations<String, Object, Object> streamOps() {
+        return redisTemplate.opsForStream();
+    }
+
+    private String countKey(Long couponId) {
+        return "coupon:issuance:" + couponId + ":count";
+    }
+
+    private String usersKey(Long couponId) {
+        return "coupon:issuance:" + couponId + ":users";
+    }
+}
@@ -2,13 +2,76 @@ package com.loopers.infrastructure.issuedcoupon;
 
 import com.loopers.domain.issuedcoupon.IssuedCoupon;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface IssuedCouponJpaRepository extends JpaRepository<IssuedCoupon, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<IssuedCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
+
+    /**
+     * 조건부 쿠폰 사용 (USABLE → USED)
+     * 동시에 같은 쿠폰을 사용하면 먼저 커밋한 한 건만 1을 반환한다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE IssuedCoupon ic
+        SET ic.status = com.loopers.domain.issuedcoupon.CouponStatus.USED,
+            ic.usedAt = :usedAt,
+            ic.updatedAt = :updatedAt
+        WHERE ic.id = :id
+          AND ic.status = com.loopers.domain.issuedcoupon.CouponStatus.USABLE
+    """)
+    int useIfUsable(@Param("id") Long id, @Param("usedAt") LocalDateTime usedAt, @Param("updatedAt") ZonedDateTime updatedAt);
+
+    @Modifying
+    @Query("""
+        UPDATE IssuedCoupon ic
+        SET ic.status = com.loopers.domain.issuedcoupon.CouponStatus.USABLE,
+            ic.usedAt = NULL,
+            ic.updatedAt = :updatedAt
+        WHERE ic.id IN :ids
+          AND ic.status = com.loopers.domain.issuedcoupon.CouponStatus.USED
+    """)
+    int restoreUsedCoupons(@Param("ids") List<Long> ids, @Param("updatedAt") ZonedDateTime updatedAt);
+
+    /**
+     * 쿠폰의 USABLE 발급 건을 id 순으로 잠금 조회 (SKIP LOCKED)
+     * (coupon_id, status) 인덱스를 따라 afterId 이후 구간만 읽는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT ic FROM IssuedCoupon ic
+        WHERE ic.coupon.id = :couponId
+          AND ic.status = com.loopers.domain.issuedcoupon.CouponStatus.USABLE
+          AND ic.id > :afterId
+        ORDER BY ic.id
+    """)
+    List<IssuedCoupon> findUsableByCouponIdForUpdate(
+            @Param("couponId") Long couponId,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE IssuedCoupon ic
+        SET ic.status = com.loopers.domain.issuedcoupon.CouponStatus.EXPIRED,
+            ic.updatedAt = :updatedAt
+        WHERE ic.id IN :ids
+          AND ic.status = com.loopers.domain.issuedcoupon.CouponStatus.USABLE
+    """)
+    int expireUsableCoupons(@Param("ids") List<Long> ids, @Param("updatedAt") ZonedDateTime updatedAt);
 }
@@ -1,17 +1,32 @@
 package com.loopers.infrastructure.issuedcoupon;
 
+import com.loopers.domain.coupon.CouponIssuanceClaim;
+import com.loopers.domain.issuedcoupon.CouponStatus;
 import com.loopers.domain.issuedcoupon.IssuedCoupon;
 import com.loopers.domain.issuedcoupon.IssuedCouponRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.List;
 import java.util.Optional;
+import java.util.TimeZone;
 
 @RequiredArgsConstructor
 @Component
 public class IssuedCouponRepositoryImpl implements IssuedCouponRepository {
 
+    // ZonedDateTime 컬럼은 Hibernate 설정(jdbc.time_zone: UTC)과 동일하게 UTC 로 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
     private final IssuedCouponJpaRepository issuedCouponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public IssuedCoupon save(IssuedCoupon issuedCoupon) {
@@ -22,4 +37,45 @@ public class IssuedCouponRepositoryImpl implements IssuedCouponRepository {
     public Optional<IssuedCoupon> findByUserIdAndCouponId(Long userId, Long couponId) {
         return issuedCouponJpaRepository.findByUserIdAndCouponId(userId, couponId);
     }
+
+    @Override
+    public int useIfUsable(Long issuedCouponId, LocalDateTime usedAt) {
+        return issuedCouponJpaRepository.useIfUsable(issuedCouponId, usedAt, ZonedDateTime.now());
+    }
+
+    @Override
+    public int restoreUsedCoupons(List<Long> issuedCouponIds) {
+        return issuedCouponJpaRepository.restoreUsedCoupons(issuedCouponIds, ZonedDateTime.now());
+    }
+
+    @Override
+    public void saveAllIfAbsent(List<CouponIssuanceClaim> claims) {
+        Timestamp now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.batchUpdate(
+                """
+                INSERT IGNORE INTO issued_coupons (user_id, coupon_id, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?)
+                """,
+                claims,
+                claims.size(),
+                (ps, claim) -> {
+                    ps.setLong(1, claim.userId());
+                    ps.setLong(2, claim.couponId());
+                    ps.setString(3, CouponStatus.USABLE.name());
+                    ps.setTimestamp(4, now, Calendar.getInstance(UTC));
+                    ps.setTimestamp(5, now, Calendar.getInstance(UTC));
+                }
+        );
+    }
+
+    @Override
+    public List<IssuedCoupon> findUsableByCouponIdForUpdate(Long couponId, Long afterId, int limit) {
+        return issuedCouponJpaRepository.findUsableByCouponIdForUpdate(couponId, afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int expireUsableCoupons(List<Long> issuedCouponIds, ZonedDateTime expiredAt) {
+        return issuedCouponJpaRepository.expireUsableCoupons(issuedCouponIds, expiredAt);
+    }
 }
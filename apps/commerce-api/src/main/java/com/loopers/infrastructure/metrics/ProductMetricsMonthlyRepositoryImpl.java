@@ -20,38 +20,38 @@ public class ProductMetricsMonthlyRepositoryImpl implements ProductMetricsMonthl
     private final ProductMetricsMonthlyJpaRepository monthlyJpaRepository;
 
     @Override
-    public List<ProductMetricsMonthly> findByYearAndMonthOrderByLikeCountDesc(int year, int month, int limit) {
-        return monthlyJpaRepository.findByYearAndMonthOrderByTotalLikeCountDesc(
+    public List<ProductMetricsMonthly> findByYearAndMonthOrderByLikeCountDesc(int year, int month, int page, int size) {
+        return monthlyJpaRepository.findByYearAndMonthOrderByTotalLikeCountDescProductIdAsc(
                 year,
                 month,
-                PageRequest.of(0, limit)
+                PageRequest.of(page, size)
         );
     }
 
     @Override
-    public List<ProductMetricsMonthly> findByYearAndMonthOrderByViewCountDesc(int year, int month, int limit) {
-        return monthlyJpaRepository.findByYearAndMonthOrderByTotalViewCountDesc(
+    public List<ProductMetricsMonthly> findByYearAndMonthOrderByViewCountDesc(int year, int month, int page, int size) {
+        return monthlyJpaRepository.findByYearAndMonthOrderByTotalViewCountDescProductIdAsc(
                 year,
                 month,
-                PageRequest.of(0, limit)
+                PageRequest.of(page, size)
         );
     }
 
     @Override
-    public List<ProductMetricsMonthly> findByYearAndMonthOrderByOrderCountDesc(int year, int month, int limit) {
-        return monthlyJpaRepository.findByYearAndMonthOrderByTotalOrderCountDesc(
+    public List<ProductMetricsMonthly> findByYearAndMonthOrderByOrderCountDesc(int year, int month, int page, int size) {
+        return monthlyJpaRepository.findByYearAndMonthOrderByTotalOrderCountDescProductIdAsc(
                 year,
                 month,
-                PageRequest.of(0, limit)
+                PageRequest.of(page, size)
         );
     }
 
     @Override
-    public List<ProductMetricsMonthly> findByYearAndMonthOrderByCompositeScoreDesc(int year, int month, int limit) {
-        return monthlyJpaRepository.findByYearAndMonthOrderByCompositeScoreDesc(
+    public List<ProductMetricsMonthly> findByYearAndMonthOrderByCompositeScoreDesc(int year, int month, int page, int size) {
+        return monthlyJpaRepository.findByYearAndMonthOrderByCompositeScoreDescProductIdAsc(
                 year,
                 month,
-                PageRequest.of(0, limit)
+                PageRequest.of(page, size)
         );
     }
 
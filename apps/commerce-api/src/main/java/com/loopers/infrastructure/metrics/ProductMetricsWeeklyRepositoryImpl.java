@@ -20,38 +20,38 @@ public class ProductMetricsWeeklyRepositoryImpl implements ProductMetricsWeeklyR
     private final ProductMetricsWeeklyJpaRepository weeklyJpaRepository;
 
     @Override
-    public List<ProductMetricsWeekly> findByYearAndWeekOrderByLikeCountDesc(int year, int week, int limit) {
-        return weeklyJpaRepository.findByYearAndWeekOrderByTotalLikeCountDesc(
+    public List<ProductMetricsWeekly> findByYearAndWeekOrderByLikeCountDesc(int year, int week, int page, int size) {
+        return weeklyJpaRepository.findByYearAndWeekOrderByTotalLikeCountDescProductIdAsc(
                 year,
                 week,
-                PageRequest.of(0, limit)
+                PageRequest.of(page, size)
         );
     }
 
     @Override
-    public List<ProductMetricsWeekly> findByYearAndWeekOrderByViewCountDesc(int year, int week, int limit) {
-        return weeklyJpaRepository.findByYearAndWeekOrderByTotalViewCountDesc(
+    public List<ProductMetricsWeekly> findByYearAndWeekOrderByViewCountDesc(int year, int week, int page, int size) {
+        return weeklyJpaRepository.findByYearAndWeekOrderByTotalViewCountDescProductIdAsc(
                 year,
                 week,
-                PageRequest.of(0, limit)
+                PageRequest.of(page, size)
         );
     }
 
     @Override
-    public List<ProductMetricsWeekly> findByYearAndWeekOrderByOrderCountDesc(int year, int week, int limit) {
-        return weeklyJpaRepository.findByYearAndWeekOrderByTotalOrderCountDesc(
+    public List<ProductMetricsWeekly> findByYearAndWeekOrderByOrderCountDesc(int year, int week, int page, int size) {
+        return weeklyJpaRepository.findByYearAndWeekOrderByTotalOrderCountDescProductIdAsc(
                 year,
                 week,
-                PageRequest.of(0, limit)
+                PageRequest.of(page, size)
         );
     }
 
     @Override
-    public List<ProductMetricsWeekly> findByYearAndWeekOrderByCompositeScoreDesc(int year, int week, int limit) {
-        return weeklyJpaRepository.findByYearAndWeekOrderByCompositeScoreDesc(
+    public List<ProductMetricsWeekly> findByYearAndWeekOrderByCompositeScoreDesc(int year, int week, int page, int size) {
+        return weeklyJpaRepository.findByYearAndWeekOrderByCompositeScoreDescProductIdAsc(
                 year,
                 week,
-                PageRequest.of(0, limit)
+                PageRequest.of(page, size)
         );
     }
 
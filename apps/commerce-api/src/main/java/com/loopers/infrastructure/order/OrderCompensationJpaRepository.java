@@ -0,0 +1,54 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderCompensation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface OrderCompensationJpaRepository extends JpaRepository<OrderCompensation, Long> {
+
+    /**
+     * 보상 대기 요청 점유 조회
+     * - (status, id) 인덱스 범위 조회
+     * - lock.timeout = -2 : Hibernate가 FOR UPDATE SKIP LOCKED 로 변환
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT c FROM OrderCompensation c
+        WHERE c.status = com.loopers.domain.order.OrderCompensationStatus.PENDING
+          AND (c.leaseExpiresAt IS NULL OR c.leaseExpiresAt <= :now)
+        ORDER BY c.id ASC
+        """)
+    List<OrderCompensation> findPendingForUpdate(@Param("now") ZonedDateTime now, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT c FROM OrderCompensation c
+        WHERE c.id IN :ids
+          AND c.status = com.loopers.domain.order.OrderCompensationStatus.PENDING
+        ORDER BY c.id ASC
+        """)
+    List<OrderCompensation> findPendingByIdsForUpdate(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("""
+        UPDATE OrderCompensation c
+        SET c.status = com.loopers.domain.order.OrderCompensationStatus.COMPLETED,
+            c.completedAt = :completedAt,
+            c.leaseExpiresAt = NULL,
+            c.updatedAt = :completedAt
+        WHERE c.id IN :ids
+          AND c.status = com.loopers.domain.order.OrderCompensationStatus.PENDING
+    """)
+    int markCompleted(@Param("ids") List<Long> ids, @Param("completedAt") ZonedDateTime completedAt);
+}
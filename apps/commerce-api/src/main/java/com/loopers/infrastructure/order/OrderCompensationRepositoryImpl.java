@@ -0,0 +1,103 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderCompensation;
+import com.loopers.domain.order.OrderCompensationRepository;
+import com.loopers.domain.order.OrderCompensationStatus;
+import com.loopers.domain.payment.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TimeZone;
+
+@RequiredArgsConstructor
+@Component
+public class OrderCompensationRepositoryImpl implements OrderCompensationRepository {
+
+    // ZonedDateTime 컬럼은 Hibernate 설정(jdbc.time_zone: UTC)과 동일하게 UTC 로 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final OrderCompensationJpaRepository orderCompensationJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean saveIfAbsent(Long orderId, boolean refundPoint) {
+        // uk_order_compensation_order_id 충돌 시 예외 없이 0건 반영
+        String sql = """
+            INSERT IGNORE INTO order_compensation
+                (order_id, refund_point, status, attempt_count, created_at, updated_at)
+            VALUES (?, ?, ?, 0, ?, ?)
+        """;
+
+        Timestamp now = Timestamp.from(Instant.now());
+
+        int inserted = jdbcTemplate.update(sql, ps -> {
+            ps.setLong(1, orderId);
+            ps.setBoolean(2, refundPoint);
+            ps.setString(3, OrderCompensationStatus.PENDING.name());
+            ps.setTimestamp(4, now, Calendar.getInstance(UTC));
+            ps.setTimestamp(5, now, Calendar.getInstance(UTC));
+        });
+
+        return inserted > 0;
+    }
+
+    @Override
+    public int saveIfAbsentForFailedPayments(List<String> paymentIds, boolean refundPoint) {
+        if (paymentIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(paymentIds.size(), "?"));
+        String sql = """
+            INSERT IGNORE INTO order_compensation
+                (order_id, refund_point, status, attempt_count, created_at, updated_at)
+            SELECT p.order_id, ?, ?, 0, ?, ?
+            FROM payment p
+            WHERE p.status = ?
+              AND p.payment_id IN (%s)
+        """.formatted(placeholders);
+
+        Timestamp now = Timestamp.from(Instant.now());
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            ps.setBoolean(index++, refundPoint);
+            ps.setString(index++, OrderCompensationStatus.PENDING.name());
+            ps.setTimestamp(index++, now, Calendar.getInstance(UTC));
+            ps.setTimestamp(index++, now, Calendar.getInstance(UTC));
+            ps.setString(index++, PaymentStatus.FAILED.name());
+            for (String paymentId : paymentIds) {
+                ps.setString(index++, paymentId);
+            }
+        });
+    }
+
+    @Override
+    public List<OrderCompensation> findPendingForUpdate(ZonedDateTime now, int limit) {
+        return orderCompensationJpaRepository.findPendingForUpdate(now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<OrderCompensation> findPendingByIdsForUpdate(List<Long> ids) {
+        return orderCompensationJpaRepository.findPendingByIdsForUpdate(ids);
+    }
+
+    @Override
+    public Optional<OrderCompensation> findById(Long id) {
+        return orderCompensationJpaRepository.findById(id);
+    }
+
+    @Override
+    public int markCompleted(List<Long> ids, ZonedDateTime completedAt) {
+        return orderCompensationJpaRepository.markCompleted(ids, completedAt);
+    }
+}
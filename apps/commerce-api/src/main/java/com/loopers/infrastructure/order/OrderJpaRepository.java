@@ -1,10 +1,15 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.Order;
-import feign.Param;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderJpaRepository extends JpaRepository<Order, Long> {
@@ -17,4 +22,46 @@ public interface OrderJpaRepository extends JpaRepository<Order, Long> {
             "LEFT JOIN FETCH o.issuedCoupon " +
             "WHERE o.id = :orderId")
     Optional<Order> findOrderWithDetailsById(@Param("orderId") Long orderId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT o FROM Order o
+        WHERE o.id IN :orderIds
+          AND o.status NOT IN (com.loopers.domain.order.OrderStatus.CANCELED,
+                               com.loopers.domain.order.OrderStatus.COMPLETED)
+        ORDER BY o.id ASC
+    """)
+    List<Order> findCancelableByIdsForUpdate(@Param("orderIds") List<Long> orderIds);
+
+    @Query("""
+        SELECT oi.product.id, SUM(oi.quantity) FROM OrderItem oi
+        WHERE oi.order.id IN :orderIds
+        GROUP BY oi.product.id
+    """)
+    List<Object[]> sumItemQuantitiesByProduct(@Param("orderIds") List<Long> orderIds);
+
+    @Query("""
+        SELECT o.user.id, SUM(o.totalPrice.amount) FROM Order o
+        WHERE o.id IN :orderIds
+        GROUP BY o.user.id
+    """)
+    List<Object[]> sumTotalPriceByUser(@Param("orderIds") List<Long> orderIds);
+
+    @Query("""
+        SELECT o.issuedCoupon.id FROM Order o
+        WHERE o.id IN :orderIds
+          AND o.issuedCoupon IS NOT NULL
+    """)
+    List<Long> findIssuedCouponIds(@Param("orderIds") List<Long> orderIds);
+
+    @Modifying
+    @Query("""
+        UPDATE Order o
+        SET o.status = com.loopers.domain.order.OrderStatus.CANCELED,
+            o.updatedAt = :updatedAt
+        WHERE o.id IN :orderIds
+          AND o.status NOT IN (com.loopers.domain.order.OrderStatus.CANCELED,
+                               com.loopers.domain.order.OrderStatus.COMPLETED)
+    """)
+    int cancelOrders(@Param("orderIds") List<Long> orderIds, @Param("updatedAt") ZonedDateTime updatedAt);
 }
@@ -5,7 +5,12 @@ import com.loopers.domain.order.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @RequiredArgsConstructor
 @Component
@@ -27,4 +32,38 @@ public class OrderRepositoryImpl implements OrderRepository {
     public Optional<Order> findOrderWithDetailsById(Long id) {
         return orderJpaRepository.findOrderWithDetailsById(id);
     }
+
+    @Override
+    public List<Order> findCancelableByIdsForUpdate(List<Long> orderIds) {
+        return orderJpaRepository.findCancelableByIdsForUpdate(orderIds);
+    }
+
+    @Override
+    public Map<Long, Integer> sumItemQuantitiesByProduct(List<Long> orderIds) {
+        // 갱신 순서를 고정하여 다른 트랜잭션과의 교착 가능성을 줄이기 위해 id 순으로 정렬
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (Object[] row : orderJpaRepository.sumItemQuantitiesByProduct(orderIds)) {
+            quantities.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return quantities;
+    }
+
+    @Override
+    public Map<Long, BigDecimal> sumTotalPriceByUser(List<Long> orderIds) {
+        Map<Long, BigDecimal> amounts = new TreeMap<>();
+        for (Object[] row : orderJpaRepository.sumTotalPriceByUser(orderIds)) {
+            amounts.put((Long) row[0], (BigDecimal) row[1]);
+        }
+        return amounts;
+    }
+
+    @Override
+    public List<Long> findIssuedCouponIds(List<Long> orderIds) {
+        return orderJpaRepository.findIssuedCouponIds(orderIds);
+    }
+
+    @Override
+    public int cancelOrders(List<Long> orderIds) {
+        return orderJpaRepository.cancelOrders(orderIds, ZonedDateTime.now());
+    }
 }
@@ -0,0 +1,84 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxArchiver;
+import com.loopers.domain.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Outbox 이벤트를 gzip 압축된 JSON Lines 파일로 보관
+ *
+ * {directory}/yyyyMMdd/outbox-{첫 id}-{마지막 id}.jsonl.gz
+ * 청크 단위로 파일을 생성하므로 같은 청크를 다시 보관해도 파일을 덮어쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GzipFileOutboxArchiver implements OutboxArchiver {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.retention.archive.directory:./outbox-archive}")
+    private String directory;
+
+    @Override
+    public void archive(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Path dir = Paths.get(directory, LocalDate.now().format(DATE_FORMATTER));
+        Path file = dir.resolve("outbox-%d-%d.jsonl.gz".formatted(
+                events.get(0).getId(), events.get(events.size() - 1).getId()));
+
+        try {
+            Files.createDirectories(dir);
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(file,
+                            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)),
+                    StandardCharsets.UTF_8))) {
+                for (OutboxEvent event : events) {
+                    writer.write(objectMapper.writeValueAsString(toRecord(event)));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Outbox 이벤트 보관 실패 - file: " + file, e);
+        }
+
+        log.debug("Outbox 이벤트 보관 완료 - file: {}, 건수: {}", file, events.size());
+    }
+
+    private Map<String, Object> toRecord(OutboxEvent event) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", event.getId());
+        record.put("aggregateType", event.getAggregateType());
+        record.put("aggregateId", event.getAggregateId());
+        record.put("eventType", event.getEventType());
+        record.put("payload", event.getPayload());
+        record.put("createdAt", event.getCreatedAt() == null ? null : event.getCreatedAt().toString());
+        record.put("publishedAt", event.getPublishedAt() == null ? null : event.getPublishedAt().toString());
+        return record;
+    }
+}
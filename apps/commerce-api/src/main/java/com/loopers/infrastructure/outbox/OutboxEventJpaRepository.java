@@ -1,16 +1,180 @@
 package com.loopers.infrastructure.outbox;
 
 import com.loopers.domain.outbox.OutboxEvent;
-import com.loopers.domain.outbox.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
 
-    List<OutboxEvent> findByStatusOrderByCreatedAtAsc(
-            OutboxStatus status,
+    // lock.timeout = -2 : Hibernate가 FOR UPDATE SKIP LOCKED 로 변환
+    // 같은 aggregate 의 앞선 이벤트가 재시도 대기(FAILED)/PARKED 이거나 점유 중이면 뒤 이벤트는 가져가지 않는다.
+    // (점유되지 않은 앞선 PENDING 이벤트는 id 순으로 같은 배치에 먼저 담긴다)
+    // 한 트랜잭션에서 저장한 이벤트는 created_at 이 같으므로, NOT EXISTS 와 같은 단조 증가 키(id)로 정렬한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT e FROM OutboxEvent e
+        WHERE e.status = com.loopers.domain.outbox.OutboxStatus.PENDING
+          AND e.createdAt < :createdBefore
+          AND (e.leaseExpiresAt IS NULL OR e.leaseExpiresAt < :now)
+          AND MOD(e.aggregateHash, :partitionCount) IN :partitions
+          AND NOT EXISTS (
+              SELECT 1 FROM OutboxEvent p
+              WHERE p.aggregateType = e.aggregateType
+                AND p.aggregateId = e.aggregateId
+                AND p.id < e.id
+                AND (p.status IN (com.loopers.domain.outbox.OutboxStatus.FAILED, com.loopers.domain.outbox.OutboxStatus.PARKED)
+                     OR (p.status = com.loopers.domain.outbox.OutboxStatus.PENDING AND p.leaseExpiresAt >= :now))
+          )
+        ORDER BY e.id ASC
+        """)
+    List<OutboxEvent> findClaimableForUpdate(
+            @Param("now") ZonedDateTime now,
+            @Param("createdBefore") ZonedDateTime createdBefore,
+            @Param("partitionCount") int partitionCount,
+            @Param("partitions") List<Integer> partitions,
             Pageable pageable
     );
+
+    // 같은 aggregate 의 앞선 이벤트가 아직 발행되지 않았으면 재시도하지 않는다. (가장 앞선 이벤트부터 순서대로 재시도)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT e FROM OutboxEvent e
+        WHERE e.status = com.loopers.domain.outbox.OutboxStatus.FAILED
+          AND e.nextAttemptAt <= :now
+          AND (e.leaseExpiresAt IS NULL OR e.leaseExpiresAt < :now)
+          AND MOD(e.aggregateHash, :partitionCount) IN :partitions
+          AND NOT EXISTS (
+              SELECT 1 FROM OutboxEvent p
+              WHERE p.aggregateType = e.aggregateType
+                AND p.aggregateId = e.aggregateId
+                AND p.id < e.id
+                AND p.status <> com.loopers.domain.outbox.OutboxStatus.PUBLISHED
+          )
+        ORDER BY e.nextAttemptAt ASC
+        """)
+    List<OutboxEvent> findRetryableForUpdate(
+            @Param("now") ZonedDateTime now,
+            @Param("partitionCount") int partitionCount,
+            @Param("partitions") List<Integer> partitions,
+            Pageable pageable
+    );
+
+    // 같은 aggregate 의 앞선 이벤트가 아직 발행되지 않았으면(요청한 id 에 함께 포함된 경우 제외) 건너뛴다.
+    // 건너뛴 이벤트는 PENDING 으로 남아 폴러가 순서대로 발행한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT e FROM OutboxEvent e
+        WHERE e.id IN :ids
+          AND e.status = com.loopers.domain.outbox.OutboxStatus.PENDING
+          AND (e.leaseExpiresAt IS NULL OR e.leaseExpiresAt < :now)
+          AND MOD(e.aggregateHash, :partitionCount) IN :partitions
+          AND NOT EXISTS (
+              SELECT 1 FROM OutboxEvent p
+              WHERE p.aggregateType = e.aggregateType
+                AND p.aggregateId = e.aggregateId
+                AND p.id < e.id
+                AND p.status <> com.loopers.domain.outbox.OutboxStatus.PUBLISHED
+                AND p.id NOT IN :ids
+          )
+        ORDER BY e.id ASC
+        """)
+    List<OutboxEvent> findClaimableByIdsForUpdate(
+            @Param("ids") List<Long> ids,
+            @Param("now") ZonedDateTime now,
+            @Param("partitionCount") int partitionCount,
+            @Param("partitions") List<Integer> partitions
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE OutboxEvent e
+        SET e.status = com.loopers.domain.outbox.OutboxStatus.PUBLISHED,
+            e.publishedAt = :publishedAt,
+            e.updatedAt = :publishedAt,
+            e.leaseOwner = null,
+            e.leaseExpiresAt = null
+        WHERE e.id IN :ids
+          AND e.leaseOwner = :leaseOwner
+        """)
+    int markAsPublished(
+            @Param("ids") List<Long> ids,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("publishedAt") ZonedDateTime publishedAt
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE OutboxEvent e
+        SET e.status = com.loopers.domain.outbox.OutboxStatus.PENDING,
+            e.attemptCount = 0,
+            e.nextAttemptAt = null,
+            e.updatedAt = :now
+        WHERE e.status = com.loopers.domain.outbox.OutboxStatus.PARKED
+          AND e.aggregateType = :aggregateType
+        """)
+    int requeueParked(@Param("aggregateType") String aggregateType, @Param("now") ZonedDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE OutboxEvent e
+        SET e.status = com.loopers.domain.outbox.OutboxStatus.PENDING,
+            e.attemptCount = 0,
+            e.nextAttemptAt = null,
+            e.updatedAt = :now
+        WHERE e.id IN :ids
+          AND e.status = com.loopers.domain.outbox.OutboxStatus.PARKED
+        """)
+    int requeueParkedByIds(@Param("ids") List<Long> ids, @Param("now") ZonedDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE OutboxEvent e
+        SET e.leaseOwner = null,
+            e.leaseExpiresAt = null
+        WHERE e.id IN :ids
+          AND e.leaseOwner = :leaseOwner
+        """)
+    int releaseLease(@Param("ids") List<Long> ids, @Param("leaseOwner") String leaseOwner);
+
+    // (status, published_at) 인덱스 순서로 읽어 조건에 맞는 row 만 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT e FROM OutboxEvent e
+        WHERE e.status = com.loopers.domain.outbox.OutboxStatus.PUBLISHED
+          AND e.publishedAt < :publishedBefore
+        ORDER BY e.publishedAt ASC
+        """)
+    List<OutboxEvent> findPublishedBeforeForUpdate(
+            @Param("publishedBefore") ZonedDateTime publishedBefore,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // 보관하지 않는 경우 row 를 읽지 않고 (status, published_at) 인덱스 순서로 바로 삭제 (MySQL DELETE ... ORDER BY ... LIMIT)
+    @Modifying
+    @Query(value = """
+        DELETE FROM outbox_events
+        WHERE status = 'PUBLISHED'
+          AND published_at < :publishedBefore
+        ORDER BY published_at
+        LIMIT :limit
+        """, nativeQuery = true)
+    int deletePublishedBefore(@Param("publishedBefore") ZonedDateTime publishedBefore, @Param("limit") int limit);
 }
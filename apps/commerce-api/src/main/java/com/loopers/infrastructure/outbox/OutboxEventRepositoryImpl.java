@@ -2,18 +2,33 @@ package com.loopers.infrastructure.outbox;
 
 import com.loopers.domain.outbox.OutboxEvent;
 import com.loopers.domain.outbox.OutboxEventRepository;
-import com.loopers.domain.outbox.OutboxStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
 import java.util.List;
+import java.util.TimeZone;
 
 @RequiredArgsConstructor
 @Component
 public class OutboxEventRepositoryImpl implements OutboxEventRepository {
 
+    // ZonedDateTime 컬럼은 Hibernate 설정(jdbc.time_zone: UTC)과 동일하게 UTC 로 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
     private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public OutboxEvent save(OutboxEvent outboxEvent) {
@@ -21,8 +36,121 @@ public class OutboxEventRepositoryImpl implements OutboxEventRepository {
     }
 
     @Override
-    public List<OutboxEvent> findByStatusOrderByCreatedAtAsc(OutboxStatus outboxStatus, int limit) {
+    public List<Long> saveAll(List<OutboxEvent> outboxEvents) {
+        if (outboxEvents.isEmpty()) {
+            return List.of();
+        }
+
+        // rewriteBatchedStatements=true 이므로 드라이버가 multi-row INSERT 한 번으로 전송
+        String sql = """
+            INSERT INTO outbox_events
+                (aggregate_type, aggregate_id, event_type, payload, status,
+                 aggregate_hash, attempt_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)
+        """;
+
+        Timestamp now = Timestamp.from(Instant.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OutboxEvent event = outboxEvents.get(i);
+                        ps.setString(1, event.getAggregateType());
+                        ps.setString(2, event.getAggregateId());
+                        ps.setString(3, event.getEventType());
+                        ps.setString(4, event.getPayload());
+                        ps.setString(5, event.getStatus().name());
+                        ps.setInt(6, event.getAggregateHash());
+                        ps.setTimestamp(7, now, Calendar.getInstance(UTC));
+                        ps.setTimestamp(8, now, Calendar.getInstance(UTC));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return outboxEvents.size();
+                    }
+                },
+                keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    @Override
+    public List<OutboxEvent> findClaimableForUpdate(
+            ZonedDateTime now,
+            ZonedDateTime createdBefore,
+            int partitionCount,
+            List<Integer> partitions,
+            int limit
+    ) {
+        return outboxEventJpaRepository
+                .findClaimableForUpdate(now, createdBefore, partitionCount, partitions, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<OutboxEvent> findClaimableByIdsForUpdate(
+            List<Long> ids,
+            ZonedDateTime now,
+            int partitionCount,
+            List<Integer> partitions
+    ) {
+        return outboxEventJpaRepository.findClaimableByIdsForUpdate(ids, now, partitionCount, partitions);
+    }
+
+    @Override
+    public int markAsPublished(List<Long> ids, String leaseOwner, ZonedDateTime publishedAt) {
+        return outboxEventJpaRepository.markAsPublished(ids, leaseOwner, publishedAt);
+    }
+
+    @Override
+    public List<OutboxEvent> findRetryableForUpdate(
+            ZonedDateTime now,
+            int partitionCount,
+            List<Integer> partitions,
+            int limit
+    ) {
         return outboxEventJpaRepository
-                .findByStatusOrderByCreatedAtAsc(outboxStatus, PageRequest.of(0, limit));
+                .findRetryableForUpdate(now, partitionCount, partitions, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<OutboxEvent> findAllByIds(List<Long> ids) {
+        return outboxEventJpaRepository.findAllById(ids);
+    }
+
+    @Override
+    public int requeueParked(String aggregateType, ZonedDateTime now) {
+        return outboxEventJpaRepository.requeueParked(aggregateType, now);
+    }
+
+    @Override
+    public int requeueParkedByIds(List<Long> ids, ZonedDateTime now) {
+        return outboxEventJpaRepository.requeueParkedByIds(ids, now);
+    }
+
+    @Override
+    public int releaseLease(List<Long> ids, String leaseOwner) {
+        return outboxEventJpaRepository.releaseLease(ids, leaseOwner);
+    }
+
+    @Override
+    public List<OutboxEvent> findPublishedBeforeForUpdate(ZonedDateTime publishedBefore, int limit) {
+        return outboxEventJpaRepository.findPublishedBeforeForUpdate(publishedBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int deleteByIds(List<Long> ids) {
+        return outboxEventJpaRepository.deleteByIds(ids);
+    }
+
+    @Override
+    public int deletePublishedBefore(ZonedDateTime publishedBefore, int limit) {
+        return outboxEventJpaRepository.deletePublishedBefore(publishedBefore, limit);
     }
 }
@@ -0,0 +1,273 @@
+package com.loopers.infrastructure.payment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.payment.AsyncPaymentGateway;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentResult;
+import com.loopers.infrastructure.external.dto.PaymentExternalDto;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * JDK HttpClient 기반 논블로킹 PG 연동
+ *
+ * sendAsync 로 요청하므로 PG 응답을 기다리는 동안 스레드를 점유하지 않는다.
+ * resilience4j 인스턴스(paymentGateway)로 재시도 → 서킷 브레이커 → fallback 순으로 장애를 처리한다.
+ * - 재시도 대기는 retryScheduler 에서 예약 실행하여 대기 중에도 스레드를 점유하지 않음
+ * - 스레드를 점유하지 않는 만큼 bulkhead 로 요청 수가 제한되지 않으므로,
+ *   완료되지 않은 PG 요청 수를 max-in-flight 로 제한하고 초과 시 PG 를 호출하지 않고 바로 fallback 결과로 완료한다.
+ */
+@Slf4j
+@Component
+public class HttpClientPaymentGateway implements AsyncPaymentGateway {
+
+    private static final String RESILIENCE_INSTANCE = "paymentGateway";
+
+    private final ObjectMapper objectMapper;
+    private final PaymentMetrics paymentMetrics;
+    private final HttpClient httpClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final ScheduledExecutorService retryScheduler;
+    private final String baseUrl;
+    private final String clientId;
+    private final Duration readTimeout;
+    private final int maxInFlight;
+    private final Semaphore inFlightPermits;
+
+    public HttpClientPaymentGateway(
+            ObjectMapper objectMapper,
+            PaymentMetrics paymentMetrics,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            RetryRegistry retryRegistry,
+            @Value("${external.pg-simulator.url}") String baseUrl,
+            @Value("${external.pg-simulator.client-id}") String clientId,
+            @Value("${external.pg-simulator.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${external.pg-simulator.read-timeout-ms:2000}") long readTimeoutMs,
+            @Value("${external.pg-simulator.max-in-flight:100}") int maxInFlight
+    ) {
+        this.objectMapper = objectMapper;
+        this.paymentMetrics = paymentMetrics;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        this.retry = retryRegistry.retry(RESILIENCE_INSTANCE);
+        this.baseUrl = baseUrl;
+        this.clientId = clientId;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.maxInFlight = maxInFlight;
+        this.inFlightPermits = new Semaphore(maxInFlight);
+        // 응답 처리(thenApply 등 후속 작업)는 가상 스레드에서 실행
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pg-retry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
+    @Override
+    public CompletableFuture<PaymentResult> processPayment(String userId, Payment payment, String callbackUrl) {
+        log.debug("결제 요청 - paymentId: {}, userId: {}", payment.getPaymentId(), userId);
+
+        // Infrastructure DTO로 변환
+        PaymentExternalDto.PaymentRequest request = PaymentExternalDto.PaymentRequest.from(payment, callbackUrl);
+
+        return decorate(() -> send("payment", post("/api/v1/payments", request)).thenApply(response -> {
+            // 실패 응답 처리
+            if (!response.isSuccess()) {
+                throw new CoreException(
+                        ErrorType.PAYMENT_REQUEST_FAILED,
+                        "결제 요청 실패: " + response.getErrorMessage()
+                );
+            }
+
+            // Domain 모델로 변환하여 반환
+            return new PaymentResult(
+                    response.getTransactionKey(),  // transactionKey 사용
+                    response.getStatus(),          // "PENDING"
+                    "결제 요청이 접수되었습니다"
+            );
+        }), ex -> paymentFallback(userId, payment, ex));
+    }
+
+    @Override
+    public CompletableFuture<PaymentResult> checkPaymentStatus(String pgTransactionId) {
+        log.debug("결제 상태 조회 - pgTransactionId: {}", pgTransactionId);
+
+        return decorate(() -> send("status", get("/api/v1/payments/" + pgTransactionId)).thenApply(response -> {
+            // 실패 응답 처리
+            if (!response.isSuccess()) {
+                throw new CoreException(
+                        ErrorType.PAYMENT_REQUEST_FAILED,
+                        "결제 상태 조회 실패: " + response.getErrorMessage()
+                );
+            }
+
+            // Domain 모델로 변환하여 반환
+            return new PaymentResult(
+                    response.getTransactionKey(),
+                    response.getStatus(),
+                    response.getErrorMessage() != null ? response.getErrorMessage() : "상태 조회 완료"
+            );
+        }), ex -> checkPaymentStatusFallback(pgTransactionId, ex));
+    }
+
+    /**
+     * 재시도(바깥) → 서킷 브레이커(안쪽) 순으로 감싸고, 최종 실패 시 fallback 결과로 완료
+     * 재시도를 포함한 요청 전체가 끝날 때까지 동시 요청 허용량(permit)을 하나 점유한다.
+     */
+    private CompletableFuture<PaymentResult> decorate(
+            Supplier<CompletableFuture<PaymentResult>> call,
+            Function<Throwable, PaymentResult> fallback
+    ) {
+        if (!inFlightPermits.tryAcquire()) {
+            return CompletableFuture.completedFuture(fallback.apply(new RejectedExecutionException(
+                    "PG 동시 요청 한도 초과 - max-in-flight: " + maxInFlight)));
+        }
+
+        CompletableFuture<PaymentResult> result;
+        try {
+            result = Retry.decorateCompletionStage(retry, retryScheduler,
+                            CircuitBreaker.decorateCompletionStage(circuitBreaker, call::get))
+                    .get()
+                    .toCompletableFuture();
+        } catch (RuntimeException e) {
+            inFlightPermits.release();
+            return CompletableFuture.completedFuture(fallback.apply(e));
+        }
+
+        return result
+                .whenComplete((response, e) -> inFlightPermits.release())
+                .exceptionally(ex -> fallback.apply(unwrap(ex)));
+    }
+
+    /**
+     * 2xx 가 아닌 응답은 PG 장애로 보고 IOException 으로 실패 처리
+     * (서킷 브레이커 record-exceptions 대상, 재시도 대상 아님)
+     * 요청 1회마다 소요 시간을 payment.pg.request 로 기록 (재시도는 각각 기록)
+     */
+    private CompletableFuture<PaymentExternalDto.PaymentResponse> send(String operation, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, e) -> paymentMetrics.recordPgRequest(
+                        operation, outcomeOf(response, e), System.nanoTime() - startedAt))
+                .thenApply(response -> {
+                    if (response.statusCode() / 100 != 2) {
+                        throw new CompletionException(new IOException(
+                                "PG 응답 오류 - status: " + response.statusCode() + ", uri: " + request.uri()));
+                    }
+                    return readResponse(response.body());
+                });
+    }
+
+    private String outcomeOf(HttpResponse<?> response, Throwable e) {
+        if (e != null) {
+            return unwrap(e) instanceof HttpTimeoutException ? "timeout" : "io_error";
+        }
+        return switch (response.statusCode() / 100) {
+            case 2 -> "success";
+            case 4 -> "client_error";
+            default -> "server_error";
+        };
+    }
+
+    private HttpRequest post(String path, Object body) {
+        return baseRequest(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(writeRequest(body)))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return baseRequest(path).GET().build();
+    }
+
+    private HttpRequest.Builder baseRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(readTimeout)
+                .header("X-USER-ID", clientId);
+    }
+
+    private String writeRequest(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PaymentExternalDto.PaymentResponse readResponse(String body) {
+        try {
+            return objectMapper.readValue(body, PaymentExternalDto.PaymentResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    /**
+     * Payment Fallback
+     * Circuit이 Open 상태이거나, 재시도 실패 또는 동시 요청 한도 초과 시 호출
+     */
+    private PaymentResult paymentFallback(String userId, Payment payment, Throwable ex) {
+        log.error("결제 시스템 장애 발생 - userId: {}, paymentKey: {}, error: {}",
+                userId, payment.getPaymentId(), ex.getMessage(), ex);
+
+        return PaymentResult.fallbackOf(
+                null,
+                "FAIL",
+                "결제 시스템 장애로 결제 대기 상태로 변경되었습니다."
+        );
+    }
+
+    /**
+     * Check Payment Status Fallback
+     * 상태 조회 실패 시 PROCESSING 유지 (fallback 결과로 표시하여 상태 확인 스케줄러가 오류로 집계)
+     */
+    private PaymentResult checkPaymentStatusFallback(String pgTransactionId, Throwable ex) {
+        log.error("결제 상태 조회 시스템 장애 발생 - pgTransactionId: {}, error: {}",
+                pgTransactionId, ex.getMessage(), ex);
+
+        return PaymentResult.fallbackOf(
+                pgTransactionId,
+                "PROCESSING",
+                "결제 시스템 장애로 상태 조회에 실패했습니다."
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface PaymentCallbackInboxJpaRepository extends JpaRepository<PaymentCallbackInbox, Long> {
+
+    /**
+     * 처리 대기 중인 콜백 점유 조회
+     * - (status, id) 인덱스 범위 조회
+     * - lock.timeout = -2 : Hibernate가 FOR UPDATE SKIP LOCKED 로 변환
+     * - 같은 거래 키의 앞선 콜백이 재시도 대기 중이거나 점유 중이면 뒤 콜백은 가져가지 않는다.
+     *   (점유되지 않은 앞선 콜백은 id 순으로 같은 배치에 먼저 담긴다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT i FROM PaymentCallbackInbox i
+        WHERE i.status = com.loopers.domain.payment.PaymentCallbackInboxStatus.RECEIVED
+          AND (i.leaseExpiresAt IS NULL OR i.leaseExpiresAt <= :now)
+          AND NOT EXISTS (
+              SELECT 1 FROM PaymentCallbackInbox p
+              WHERE p.pgTransactionId = i.pgTransactionId
+                AND p.id < i.id
+                AND p.status = com.loopers.domain.payment.PaymentCallbackInboxStatus.RECEIVED
+                AND p.leaseExpiresAt > :now
+          )
+        ORDER BY i.id ASC
+        """)
+    List<PaymentCallbackInbox> findReceivedForUpdate(@Param("now") ZonedDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("""
+        UPDATE PaymentCallbackInbox i
+        SET i.status = com.loopers.domain.payment.PaymentCallbackInboxStatus.PROCESSED,
+            i.processedAt = :processedAt,
+            i.leaseExpiresAt = NULL,
+            i.updatedAt = :processedAt
+        WHERE i.id IN :ids
+          AND i.status = com.loopers.domain.payment.PaymentCallbackInboxStatus.RECEIVED
+    """)
+    int markProcessed(@Param("ids") List<Long> ids, @Param("processedAt") ZonedDateTime processedAt);
+
+    @Modifying
+    @Query("""
+        UPDATE PaymentCallbackInbox i
+        SET i.leaseExpiresAt = NULL
+        WHERE i.id IN :ids
+          AND i.status = com.loopers.domain.payment.PaymentCallbackInboxStatus.RECEIVED
+    """)
+    int releaseLease(@Param("ids") List<Long> ids);
+
+    long countByStatus(PaymentCallbackInboxStatus status);
+}
@@ -0,0 +1,77 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxRepository;
+import com.loopers.domain.payment.PaymentCallbackInboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Optional;
+import java.util.TimeZone;
+
+@RequiredArgsConstructor
+@Component
+public class PaymentCallbackInboxRepositoryImpl implements PaymentCallbackInboxRepository {
+
+    // ZonedDateTime 컬럼은 Hibernate 설정(jdbc.time_zone: UTC)과 동일하게 UTC 로 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final PaymentCallbackInboxJpaRepository paymentCallbackInboxJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean saveIfAbsent(String pgTransactionId, String callbackStatus, String reason) {
+        // uk_payment_callback_inbox_pg_transaction_id_callback_status 충돌 시 예외 없이 0건 반영
+        String sql = """
+            INSERT IGNORE INTO payment_callback_inbox
+                (pg_transaction_id, callback_status, reason, status,
+                 attempt_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 0, ?, ?)
+        """;
+
+        Timestamp now = Timestamp.from(Instant.now());
+
+        int inserted = jdbcTemplate.update(sql, ps -> {
+            ps.setString(1, pgTransactionId);
+            ps.setString(2, callbackStatus);
+            ps.setString(3, reason);
+            ps.setString(4, PaymentCallbackInboxStatus.RECEIVED.name());
+            ps.setTimestamp(5, now, Calendar.getInstance(UTC));
+            ps.setTimestamp(6, now, Calendar.getInstance(UTC));
+        });
+
+        return inserted > 0;
+    }
+
+    @Override
+    public List<PaymentCallbackInbox> findReceivedForUpdate(ZonedDateTime now, int limit) {
+        return paymentCallbackInboxJpaRepository.findReceivedForUpdate(now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Optional<PaymentCallbackInbox> findById(Long id) {
+        return paymentCallbackInboxJpaRepository.findById(id);
+    }
+
+    @Override
+    public int markProcessed(List<Long> ids, ZonedDateTime processedAt) {
+        return paymentCallbackInboxJpaRepository.markProcessed(ids, processedAt);
+    }
+
+    @Override
+    public int releaseLease(List<Long> ids) {
+        return paymentCallbackInboxJpaRepository.releaseLease(ids);
+    }
+
+    @Override
+    public long countByStatus(PaymentCallbackInboxStatus status) {
+        return paymentCallbackInboxJpaRepository.countByStatus(status);
+    }
+}
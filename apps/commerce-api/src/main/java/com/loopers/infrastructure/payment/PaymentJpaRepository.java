@@ -1,9 +1,14 @@
 package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.Payment;
-import com.loopers.domain.payment.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
@@ -21,24 +26,73 @@ public interface PaymentJpaRepository extends JpaRepository<Payment, String> {
     Optional<Payment> findByPgTransactionId(String pgTransactionId);
 
     /**
-     * PROCESSING 상태인 결제 중 상태 확인 대상 조회
-     * - PROCESSING 상태
-     * - 마지막 확인 시간이 기준 시간 이전이거나 확인한 적 없음
-     * - 최대 확인 횟수 미만
-     *
-     * @param status 결제 상태
-     * @param thresholdTime 기준 시간
-     * @param maxCheckCount 최대 확인 횟수
-     * @return 상태 확인 대상 Payment 목록
+     * 상태 확인 시간이 된 PROCESSING 결제 점유 조회
+     * - (status, next_check_at) 인덱스 범위 조회 (NULL 은 인덱스 앞쪽에 모여 있어 같은 범위에 포함됨)
+     * - lock.timeout = -2 : Hibernate가 FOR UPDATE SKIP LOCKED 로 변환
      */
-    @Query("SELECT p FROM Payment p WHERE p.status = :status " +
-            "AND (p.lastStatusCheckAt < :thresholdTime OR p.lastStatusCheckAt IS NULL) " +
-            "AND p.statusCheckCount < :maxCheckCount")
-    List<Payment> findByStatusAndLastStatusCheckAtBeforeOrLastStatusCheckAtIsNullAndStatusCheckCountLessThan(
-            @Param("status") PaymentStatus status,
-            @Param("thresholdTime") LocalDateTime thresholdTime,
-            @Param("maxCheckCount") Integer maxCheckCount
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT p FROM Payment p
+        WHERE p.status = com.loopers.domain.payment.PaymentStatus.PROCESSING
+          AND (p.nextCheckAt IS NULL OR p.nextCheckAt <= :now)
+          AND p.statusCheckCount < :maxCheckCount
+        ORDER BY p.nextCheckAt ASC
+        """)
+    List<Payment> findDueForStatusCheckForUpdate(
+            @Param("now") LocalDateTime now,
+            @Param("maxCheckCount") int maxCheckCount,
+            Pageable pageable
     );
 
     Optional<Payment> findByPaymentId(String paymentId);
+
+    @Modifying
+    @Query("""
+        UPDATE Payment p
+        SET p.statusCheckCount = p.statusCheckCount + 1,
+            p.lastStatusCheckAt = :checkedAt
+        WHERE p.paymentId IN :paymentIds
+    """)
+    int incrementStatusCheckCount(
+            @Param("paymentIds") List<String> paymentIds,
+            @Param("checkedAt") LocalDateTime checkedAt
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE Payment p
+        SET p.status = com.loopers.domain.payment.PaymentStatus.SUCCESS,
+            p.completedAt = :completedAt
+        WHERE p.paymentId IN :paymentIds
+          AND p.status = com.loopers.domain.payment.PaymentStatus.PROCESSING
+    """)
+    int completeProcessingPayments(
+            @Param("paymentIds") List<String> paymentIds,
+            @Param("completedAt") LocalDateTime completedAt
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE Payment p
+        SET p.status = com.loopers.domain.payment.PaymentStatus.FAILED
+        WHERE p.paymentId IN :paymentIds
+          AND p.status = com.loopers.domain.payment.PaymentStatus.PROCESSING
+    """)
+    int failProcessingPayments(@Param("paymentIds") List<String> paymentIds);
+
+    @Query("""
+        SELECT COUNT(p) FROM Payment p
+        WHERE p.status = com.loopers.domain.payment.PaymentStatus.PROCESSING
+          AND (p.nextCheckAt IS NULL OR p.nextCheckAt <= :now)
+          AND p.statusCheckCount < :maxCheckCount
+    """)
+    long countDueForStatusCheck(@Param("now") LocalDateTime now, @Param("maxCheckCount") int maxCheckCount);
+
+    @Query("""
+        SELECT COUNT(p) FROM Payment p
+        WHERE p.status = com.loopers.domain.payment.PaymentStatus.PROCESSING
+          AND p.statusCheckCount >= :maxCheckCount
+    """)
+    long countStatusCheckExhausted(@Param("maxCheckCount") int maxCheckCount);
 }
@@ -0,0 +1,130 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 흐름 메트릭
+ *
+ * 모든 Timer 는 퍼센타일 히스토그램과 SLO 버킷을 함께 발행하여 Prometheus 에서 histogram_quantile 로 조회할 수 있다.
+ * - payment.pg.request          : PG HTTP 요청 1회 소요 시간 (tag operation, outcome)
+ * - payment.lifecycle           : 결제 상태 전이 소요 시간 (tag from, to)
+ * - payment.callback.lag        : PG 콜백 수신부터 결제 반영까지 걸린 시간
+ * - payment.status.check.backlog: 상태 확인 대기 결제 수 (tag state=due|exhausted)
+ * - payment.callback.inbox.backlog: 처리 대기 중인 PG 콜백 수
+ * 서킷 브레이커 상태는 resilience4j-micrometer 가 resilience4j.circuitbreaker.* 로 발행한다.
+ */
+@Component
+public class PaymentMetrics {
+
+    // PG 응답 지연 경고 기준(3초)을 포함한 SLO 버킷
+    private static final Duration[] PG_REQUEST_SLO = {
+            Duration.ofMillis(100), Duration.ofMillis(300), Duration.ofSeconds(1), Duration.ofSeconds(3)
+    };
+    private static final Duration[] LIFECYCLE_SLO = {
+            Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ofSeconds(10),
+            Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(5)
+    };
+    private static final Duration[] CALLBACK_LAG_SLO = {
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(30)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Timer callbackLagTimer;
+    private final AtomicLong statusCheckDueBacklog = new AtomicLong();
+    private final AtomicLong statusCheckExhaustedBacklog = new AtomicLong();
+    private final AtomicLong callbackInboxBacklog = new AtomicLong();
+
+    public PaymentMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.callbackLagTimer = Timer.builder("payment.callback.lag")
+                .description("PG 콜백 수신부터 결제 반영까지 걸린 시간")
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(CALLBACK_LAG_SLO)
+                .register(meterRegistry);
+
+        Gauge.builder("payment.status.check.backlog", statusCheckDueBacklog, AtomicLong::get)
+                .description("확인 시간이 지난 PROCESSING 결제 수")
+                .tag("state", "due")
+                .register(meterRegistry);
+        Gauge.builder("payment.status.check.backlog", statusCheckExhaustedBacklog, AtomicLong::get)
+                .description("최대 확인 횟수를 넘겨 더 이상 확인하지 않는 PROCESSING 결제 수")
+                .tag("state", "exhausted")
+                .register(meterRegistry);
+        Gauge.builder("payment.callback.inbox.backlog", callbackInboxBacklog, AtomicLong::get)
+                .description("처리 대기 중인 PG 콜백 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * PG HTTP 요청 1회 기록 (재시도는 각각 기록)
+     *
+     * @param operation payment | status
+     * @param outcome   success | client_error | server_error | timeout | io_error
+     */
+    public void recordPgRequest(String operation, String outcome, long elapsedNanos) {
+        timers.computeIfAbsent("pg:" + operation + ":" + outcome, key -> Timer.builder("payment.pg.request")
+                        .description("PG HTTP 요청 소요 시간")
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .serviceLevelObjectives(PG_REQUEST_SLO)
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTransition(PaymentStatus from, PaymentStatus to, Duration elapsed) {
+        timers.computeIfAbsent("lifecycle:" + from + ":" + to, key -> Timer.builder("payment.lifecycle")
+                        .description("결제 상태 전이 소요 시간")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .publishPercentileHistogram()
+                        .serviceLevelObjectives(LIFECYCLE_SLO)
+                        .register(meterRegistry))
+                .record(elapsed);
+    }
+
+    /**
+     * 카드 결제 최종 결과 기록
+     * PROCESSING → 결과, PENDING(생성) → 결과 두 구간을 함께 기록한다.
+     */
+    public void recordCompletion(Payment payment, PaymentStatus result, LocalDateTime completedAt) {
+        if (payment.getProcessingStartedAt() != null) {
+            recordTransition(PaymentStatus.PROCESSING, result,
+                    Duration.between(payment.getProcessingStartedAt(), completedAt));
+        }
+        if (payment.getCreatedAt() != null) {
+            recordTransition(PaymentStatus.PENDING, result, Duration.between(payment.getCreatedAt(), completedAt));
+        }
+    }
+
+    public void recordCallbackLag(ZonedDateTime receivedAt) {
+        if (receivedAt == null) {
+            return;
+        }
+        callbackLagTimer.record(Duration.between(receivedAt, ZonedDateTime.now()));
+    }
+
+    public void updateStatusCheckBacklog(long due, long exhausted) {
+        statusCheckDueBacklog.set(due);
+        statusCheckExhaustedBacklog.set(exhausted);
+    }
+
+    public void updateCallbackInboxBacklog(long received) {
+        callbackInboxBacklog.set(received);
+    }
+}
@@ -2,8 +2,8 @@ package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentRepository;
-import com.loopers.domain.payment.PaymentStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -26,16 +26,37 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     @Override
-    public List<Payment> findProcessingPaymentsForStatusCheck(LocalDateTime thresholdTime, int maxCheckCount) {
-        return paymentJpaRepository.findByStatusAndLastStatusCheckAtBeforeOrLastStatusCheckAtIsNullAndStatusCheckCountLessThan(
-                PaymentStatus.PROCESSING,
-                thresholdTime,
-                maxCheckCount
-        );
+    public List<Payment> findDueForStatusCheckForUpdate(LocalDateTime now, int maxCheckCount, int limit) {
+        return paymentJpaRepository.findDueForStatusCheckForUpdate(now, maxCheckCount, PageRequest.of(0, limit));
     }
 
     @Override
     public Optional<Payment> findByPaymentId(String paymentId) {
         return paymentJpaRepository.findByPaymentId(paymentId);
     }
+
+    @Override
+    public int incrementStatusCheckCount(List<String> paymentIds, LocalDateTime checkedAt) {
+        return paymentJpaRepository.incrementStatusCheckCount(paymentIds, checkedAt);
+    }
+
+    @Override
+    public int completeProcessingPayments(List<String> paymentIds, LocalDateTime completedAt) {
+        return paymentJpaRepository.completeProcessingPayments(paymentIds, completedAt);
+    }
+
+    @Override
+    public int failProcessingPayments(List<String> paymentIds) {
+        return paymentJpaRepository.failProcessingPayments(paymentIds);
+    }
+
+    @Override
+    public long countDueForStatusCheck(LocalDateTime now, int maxCheckCount) {
+        return paymentJpaRepository.countDueForStatusCheck(now, maxCheckCount);
+    }
+
+    @Override
+    public long countStatusCheckExhausted(int maxCheckCount) {
+        return paymentJpaRepository.countStatusCheckExhausted(maxCheckCount);
+    }
 }
@@ -8,16 +8,27 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TimeZone;
 
 @RequiredArgsConstructor
 @Component
 public class ProductRepositoryImpl implements ProductRepository {
 
+    // ZonedDateTime 컬럼은 Hibernate 설정(jdbc.time_zone: UTC)과 동일하게 UTC 로 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
     private final ProductJpaRepository productJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Product registerProduct(Product product) {
@@ -60,6 +71,34 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findAllByIdIn(productIds);
     }
 
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+
+        // id 오름차순으로 CASE 를 만들어 UPDATE 한 문장으로 갱신 (PK 범위 순서로 잠금)
+        List<Map.Entry<Long, Integer>> entries = quantitiesByProductId.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        String sql = "UPDATE products SET stock = stock + CASE id"
+                + " WHEN ? THEN ?".repeat(entries.size())
+                + " END, updated_at = ? WHERE id IN (" + String.join(", ", Collections.nCopies(entries.size(), "?")) + ")";
+        Timestamp now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (Map.Entry<Long, Integer> entry : entries) {
+                ps.setLong(index++, entry.getKey());
+                ps.setInt(index++, entry.getValue());
+            }
+            ps.setTimestamp(index++, now, Calendar.getInstance(UTC));
+            for (Map.Entry<Long, Integer> entry : entries) {
+                ps.setLong(index++, entry.getKey());
+            }
+        });
+    }
+
     private Sort getSortBySortType(ProductSortType sortType) {
         return switch (sortType) {
             case LATEST -> Sort.by(Sort.Direction.DESC, "createdAt");
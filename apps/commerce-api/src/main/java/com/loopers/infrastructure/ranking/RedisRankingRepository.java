@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.ranking;
 
+import com.loopers.domain.ranking.PeriodType;
 import com.loopers.domain.ranking.Ranking;
 import com.loopers.domain.ranking.RankingType;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -21,16 +23,19 @@ public class RedisRankingRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String RANKING_VERSION_KEY = "ranking:version";
 
     /**
-     * 특정 날짜의 TOP N 랭킹 조회
+     * 특정 기간의 TOP N 랭킹 조회
      * @param rankingType 랭킹 타입 (LIKE, VIEW, ORDER)
-     * @param date 조회 날짜
+     * @param periodType 기간 (일간/주간/월간)
+     * @param date 조회 날짜 (해당 날짜가 속한 주/월)
      * @param limit 조회할 개수
      * @return 랭킹 리스트 (점수 내림차순)
      */
-    public List<Ranking> getTopRanking(RankingType rankingType, LocalDate date, int limit) {
-        String key = buildRankingKey(rankingType, date);
+    public List<Ranking> getTopRanking(RankingType rankingType, PeriodType periodType, LocalDate date, int limit) {
+        String key = buildRankingKey(rankingType, periodType, date);
 
         // ZREVRANGE: 점수 높은 순으로 조회
         ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
@@ -47,6 +52,7 @@ public class RedisRankingRepository {
     /**
      * 페이지네이션 지원 랭킹 조회
      * @param rankingType 랭킹 타입
+     * @param periodType 기간 (일간/주간/월간)
      * @param date 조회 날짜
      * @param offset 시작 위치 (0-based)
      * @param limit 조회할 개수
@@ -54,11 +60,12 @@ public class RedisRankingRepository {
      */
     public List<Ranking> getRankingWithPaging(
             RankingType rankingType,
+            PeriodType periodType,
             LocalDate date,
             int offset,
             int limit
     ) {
-        String key = buildRankingKey(rankingType, date);
+        String key = buildRankingKey(rankingType, periodType, date);
 
         ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
         Set<ZSetOperations.TypedTuple<Object>> result =
@@ -79,7 +86,7 @@ public class RedisRankingRepository {
      * @return 랭킹  (없으면 null)
      */
     public Ranking getProductRanking(RankingType rankingType, LocalDate date, Long productId) {
-        String key = buildRankingKey(rankingType, date);
+        String key = buildRankingKey(rankingType, PeriodType.DAILY, date);
 
         ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
 
@@ -105,14 +112,34 @@ public class RedisRankingRepository {
     /**
      * 전체 랭킹 개수 조회
      */
-    public long getRankingSize(RankingType rankingType, LocalDate date) {
-        String key = buildRankingKey(rankingType, date);
+    public long getRankingSize(RankingType rankingType, PeriodType periodType, LocalDate date) {
+        String key = buildRankingKey(rankingType, periodType, date);
         Long size = redisTemplate.opsForZSet().size(key);
         return size != null ? size : 0;
     }
 
-    private String buildRankingKey(RankingType rankingType, LocalDate date) {
-        return rankingType.getKeyPrefix() + ":" + date.format(DATE_FORMATTER);
+    /**
+     * 랭킹 버전 조회 (commerce-collector 가 증분 반영을 마칠 때마다 INCR)
+     * 키가 없으면 0
+     */
+    public long getRankingVersion() {
+        Object version = redisTemplate.opsForValue().get(RANKING_VERSION_KEY);
+        return version instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * 랭킹 키 (commerce-collector RankingFacade 와 동일한 형식)
+     * - 일간: ranking:like:20251225
+     * - 주간: ranking:like:weekly:2025W52 (ISO 주차)
+     * - 월간: ranking:like:monthly:202512
+     */
+    static String buildRankingKey(RankingType rankingType, PeriodType periodType, LocalDate date) {
+        return switch (periodType) {
+            case DAILY -> rankingType.getKeyPrefix() + ":" + date.format(DATE_FORMATTER);
+            case WEEKLY -> rankingType.getKeyPrefix() + ":weekly:" + String.format("%dW%02d",
+                    date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTHLY -> rankingType.getKeyPrefix() + ":monthly:" + date.format(MONTH_FORMATTER);
+        };
     }
 
     private List<Ranking> convertToRankings(Set<ZSetOperations.TypedTuple<Object>> result) {
@@ -0,0 +1,34 @@
+package com.loopers.infrastructure.scheduler;
+
+import com.loopers.domain.payment.PaymentCallbackInboxService;
+import com.loopers.infrastructure.payment.PaymentMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 대기 현황 게이지 갱신 스케줄러
+ * 상태 확인 대기 결제 수와 처리 대기 콜백 수를 주기적으로 조회하여 PaymentMetrics 게이지에 반영한다.
+ * (스크레이프마다 COUNT 쿼리가 실행되지 않도록 게이지는 마지막 조회 값을 보관)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentBacklogMetricsScheduler {
+
+    private final PaymentStatusCheckService paymentStatusCheckService;
+    private final PaymentCallbackInboxService paymentCallbackInboxService;
+    private final PaymentMetrics paymentMetrics;
+
+    @Scheduled(fixedDelayString = "${payment.metrics.backlog-refresh-ms:15000}")
+    public void refreshBacklog() {
+        try {
+            PaymentStatusCheckBacklog backlog = paymentStatusCheckService.countBacklog();
+            paymentMetrics.updateStatusCheckBacklog(backlog.due(), backlog.exhausted());
+            paymentMetrics.updateCallbackInboxBacklog(paymentCallbackInboxService.countPending());
+        } catch (Exception e) {
+            log.warn("[결제 메트릭] 대기 현황 조회 실패", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.infrastructure.scheduler;
+
+/**
+ * 결제 상태 확인 대기 현황
+ *
+ * @param due 확인 시간이 지난 PROCESSING 결제 수
+ * @param exhausted 최대 확인 횟수에 도달하여 더 이상 확인하지 않는 PROCESSING 결제 수
+ */
+public record PaymentStatusCheckBacklog(long due, long exhausted) {
+}
@@ -0,0 +1,22 @@
+package com.loopers.infrastructure.scheduler;
+
+/**
+ * 결제 한 건의 PG 상태 확인 결과
+ *
+ * @param paymentId 결제 ID
+ * @param outcome 확인 결과
+ * @param message PG 응답 메시지 또는 오류 메시지
+ */
+public record PaymentStatusCheckResult(
+        String paymentId,
+        Outcome outcome,
+        String message
+) {
+
+    public enum Outcome {
+        SUCCESS,     // PG 결제 완료 → SUCCESS 전이
+        FAILED,      // PG 결제 실패 → FAILED 전이
+        PROCESSING,  // 아직 처리 중 → 상태 유지
+        ERROR        // 상태 조회 중 오류 또는 PG 장애 fallback → 상태 유지
+    }
+}
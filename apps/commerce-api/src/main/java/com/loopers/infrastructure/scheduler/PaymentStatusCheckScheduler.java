@@ -1,68 +1,172 @@
 package com.loopers.infrastructure.scheduler;
 
 import com.loopers.domain.payment.Payment;
-import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.infrastructure.payment.PaymentMetrics;
+import com.loopers.infrastructure.scheduler.PaymentStatusCheckResult.Outcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * PROCESSING 상태인 결제에 대해 주기적으로 상태를 확인하는 스케줄러
- * - 1분 주기로 실행
+ * - 몇 초 주기로 실행하며, 결제별 다음 확인 시간(next_check_at)이 된 결제만 batch-size 만큼 점유
  * - 콜백이 오지 않은 결제에 대해 PG사에 상태 확인 요청
- * - 각 결제는 별도 트랜잭션으로 처리되어 부분 실패 시에도 성공한 결제는 커밋됨
+ * - 확인 간격은 PaymentStatusCheckPolicy 의 지수 백오프를 따름
+ * - PG 조회는 논블로킹으로 동시에 요청하되, 응답을 기다리는 조회 수는 concurrency 로 제한
+ * - 조회 결과는 update-batch-size 단위로 묶어 일괄 반영
  */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class PaymentStatusCheckScheduler {
 
-    private final PaymentRepository paymentRepository;
     private final PaymentStatusCheckService paymentStatusCheckService;
+    private final MeterRegistry meterRegistry;
+    private final PaymentMetrics paymentMetrics;
 
-    // 최대 확인 횟수 (10회까지 재시도)
-    private static final int MAX_CHECK_COUNT = 10;
-    // 확인 주기 (1분)
-    private static final int CHECK_INTERVAL_MINUTES = 1;
+    @Value("${payment.status-check.concurrency:20}")
+    private int concurrency;
+
+    @Value("${payment.status-check.batch-size:200}")
+    private int batchSize;
+
+    @Value("${payment.status-check.update-batch-size:500}")
+    private int updateBatchSize;
+
+    private Semaphore permits;
+    private Timer runTimer;
+    private DistributionSummary checkedSummary;
+    private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(concurrency);
+
+        runTimer = Timer.builder("payment.status.check.run")
+                .description("결제 상태 확인 1회 실행 소요 시간")
+                .register(meterRegistry);
+        checkedSummary = DistributionSummary.builder("payment.status.check.checked")
+                .description("결제 상태 확인 1회 실행 시 확인한 결제 수")
+                .register(meterRegistry);
+        for (Outcome outcome : Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("payment.status.check.outcome")
+                    .description("결제 상태 확인 결과별 건수")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
 
     /**
-     * 1분마다 PROCESSING 상태인 결제 확인
-     * - 전체 배치에 트랜잭션 적용하지 않음
-     * - 각 결제는 PaymentStatusCheckService에서 독립적인 트랜잭션으로 처리
+     * 확인 시간이 된 PROCESSING 결제 확인
+     * - 점유는 짧은 트랜잭션으로 처리하고, PG 조회는 트랜잭션 밖에서 수행
+     * - 결과 반영은 update-batch-size 단위의 트랜잭션으로 처리되어 부분 실패 시에도 앞선 묶음은 커밋됨
      */
-    @Scheduled(fixedRate = 60000) // 60초 = 1분
+    @Scheduled(fixedDelayString = "${payment.status-check.interval-ms:5000}")
     public void checkProcessingPayments() {
-        log.info("[결제 상태 확인 스케줄러] 결제 상태 확인 시작");
+        long startedAt = System.nanoTime();
 
         try {
-            LocalDateTime thresholdTime = LocalDateTime.now().minusMinutes(CHECK_INTERVAL_MINUTES);
-
-            // 확인 대상 결제 조회
-            List<Payment> processingPayments = paymentRepository.findProcessingPaymentsForStatusCheck(
-                    thresholdTime,
-                    MAX_CHECK_COUNT
-            );
+            // 확인 대상 결제 점유
+            List<Payment> processingPayments = paymentStatusCheckService.claimDuePayments(batchSize);
 
             if (processingPayments.isEmpty()) {
-                log.info("[결제 상태 확인 스케줄러] 확인할 처리 중인 결제가 없습니다");
+                log.debug("[결제 상태 확인 스케줄러] 확인할 처리 중인 결제가 없습니다");
                 return;
             }
 
             log.info("[결제 상태 확인 스케줄러] 확인할 처리 중인 결제 {}건 발견",
                     processingPayments.size());
 
-            // 각 결제를 독립적인 트랜잭션으로 처리
-            for (Payment payment : processingPayments) {
-                paymentStatusCheckService.checkPaymentStatus(payment.getPaymentId());
-            }
+            List<PaymentStatusCheckResult> results = checkAll(processingPayments);
+            applyInBatches(results, processingPayments.stream()
+                    .collect(Collectors.toMap(Payment::getPaymentId, Function.identity(), (first, second) -> first)));
 
-            log.info("[결제 상태 확인 스케줄러] 결제 상태 확인 완료");
+            checkedSummary.record(results.size());
+            results.forEach(result -> outcomeCounters.get(result.outcome()).increment());
+
+            log.info("[결제 상태 확인 스케줄러] 결제 상태 확인 완료 - 확인: {}건, 소요: {}ms",
+                    results.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[결제 상태 확인 스케줄러] 결제 상태 확인 중단");
         } catch (Exception e) {
             log.error("[결제 상태 확인 스케줄러] 결제 상태 확인 중 오류 발생", e);
+        } finally {
+            runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * PG 상태 조회를 동시에 요청
+     * 응답을 기다리는 조회 수가 concurrency 에 도달하면 앞선 조회가 끝날 때까지 다음 요청을 대기한다.
+     */
+    private List<PaymentStatusCheckResult> checkAll(List<Payment> payments) throws InterruptedException {
+        List<CompletableFuture<PaymentStatusCheckResult>> futures = new ArrayList<>(payments.size());
+
+        for (Payment payment : payments) {
+            permits.acquire();
+            try {
+                futures.add(paymentStatusCheckService.check(payment)
+                        .whenComplete((result, e) -> permits.release()));
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private void applyInBatches(List<PaymentStatusCheckResult> results, Map<String, Payment> paymentsById) {
+        for (int from = 0; from < results.size(); from += updateBatchSize) {
+            List<PaymentStatusCheckResult> batch = results.subList(from, Math.min(from + updateBatchSize, results.size()));
+            try {
+                paymentStatusCheckService.applyResults(batch);
+                recordCompletions(batch, paymentsById);
+            } catch (Exception e) {
+                // 반영하지 못한 결제는 PROCESSING 으로 남아 다음 실행에서 다시 확인
+                log.error("[결제 상태 확인 스케줄러] 결과 반영 실패 - {}건", batch.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 최종 결과가 확정된 결제의 상태 전이 시간 기록
+     * (같은 시점에 콜백으로 먼저 반영된 결제는 UPDATE 대상에서 빠지지만 여기서는 함께 기록될 수 있음)
+     */
+    private void recordCompletions(List<PaymentStatusCheckResult> batch, Map<String, Payment> paymentsById) {
+        LocalDateTime completedAt = LocalDateTime.now();
+        for (PaymentStatusCheckResult result : batch) {
+            PaymentStatus finalStatus = switch (result.outcome()) {
+                case SUCCESS -> PaymentStatus.SUCCESS;
+                case FAILED -> PaymentStatus.FAILED;
+                default -> null;
+            };
+            Payment payment = paymentsById.get(result.paymentId());
+            if (finalStatus != null && payment != null) {
+                paymentMetrics.recordCompletion(payment, finalStatus, completedAt);
+            }
         }
     }
-}
\ No newline at end of file
+}
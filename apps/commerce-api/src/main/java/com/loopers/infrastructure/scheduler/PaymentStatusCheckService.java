@@ -1,20 +1,27 @@
 package com.loopers.infrastructure.scheduler;
 
+import com.loopers.domain.order.OrderCompensationQueueService;
+import com.loopers.domain.payment.AsyncPaymentGateway;
 import com.loopers.domain.payment.Payment;
-import com.loopers.domain.payment.PaymentGateway;
 import com.loopers.domain.payment.PaymentRepository;
 import com.loopers.domain.payment.PaymentResult;
-import com.loopers.support.error.CoreException;
-import com.loopers.support.error.ErrorType;
+import com.loopers.domain.payment.PaymentStatusCheckPolicy;
+import com.loopers.infrastructure.scheduler.PaymentStatusCheckResult.Outcome;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * 결제 상태 확인 서비스
- * - 각 결제를 독립적인 트랜잭션으로 처리하여 부분 실패 시에도 성공한 결제는 커밋되도록 함
+ * - 확인할 결제 점유(claimDuePayments)는 짧은 트랜잭션으로 처리
+ * - PG 상태 조회(check)는 트랜잭션 없이 논블로킹으로 수행하여 여러 건을 동시에 조회할 수 있도록 함
+ * - 조회 결과는 applyResults 에서 결과별로 묶어 일괄 UPDATE 로 반영
  */
 @Slf4j
 @Component
@@ -22,57 +29,120 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaymentStatusCheckService {
 
     private final PaymentRepository paymentRepository;
-    private final PaymentGateway paymentGateway;
+    private final AsyncPaymentGateway asyncPaymentGateway;
+    private final PaymentStatusCheckPolicy paymentStatusCheckPolicy;
+    private final OrderCompensationQueueService orderCompensationQueueService;
 
     /**
-     * 개별 결제 상태 확인 (독립적인 트랜잭션)
-     * - REQUIRES_NEW로 각 결제마다 새로운 트랜잭션 생성
-     * - 한 결제 실패가 다른 결제에 영향 없음
+     * 상태 확인 시간이 된 결제 점유
+     * - SKIP LOCKED 로 조회하여 여러 노드가 동시에 실행해도 같은 결제를 가져가지 않음
+     * - 점유한 결제는 다음 확인 시간을 백오프만큼 미리 밀어 두어, 확인 결과 반영 전에 다시 점유되지 않도록 함
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void checkPaymentStatus(String paymentId) {
-        try {
-            Payment payment = paymentRepository.findByPaymentId(paymentId)
-                    .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제를 찾을 수 없습니다"));
+    @Transactional
+    public List<Payment> claimDuePayments(int limit) {
+        LocalDateTime now = LocalDateTime.now();
 
-            log.info("[결제 상태 확인] 결제 확인 중: paymentId={}, pgTransactionId={}, checkCount={}",
-                    payment.getPaymentId(), payment.getPgTransactionId(), payment.getStatusCheckCount());
+        List<Payment> duePayments = paymentRepository.findDueForStatusCheckForUpdate(
+                now,
+                paymentStatusCheckPolicy.getMaxCheckCount(),
+                limit
+        );
 
-            // PG사에 상태 확인 요청
-            PaymentResult result = paymentGateway.checkPaymentStatus(payment.getPgTransactionId());
-
-            // 확인 횟수 증가
-            payment.incrementStatusCheckCount();
-
-            // 결과에 따라 결제 상태 업데이트
-            if (result.isSuccess()) {
-                payment.completePayment();
-                log.info("[결제 상태 확인] 결제 완료: paymentId={}", payment.getPaymentId());
-            } else if ("FAILED".equals(result.status()) || "FAIL".equals(result.status())) {
-                payment.failPayment(result.message());
-                log.warn("[결제 상태 확인] 결제 실패: paymentId={}, reason={}",
-                        payment.getPaymentId(), result.message());
-            } else {
-                // PROCESSING 상태 유지
-                log.info("[결제 상태 확인] 결제 처리 중: paymentId={}",
-                        payment.getPaymentId());
-            }
-
-            paymentRepository.save(payment);
+        duePayments.forEach(payment ->
+                payment.scheduleNextCheck(paymentStatusCheckPolicy.nextCheckAt(payment.getStatusCheckCount(), now)));
+
+        return duePayments;
+    }
+
+    /**
+     * 상태 확인 대기 결제 수 (메트릭 용)
+     *
+     */
+    @Transactional(readOnly = true)
+    public PaymentStatusCheckBacklog countBacklog() {
+        int maxCheckCount = paymentStatusCheckPolicy.getMaxCheckCount();
+        return new PaymentStatusCheckBacklog(
+                paymentRepository.countDueForStatusCheck(LocalDateTime.now(), maxCheckCount),
+                paymentRepository.countStatusCheckExhausted(maxCheckCount)
+        );
+    }
 
+    /**
+     * 개별 결제 PG 상태 조회 (논블로킹)
+     * - 스케줄러가 조회한 엔티티를 그대로 받아 재조회하지 않음
+     * - 예외가 발생하거나 PG 장애로 fallback 결과(서킷 오픈, 동시 요청 한도 초과, I/O 오류)를 받으면
+     *   ERROR 결과로 완료하여 다른 결제 확인에 영향 없음 (PG 장애를 처리 중으로 집계하지 않음)
+     */
+    public CompletableFuture<PaymentStatusCheckResult> check(Payment payment) {
+        log.info("[결제 상태 확인] 결제 확인 중: paymentId={}, pgTransactionId={}, checkCount={}",
+                payment.getPaymentId(), payment.getPgTransactionId(), payment.getStatusCheckCount());
+
+        try {
+            // PG사에 상태 확인 요청
+            return asyncPaymentGateway.checkPaymentStatus(payment.getPgTransactionId())
+                    .thenApply(result -> toCheckResult(payment, result))
+                    .exceptionally(e -> errorResult(payment, e));
         } catch (Exception e) {
-            log.error("[결제 상태 확인] 결제 상태 확인 중 오류 발생: paymentId={}", paymentId, e);
-
-            // 에러 발생 시에도 확인 횟수는 증가
-            try {
-                Payment payment = paymentRepository.findByPaymentId(paymentId).orElse(null);
-                if (payment != null) {
-                    payment.incrementStatusCheckCount();
-                    paymentRepository.save(payment);
-                }
-            } catch (Exception ex) {
-                log.error("[결제 상태 확인] 확인 횟수 증가 중 오류 발생: paymentId={}", paymentId, ex);
-            }
+            return CompletableFuture.completedFuture(errorResult(payment, e));
+        }
+    }
+
+    private PaymentStatusCheckResult toCheckResult(Payment payment, PaymentResult result) {
+        if (result.fallback()) {
+            log.warn("[결제 상태 확인] PG 장애로 상태를 확인하지 못함: paymentId={}, message={}",
+                    payment.getPaymentId(), result.message());
+            return new PaymentStatusCheckResult(payment.getPaymentId(), Outcome.ERROR, result.message());
+        }
+        if (result.isSuccess()) {
+            return new PaymentStatusCheckResult(payment.getPaymentId(), Outcome.SUCCESS, result.message());
         }
+        if ("FAILED".equals(result.status()) || "FAIL".equals(result.status())) {
+            return new PaymentStatusCheckResult(payment.getPaymentId(), Outcome.FAILED, result.message());
+        }
+        return new PaymentStatusCheckResult(payment.getPaymentId(), Outcome.PROCESSING, result.message());
+    }
+
+    private PaymentStatusCheckResult errorResult(Payment payment, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        log.error("[결제 상태 확인] 결제 상태 확인 중 오류 발생: paymentId={}", payment.getPaymentId(), cause);
+        return new PaymentStatusCheckResult(payment.getPaymentId(), Outcome.ERROR, cause.getMessage());
+    }
+
+    /**
+     * 상태 확인 결과 일괄 반영
+     * - 확인한 모든 결제의 확인 횟수 증가 (오류가 발생한 결제 포함)
+     * - SUCCESS / FAILED 결과는 PROCESSING 상태인 결제만 전이 (그 사이 콜백으로 처리된 결제는 건너뜀)
+     */
+    @Transactional
+    public void applyResults(List<PaymentStatusCheckResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        paymentRepository.incrementStatusCheckCount(paymentIdsOf(results, null), now);
+
+        List<String> succeededIds = paymentIdsOf(results, Outcome.SUCCESS);
+        if (!succeededIds.isEmpty()) {
+            int completed = paymentRepository.completeProcessingPayments(succeededIds, now);
+            log.info("[결제 상태 확인] 결제 완료: {}건 (조회 {}건)", completed, succeededIds.size());
+        }
+
+        List<String> failedIds = paymentIdsOf(results, Outcome.FAILED);
+        if (!failedIds.isEmpty()) {
+            int failed = paymentRepository.failProcessingPayments(failedIds);
+            log.warn("[결제 상태 확인] 결제 실패: {}건 (조회 {}건)", failed, failedIds.size());
+
+            // 콜백 실패 처리와 같이 포인트 환불 포함 보상 요청 (이미 요청된 주문은 제외)
+            orderCompensationQueueService.requestForFailedPayments(failedIds, true);
+        }
+    }
+
+    private List<String> paymentIdsOf(List<PaymentStatusCheckResult> results, Outcome outcome) {
+        return results.stream()
+                .filter(result -> outcome == null || result.outcome() == outcome)
+                .map(PaymentStatusCheckResult::paymentId)
+                .toList();
     }
 }
@@ -1,6 +1,7 @@
 package com.loopers.infrastructure.user;
 
 import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserIdentity;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -16,6 +17,9 @@ public interface UserJpaRepository extends JpaRepository<User, Long> {
     User findByUserId(String userId);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select u from User u where u.userId = :userId")
-    Optional<User> findByUserIdWithLock(@Param("userId") String userId);
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findByIdWithLock(@Param("id") Long id);
+
+    @Query("select new com.loopers.domain.user.UserIdentity(u.id, u.userId, u.gender, u.birthdate) from User u where u.userId = :userId")
+    Optional<UserIdentity> findIdentityByUserId(@Param("userId") String userId);
 }
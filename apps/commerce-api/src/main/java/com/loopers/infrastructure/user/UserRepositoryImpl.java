@@ -1,17 +1,31 @@
 package com.loopers.infrastructure.user;
 
 import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserIdentity;
 import com.loopers.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TimeZone;
 
 @RequiredArgsConstructor
 @Component
 public class UserRepositoryImpl implements UserRepository {
 
+    // ZonedDateTime 컬럼은 Hibernate 설정(jdbc.time_zone: UTC)과 동일하게 UTC 로 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
     private final UserJpaRepository userJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<User> findById(Long id) {
@@ -37,7 +51,38 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     @Override
-    public Optional<User> findUserByUserIdWithLock(String userId) {
-        return userJpaRepository.findByUserIdWithLock(userId);
+    public Optional<User> findByIdWithLock(Long id) {
+        return userJpaRepository.findByIdWithLock(id);
+    }
+
+    @Override
+    public Optional<UserIdentity> findIdentityByUserId(String userId) {
+        return userJpaRepository.findIdentityByUserId(userId);
+    }
+
+    @Override
+    public User getReference(Long id) {
+        return userJpaRepository.getReferenceById(id);
+    }
+
+    @Override
+    public void refundPoints(Map<Long, BigDecimal> amountsByUserId) {
+        if (amountsByUserId.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, BigDecimal>> entries = new ArrayList<>(amountsByUserId.entrySet());
+        Timestamp now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE users SET point = point + ?, updated_at = ? WHERE id = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setTimestamp(2, now, Calendar.getInstance(UTC));
+                    ps.setLong(3, entry.getKey());
+                }
+        );
     }
 }
@@ -0,0 +1,34 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 관리자 API 접근 제한 (/api/v1/admin/**)
+ *
+ * 사용자 API 가 게이트웨이에서 전달한 X-USER-ID 헤더를 신뢰하는 것과 같이,
+ * 관리자 API 는 사내 인증을 거친 요청에 붙는 X-LOOPERS-LDAP 헤더가 관리자 값일 때만 허용한다.
+ * - 관리자 값(admin.ldap)은 환경별로 ADMIN_LDAP 환경 변수(또는 시크릿 설정)로만 주입하며 기본값이 없다.
+ * - 설정되지 않은 환경에서는 모든 관리자 API 요청을 거부한다.
+ */
+@Component
+public class AdminAuthInterceptor implements HandlerInterceptor {
+
+    public static final String ADMIN_HEADER = "X-LOOPERS-LDAP";
+
+    @Value("${admin.ldap:}")
+    private String adminLdap;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (adminLdap.isBlank() || !adminLdap.equals(request.getHeader(ADMIN_HEADER))) {
+            throw new CoreException(ErrorType.FORBIDDEN, "관리자만 접근할 수 있습니다.");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.interfaces.api.coupon;
+
+import com.loopers.application.coupon.CouponIssueInfo;
+
+public class CouponV1Dto {
+
+    public record CouponIssueResponse(Long couponId, String userId) {
+        public static CouponIssueResponse from(CouponIssueInfo couponIssueInfo) {
+            return new CouponIssueResponse(couponIssueInfo.couponId(), couponIssueInfo.userId());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.interfaces.api.outbox;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public interface OutboxAdminV1ApiSpec {
+
+    @Operation(
+            summary = "PARKED Outbox 이벤트 재처리",
+            description = "최대 재시도 횟수를 초과한 Outbox 이벤트를 PENDING 으로 되돌려 다시 발행한다 (X-LOOPERS-LDAP 관리자 헤더 필요)"
+    )
+    ApiResponse<OutboxAdminV1Dto.RequeueResponse> requeueParkedEvents(
+            @Schema(name = "PARKED 이벤트 재처리", description = "재처리할 이벤트 id 목록 또는 aggregateType (둘 중 하나는 필수)")
+            OutboxAdminV1Dto.RequeueRequest request
+    );
+}
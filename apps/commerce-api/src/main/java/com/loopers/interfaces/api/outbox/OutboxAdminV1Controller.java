@@ -0,0 +1,24 @@
+package com.loopers.interfaces.api.outbox;
+
+import com.loopers.application.outbox.OutboxFacade;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/admin/outbox-events")
+public class OutboxAdminV1Controller implements OutboxAdminV1ApiSpec {
+
+    private final OutboxFacade outboxFacade;
+
+    @Override
+    @PostMapping("/parked/requeue")
+    public ApiResponse<OutboxAdminV1Dto.RequeueResponse> requeueParkedEvents(
+            @RequestBody OutboxAdminV1Dto.RequeueRequest request
+    ) {
+        int requeuedCount = outboxFacade.requeueParkedEvents(request.ids(), request.aggregateType());
+
+        return ApiResponse.success(new OutboxAdminV1Dto.RequeueResponse(requeuedCount));
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.interfaces.api.outbox;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public class OutboxAdminV1Dto {
+
+    public record RequeueRequest(
+            @Schema(description = "재처리할 이벤트 id 목록 (비우면 aggregateType 조건으로 재처리)", example = "[1, 2, 3]")
+            List<Long> ids,
+
+            @Schema(description = "재처리할 aggregateType (ids 가 비어 있으면 필수)", example = "ORDER")
+            String aggregateType
+    ) {
+    }
+
+    public record RequeueResponse(
+            @Schema(description = "재처리 대상으로 변경된 이벤트 수", example = "3")
+            int requeuedCount
+    ) {
+    }
+}
@@ -19,6 +19,7 @@ public class PaymentCallbackController {
      * PG 결제 콜백 처리
      *
      * PG에서 결제 처리 완료 후 최종 결과를 전달받는 엔드포인트
+     * 콜백은 Inbox 에 저장한 뒤 바로 응답하고, 결제/주문 반영은 비동기로 처리된다.
      */
     @PostMapping("/callback")
     public ApiResponse<Void> handleCallback(
@@ -36,9 +37,9 @@ public class PaymentCallbackController {
         );
 
         // Application Layer 호출
-        paymentFacade.handlePaymentCallback(callbackInfo);
+        paymentFacade.receivePaymentCallback(callbackInfo);
 
-        log.info("=== Payment Callback Processed Successfully ===");
+        log.info("=== Payment Callback Accepted ===");
 
         return ApiResponse.success(null);
     }
@@ -0,0 +1,89 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.domain.ranking.PeriodType;
+import com.loopers.domain.ranking.RankingType;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * 랭킹 다음 페이지 조회용 연속 토큰
+ *
+ * 다음 페이지의 조회 조건(타입, 기간, 날짜, 페이지, 크기)을 담아 응답의 nextCursor 로 내려준다.
+ * 클라이언트는 cursor 만 넘겨 같은 조건의 다음 페이지를 이어서 조회한다.
+ */
+public record RankingPageToken(
+        RankingType type,
+        PeriodType periodType,
+        LocalDate date,
+        int page,
+        int size
+) {
+
+    private static final String DELIMITER = "|";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * 페이지 범위 검증
+     * 순위는 int 로 page * size + 1 부터 매기므로, 페이지의 마지막 순위가 int 범위를 넘으면 거부한다.
+     */
+    public RankingPageToken {
+        if (!isInRange(page, size)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "랭킹 페이지 범위를 벗어났습니다.");
+        }
+    }
+
+    /**
+     * 다음 페이지 토큰 생성 (마지막 페이지면 null)
+     *
+     * @param page 현재 페이지 (0-based)
+     * @param size 페이지 크기
+     * @param totalCount 전체 랭킹 개수
+     */
+    public static String next(RankingType type, PeriodType periodType, LocalDate date, int page, int size, long totalCount) {
+        if (type == null || ((long) page + 1) * size >= totalCount || !isInRange((long) page + 1, size)) {
+            return null;
+        }
+        PeriodType period = periodType != null ? periodType : PeriodType.DAILY;
+        return new RankingPageToken(type, period, date, page + 1, size).encode();
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                type.name(),
+                periodType.name(),
+                date.format(DATE_FORMATTER),
+                String.valueOf(page),
+                String.valueOf(size));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RankingPageToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("토큰 형식 불일치");
+            }
+
+            return new RankingPageToken(
+                    RankingType.valueOf(parts[0]),
+                    PeriodType.valueOf(parts[1]),
+                    LocalDate.parse(parts[2], DATE_FORMATTER),
+                    Integer.parseInt(parts[3]),
+                    Integer.parseInt(parts[4])
+            );
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 랭킹 cursor 입니다.");
+        }
+    }
+
+    private static boolean isInRange(long page, int size) {
+        return page >= 0 && size >= 1 && size <= MAX_SIZE && (page + 1) * size <= Integer.MAX_VALUE;
+    }
+}
@@ -24,24 +24,28 @@ public class RankingV1Controller implements RankingV1ApiSpec {
     public ApiResponse<RankingV1Dto.PagingRankingResponse> getRankingWithPaging(
             RankingV1Dto.GetRankingWithPagingRequest request
     ) {
-        LocalDate date = parseDate(request.date());
+        // cursor 가 있으면 이전 응답의 조회 조건으로 다음 페이지 조회
+        RankingPageToken token = request.cursor() != null && !request.cursor().isBlank()
+                ? RankingPageToken.decode(request.cursor())
+                : new RankingPageToken(request.type(), request.periodType(), parseDate(request.date()), request.page(), request.size());
 
         List<RankingInfo> rankings = rankingFacade.getRankingWithPaging(
-                request.type(),
-                request.periodType(),
-                date,
-                request.page(),
-                request.size()
+                token.type(),
+                token.periodType(),
+                token.date(),
+                token.page(),
+                token.size()
         );
 
-        long totalCount = rankingFacade.getTotalRankingCount(request.type(), date);
+        long totalCount = rankingFacade.getTotalRankingCount(token.type(), token.periodType(), token.date());
 
         return ApiResponse.success(
                 RankingV1Dto.PagingRankingResponse.of(
                         rankings,
-                        request.page(),
-                        request.size(),
-                        totalCount
+                        token.page(),
+                        token.size(),
+                        totalCount,
+                        RankingPageToken.next(token.type(), token.periodType(), token.date(), token.page(), token.size(), totalCount)
                 )
         );
     }
@@ -60,12 +64,13 @@ public class RankingV1Controller implements RankingV1ApiSpec {
                 request.limit()
         );
 
-        long totalCount = rankingFacade.getTotalRankingCount(request.type(), date);
+        long totalCount = rankingFacade.getTotalRankingCount(request.type(), request.periodType(), date);
 
         return ApiResponse.success(
                 RankingV1Dto.TopRankingResponse.of(
                         rankings,
-                        totalCount
+                        totalCount,
+                        RankingPageToken.next(request.type(), request.periodType(), date, 0, request.limit(), totalCount)
                 )
         );
     }
@@ -52,7 +52,10 @@ public class RankingV1Dto {
             @Min(1)
             @Max(100)
             @Schema(description = "페이지 크기", example = "20", defaultValue = "20")
-            Integer size
+            Integer size,
+
+            @Schema(description = "다음 페이지 토큰 (이전 응답의 nextCursor, 지정 시 나머지 조건은 무시)")
+            String cursor
     ) {
         public GetRankingWithPagingRequest {
             if (page == null) {
@@ -92,14 +95,18 @@ public class RankingV1Dto {
             List<RankingItem> rankings,
 
             @Schema(description = "전체 랭킹 개수", example = "150")
-            Long totalCount
+            Long totalCount,
+
+            @Schema(description = "이어서 조회할 다음 페이지 토큰 (페이지네이션 랭킹 조회의 cursor, 마지막이면 null)")
+            String nextCursor
     ) {
-        public static TopRankingResponse of(List<RankingInfo> infos, long totalCount) {
+        public static TopRankingResponse of(List<RankingInfo> infos, long totalCount, String nextCursor) {
             return new TopRankingResponse(
                     infos.stream()
                             .map(RankingItem::from)
                             .collect(Collectors.toList()),
-                    totalCount
+                    totalCount,
+                    nextCursor
             );
         }
     }
@@ -118,9 +125,12 @@ public class RankingV1Dto {
             Long totalCount,
 
             @Schema(description = "전체 페이지 수", example = "8")
-            Integer totalPages
+            Integer totalPages,
+
+            @Schema(description = "다음 페이지 토큰 (마지막 페이지면 null)")
+            String nextCursor
     ) {
-        public static PagingRankingResponse of(List<RankingInfo> infos, int page, int size, long totalCount) {
+        public static PagingRankingResponse of(List<RankingInfo> infos, int page, int size, long totalCount, String nextCursor) {
             return new PagingRankingResponse(
                     infos.stream()
                             .map(RankingItem::from)
@@ -128,7 +138,8 @@ public class RankingV1Dto {
                     page,
                     size,
                     totalCount,
-                    (int) Math.ceil((double) totalCount / size)
+                    (int) Math.ceil((double) totalCount / size),
+                    nextCursor
             );
         }
     }
@@ -0,0 +1,165 @@
+package com.loopers.support.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 유형별 격리 실행기 (Bulkhead)
+ *
+ * 작업마다 가상 스레드에서 실행하되, 동시에 실행되는 작업 수는 maxConcurrent 로 제한한다.
+ * 제한을 넘는 작업은 queueCapacity 까지 대기하고, 대기열도 가득 차면 rejectionPolicy 에 따라 거부한다.
+ * 유실되면 안 되는 작업만 CALLER_RUNS 로 호출 스레드에서 실행하고, 나머지는 호출 스레드로 번지지 않도록 거부한다.
+ *
+ * 메트릭 (tag name=실행기 이름)
+ * - bulkhead.active   : 실행 중인 작업 수
+ * - bulkhead.queued   : 대기 중인 작업 수
+ * - bulkhead.rejected : 거부된 작업 수 (CALLER_RUNS 는 호출 스레드에서 실행된 작업 수)
+ */
+@Slf4j
+public class BulkheadExecutor implements TaskExecutor, DisposableBean {
+
+    public enum RejectionPolicy {
+        ABORT,       // TaskRejectedException 발생 (호출자가 실패를 알아야 하는 작업)
+        DISCARD,     // 경고 로그만 남기고 버림 (유실되어도 되거나 별도 보정 경로가 있는 작업)
+        CALLER_RUNS  // 호출 스레드에서 바로 실행 (유실되면 안 되는 작업 - 호출자가 그만큼 느려짐)
+    }
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final String name;
+    private final int maxConcurrent;
+    private final RejectionPolicy rejectionPolicy;
+    private final Semaphore permits;
+    private final BlockingQueue<Runnable> queue;
+    private final ExecutorService executor;
+    private final Counter rejectedCounter;
+    private volatile boolean shuttingDown;
+
+    public BulkheadExecutor(
+            String name,
+            int maxConcurrent,
+            int queueCapacity,
+            RejectionPolicy rejectionPolicy,
+            MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.rejectionPolicy = rejectionPolicy;
+        this.permits = new Semaphore(maxConcurrent);
+        this.queue = new LinkedBlockingQueue<>(Math.max(queueCapacity, 1));
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+
+        Gauge.builder("bulkhead.active", this, BulkheadExecutor::getActiveCount)
+                .description("실행 중인 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", this, BulkheadExecutor::getQueuedCount)
+                .description("대기 중인 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("bulkhead.rejected")
+                .description("거부된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shuttingDown || !queue.offer(task)) {
+            reject(task);
+            return;
+        }
+
+        dispatch();
+    }
+
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * 허용된 동시 실행 수 안에서 대기열의 작업을 꺼내 실행
+     * 작업이 끝날 때마다 다시 호출되어 남은 작업을 이어서 실행한다.
+     */
+    private void dispatch() {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Runnable next = queue.poll();
+            if (next == null) {
+                permits.release();
+                continue;
+            }
+
+            try {
+                executor.execute(() -> runAndDispatch(next));
+            } catch (RuntimeException e) {
+                permits.release();
+                reject(next);
+            }
+        }
+    }
+
+    private void runAndDispatch(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            log.error("[Bulkhead] 작업 실행 중 오류 발생 - name: {}", name, e);
+        } finally {
+            permits.release();
+            dispatch();
+        }
+    }
+
+    private void reject(Runnable task) {
+        rejectedCounter.increment();
+
+        if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+            log.warn("[Bulkhead] 대기열 초과로 호출 스레드에서 실행합니다 - name: {}, active: {}, queued: {}",
+                    name, getActiveCount(), getQueuedCount());
+            task.run();
+            return;
+        }
+
+        if (rejectionPolicy == RejectionPolicy.DISCARD) {
+            log.warn("[Bulkhead] 대기열 초과로 작업을 버립니다 - name: {}, active: {}, queued: {}",
+                    name, getActiveCount(), getQueuedCount());
+            return;
+        }
+
+        throw new TaskRejectedException(
+                "Bulkhead [" + name + "] 대기열 초과 - active: " + getActiveCount() + ", queued: " + getQueuedCount());
+    }
+
+    /**
+     * 애플리케이션 종료 시 새 작업은 거부하고, 실행 중인 작업과 대기열이 비워질 때까지 대기
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        shuttingDown = true;
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        while ((!queue.isEmpty() || getActiveCount() > 0) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+            log.warn("[Bulkhead] 종료 대기 시간 초과 - name: {}, queued: {}", name, getQueuedCount());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.loopers.support.cache;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 크기 제한이 있는 노드 로컬 TTL 캐시
+ *
+ * 모든 항목이 같은 ttl 을 가지므로, 가장 먼저 들어온 키가 가장 먼저 만료된다.
+ * 최대 크기를 넘으면 삽입 순서가 가장 오래된 키부터 제거하고 새 항목은 항상 보관한다. (만료 항목 전체 탐색 없음)
+ * - 조회는 ConcurrentHashMap 조회 한 번이며 잠금이 없다.
+ * - 만료된 항목은 조회 시 없는 것으로 취급하고, 다시 채워지거나 오래된 순서로 제거될 때 정리된다.
+ * - 이미 있는 키를 다시 채우면 삽입 순서는 처음 들어온 위치를 유지한다.
+ * - 명시적 제거(remove)는 원본 변경 시에만 호출되는 드문 경로이므로 삽입 순서 큐에서도 함께 지운다.
+ */
+public class LocalCache<K, V> {
+
+    private final long ttlMs;
+    private final int maxSize;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public LocalCache(long ttlMs, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize 는 0 보다 커야 합니다 - maxSize: " + maxSize);
+        }
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 만료되지 않은 값 조회
+     */
+    public Optional<V> get(K key, long nowMillis) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.expiresAtMillis() <= nowMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    /**
+     * 값 보관 (nowMillis + ttl 까지 유효)
+     * 새 키로 최대 크기를 넘으면 가장 오래된 키를 제거한다.
+     */
+    public void put(K key, V value, long nowMillis) {
+        if (entries.put(key, new Entry<>(value, nowMillis + ttlMs)) != null) {
+            return;
+        }
+
+        insertionOrder.add(key);
+        while (entries.size() > maxSize) {
+            K eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest);
+        }
+    }
+
+    /**
+     * 값 제거 (원본이 변경되어 다음 조회 시 다시 채워야 할 때)
+     */
+    public void remove(K key) {
+        if (entries.remove(key) != null) {
+            insertionOrder.remove(key);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+}
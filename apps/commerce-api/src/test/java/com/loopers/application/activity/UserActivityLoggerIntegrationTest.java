@@ -60,7 +60,7 @@ class UserActivityLoggerIntegrationTest {
         User savedUser = userRepository.save(user);
 
         // when
-        productLikeService.addLike(savedUser, savedProduct);
+        productLikeService.addLike(savedUser, savedUser.getUserId(), savedProduct);
 
         // then: 비동기 로깅을 위한 대기
         verify(userActivityLogger, timeout(1000).times(1))
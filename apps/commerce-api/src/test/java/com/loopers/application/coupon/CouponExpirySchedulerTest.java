@@ -0,0 +1,117 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.CouponService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponExpirySchedulerTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private CouponExpiryFacade couponExpiryFacade;
+
+    private CouponExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new CouponExpiryScheduler(couponService, couponExpiryFacade);
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "chunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(scheduler, "maxChunksPerRun", 10);
+        ReflectionTestUtils.setField(scheduler, "chunkPauseMs", 0L);
+    }
+
+    @Test
+    @DisplayName("쿠폰마다 마지막 발급 쿠폰 ID 이후 구간을 이어서 청크 단위로 만료한다")
+    void expireIssuedCoupons_continuesFromLastId() {
+        // given
+        given(couponService.getEndedCouponIds(any(LocalDate.class))).willReturn(List.of(10L));
+        given(couponExpiryFacade.expireChunk(10L, 0L, CHUNK_SIZE))
+                .willReturn(new CouponExpiryFacade.ExpiredChunk(2, 5L, 2));
+        given(couponExpiryFacade.expireChunk(10L, 5L, CHUNK_SIZE))
+                .willReturn(new CouponExpiryFacade.ExpiredChunk(1, 7L, 1));
+
+        // when
+        scheduler.expireIssuedCoupons();
+
+        // then
+        verify(couponExpiryFacade).expireChunk(10L, 0L, CHUNK_SIZE);
+        verify(couponExpiryFacade).expireChunk(10L, 5L, CHUNK_SIZE);
+        verify(couponExpiryFacade, times(2)).expireChunk(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 최대 청크 수까지만 처리하고 나머지 쿠폰은 다음 주기로 넘긴다")
+    void expireIssuedCoupons_stopsAtMaxChunks() {
+        // given
+        ReflectionTestUtils.setField(scheduler, "maxChunksPerRun", 2);
+        given(couponService.getEndedCouponIds(any(LocalDate.class))).willReturn(List.of(10L, 20L));
+        given(couponExpiryFacade.expireChunk(any(), anyLong(), anyInt()))
+                .willReturn(new CouponExpiryFacade.ExpiredChunk(2, 5L, 2));
+
+        // when
+        scheduler.expireIssuedCoupons();
+
+        // then
+        verify(couponExpiryFacade, times(2)).expireChunk(any(), anyLong(), anyInt());
+        verify(couponExpiryFacade, never()).expireChunk(eq(20L), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("처리할 발급 건이 없는 쿠폰이 최대 청크 수보다 많아도 뒤쪽 쿠폰까지 만료한다")
+    void expireIssuedCoupons_emptyChunksNotCharged() {
+        // given: 앞쪽 250개 쿠폰은 남은 발급 건이 모두 잠겨 있어 빈 청크, 마지막 쿠폰만 만료 대상
+        ReflectionTestUtils.setField(scheduler, "maxChunksPerRun", 200);
+        List<Long> couponIds = new ArrayList<>(LongStream.rangeClosed(1, 250).boxed().toList());
+        couponIds.add(999L);
+        given(couponService.getEndedCouponIds(any(LocalDate.class))).willReturn(couponIds);
+        given(couponExpiryFacade.expireChunk(any(), eq(0L), eq(CHUNK_SIZE)))
+                .willReturn(new CouponExpiryFacade.ExpiredChunk(0, 0L, 0));
+        given(couponExpiryFacade.expireChunk(999L, 0L, CHUNK_SIZE))
+                .willReturn(new CouponExpiryFacade.ExpiredChunk(1, 3L, 1));
+
+        // when
+        scheduler.expireIssuedCoupons();
+
+        // then
+        verify(couponExpiryFacade).expireChunk(999L, 0L, CHUNK_SIZE);
+        verify(couponExpiryFacade, times(251)).expireChunk(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("비활성화 시 만료 처리를 하지 않는다")
+    void expireIssuedCoupons_disabled() {
+        // given
+        ReflectionTestUtils.setField(scheduler, "enabled", false);
+
+        // when
+        scheduler.expireIssuedCoupons();
+
+        // then
+        verify(couponService, never()).getEndedCouponIds(any());
+    }
+}
@@ -0,0 +1,92 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.CouponIssuanceClaim;
+import com.loopers.domain.coupon.CouponIssuanceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssuanceWorkerTest {
+
+    @Mock
+    private CouponIssuanceService couponIssuanceService;
+
+    @Mock
+    private CouponIssueFacade couponIssueFacade;
+
+    private CouponIssuanceWorker worker;
+
+    private final CouponIssuanceClaim first = new CouponIssuanceClaim("1-0", 10L, 1L);
+    private final CouponIssuanceClaim second = new CouponIssuanceClaim("2-0", 10L, 2L);
+
+    @BeforeEach
+    void setUp() {
+        worker = new CouponIssuanceWorker(couponIssuanceService, couponIssueFacade);
+        ReflectionTestUtils.setField(worker, "consumerName", "node-1");
+        ReflectionTestUtils.setField(worker, "batchSize", 500);
+        ReflectionTestUtils.setField(worker, "leaseMs", 30000L);
+    }
+
+    @Test
+    @DisplayName("발급 확정 요청을 한 번에 저장한 뒤 대기열에서 제거한다")
+    void persistAdmittedClaims_persistsThenAcknowledges() {
+        // given
+        given(couponIssuanceService.claim("node-1", 500, Duration.ofMillis(30000L))).willReturn(List.of(first, second));
+
+        // when
+        worker.persistAdmittedClaims();
+
+        // then
+        verify(couponIssueFacade).persistIssuedCoupons(List.of(first, second));
+        verify(couponIssuanceService).acknowledge(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 요청별로 저장하고 저장된 요청만 대기열에서 제거한다")
+    void persistAdmittedClaims_batchFails_acknowledgesPersistedOnly() {
+        // given
+        given(couponIssuanceService.claim(anyString(), anyInt(), any())).willReturn(List.of(first, second));
+        willThrow(new DataIntegrityViolationException("fk"))
+                .given(couponIssueFacade).persistIssuedCoupons(List.of(first, second));
+        willThrow(new DataIntegrityViolationException("fk"))
+                .given(couponIssueFacade).persistIssuedCoupons(List.of(first));
+
+        // when
+        worker.persistAdmittedClaims();
+
+        // then
+        verify(couponIssueFacade).persistIssuedCoupons(List.of(second));
+        verify(couponIssuanceService).acknowledge(List.of(second));
+    }
+
+    @Test
+    @DisplayName("가져온 요청이 없으면 저장하지 않는다")
+    void persistAdmittedClaims_nothingClaimed() {
+        // given
+        given(couponIssuanceService.claim(anyString(), anyInt(), any())).willReturn(List.of());
+
+        // when
+        worker.persistAdmittedClaims();
+
+        // then
+        verify(couponIssueFacade, never()).persistIssuedCoupons(anyList());
+    }
+}
@@ -0,0 +1,114 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.DiscountType;
+import com.loopers.domain.issuedcoupon.IssuedCoupon;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.coupon.CouponJpaRepository;
+import com.loopers.infrastructure.issuedcoupon.IssuedCouponJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class CouponIssueFacadeIntegrationTest {
+
+    private static final int USER_COUNT = 2000;
+    private static final int ATTEMPTS_PER_USER = 5;
+    private static final int ISSUANCE_LIMIT = 100;
+
+    @Autowired
+    private CouponIssueFacade couponIssueFacade;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+    @Autowired
+    private IssuedCouponJpaRepository issuedCouponJpaRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("1만 건의 발급 요청이 동시에 몰려도 최대 발급 수량만큼, 사용자당 한 장씩만 발급된다.")
+    @Test
+    void concurrentIssue_neverOverIssuesOrDoubleIssues() throws Exception {
+        // given
+        Coupon coupon = Coupon.createCoupon(
+                "FCFS2025COUPON", "선착순 쿠폰", "선착순 100명",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(7), DiscountType.AMOUNT, 1000);
+        coupon.setMaxIssuanceLimit(ISSUANCE_LIMIT);
+        Long couponId = couponRepository.registerCoupon(coupon).getId();
+
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            String userId = "user" + i;
+            userRepository.save(User.createUser(userId, "test" + i + "@test.com", "1990-01-01", Gender.MALE));
+            userIds.add(userId);
+        }
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when - 사용자마다 5번씩, 총 10,000건을 동시에 요청
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(200)) {
+            for (int attempt = 0; attempt < ATTEMPTS_PER_USER; attempt++) {
+                for (String userId : userIds) {
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            couponIssueFacade.requestIssue(couponId, userId);
+                            admitted.incrementAndGet();
+                        } catch (CoreException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }, executor));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+
+        // then
+        assertThat(admitted.get()).isEqualTo(ISSUANCE_LIMIT);
+        assertThat(rejected.get()).isEqualTo(USER_COUNT * ATTEMPTS_PER_USER - ISSUANCE_LIMIT);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            List<IssuedCoupon> issuedCoupons = issuedCouponJpaRepository.findAll();
+            assertThat(issuedCoupons).hasSize(ISSUANCE_LIMIT);
+            assertThat(issuedCoupons.stream().map(issuedCoupon -> issuedCoupon.getUser().getId()).distinct())
+                    .hasSize(ISSUANCE_LIMIT);
+            assertThat(couponJpaRepository.findById(couponId).orElseThrow().getCurrentIssuanceCount())
+                    .isEqualTo(ISSUANCE_LIMIT);
+        });
+    }
+}
@@ -0,0 +1,131 @@
+package com.loopers.application.order;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.issuedcoupon.IssuedCouponService;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderCompensation;
+import com.loopers.domain.order.OrderCompensationQueueService;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCompensationServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private IssuedCouponService issuedCouponService;
+
+    @Mock
+    private OrderCompensationQueueService orderCompensationQueueService;
+
+    @Mock
+    private ProductFacade productFacade;
+
+    private OrderCompensationService orderCompensationService;
+
+    @BeforeEach
+    void setUp() {
+        orderCompensationService = new OrderCompensationService(
+                orderService, productService, userService, issuedCouponService, orderCompensationQueueService, productFacade);
+    }
+
+    @Test
+    @DisplayName("여러 주문의 재고/포인트/쿠폰을 합산하여 한 번씩 복구하고 주문을 일괄 취소한다")
+    void compensateRequests_aggregatesAcrossOrders() {
+        // given
+        given(orderCompensationQueueService.lockPending(List.of(1L, 2L)))
+                .willReturn(List.of(compensation(1L, 10L, true), compensation(2L, 20L, false)));
+        given(orderService.lockCancelableOrders(List.of(10L, 20L))).willReturn(List.of(order(10L), order(20L)));
+        Map<Long, Integer> quantities = Map.of(100L, 3, 200L, 1);
+        given(orderService.sumItemQuantitiesByProduct(List.of(10L, 20L))).willReturn(quantities);
+        Map<Long, BigDecimal> refunds = Map.of(7L, BigDecimal.valueOf(10000));
+        given(orderService.sumTotalPriceByUser(List.of(10L))).willReturn(refunds);
+        given(orderService.getIssuedCouponIds(List.of(10L, 20L))).willReturn(List.of(500L));
+
+        // when
+        int compensated = orderCompensationService.compensateRequests(List.of(1L, 2L));
+
+        // then
+        assertThat(compensated).isEqualTo(2);
+        verify(productService).increaseStocks(quantities);
+        verify(userService).refundPoints(refunds);
+        verify(issuedCouponService).restoreUsedCoupons(List.of(500L));
+        verify(orderService).cancelOrders(List.of(10L, 20L));
+        verify(orderCompensationQueueService).markCompleted(List.of(1L, 2L));
+        verify(productFacade).evictProductCache(100L);
+        verify(productFacade).evictProductCache(200L);
+    }
+
+    @Test
+    @DisplayName("이미 취소되었거나 완료된 주문은 자원을 복구하지 않고 요청만 완료 처리한다")
+    void compensateRequests_skipsAlreadyCanceledOrders() {
+        // given
+        given(orderCompensationQueueService.lockPending(List.of(1L)))
+                .willReturn(List.of(compensation(1L, 10L, true)));
+        given(orderService.lockCancelableOrders(List.of(10L))).willReturn(List.of());
+
+        // when
+        orderCompensationService.compensateRequests(List.of(1L));
+
+        // then
+        verify(productService, never()).increaseStocks(any());
+        verify(productFacade, never()).evictProductCache(any());
+        verify(userService, never()).refundPoints(any());
+        verify(orderService, never()).cancelOrders(anyList());
+        verify(orderCompensationQueueService).markCompleted(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("점유 이후 이미 처리된 요청만 남았다면 아무 것도 하지 않는다")
+    void compensateRequests_nothingPending() {
+        // given
+        given(orderCompensationQueueService.lockPending(List.of(1L))).willReturn(List.of());
+
+        // when
+        int compensated = orderCompensationService.compensateRequests(List.of(1L));
+
+        // then
+        assertThat(compensated).isZero();
+        verify(orderService, never()).lockCancelableOrders(anyList());
+        verify(orderCompensationQueueService, never()).markCompleted(anyList());
+    }
+
+    private OrderCompensation compensation(Long id, Long orderId, boolean refundPoint) {
+        OrderCompensation compensation = OrderCompensation.request(orderId, refundPoint);
+        ReflectionTestUtils.setField(compensation, "id", id);
+        return compensation;
+    }
+
+    private Order order(Long id) {
+        Order order = new Order();
+        ReflectionTestUtils.setField(order, "id", id);
+        return order;
+    }
+}
@@ -0,0 +1,97 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderCompensation;
+import com.loopers.domain.order.OrderCompensationQueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCompensationWorkerTest {
+
+    @Mock
+    private OrderCompensationQueueService orderCompensationQueueService;
+
+    @Mock
+    private OrderCompensationService orderCompensationService;
+
+    private OrderCompensationWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new OrderCompensationWorker(orderCompensationQueueService, orderCompensationService);
+        ReflectionTestUtils.setField(worker, "batchSize", 200);
+        ReflectionTestUtils.setField(worker, "leaseMs", 30000L);
+    }
+
+    @Test
+    @DisplayName("점유한 보상 요청을 한 번에 처리한다")
+    void compensatePendingOrders_processesBatch() {
+        // given
+        given(orderCompensationQueueService.claim(200, Duration.ofMillis(30000L)))
+                .willReturn(List.of(compensation(1L, 10L), compensation(2L, 20L)));
+        given(orderCompensationService.compensateRequests(List.of(1L, 2L))).willReturn(2);
+
+        // when
+        worker.compensatePendingOrders();
+
+        // then
+        verify(orderCompensationService).compensateRequests(List.of(1L, 2L));
+        verify(orderCompensationQueueService, never()).recordFailure(any(), any());
+    }
+
+    @Test
+    @DisplayName("묶음 보상이 실패하면 요청별로 다시 처리하고 실패한 요청만 기록한다")
+    void compensatePendingOrders_batchFails_retriesEach() {
+        // given
+        given(orderCompensationQueueService.claim(anyInt(), any()))
+                .willReturn(List.of(compensation(1L, 10L), compensation(2L, 20L)));
+        given(orderCompensationService.compensateRequests(List.of(1L, 2L)))
+                .willThrow(new CannotAcquireLockException("lock wait timeout"));
+        given(orderCompensationService.compensateRequests(List.of(1L)))
+                .willThrow(new CannotAcquireLockException("lock wait timeout"));
+        given(orderCompensationService.compensateRequests(List.of(2L))).willReturn(1);
+
+        // when
+        worker.compensatePendingOrders();
+
+        // then
+        verify(orderCompensationQueueService).recordFailure(eq(1L), any());
+        verify(orderCompensationQueueService, never()).recordFailure(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("점유한 요청이 없으면 보상을 실행하지 않는다")
+    void compensatePendingOrders_nothingClaimed() {
+        // given
+        given(orderCompensationQueueService.claim(anyInt(), any())).willReturn(List.of());
+
+        // when
+        worker.compensatePendingOrders();
+
+        // then
+        verify(orderCompensationService, never()).compensateRequests(anyList());
+    }
+
+    private OrderCompensation compensation(Long id, Long orderId) {
+        OrderCompensation compensation = OrderCompensation.request(orderId, true);
+        ReflectionTestUtils.setField(compensation, "id", id);
+        return compensation;
+    }
+}
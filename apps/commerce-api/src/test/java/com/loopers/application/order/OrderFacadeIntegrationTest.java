@@ -3,6 +3,12 @@ package com.loopers.application.order;
 import com.loopers.domain.Money;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.DiscountType;
+import com.loopers.domain.issuedcoupon.CouponStatus;
+import com.loopers.domain.issuedcoupon.IssuedCoupon;
+import com.loopers.domain.issuedcoupon.IssuedCouponRepository;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderStatus;
 import com.loopers.domain.payment.PaymentType;
@@ -23,11 +29,13 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -48,6 +56,10 @@ class OrderFacadeIntegrationTest {
     private ProductRepository productRepository;
     @Autowired
     private BrandRepository brandRepository;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private IssuedCouponRepository issuedCouponRepository;
 
 
     @AfterEach
@@ -122,6 +134,67 @@ class OrderFacadeIntegrationTest {
         assertThat(productAfterOrder.getStock()).isEqualTo(Stock.of(90)); // 100 - 10
     }
 
+    @DisplayName("같은 쿠폰으로 동시에 100건 주문하면 한 건만 성공하고 쿠폰은 한 번만 사용된다.")
+    @Test
+    void concurrentOrder_sameCoupon_usedOnce() throws Exception {
+        // given
+        User user = User.createUser("couponUser", "coupon@test.com", "1990-01-01", Gender.MALE);
+        user.chargePoint(Money.of(1000000));
+        User savedUser = userRepository.save(user);
+
+        Brand savedBrand = brandRepository.registerBrand(Brand.createBrand("쿠폰브랜드"));
+        Product savedProduct = productRepository.registerProduct(
+                Product.createProduct("P100", "쿠폰상품", Money.of(1000), 1000, savedBrand));
+
+        Coupon savedCoupon = couponRepository.registerCoupon(Coupon.createCoupon(
+                "COUPON100", "천원 할인", null,
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(1), DiscountType.AMOUNT, 1000));
+        IssuedCoupon savedIssuedCoupon = issuedCouponRepository.save(IssuedCoupon.issue(savedUser, savedCoupon));
+
+        OrderCommand command = new OrderCommand(
+                savedUser.getUserId(),
+                List.of(new OrderCommand.OrderItemCommand(savedProduct.getId(), 1)),
+                savedCoupon.getId(),
+                PaymentType.POINT,
+                null,
+                null
+        );
+
+        // when - 100개의 쓰레드에서 같은 쿠폰으로 동시에 주문
+        int threadCount = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    orderFacade.createOrder(command);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                }
+            }, executor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        // then
+        entityManager.clear();
+        IssuedCoupon issuedCouponAfterOrder = entityManager.find(IssuedCoupon.class, savedIssuedCoupon.getId());
+        Product productAfterOrder = entityManager.find(Product.class, savedProduct.getId());
+
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(1),
+                () -> assertThat(failCount.get()).isEqualTo(threadCount - 1),
+                () -> assertThat(issuedCouponAfterOrder.getStatus()).isEqualTo(CouponStatus.USED),
+                () -> assertThat(issuedCouponAfterOrder.getUsedAt()).isNotNull(),
+                () -> assertThat(productAfterOrder.getStock()).isEqualTo(Stock.of(999))
+        );
+    }
+
     @DisplayName("주문 생성 시 상품의 재고를 차감한다.")
     @Test
     void createOrder_decreaseStock_success() {
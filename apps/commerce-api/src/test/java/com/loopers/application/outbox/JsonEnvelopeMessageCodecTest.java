@@ -0,0 +1,50 @@
+package com.loopers.application.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonEnvelopeMessageCodecTest {
+
+    private final JsonEnvelopeMessageCodec codec = new JsonEnvelopeMessageCodec();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("payload를 파싱하지 않고 envelope에 그대로 담는다")
+    void encode_splicesPayload() throws Exception {
+        // given
+        OutboxEvent event = OutboxEvent.create("PRODUCT_LIKE", "10", "LikeAdded", "{\"productId\":10,\"likeId\":3}");
+        ReflectionTestUtils.setField(event, "id", 1L);
+
+        // when
+        String message = (String) codec.encode(event);
+
+        // then
+        JsonNode node = objectMapper.readTree(message);
+        assertThat(node.get("eventId").asText()).isEqualTo("1");
+        assertThat(node.get("eventType").asText()).isEqualTo("LikeAdded");
+        assertThat(node.get("aggregateType").asText()).isEqualTo("PRODUCT_LIKE");
+        assertThat(node.get("aggregateId").asText()).isEqualTo("10");
+        assertThat(node.get("payload").get("productId").asLong()).isEqualTo(10L);
+        assertThat(message).contains("\"payload\":{\"productId\":10,\"likeId\":3}");
+    }
+
+    @Test
+    @DisplayName("envelope 문자열 필드는 JSON escape 처리한다")
+    void encode_escapesEnvelopeFields() throws Exception {
+        // given
+        OutboxEvent event = OutboxEvent.create("ORDER", "id-\"quoted\"\\", "OrderCreated", "{}");
+        ReflectionTestUtils.setField(event, "id", 2L);
+
+        // when
+        String message = (String) codec.encode(event);
+
+        // then
+        assertThat(objectMapper.readTree(message).get("aggregateId").asText()).isEqualTo("id-\"quoted\"\\");
+    }
+}
@@ -0,0 +1,304 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventService;
+import com.loopers.kafka.EventHeaders;
+import com.loopers.kafka.KafkaTopics;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventPublisherTest {
+
+    @Mock
+    private OutboxEventService outboxEventService;
+
+    @Mock
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    private OutboxEventPublisher outboxEventPublisher;
+
+    private static final String OWNER = "node-1";
+
+    @BeforeEach
+    void setUp() {
+        outboxEventPublisher = new OutboxEventPublisher(outboxEventService, kafkaTemplate, new JsonEnvelopeMessageCodec(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(outboxEventPublisher, "ownerId", OWNER);
+    }
+
+    @Test
+    @DisplayName("배치의 모든 이벤트를 전송한 뒤 성공 건을 한 번에 발행 완료 처리한다")
+    void publishBatch_marksPublishedInBulk() {
+        // given
+        OutboxEvent first = event(1L, "PRODUCT_LIKE", "10");
+        OutboxEvent second = event(2L, "ORDER", "20");
+        given(kafkaTemplate.send(anyRecord()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        outboxEventPublisher.publishBatch(List.of(first, second));
+
+        // then
+        verify(kafkaTemplate, times(2)).send(anyRecord());
+        verify(outboxEventService).markAsPublished(List.of(1L, 2L), OWNER);
+        verify(outboxEventService).markAsFailed(Map.of(), OWNER);
+    }
+
+    @Test
+    @DisplayName("같은 aggregateId의 이벤트는 생성 순서대로 전송한다")
+    void publishBatch_keepsOrderPerKey() {
+        // given
+        OutboxEvent first = event(1L, "PRODUCT_LIKE", "10");
+        OutboxEvent second = event(2L, "PRODUCT_LIKE", "10");
+        given(kafkaTemplate.send(anyRecord()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        outboxEventPublisher.publishBatch(List.of(first, second));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<Object, Object>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(records.capture());
+        assertThat(records.getAllValues()).satisfiesExactly(
+                record -> assertThat((String) record.value()).contains("\"eventId\":\"1\""),
+                record -> assertThat((String) record.value()).contains("\"eventId\":\"2\"")
+        );
+        assertThat(records.getAllValues())
+                .allSatisfy(record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.PRODUCT_LIKE);
+                    assertThat(record.key()).isEqualTo("10");
+                });
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 저장되어 생성 시각이 같은 이벤트는 id 순서대로 전송한다")
+    void publishPendingEvents_sortsById() {
+        // given
+        ZonedDateTime createdAt = ZonedDateTime.now().minusMinutes(1);
+        OutboxEvent earlier = event(1L, "PRODUCT_LIKE", "10");
+        OutboxEvent later = event(2L, "PRODUCT_LIKE", "10");
+        ReflectionTestUtils.setField(earlier, "createdAt", createdAt);
+        ReflectionTestUtils.setField(later, "createdAt", createdAt);
+        given(outboxEventService.claimPendingEvents(any(), any(), any(), anyInt(), any(), anyInt()))
+                .willReturn(List.of(later));
+        given(outboxEventService.claimRetryableEvents(any(), any(), anyInt(), any(), anyInt()))
+                .willReturn(List.of(earlier));
+        given(kafkaTemplate.send(anyRecord()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        outboxEventPublisher.publishPendingEvents();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<Object, Object>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(records.capture());
+        assertThat(records.getAllValues()).satisfiesExactly(
+                record -> assertThat((String) record.value()).contains("\"eventId\":\"1\""),
+                record -> assertThat((String) record.value()).contains("\"eventId\":\"2\"")
+        );
+        verify(outboxEventService).markAsPublished(List.of(1L, 2L), OWNER);
+    }
+
+    @Test
+    @DisplayName("브로커 응답이 실패한 이벤트만 실패 처리한다")
+    void publishBatch_marksFailedInBulk() {
+        // given
+        OutboxEvent success = event(1L, "ORDER", "20");
+        OutboxEvent failure = event(2L, "ORDER", "21");
+        given(kafkaTemplate.send(recordWithKey("20")))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(kafkaTemplate.send(recordWithKey("21")))
+                .willReturn(CompletableFuture.<SendResult<Object, Object>>failedFuture(new RuntimeException("broker down")));
+
+        // when
+        outboxEventPublisher.publishBatch(List.of(success, failure));
+
+        // then
+        verify(outboxEventService).markAsPublished(List.of(1L), OWNER);
+        verify(outboxEventService).markAsFailed(argThat(failures -> failures.keySet().equals(Set.of(2L))), eq(OWNER));
+    }
+
+    @Test
+    @DisplayName("같은 키의 앞선 이벤트 전송 결과가 실패하면 이후 이벤트는 성공해도 발행 완료로 처리하지 않고 점유를 해제한다")
+    void publishBatch_defersSameKeyAfterEarlierFutureFailed() {
+        // given
+        OutboxEvent failed = event(1L, "ORDER", "20");
+        OutboxEvent sameKey = event(2L, "ORDER", "20");
+        OutboxEvent otherKey = event(3L, "ORDER", "30");
+        given(kafkaTemplate.send(recordWithEventId("1")))
+                .willReturn(CompletableFuture.<SendResult<Object, Object>>failedFuture(new RuntimeException("broker down")));
+        given(kafkaTemplate.send(recordWithEventId("2")))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(kafkaTemplate.send(recordWithKey("30")))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        List<OutboxEvent> published = outboxEventPublisher.publishBatch(List.of(failed, sameKey, otherKey));
+
+        // then
+        assertThat(published).containsExactly(otherKey);
+        verify(outboxEventService).markAsPublished(List.of(3L), OWNER);
+        verify(outboxEventService).markAsFailed(argThat(failures -> failures.keySet().equals(Set.of(1L))), eq(OWNER));
+        verify(outboxEventService).releaseLease(List.of(2L), OWNER);
+    }
+
+    @Test
+    @DisplayName("결과 대기 중 인터럽트되면 완료된 전송은 그대로 반영하고, 완료되지 않은 이벤트와 같은 키의 이후 이벤트는 점유를 해제한다")
+    void publishBatch_releasesUnresolvedOnInterrupt() {
+        // given
+        OutboxEvent unresolved = event(1L, "ORDER", "20");
+        OutboxEvent acked = event(2L, "ORDER", "30");
+        OutboxEvent sameKey = event(3L, "ORDER", "20");
+        given(kafkaTemplate.send(recordWithEventId("1")))
+                .willReturn(new CompletableFuture<>());
+        given(kafkaTemplate.send(recordWithKey("30")))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(kafkaTemplate.send(recordWithEventId("3")))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        List<OutboxEvent> published;
+        Thread.currentThread().interrupt();
+        try {
+            published = outboxEventPublisher.publishBatch(List.of(unresolved, acked, sameKey));
+        } finally {
+            Thread.interrupted();
+        }
+
+        // then
+        assertThat(published).containsExactly(acked);
+        verify(outboxEventService).markAsPublished(List.of(2L), OWNER);
+        verify(outboxEventService).markAsFailed(Map.of(), OWNER);
+        verify(outboxEventService).releaseLease(List.of(1L, 3L), OWNER);
+    }
+
+    @Test
+    @DisplayName("전송 요청이 실패하면 같은 키의 이후 이벤트는 보내지 않고 점유를 해제해 PENDING으로 남긴다")
+    void publishBatch_defersSameKeyAfterSendRejected() {
+        // given
+        OutboxEvent rejected = event(1L, "ORDER", "20");
+        OutboxEvent sameKey = event(2L, "ORDER", "20");
+        OutboxEvent otherKey = event(3L, "ORDER", "30");
+        given(kafkaTemplate.send(recordWithKey("20")))
+                .willThrow(new RuntimeException("buffer exhausted"));
+        given(kafkaTemplate.send(recordWithKey("30")))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        outboxEventPublisher.publishBatch(List.of(rejected, sameKey, otherKey));
+
+        // then
+        verify(kafkaTemplate, times(1)).send(recordWithKey("20"));
+        verify(outboxEventService).markAsPublished(List.of(3L), OWNER);
+        verify(outboxEventService).markAsFailed(Map.of(), OWNER);
+        verify(outboxEventService).releaseLease(List.of(1L, 2L), OWNER);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 aggregateType은 전송하지 않고 바로 PARKED 처리한다")
+    void publishBatch_unknownAggregateType() {
+        // given
+        OutboxEvent unknown = event(1L, "UNKNOWN", "1");
+
+        // when
+        outboxEventPublisher.publishBatch(List.of(unknown));
+
+        // then
+        verify(kafkaTemplate, never()).send(anyRecord());
+        verify(outboxEventService).markAsParked(argThat(parked -> parked.keySet().equals(Set.of(1L))), eq(OWNER));
+        verify(outboxEventService).markAsFailed(Map.of(), OWNER);
+    }
+
+    @Test
+    @DisplayName("메시지를 만들 수 없는 이벤트 뒤의 같은 키 이벤트는 보내지 않고 보류한다")
+    void publishBatch_defersSameKeyAfterParked() {
+        // given
+        OutboxEvent unknown = event(1L, "UNKNOWN", "20");
+        OutboxEvent next = event(2L, "UNKNOWN", "20");
+
+        // when
+        outboxEventPublisher.publishBatch(List.of(unknown, next));
+
+        // then
+        verify(outboxEventService).markAsParked(argThat(parked -> parked.keySet().equals(Set.of(1L))), eq(OWNER));
+        verify(outboxEventService).releaseLease(List.of(2L), OWNER);
+    }
+
+    @Test
+    @DisplayName("envelope 필드를 Kafka 헤더로 함께 전송한다")
+    void publishBatch_sendsEnvelopeHeaders() {
+        // given
+        OutboxEvent event = event(7L, "ORDER", "20");
+        given(kafkaTemplate.send(anyRecord()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        outboxEventPublisher.publishBatch(List.of(event));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<Object, Object>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(records.capture());
+        Headers headers = records.getValue().headers();
+        assertThat(headerValue(headers, EventHeaders.EVENT_ID)).isEqualTo("7");
+        assertThat(headerValue(headers, EventHeaders.EVENT_TYPE)).isEqualTo("TEST_EVENT");
+        assertThat(headerValue(headers, EventHeaders.AGGREGATE_TYPE)).isEqualTo("ORDER");
+        assertThat(headerValue(headers, EventHeaders.AGGREGATE_ID)).isEqualTo("20");
+        assertThat(headerValue(headers, EventHeaders.CONTENT_TYPE)).isEqualTo("application/json");
+    }
+
+    private String headerValue(Headers headers, String name) {
+        return new String(headers.lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+
+    private static ProducerRecord<Object, Object> anyRecord() {
+        return argThat((ProducerRecord<Object, Object> record) -> true);
+    }
+
+    private static ProducerRecord<Object, Object> recordWithEventId(String eventId) {
+        return argThat((ProducerRecord<Object, Object> record) -> record != null
+                && "20".equals(record.key())
+                && ((String) record.value()).contains("\"eventId\":\"" + eventId + "\""));
+    }
+
+    private static ProducerRecord<Object, Object> recordWithKey(String key) {
+        return argThat((ProducerRecord<Object, Object> record) -> record != null && key.equals(record.key()));
+    }
+
+    private OutboxEvent event(Long id, String aggregateType, String aggregateId) {
+        OutboxEvent event = OutboxEvent.create(aggregateType, aggregateId, "TEST_EVENT", "{\"value\":1}");
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
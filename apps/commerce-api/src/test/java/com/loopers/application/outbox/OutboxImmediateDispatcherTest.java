@@ -0,0 +1,88 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.event.OutboxEventSavedEvent;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxImmediateDispatcherTest {
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    private OutboxImmediateDispatcher dispatcher;
+    private Timer latencyTimer;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxImmediateDispatcher(outboxEventPublisher);
+        latencyTimer = Timer.builder("outbox.publish.latency").register(new SimpleMeterRegistry());
+
+        // 워커 스레드 없이 큐만 구성
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "queue", new LinkedBlockingQueue<>(2));
+        ReflectionTestUtils.setField(dispatcher, "latencyTimer", latencyTimer);
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트를 모아 한 번에 발행하고 커밋-발행 지연 시간을 기록한다")
+    void dispatchNextBatch_publishesQueuedEvents() throws InterruptedException {
+        // given
+        dispatcher.onOutboxEventSaved(new OutboxEventSavedEvent(1L));
+        dispatcher.onOutboxEventSaved(new OutboxEventSavedEvent(2L));
+        given(outboxEventPublisher.publishByIds(anyList()))
+                .willReturn(List.of(event(1L), event(2L)));
+
+        // when
+        dispatcher.dispatchNextBatch();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventPublisher).publishByIds(ids.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(latencyTimer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 버리고 폴링에 맡긴다")
+    void onOutboxEventSaved_queueFull() throws InterruptedException {
+        // given
+        dispatcher.onOutboxEventSaved(new OutboxEventSavedEvent(1L));
+        dispatcher.onOutboxEventSaved(new OutboxEventSavedEvent(2L));
+        dispatcher.onOutboxEventSaved(new OutboxEventSavedEvent(3L));
+        given(outboxEventPublisher.publishByIds(anyList())).willReturn(List.of());
+
+        // when
+        dispatcher.dispatchNextBatch();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventPublisher).publishByIds(ids.capture());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private OutboxEvent event(Long id) {
+        OutboxEvent event = OutboxEvent.create("ORDER", String.valueOf(id), "ORDER_CREATED", "{}");
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,131 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxService;
+import com.loopers.infrastructure.payment.PaymentMetrics;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCallbackInboxWorkerTest {
+
+    @Mock
+    private PaymentCallbackInboxService paymentCallbackInboxService;
+
+    @Mock
+    private PaymentFacade paymentFacade;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PaymentCallbackInboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new PaymentCallbackInboxWorker(paymentCallbackInboxService, paymentFacade, new PaymentMetrics(meterRegistry));
+        ReflectionTestUtils.setField(worker, "batchSize", 100);
+        ReflectionTestUtils.setField(worker, "leaseMs", 30000L);
+    }
+
+    @Test
+    @DisplayName("점유한 콜백을 모두 반영한 뒤 한 번에 처리 완료 표시한다")
+    void processReceivedCallbacks_marksProcessedInBulk() {
+        // given
+        given(paymentCallbackInboxService.claim(100, Duration.ofMillis(30000L)))
+                .willReturn(List.of(inbox(1L, "tx-1", "SUCCESS"), inbox(2L, "tx-2", "FAILED")));
+
+        // when
+        worker.processReceivedCallbacks();
+
+        // then
+        verify(paymentFacade).handlePaymentCallback(new PaymentCallbackInfo("tx-1", "SUCCESS", null));
+        verify(paymentFacade).handlePaymentCallback(new PaymentCallbackInfo("tx-2", "FAILED", null));
+        verify(paymentCallbackInboxService).markProcessed(List.of(1L, 2L));
+        verify(paymentCallbackInboxService, never()).recordFailure(any(), any());
+        assertThat(meterRegistry.get("payment.callback.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 콜백은 실패를 기록하고 나머지만 처리 완료 표시한다")
+    void processReceivedCallbacks_failureRecordedSeparately() {
+        // given
+        given(paymentCallbackInboxService.claim(anyInt(), any()))
+                .willReturn(List.of(inbox(1L, "tx-1", "SUCCESS"), inbox(2L, "tx-2", "SUCCESS")));
+        willThrow(new CoreException(ErrorType.NOT_FOUND, "결제 없음"))
+                .given(paymentFacade).handlePaymentCallback(argThat(info -> "tx-1".equals(info.transactionKey())));
+
+        // when
+        worker.processReceivedCallbacks();
+
+        // then
+        verify(paymentCallbackInboxService).recordFailure(eq(1L), any());
+        verify(paymentCallbackInboxService).markProcessed(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("같은 거래 키의 앞선 콜백이 실패하면 같은 배치의 이후 콜백은 반영하지 않고 점유를 해제한다")
+    void processReceivedCallbacks_defersSameKeyAfterFailure() {
+        // given
+        given(paymentCallbackInboxService.claim(anyInt(), any()))
+                .willReturn(List.of(
+                        inbox(1L, "tx-1", "PENDING"),
+                        inbox(2L, "tx-2", "SUCCESS"),
+                        inbox(3L, "tx-1", "SUCCESS")
+                ));
+        willThrow(new CoreException(ErrorType.NOT_FOUND, "결제 없음"))
+                .given(paymentFacade).handlePaymentCallback(new PaymentCallbackInfo("tx-1", "PENDING", null));
+
+        // when
+        worker.processReceivedCallbacks();
+
+        // then
+        verify(paymentFacade, never()).handlePaymentCallback(new PaymentCallbackInfo("tx-1", "SUCCESS", null));
+        verify(paymentCallbackInboxService).recordFailure(eq(1L), any());
+        verify(paymentCallbackInboxService).markProcessed(List.of(2L));
+        verify(paymentCallbackInboxService).releaseLease(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("점유한 콜백이 없으면 아무 것도 처리하지 않는다")
+    void processReceivedCallbacks_nothingClaimed() {
+        // given
+        given(paymentCallbackInboxService.claim(anyInt(), any())).willReturn(List.of());
+
+        // when
+        worker.processReceivedCallbacks();
+
+        // then
+        verify(paymentFacade, never()).handlePaymentCallback(any());
+        verify(paymentCallbackInboxService, never()).markProcessed(anyList());
+    }
+
+    private PaymentCallbackInbox inbox(Long id, String transactionKey, String status) {
+        PaymentCallbackInbox inbox = PaymentCallbackInbox.receive(transactionKey, status, null);
+        ReflectionTestUtils.setField(inbox, "id", id);
+        ReflectionTestUtils.setField(inbox, "createdAt", ZonedDateTime.now().minusSeconds(1));
+        return inbox;
+    }
+}
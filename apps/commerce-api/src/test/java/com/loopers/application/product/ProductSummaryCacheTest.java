@@ -0,0 +1,73 @@
+package com.loopers.application.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSummaryCacheTest {
+
+    private static final long TTL_MS = 1000L;
+
+    private ProductSummaryCache productSummaryCache;
+
+    private final List<List<Long>> loadedIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        productSummaryCache = new ProductSummaryCache(true, TTL_MS, 10);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 상품만 한 번에 조회한다")
+    void getAll_loadsOnlyMissing() {
+        // given
+        productSummaryCache.getAll(List.of(1L, 2L), this::load, 0L);
+
+        // when
+        Map<Long, ProductInfo> result = productSummaryCache.getAll(List.of(1L, 2L, 3L), this::load, TTL_MS - 1);
+
+        // then
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(loadedIds).containsExactly(List.of(1L, 2L), List.of(3L));
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 조회하지 않고, 만료되면 다시 조회한다")
+    void getAll_hitThenExpire() {
+        // given
+        productSummaryCache.getAll(List.of(1L), this::load, 0L);
+
+        // when
+        productSummaryCache.getAll(List.of(1L), this::load, TTL_MS - 1);
+        productSummaryCache.getAll(List.of(1L), this::load, TTL_MS);
+
+        // then
+        assertThat(loadedIds).containsExactly(List.of(1L), List.of(1L));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품은 결과와 캐시에서 제외된다")
+    void getAll_notFoundNotCached() {
+        // when
+        Map<Long, ProductInfo> result = productSummaryCache.getAll(List.of(1L, 99L), this::load, 0L);
+
+        // then
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(productSummaryCache.size()).isEqualTo(1);
+    }
+
+    private List<ProductInfo> load(List<Long> productIds) {
+        loadedIds.add(productIds);
+        return productIds.stream()
+                .filter(id -> id != 99L)
+                .map(id -> new ProductInfo(id, "P" + id, "상품" + id, BigDecimal.valueOf(1000), 0L, null))
+                .toList();
+    }
+}
@@ -0,0 +1,104 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductSummaryCache;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.ranking.PeriodRankingService;
+import com.loopers.domain.ranking.PeriodType;
+import com.loopers.domain.ranking.Ranking;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RankingFacadeTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 25);
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private PeriodRankingService periodRankingService;
+
+    @Mock
+    private ProductService productService;
+
+    private RankingFacade rankingFacade;
+
+    @BeforeEach
+    void setUp() {
+        // 캐시는 비활성으로 생성하여 매번 조회하도록 함
+        rankingFacade = new RankingFacade(rankingService, periodRankingService, productService,
+                new RankingResponseCache(rankingService, false, 30000L, 1000L, 1000),
+                new ProductSummaryCache(false, 60000L, 10000));
+    }
+
+    @Test
+    @DisplayName("주간 랭킹은 Redis 주간 키에서 조회하고 집계 테이블은 조회하지 않는다")
+    void getTopRanking_weeklyFromRedis() {
+        // given
+        given(rankingService.getTopRanking(RankingType.ALL, PeriodType.WEEKLY, DATE, 10))
+                .willReturn(List.of(ranking(1, 100L)));
+        given(productService.getAllByIdIn(List.of(100L))).willReturn(List.of());
+
+        // when
+        List<RankingInfo> result = rankingFacade.getTopRanking(RankingType.ALL, PeriodType.WEEKLY, DATE, 10);
+
+        // then
+        assertThat(result).hasSize(1);
+        verify(periodRankingService, never()).getTopWeeklyRanking(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Redis 에 해당 월의 키가 없으면 월간 집계 테이블에서 조회한다")
+    void getTopRanking_monthlyFallbackToMv() {
+        // given
+        given(rankingService.getTopRanking(RankingType.LIKE, PeriodType.MONTHLY, DATE, 10)).willReturn(List.of());
+        given(periodRankingService.getTopMonthlyRanking(RankingType.LIKE, DATE, 10))
+                .willReturn(List.of(ranking(1, 200L)));
+        given(productService.getAllByIdIn(List.of(200L))).willReturn(List.of());
+
+        // when
+        List<RankingInfo> result = rankingFacade.getTopRanking(RankingType.LIKE, PeriodType.MONTHLY, DATE, 10);
+
+        // then
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전체 랭킹 개수는 요청한 기간의 키 크기를 반환한다")
+    void getTotalRankingCount_periodAware() {
+        // given
+        given(rankingService.getTotalRankingCount(RankingType.ALL, PeriodType.WEEKLY, DATE)).willReturn(42L);
+
+        // when
+        long count = rankingFacade.getTotalRankingCount(RankingType.ALL, PeriodType.WEEKLY, DATE);
+
+        // then
+        assertThat(count).isEqualTo(42L);
+        verify(periodRankingService, never()).getWeeklyRankingCount(any());
+    }
+
+    private Ranking ranking(int rank, Long productId) {
+        return Ranking.builder()
+                .rank(rank)
+                .productId(productId)
+                .score(10.0)
+                .build();
+    }
+}
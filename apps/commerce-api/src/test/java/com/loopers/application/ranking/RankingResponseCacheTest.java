@@ -0,0 +1,88 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.ranking.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RankingResponseCacheTest {
+
+    private static final long TTL_MS = 30000L;
+    private static final long VERSION_REFRESH_MS = 1000L;
+    private static final String KEY = "top:ALL:DAILY:2025-12-25:10";
+
+    @Mock
+    private RankingService rankingService;
+
+    private RankingResponseCache rankingResponseCache;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        rankingResponseCache = new RankingResponseCache(rankingService, true, TTL_MS, VERSION_REFRESH_MS, 10);
+    }
+
+    @Test
+    @DisplayName("랭킹 버전이 같으면 저장된 결과를 반환하고 버전은 주기마다 한 번만 조회한다")
+    void get_hitWithinSameVersion() {
+        // given
+        given(rankingService.getRankingVersion()).willReturn(3L);
+        rankingResponseCache.get(KEY, loader(), 0L);
+
+        // when
+        List<String> result = rankingResponseCache.get(KEY, loader(), VERSION_REFRESH_MS - 1);
+
+        // then
+        assertThat(result).containsExactly("load-1");
+        assertThat(loadCount.get()).isEqualTo(1);
+        verify(rankingService, times(1)).getRankingVersion();
+    }
+
+    @Test
+    @DisplayName("collector 가 랭킹 버전을 올리면 TTL 이 남아 있어도 다시 조회한다")
+    void get_reloadWhenVersionBumped() {
+        // given
+        given(rankingService.getRankingVersion()).willReturn(3L, 4L);
+        rankingResponseCache.get(KEY, loader(), 0L);
+
+        // when
+        List<String> result = rankingResponseCache.get(KEY, loader(), VERSION_REFRESH_MS);
+
+        // then
+        assertThat(result).containsExactly("load-2");
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버전이 같아도 TTL 이 지나면 다시 조회한다")
+    void get_reloadAfterTtl() {
+        // given
+        given(rankingService.getRankingVersion()).willReturn(3L);
+        rankingResponseCache.get(KEY, loader(), 0L);
+
+        // when
+        List<String> result = rankingResponseCache.get(KEY, loader(), TTL_MS);
+
+        // then
+        assertThat(result).containsExactly("load-2");
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private Supplier<List<String>> loader() {
+        return () -> List.of("load-" + loadCount.incrementAndGet());
+    }
+}
@@ -0,0 +1,106 @@
+package com.loopers.domain.coupon;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponCacheTest {
+
+    private static final long TTL_MS = 1000L;
+
+    private CouponCache couponCache;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final Coupon coupon = Coupon.createCoupon(
+            "WELCOME2025", "웰컴 쿠폰", "신규 가입 쿠폰",
+            LocalDate.now().minusDays(1), LocalDate.now().plusDays(7), DiscountType.AMOUNT, 1000);
+
+    @BeforeEach
+    void setUp() {
+        couponCache = new CouponCache(true, TTL_MS, 2);
+    }
+
+    @Test
+    @DisplayName("만료 전에는 저장된 쿠폰을 반환하고 다시 조회하지 않는다")
+    void get_hitWithinTtl() {
+        // given
+        couponCache.get(1L, loader(Optional.of(coupon)), 0L);
+
+        // when
+        Optional<CouponSnapshot> result = couponCache.get(1L, loader(Optional.of(coupon)), TTL_MS - 1);
+
+        // then
+        assertThat(result).contains(CouponSnapshot.from(coupon));
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 쿠폰은 다시 조회한다")
+    void get_reloadAfterTtl() {
+        // given
+        couponCache.get(1L, loader(Optional.of(coupon)), 0L);
+
+        // when
+        couponCache.get(1L, loader(Optional.of(coupon)), TTL_MS);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰은 캐시하지 않는다")
+    void get_notFoundNotCached() {
+        // when
+        couponCache.get(1L, loader(Optional.empty()), 0L);
+        couponCache.get(1L, loader(Optional.empty()), 1L);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(couponCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 무효화하면 즉시 제거되어 다음 조회 시 다시 조회한다")
+    void invalidate_outsideTransaction() {
+        // given
+        couponCache.get(1L, loader(Optional.of(coupon)), 0L);
+
+        // when
+        couponCache.invalidate(1L);
+        couponCache.get(1L, loader(Optional.of(coupon)), 1L);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기에 도달하면 가장 먼저 보관한 쿠폰을 제거하고 새 쿠폰을 보관한다")
+    void get_evictsEldestAtMaxSize() {
+        // given
+        couponCache.get(1L, loader(Optional.of(coupon)), 0L);
+        couponCache.get(2L, loader(Optional.of(coupon)), 0L);
+
+        // when
+        couponCache.get(3L, loader(Optional.of(coupon)), 1L);
+        couponCache.get(3L, loader(Optional.of(coupon)), 2L);
+        couponCache.get(2L, loader(Optional.of(coupon)), 2L);
+
+        // then
+        assertThat(couponCache.size()).isEqualTo(2);
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    private Supplier<Optional<Coupon>> loader(Optional<Coupon> result) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return result;
+        };
+    }
+}
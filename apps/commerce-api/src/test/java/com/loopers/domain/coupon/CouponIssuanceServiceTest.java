@@ -0,0 +1,107 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssuanceServiceTest {
+
+    @Mock
+    private CouponIssuanceRepository couponIssuanceRepository;
+
+    private CouponIssuanceService couponIssuanceService;
+
+    @BeforeEach
+    void setUp() {
+        couponIssuanceService = new CouponIssuanceService(couponIssuanceRepository);
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 사용자가 다시 요청하면 CONFLICT 예외가 발생한다")
+    void requestIssue_duplicate() {
+        // given
+        CouponSnapshot coupon = CouponSnapshot.from(coupon());
+        given(couponIssuanceRepository.admit(coupon, 1L)).willReturn(CouponIssuanceResult.DUPLICATE);
+
+        // when
+        CoreException result = assertThrows(CoreException.class, () -> couponIssuanceService.requestIssue(coupon, 1L));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        assertThat(result.getMessage()).isEqualTo("이미 발급받은 쿠폰입니다.");
+    }
+
+    @Test
+    @DisplayName("발급 수량이 소진되면 CONFLICT 예외가 발생한다")
+    void requestIssue_soldOut() {
+        // given
+        CouponSnapshot coupon = CouponSnapshot.from(coupon());
+        given(couponIssuanceRepository.admit(coupon, 1L)).willReturn(CouponIssuanceResult.SOLD_OUT);
+
+        // when
+        CoreException result = assertThrows(CoreException.class, () -> couponIssuanceService.requestIssue(coupon, 1L));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        assertThat(result.getMessage()).isEqualTo("쿠폰이 모두 소진되었습니다.");
+    }
+
+    @Test
+    @DisplayName("비활성화된 쿠폰은 발급 판정 없이 BAD_REQUEST 예외가 발생한다")
+    void requestIssue_inactive() {
+        // given
+        Coupon inactive = coupon();
+        inactive.deactivate();
+        CouponSnapshot coupon = CouponSnapshot.from(inactive);
+
+        // when
+        CoreException result = assertThrows(CoreException.class, () -> couponIssuanceService.requestIssue(coupon, 1L));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        verify(couponIssuanceRepository, never()).admit(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("점유가 만료된 요청을 먼저 가져오고 남은 수량만큼 새 요청을 가져온다")
+    void claim_reclaimsStaleFirst() {
+        // given
+        Duration lease = Duration.ofSeconds(30);
+        CouponIssuanceClaim stale = new CouponIssuanceClaim("1-0", 10L, 1L);
+        CouponIssuanceClaim fresh = new CouponIssuanceClaim("2-0", 10L, 2L);
+        given(couponIssuanceRepository.reclaimStaleClaims("node-1", lease, 2)).willReturn(List.of(stale));
+        given(couponIssuanceRepository.readClaims("node-1", 1)).willReturn(List.of(fresh));
+
+        // when
+        List<CouponIssuanceClaim> claims = couponIssuanceService.claim("node-1", 2, lease);
+
+        // then
+        assertThat(claims).containsExactly(stale, fresh);
+    }
+
+    private Coupon coupon() {
+        Coupon coupon = Coupon.createCoupon(
+                "FCFS2025COUPON", "선착순 쿠폰", "선착순 100명",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(7), DiscountType.AMOUNT, 1000);
+        coupon.setMaxIssuanceLimit(100);
+        return coupon;
+    }
+}
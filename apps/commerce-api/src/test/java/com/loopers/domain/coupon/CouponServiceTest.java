@@ -0,0 +1,121 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponServiceTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private CouponService couponService;
+
+    @BeforeEach
+    void setUp() {
+        couponService = new CouponService(couponRepository, new CouponCache(true, 60000L, 100));
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰을 반복 조회하면 저장소는 한 번만 조회한다")
+    void getValidCoupon_cached() {
+        // given
+        given(couponRepository.findValidCoupon(1L)).willReturn(Optional.of(coupon()));
+
+        // when
+        couponService.getValidCoupon(1L);
+        couponService.getValidCoupon(1L);
+
+        // then
+        verify(couponRepository, times(1)).findValidCoupon(1L);
+    }
+
+    @Test
+    @DisplayName("캐시된 쿠폰은 조회한 엔티티가 바뀌어도 변하지 않는 스냅샷이다")
+    void getValidCoupon_returnsSnapshot() {
+        // given
+        Coupon coupon = coupon();
+        given(couponRepository.findValidCoupon(1L)).willReturn(Optional.of(coupon));
+        couponService.getValidCoupon(1L);
+
+        // when
+        coupon.deactivate();
+        coupon.setMaxIssuanceLimit(500);
+        CouponSnapshot result = couponService.getValidCoupon(1L);
+
+        // then
+        assertThat(result.active()).isTrue();
+        assertThat(result.maxIssuanceLimit()).isNull();
+        assertThat(result.discount()).isEqualTo(new Discount(DiscountType.AMOUNT, 1000));
+    }
+
+    @Test
+    @DisplayName("쿠폰을 비활성화하면 캐시가 제거되어 변경된 상태로 다시 조회된다")
+    void deactivate_invalidatesCache() {
+        // given
+        Coupon coupon = coupon();
+        given(couponRepository.findValidCoupon(1L)).willReturn(Optional.of(coupon));
+        couponService.getValidCoupon(1L);
+
+        // when
+        couponService.deactivate(1L);
+        CouponSnapshot result = couponService.getValidCoupon(1L);
+
+        // then
+        assertThat(result.active()).isFalse();
+        verify(couponRepository, times(3)).findValidCoupon(1L);
+    }
+
+    @Test
+    @DisplayName("최대 발급 수량을 변경하면 캐시가 제거된다")
+    void changeMaxIssuanceLimit_invalidatesCache() {
+        // given
+        given(couponRepository.findValidCoupon(1L)).willReturn(Optional.of(coupon()));
+        couponService.getValidCoupon(1L);
+
+        // when
+        couponService.changeMaxIssuanceLimit(1L, 500);
+        CouponSnapshot result = couponService.getValidCoupon(1L);
+
+        // then
+        assertThat(result.maxIssuanceLimit()).isEqualTo(500);
+        verify(couponRepository, times(3)).findValidCoupon(1L);
+    }
+
+    @Test
+    @DisplayName("유효 기간이 지난 쿠폰은 BAD_REQUEST 예외가 발생한다")
+    void getValidCoupon_expired() {
+        // given
+        Coupon expired = Coupon.createCoupon(
+                "EXPIRED2025", "만료 쿠폰", "지난 쿠폰",
+                LocalDate.now().minusDays(7), LocalDate.now().minusDays(1), DiscountType.AMOUNT, 1000);
+        given(couponRepository.findValidCoupon(1L)).willReturn(Optional.of(expired));
+
+        // when
+        CoreException result = assertThrows(CoreException.class, () -> couponService.getValidCoupon(1L));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    private Coupon coupon() {
+        return Coupon.createCoupon(
+                "WELCOME2025", "웰컴 쿠폰", "신규 가입 쿠폰",
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(7), DiscountType.AMOUNT, 1000);
+    }
+}
@@ -0,0 +1,69 @@
+package com.loopers.domain.issuedcoupon;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IssuedCouponServiceTest {
+
+    @Mock
+    private IssuedCouponRepository issuedCouponRepository;
+
+    private IssuedCouponService issuedCouponService;
+
+    @BeforeEach
+    void setUp() {
+        issuedCouponService = new IssuedCouponService(issuedCouponRepository);
+    }
+
+    @Test
+    @DisplayName("USABLE 상태 조건의 UPDATE 한 번으로 쿠폰을 사용 처리한다")
+    void useCoupon_conditionalUpdate() {
+        // given
+        IssuedCoupon issuedCoupon = issuedCoupon(1L);
+        given(issuedCouponRepository.useIfUsable(eq(1L), any(LocalDateTime.class))).willReturn(1);
+
+        // when
+        issuedCouponService.useCoupon(issuedCoupon);
+
+        // then
+        verify(issuedCouponRepository).useIfUsable(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("변경된 행이 없으면 이미 사용되었거나 만료된 쿠폰으로 보고 CONFLICT 예외가 발생한다")
+    void useCoupon_alreadyUsed() {
+        // given
+        IssuedCoupon issuedCoupon = issuedCoupon(1L);
+        given(issuedCouponRepository.useIfUsable(eq(1L), any(LocalDateTime.class))).willReturn(0);
+
+        // when & then
+        CoreException result = assertThrows(CoreException.class, () ->
+                issuedCouponService.useCoupon(issuedCoupon)
+        );
+
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+    }
+
+    private IssuedCoupon issuedCoupon(Long id) {
+        IssuedCoupon issuedCoupon = new IssuedCoupon();
+        ReflectionTestUtils.setField(issuedCoupon, "id", id);
+        return issuedCoupon;
+    }
+}
@@ -0,0 +1,87 @@
+package com.loopers.domain.like;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductLikeEventCoalescerTest {
+
+    private static final long WINDOW_MS = 1000L;
+
+    private ProductLikeEventCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new ProductLikeEventCoalescer();
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "windowMs", WINDOW_MS);
+    }
+
+    @Test
+    @DisplayName("윈도우 내 좋아요 후 취소는 상쇄되어 발행할 변화가 없다")
+    void likeThenUnlike_cancelsOut() {
+        // given
+        coalescer.apply(1L, "user1", 10L, 100L, true, 0L);
+        coalescer.apply(1L, "user1", 10L, 100L, false, 100L);
+
+        // when
+        List<CoalescedLikeChange> changes = coalescer.drainExpired(WINDOW_MS);
+
+        // then
+        assertThat(changes).isEmpty();
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("윈도우 내 좋아요-취소-좋아요는 좋아요 1건으로 병합된다")
+    void likeUnlikeLike_coalescedToSingleLike() {
+        // given
+        coalescer.apply(1L, "user1", 10L, 100L, true, 0L);
+        coalescer.apply(1L, "user1", 10L, 100L, false, 100L);
+        coalescer.apply(1L, "user1", 10L, 101L, true, 200L);
+
+        // when
+        List<CoalescedLikeChange> changes = coalescer.drainExpired(WINDOW_MS);
+
+        // then
+        assertThat(changes).containsExactly(new CoalescedLikeChange(1L, "user1", 10L, 101L, true));
+    }
+
+    @Test
+    @DisplayName("윈도우가 종료되지 않은 토글은 꺼내지 않는다")
+    void windowNotElapsed_notDrained() {
+        // given
+        coalescer.apply(1L, "user1", 10L, 100L, true, 0L);
+
+        // when
+        List<CoalescedLikeChange> changes = coalescer.drainExpired(WINDOW_MS - 1);
+
+        // then
+        assertThat(changes).isEmpty();
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자/상품이 다르면 별도로 병합된다")
+    void differentUserOrProduct_coalescedSeparately() {
+        // given
+        coalescer.apply(1L, "user1", 10L, 100L, true, 0L);
+        coalescer.apply(2L, "user2", 10L, 200L, false, 0L);
+        coalescer.apply(1L, "user1", 20L, 300L, true, 0L);
+
+        // when
+        List<CoalescedLikeChange> changes = coalescer.drainAll();
+
+        // then
+        assertThat(changes).containsExactlyInAnyOrder(
+                new CoalescedLikeChange(1L, "user1", 10L, 100L, true),
+                new CoalescedLikeChange(2L, "user2", 10L, 200L, false),
+                new CoalescedLikeChange(1L, "user1", 20L, 300L, true)
+        );
+    }
+}
@@ -69,7 +69,7 @@ class ProductLikeServiceTest {
         Long initialLikeCount = product.getLikeCount();
 
         // when
-        productLikeService.addLike(user, product);
+        productLikeService.addLike(user, user.getUserId(), product);
 
         // then
         await().atMost(Duration.ofSeconds(3))
@@ -95,9 +95,9 @@ class ProductLikeServiceTest {
         Long initialLikeCount = product.getLikeCount();
 
         // when
-        ProductLike firstLike = productLikeService.addLike(user, product);
-        ProductLike secondLike = productLikeService.addLike(user, product);
-        ProductLike thirdLike = productLikeService.addLike(user, product);
+        ProductLike firstLike = productLikeService.addLike(user, user.getUserId(), product);
+        ProductLike secondLike = productLikeService.addLike(user, user.getUserId(), product);
+        ProductLike thirdLike = productLikeService.addLike(user, user.getUserId(), product);
 
         // then
         assertThat(firstLike.getId()).isNotNull();
@@ -131,7 +131,7 @@ class ProductLikeServiceTest {
         Product product = entityManager.find(Product.class, savedProduct.getId());
         Long initialLikeCount = product.getLikeCount();
 
-        productLikeService.addLike(user, product);
+        productLikeService.addLike(user, user.getUserId(), product);
 
         // addLike 이벤트 완료 대기
         await().atMost(Duration.ofSeconds(3))
@@ -143,7 +143,7 @@ class ProductLikeServiceTest {
                 });
 
         // when
-        productLikeService.cancelLike(user, product);
+        productLikeService.cancelLike(user, user.getUserId(), product);
 
         // then
         boolean exists = productLikeRepository.existsByLikeUserAndLikeProduct(user, product);
@@ -173,7 +173,7 @@ class ProductLikeServiceTest {
 
         // when & then
         CoreException exception = assertThrows(CoreException.class,
-                () -> productLikeService.cancelLike(user, product));
+                () -> productLikeService.cancelLike(user, user.getUserId(), product));
 
         assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
         assertThat(exception.getCustomMessage()).isEqualTo("좋아요가 존재하지 않습니다");
@@ -191,11 +191,11 @@ class ProductLikeServiceTest {
         User user = entityManager.find(User.class, savedUser.getId());
         Product product = entityManager.find(Product.class, savedProduct.getId());
 
-        productLikeService.addLike(user, product);
-        productLikeService.cancelLike(user, product);
+        productLikeService.addLike(user, user.getUserId(), product);
+        productLikeService.cancelLike(user, user.getUserId(), product);
 
         // when
-        ProductLike newLike = productLikeService.addLike(user, product);
+        ProductLike newLike = productLikeService.addLike(user, user.getUserId(), product);
 
         // then
         assertThat(newLike.getId()).isNotNull();
@@ -0,0 +1,255 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventWriter outboxEventWriter;
+
+    @Mock
+    private OutboxRetryPolicy outboxRetryPolicy;
+
+    @Mock
+    private OutboxArchiver outboxArchiver;
+
+    @InjectMocks
+    private OutboxEventService outboxEventService;
+
+    @Test
+    @DisplayName("점유한 이벤트에는 owner와 만료 시각이 기록된다")
+    void claimPendingEvents_leasesEvents() {
+        // given
+        OutboxEvent event = OutboxEvent.create("ORDER", "1", "ORDER_CREATED", "{}");
+        given(outboxEventRepository.findClaimableForUpdate(
+                any(ZonedDateTime.class), any(ZonedDateTime.class), eq(2), eq(List.of(1)), eq(100)))
+                .willReturn(List.of(event));
+        ZonedDateTime before = ZonedDateTime.now();
+
+        // when
+        List<OutboxEvent> claimed = outboxEventService.claimPendingEvents(
+                "node-1", Duration.ofSeconds(30), ZonedDateTime.now(), 2, List.of(1), 100);
+
+        // then
+        assertThat(claimed).containsExactly(event);
+        assertThat(event.getLeaseOwner()).isEqualTo("node-1");
+        assertThat(event.getLeaseExpiresAt()).isAfterOrEqualTo(before.plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Outbox 이벤트 기록은 트랜잭션 단위 기록기에 위임한다")
+    void createOutboxEvent_delegatesToWriter() {
+        // when
+        outboxEventService.createOutboxEvent("ORDER", "1", "ORDER_CREATED", "{}");
+
+        // then
+        verify(outboxEventWriter).write(argThat(event ->
+                event.getAggregateId().equals("1") && event.getStatus() == OutboxStatus.PENDING));
+        verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 aggregateId는 항상 같은 해시 파티션에 속한다")
+    void aggregateHash_isStableAndNonNegative() {
+        // given
+        OutboxEvent first = OutboxEvent.create("ORDER", "order-123", "ORDER_CREATED", "{}");
+        OutboxEvent second = OutboxEvent.create("ORDER", "order-123", "ORDER_PAID", "{}");
+
+        // when & then
+        assertThat(first.getAggregateHash()).isEqualTo(second.getAggregateHash());
+        assertThat(first.getAggregateHash()).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("변경할 id가 없으면 UPDATE를 실행하지 않는다")
+    void markAsPublished_emptyIds() {
+        // when
+        outboxEventService.markAsPublished(List.of(), "node-1");
+
+        // then
+        verify(outboxEventRepository, never()).markAsPublished(anyList(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("발행 실패 시 실패 횟수를 늘리고 백오프 이후로 재시도 시각을 잡는다")
+    void markAsFailed_schedulesRetry() {
+        // given
+        OutboxEvent event = leasedEvent(1L, "node-1");
+        given(outboxEventRepository.findAllByIds(List.of(1L))).willReturn(List.of(event));
+        given(outboxRetryPolicy.shouldPark(1)).willReturn(false);
+        given(outboxRetryPolicy.nextDelay(1)).willReturn(Duration.ofSeconds(2));
+        ZonedDateTime before = ZonedDateTime.now();
+
+        // when
+        outboxEventService.markAsFailed(Map.of(1L, "broker down"), "node-1");
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getAttemptCount()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(2));
+        assertThat(event.getLastError()).isEqualTo("broker down");
+        assertThat(event.getLeaseOwner()).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수에 도달하면 PARKED 로 전환한다")
+    void markAsFailed_parksAfterMaxAttempts() {
+        // given
+        OutboxEvent event = leasedEvent(1L, "node-1");
+        given(outboxEventRepository.findAllByIds(List.of(1L))).willReturn(List.of(event));
+        given(outboxRetryPolicy.shouldPark(1)).willReturn(true);
+
+        // when
+        outboxEventService.markAsFailed(Map.of(1L, "poison"), "node-1");
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PARKED);
+        assertThat(event.getNextAttemptAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 점유한 이벤트는 실패 처리하지 않는다")
+    void markAsFailed_skipsEventsOwnedByOthers() {
+        // given
+        OutboxEvent event = leasedEvent(1L, "node-2");
+        given(outboxEventRepository.findAllByIds(List.of(1L))).willReturn(List.of(event));
+
+        // when
+        outboxEventService.markAsFailed(Map.of(1L, "broker down"), "node-1");
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getAttemptCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 불가 이벤트는 재시도 횟수와 관계없이 바로 PARKED 로 전환한다")
+    void markAsParked_parksImmediately() {
+        // given
+        OutboxEvent event = leasedEvent(1L, "node-1");
+        given(outboxEventRepository.findAllByIds(List.of(1L))).willReturn(List.of(event));
+
+        // when
+        outboxEventService.markAsParked(Map.of(1L, "unknown aggregateType"), "node-1");
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PARKED);
+        assertThat(event.getLeaseOwner()).isNull();
+        verify(outboxRetryPolicy, never()).shouldPark(anyInt());
+    }
+
+    @Test
+    @DisplayName("id를 지정하지 않으면 aggregateType 조건으로 PARKED 이벤트를 재처리한다")
+    void requeueParkedEvents_byAggregateType() {
+        // given
+        given(outboxEventRepository.requeueParked(eq("ORDER"), any(ZonedDateTime.class))).willReturn(3);
+
+        // when
+        int requeued = outboxEventService.requeueParkedEvents(List.of(), "ORDER");
+
+        // then
+        assertThat(requeued).isEqualTo(3);
+        verify(outboxEventRepository, never()).requeueParkedByIds(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("id 목록과 aggregateType 이 모두 비어 있으면 전체를 재처리하지 않고 BAD_REQUEST 를 던진다")
+    void requeueParkedEvents_rejectsEmptyRequest() {
+        // when
+        CoreException result = assertThrows(CoreException.class,
+                () -> outboxEventService.requeueParkedEvents(List.of(), null));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        verify(outboxEventRepository, never()).requeueParked(any(), any());
+    }
+
+    @Test
+    @DisplayName("보관이 켜져 있으면 보관한 뒤 청크를 삭제한다")
+    void deletePublishedChunk_archivesThenDeletes() {
+        // given
+        OutboxEvent first = leasedEvent(1L, "node-1");
+        OutboxEvent second = leasedEvent(2L, "node-1");
+        ZonedDateTime cutoff = ZonedDateTime.now().minusDays(7);
+        given(outboxEventRepository.findPublishedBeforeForUpdate(cutoff, 500)).willReturn(List.of(first, second));
+        given(outboxEventRepository.deleteByIds(List.of(1L, 2L))).willReturn(2);
+
+        // when
+        int deleted = outboxEventService.deletePublishedChunk(cutoff, 500, true);
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        verify(outboxArchiver).archive(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("보관이 꺼져 있으면 이벤트를 조회하지 않고 바로 삭제한다")
+    void deletePublishedChunk_deletesWithoutLoading() {
+        // given
+        ZonedDateTime cutoff = ZonedDateTime.now().minusDays(7);
+        given(outboxEventRepository.deletePublishedBefore(cutoff, 500)).willReturn(500);
+
+        // when
+        int deleted = outboxEventService.deletePublishedChunk(cutoff, 500, false);
+
+        // then
+        assertThat(deleted).isEqualTo(500);
+        verify(outboxEventRepository, never()).findPublishedBeforeForUpdate(any(), anyInt());
+        verify(outboxArchiver, never()).archive(anyList());
+    }
+
+    @Test
+    @DisplayName("보관에 실패하면 삭제하지 않는다")
+    void deletePublishedChunk_archiveFailure() {
+        // given
+        OutboxEvent event = leasedEvent(1L, "node-1");
+        ZonedDateTime cutoff = ZonedDateTime.now().minusDays(7);
+        given(outboxEventRepository.findPublishedBeforeForUpdate(cutoff, 500)).willReturn(List.of(event));
+        willThrow(new UncheckedIOException(new IOException("disk full"))).given(outboxArchiver).archive(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> outboxEventService.deletePublishedChunk(cutoff, 500, true))
+                .isInstanceOf(UncheckedIOException.class);
+        verify(outboxEventRepository, never()).deleteByIds(anyList());
+    }
+
+    private OutboxEvent leasedEvent(Long id, String owner) {
+        OutboxEvent event = OutboxEvent.create("ORDER", "1", "ORDER_CREATED", "{}");
+        ReflectionTestUtils.setField(event, "id", id);
+        event.lease(owner, ZonedDateTime.now().plusSeconds(30));
+        return event;
+    }
+}
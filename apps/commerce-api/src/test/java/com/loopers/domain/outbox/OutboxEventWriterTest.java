@@ -0,0 +1,105 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.outbox.event.OutboxEventSavedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventWriterTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OutboxEventWriter outboxEventWriter;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록된 이벤트는 커밋 직전에 한 번에 저장된다")
+    void write_inTransaction_savesAllBeforeCommit() {
+        // given
+        given(outboxEventRepository.saveAll(anyList())).willReturn(List.of(1L, 2L, 3L));
+
+        // when
+        outboxEventWriter.write(OutboxEvent.create("COUPON", "1", "COUPON_USED", "{}"));
+        outboxEventWriter.write(OutboxEvent.create("ORDER", "1", "ORDER_CREATED", "{}"));
+        outboxEventWriter.write(OutboxEvent.create("ACTIVITY", "user1", "USER_ACTIVITY", "{}"));
+
+        // then
+        verify(outboxEventRepository, never()).saveAll(anyList());
+        verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false));
+
+        verify(outboxEventRepository).saveAll(argThat(events -> events.size() == 3));
+        verify(eventPublisher, times(3)).publishEvent(any(OutboxEventSavedEvent.class));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 이벤트는 저장하지 않는다")
+    void write_rolledBack_discardsEvents() {
+        // given
+        outboxEventWriter.write(OutboxEvent.create("ORDER", "1", "ORDER_CREATED", "{}"));
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(outboxEventRepository, never()).saveAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 저장하고 즉시 발행 대상으로 알린다")
+    void write_withoutTransaction_savesImmediately() {
+        // given
+        tearDown();
+        OutboxEvent event = OutboxEvent.create("ORDER", "1", "ORDER_CREATED", "{}");
+        ReflectionTestUtils.setField(event, "id", 10L);
+        given(outboxEventRepository.save(event)).willReturn(event);
+
+        // when
+        outboxEventWriter.write(event);
+
+        // then
+        verify(eventPublisher).publishEvent(new OutboxEventSavedEvent(10L));
+    }
+}
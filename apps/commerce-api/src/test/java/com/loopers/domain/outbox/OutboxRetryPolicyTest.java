@@ -0,0 +1,47 @@
+package com.loopers.domain.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRetryPolicyTest {
+
+    private OutboxRetryPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new OutboxRetryPolicy();
+        ReflectionTestUtils.setField(policy, "maxAttempts", 5);
+        ReflectionTestUtils.setField(policy, "baseDelayMs", 1000L);
+        ReflectionTestUtils.setField(policy, "maxDelayMs", 10000L);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 실패 횟수마다 두 배로 늘어나며 지터 범위 안에 있다")
+    void nextDelay_exponentialWithJitter() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.nextDelay(1)).isBetween(Duration.ofMillis(500), Duration.ofMillis(1000));
+            assertThat(policy.nextDelay(3)).isBetween(Duration.ofMillis(2000), Duration.ofMillis(4000));
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 최대 값을 넘지 않는다")
+    void nextDelay_cappedAtMaxDelay() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.nextDelay(50)).isBetween(Duration.ofMillis(5000), Duration.ofMillis(10000));
+        }
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수에 도달하면 PARKED 대상이다")
+    void shouldPark() {
+        assertThat(policy.shouldPark(4)).isFalse();
+        assertThat(policy.shouldPark(5)).isTrue();
+    }
+}
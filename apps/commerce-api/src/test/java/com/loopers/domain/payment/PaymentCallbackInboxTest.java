@@ -0,0 +1,58 @@
+package com.loopers.domain.payment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentCallbackInboxTest {
+
+    @Test
+    @DisplayName("최대 시도 횟수 미만의 실패는 재시도 시각까지 점유를 연장하고 RECEIVED 로 남는다")
+    void recordFailure_belowMaxAttempts_keepsReceived() {
+        // given
+        PaymentCallbackInbox inbox = PaymentCallbackInbox.receive("tx-1", "SUCCESS", null);
+        ZonedDateTime retryAt = ZonedDateTime.now().plusSeconds(5);
+
+        // when
+        inbox.recordFailure("timeout", 3, retryAt);
+
+        // then
+        assertThat(inbox.getStatus()).isEqualTo(PaymentCallbackInboxStatus.RECEIVED);
+        assertThat(inbox.getAttemptCount()).isEqualTo(1);
+        assertThat(inbox.getLeaseExpiresAt()).isEqualTo(retryAt);
+        assertThat(inbox.getLastError()).isEqualTo("timeout");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 FAILED 로 전환된다")
+    void recordFailure_reachesMaxAttempts_markedFailed() {
+        // given
+        PaymentCallbackInbox inbox = PaymentCallbackInbox.receive("tx-1", "SUCCESS", null);
+        ZonedDateTime retryAt = ZonedDateTime.now().plusSeconds(5);
+
+        // when
+        inbox.recordFailure("timeout", 2, retryAt);
+        inbox.recordFailure("timeout", 2, retryAt);
+
+        // then
+        assertThat(inbox.getStatus()).isEqualTo(PaymentCallbackInboxStatus.FAILED);
+        assertThat(inbox.getAttemptCount()).isEqualTo(2);
+        assertThat(inbox.getLeaseExpiresAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("오류 메시지는 500자로 잘라 기록한다")
+    void recordFailure_truncatesLongError() {
+        // given
+        PaymentCallbackInbox inbox = PaymentCallbackInbox.receive("tx-1", "FAILED", "한도 초과");
+
+        // when
+        inbox.recordFailure("x".repeat(600), 5, ZonedDateTime.now());
+
+        // then
+        assertThat(inbox.getLastError()).hasSize(500);
+    }
+}
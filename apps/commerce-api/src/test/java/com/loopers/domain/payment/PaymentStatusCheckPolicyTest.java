@@ -0,0 +1,46 @@
+package com.loopers.domain.payment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentStatusCheckPolicyTest {
+
+    private PaymentStatusCheckPolicy policy;
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        policy = new PaymentStatusCheckPolicy();
+        ReflectionTestUtils.setField(policy, "maxCheckCount", 10);
+        ReflectionTestUtils.setField(policy, "firstDelayMs", 5000L);
+        ReflectionTestUtils.setField(policy, "maxDelayMs", 60000L);
+    }
+
+    @Test
+    @DisplayName("첫 확인은 PG 승인 후 firstDelay 뒤에 한다")
+    void firstCheckAt() {
+        assertThat(policy.firstCheckAt(now)).isEqualTo(now.plusSeconds(5));
+    }
+
+    @Test
+    @DisplayName("확인 간격은 확인 횟수마다 두 배로 늘어난다")
+    void nextCheckAt_exponential() {
+        assertThat(policy.nextCheckAt(0, now)).isEqualTo(now.plusSeconds(10));
+        assertThat(policy.nextCheckAt(1, now)).isEqualTo(now.plusSeconds(20));
+        assertThat(policy.nextCheckAt(2, now)).isEqualTo(now.plusSeconds(40));
+    }
+
+    @Test
+    @DisplayName("확인 간격은 최대 값을 넘지 않는다")
+    void nextCheckAt_cappedAtMaxDelay() {
+        assertThat(policy.nextCheckAt(3, now)).isEqualTo(now.plusSeconds(60));
+        assertThat(policy.nextCheckAt(50, now)).isEqualTo(now.plusSeconds(60));
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.domain.metrics.ProductMetricsMonthly;
+import com.loopers.domain.metrics.ProductMetricsMonthlyRepository;
+import com.loopers.domain.metrics.ProductMetricsWeekly;
+import com.loopers.domain.metrics.ProductMetricsWeeklyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PeriodRankingServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 25); // 2025년 52주차
+
+    @Mock
+    private ProductMetricsWeeklyRepository weeklyRepository;
+
+    @Mock
+    private ProductMetricsMonthlyRepository monthlyRepository;
+
+    private PeriodRankingService periodRankingService;
+
+    @BeforeEach
+    void setUp() {
+        periodRankingService = new PeriodRankingService(weeklyRepository, monthlyRepository);
+    }
+
+    @Test
+    @DisplayName("주간 페이징은 요청한 페이지만 조회하고 순위는 OFFSET 다음부터 매긴다")
+    void getWeeklyRankingWithPaging_ranksFromOffset() {
+        // given
+        given(weeklyRepository.findByYearAndWeekOrderByCompositeScoreDesc(2025, 52, 50, 100))
+                .willReturn(List.of(weekly(101L, 30.5), weekly(102L, 20.0)));
+
+        // when
+        List<Ranking> result = periodRankingService.getWeeklyRankingWithPaging(RankingType.ALL, DATE, 50, 100);
+
+        // then
+        assertThat(result).extracting(Ranking::getRank).containsExactly(5001, 5002);
+        assertThat(result).extracting(Ranking::getProductId).containsExactly(101L, 102L);
+        assertThat(result).extracting(Ranking::getScore).containsExactly(30.5, 20.0);
+    }
+
+    @Test
+    @DisplayName("월간 TOP N 은 첫 페이지를 조회하고 1위부터 매긴다")
+    void getTopMonthlyRanking_firstPage() {
+        // given
+        given(monthlyRepository.findByYearAndMonthOrderByLikeCountDesc(2025, 12, 0, 10))
+                .willReturn(List.of(monthly(201L, 7L)));
+
+        // when
+        List<Ranking> result = periodRankingService.getTopMonthlyRanking(RankingType.LIKE, DATE, 10);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getRank()).isEqualTo(1);
+        assertThat(result.get(0).getScore()).isEqualTo(7.0);
+    }
+
+    private ProductMetricsWeekly weekly(Long productId, double compositeScore) {
+        ProductMetricsWeekly metrics = new ProductMetricsWeekly();
+        ReflectionTestUtils.setField(metrics, "productId", productId);
+        ReflectionTestUtils.setField(metrics, "totalLikeCount", 1L);
+        ReflectionTestUtils.setField(metrics, "totalViewCount", 1L);
+        ReflectionTestUtils.setField(metrics, "totalOrderCount", 1L);
+        ReflectionTestUtils.setField(metrics, "compositeScore", compositeScore);
+        return metrics;
+    }
+
+    private ProductMetricsMonthly monthly(Long productId, long likeCount) {
+        ProductMetricsMonthly metrics = new ProductMetricsMonthly();
+        ReflectionTestUtils.setField(metrics, "productId", productId);
+        ReflectionTestUtils.setField(metrics, "totalLikeCount", likeCount);
+        ReflectionTestUtils.setField(metrics, "totalViewCount", 0L);
+        ReflectionTestUtils.setField(metrics, "totalOrderCount", 0L);
+        ReflectionTestUtils.setField(metrics, "compositeScore", 0.0);
+        return metrics;
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.domain.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserIdentityCacheTest {
+
+    private static final long TTL_MS = 1000L;
+
+    private UserIdentityCache userIdentityCache;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final UserIdentity identity = new UserIdentity(1L, "user1", Gender.MALE, "1990-01-01");
+
+    @BeforeEach
+    void setUp() {
+        userIdentityCache = new UserIdentityCache(true, TTL_MS, 2);
+    }
+
+    @Test
+    @DisplayName("만료 전에는 저장된 식별 정보를 반환하고 다시 조회하지 않는다")
+    void get_hitWithinTtl() {
+        // given
+        userIdentityCache.get("user1", loader(Optional.of(identity)), 0L);
+
+        // when
+        Optional<UserIdentity> result = userIdentityCache.get("user1", loader(Optional.of(identity)), TTL_MS - 1);
+
+        // then
+        assertThat(result).contains(identity);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않는다")
+    void get_notFoundNotCached() {
+        // when
+        userIdentityCache.get("unknown", loader(Optional.empty()), 0L);
+        userIdentityCache.get("unknown", loader(Optional.empty()), 1L);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(userIdentityCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("가입 시 등록한 식별 정보는 조회 없이 반환한다")
+    void register_thenHit() {
+        // given
+        userIdentityCache.register(identity);
+
+        // when
+        Optional<UserIdentity> result = userIdentityCache.get("user1", loader(Optional.empty()));
+
+        // then
+        assertThat(result).contains(identity);
+        assertThat(loadCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기에 도달하면 가장 먼저 보관한 사용자를 제거한다")
+    void get_boundedSize() {
+        // given
+        userIdentityCache.get("user1", loader(Optional.of(identity)), 0L);
+        userIdentityCache.get("user2", loader(Optional.of(new UserIdentity(2L, "user2", Gender.FEMALE, "1991-01-01"))), 0L);
+
+        // when
+        userIdentityCache.get("user3", loader(Optional.of(new UserIdentity(3L, "user3", Gender.MALE, "1992-01-01"))), 1L);
+
+        userIdentityCache.get("user1", loader(Optional.of(identity)), 2L);
+
+        // then
+        assertThat(userIdentityCache.size()).isEqualTo(2);
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    private Supplier<Optional<UserIdentity>> loader(Optional<UserIdentity> result) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return result;
+        };
+    }
+}
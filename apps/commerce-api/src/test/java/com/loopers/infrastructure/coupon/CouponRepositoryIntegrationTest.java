@@ -0,0 +1,78 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.DiscountType;
+import com.loopers.domain.issuedcoupon.IssuedCoupon;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.issuedcoupon.IssuedCouponJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "coupon.expiry.enabled=false")
+class CouponRepositoryIntegrationTest {
+
+    private static final int DRAINED_COUPON_COUNT = 250;
+
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private IssuedCouponJpaRepository issuedCouponJpaRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("종료된 쿠폰 중 USABLE 발급 건이 남아 있는 쿠폰만 조회하고, 만료 처리가 끝난 쿠폰은 제외한다.")
+    @Test
+    void findEndedCouponIds_onlyWithUsableIssuedCoupons() {
+        // given: 발급 건이 모두 사용된 종료 쿠폰 250개, USABLE 이 남은 종료 쿠폰 1개, 발급 건 없는 종료 쿠폰 1개, 유효한 쿠폰 1개
+        User user = userRepository.save(User.createUser("user1", "user1@test.com", "1990-01-01", Gender.MALE));
+        LocalDate today = LocalDate.now();
+
+        List<IssuedCoupon> issuedCoupons = new ArrayList<>();
+        for (int i = 0; i < DRAINED_COUPON_COUNT; i++) {
+            Coupon drained = couponRepository.registerCoupon(coupon("DRAINED" + String.format("%05d", i), today.minusDays(1)));
+            IssuedCoupon used = IssuedCoupon.issue(user, drained);
+            used.useCoupon();
+            issuedCoupons.add(used);
+        }
+        Coupon ended = couponRepository.registerCoupon(coupon("ENDED00001", today.minusDays(1)));
+        issuedCoupons.add(IssuedCoupon.issue(user, ended));
+        couponRepository.registerCoupon(coupon("NOISSUE001", today.minusDays(1)));
+        Coupon valid = couponRepository.registerCoupon(coupon("VALID00001", today.plusDays(7)));
+        issuedCoupons.add(IssuedCoupon.issue(user, valid));
+        issuedCouponJpaRepository.saveAll(issuedCoupons);
+
+        // when
+        List<Long> endedCouponIds = couponRepository.findEndedCouponIds(today);
+
+        // then
+        assertThat(endedCouponIds).containsExactly(ended.getId());
+    }
+
+    private Coupon coupon(String code, LocalDate validEndDate) {
+        return Coupon.createCoupon(
+                code, "쿠폰 " + code, "만료 대상 조회",
+                validEndDate.minusDays(30), validEndDate, DiscountType.AMOUNT, 1000);
+    }
+}
@@ -0,0 +1,48 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.CouponIssuanceClaim;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "coupon.issuance.poll-interval-ms=3600000")
+class RedisCouponIssuanceRepositoryIntegrationTest {
+
+    private static final String CONSUMER = "node-1";
+
+    @Autowired
+    private RedisCouponIssuanceRepository redisCouponIssuanceRepository;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("consumer group 생성 후 스트림이 지워져도 group 을 다시 만들고 조회한다.")
+    @Test
+    void readClaims_recreatesGroupAfterStreamDeleted() {
+        // given
+        redisCouponIssuanceRepository.readClaims(CONSUMER, 10);
+        redisCleanUp.truncateAll();
+
+        // when
+        List<CouponIssuanceClaim> claims = redisCouponIssuanceRepository.readClaims(CONSUMER, 10);
+        List<CouponIssuanceClaim> stale = redisCouponIssuanceRepository.reclaimStaleClaims(CONSUMER, Duration.ZERO, 10);
+
+        // then
+        assertThat(claims).isEmpty();
+        assertThat(stale).isEmpty();
+    }
+}
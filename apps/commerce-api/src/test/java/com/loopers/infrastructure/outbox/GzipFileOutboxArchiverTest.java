@@ -0,0 +1,64 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GzipFileOutboxArchiverTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("이벤트를 gzip JSON Lines 파일로 보관한다")
+    void archive_writesGzipJsonLines() throws IOException {
+        // given
+        GzipFileOutboxArchiver archiver = new GzipFileOutboxArchiver(objectMapper);
+        ReflectionTestUtils.setField(archiver, "directory", tempDir.toString());
+
+        // when
+        archiver.archive(List.of(event(1L, "{\"orderId\":1}"), event(2L, "{\"orderId\":2}")));
+
+        // then
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(tempDir)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).getFileName().toString()).isEqualTo("outbox-1-2.jsonl.gz");
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(files.get(0))), StandardCharsets.UTF_8))) {
+            List<String> lines = reader.lines().toList();
+            assertThat(lines).hasSize(2);
+
+            JsonNode first = objectMapper.readTree(lines.get(0));
+            assertThat(first.get("id").asLong()).isEqualTo(1L);
+            assertThat(first.get("payload").asText()).isEqualTo("{\"orderId\":1}");
+        }
+    }
+
+    private OutboxEvent event(Long id, String payload) {
+        OutboxEvent event = OutboxEvent.create("ORDER", String.valueOf(id), "ORDER_CREATED", payload);
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
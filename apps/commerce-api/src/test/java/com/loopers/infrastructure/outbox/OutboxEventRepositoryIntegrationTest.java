@@ -0,0 +1,132 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventService;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class OutboxEventRepositoryIntegrationTest {
+
+    private static final String OWNER = "node-1";
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Autowired
+    private OutboxEventService outboxEventService;
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("즉시 발행은 같은 aggregate 의 앞선 이벤트가 재시도 대기 중이면 뒤 이벤트를 점유하지 않는다.")
+    @Test
+    void claimEventsByIds_skipsWhenPredecessorUnpublished() {
+        // given
+        OutboxEvent head = OutboxEvent.create("ORDER", "20", "ORDER_CREATED", "{}");
+        head.markAsFailed("broker down", ZonedDateTime.now().plusMinutes(1));
+        outboxEventJpaRepository.save(head);
+        OutboxEvent next = outboxEventJpaRepository.save(OutboxEvent.create("ORDER", "20", "ORDER_PAID", "{}"));
+        OutboxEvent other = outboxEventJpaRepository.save(OutboxEvent.create("ORDER", "30", "ORDER_CREATED", "{}"));
+
+        // when
+        List<OutboxEvent> claimed = outboxEventService.claimEventsByIds(
+                List.of(next.getId(), other.getId()), OWNER, LEASE, 1, List.of(0));
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactly(other.getId());
+    }
+
+    @DisplayName("즉시 발행 요청에 앞선 이벤트가 함께 포함되어 있으면 모두 점유한다.")
+    @Test
+    void claimEventsByIds_claimsPredecessorInSameRequest() {
+        // given
+        OutboxEvent first = outboxEventJpaRepository.save(OutboxEvent.create("ORDER", "20", "ORDER_CREATED", "{}"));
+        OutboxEvent second = outboxEventJpaRepository.save(OutboxEvent.create("ORDER", "20", "ORDER_PAID", "{}"));
+
+        // when
+        List<OutboxEvent> claimed = outboxEventService.claimEventsByIds(
+                List.of(first.getId(), second.getId()), OWNER, LEASE, 1, List.of(0));
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @DisplayName("폴링은 같은 aggregate 의 앞선 이벤트가 PARKED 이면 뒤 PENDING 이벤트를 점유하지 않는다.")
+    @Test
+    void claimPendingEvents_holdsBehindParkedPredecessor() {
+        // given
+        OutboxEvent head = OutboxEvent.create("ORDER", "20", "ORDER_CREATED", "{}");
+        head.park("unknown aggregateType");
+        outboxEventJpaRepository.save(head);
+        outboxEventJpaRepository.save(OutboxEvent.create("ORDER", "20", "ORDER_PAID", "{}"));
+        OutboxEvent other = outboxEventJpaRepository.save(OutboxEvent.create("ORDER", "30", "ORDER_CREATED", "{}"));
+
+        // when
+        List<OutboxEvent> claimed = outboxEventService.claimPendingEvents(
+                OWNER, LEASE, ZonedDateTime.now().plusSeconds(1), 1, List.of(0), 10);
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactly(other.getId());
+    }
+
+    @DisplayName("재시도는 같은 aggregate 의 가장 앞선 미발행 이벤트부터 순서대로 점유한다.")
+    @Test
+    void claimRetryableEvents_onlyHeadOfAggregate() {
+        // given
+        OutboxEvent head = OutboxEvent.create("ORDER", "20", "ORDER_CREATED", "{}");
+        head.markAsFailed("broker down", ZonedDateTime.now().minusSeconds(1));
+        outboxEventJpaRepository.save(head);
+        OutboxEvent next = OutboxEvent.create("ORDER", "20", "ORDER_PAID", "{}");
+        next.markAsFailed("broker down", ZonedDateTime.now().minusSeconds(1));
+        outboxEventJpaRepository.save(next);
+
+        // when
+        List<OutboxEvent> claimed = outboxEventService.claimRetryableEvents(OWNER, LEASE, 1, List.of(0), 10);
+
+        // then
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactly(head.getId());
+    }
+
+    @DisplayName("보관하지 않는 정리는 보관 기간이 지난 PUBLISHED 이벤트만 오래된 순서로 청크 크기만큼 삭제한다.")
+    @Test
+    void deletePublishedChunk_withoutArchive() {
+        // given
+        OutboxEvent oldest = published(ZonedDateTime.now().minusDays(10));
+        OutboxEvent old = published(ZonedDateTime.now().minusDays(9));
+        OutboxEvent recent = published(ZonedDateTime.now().minusDays(1));
+        OutboxEvent pending = outboxEventJpaRepository.save(OutboxEvent.create("ORDER", "40", "ORDER_CREATED", "{}"));
+
+        // when
+        int deleted = outboxEventService.deletePublishedChunk(ZonedDateTime.now().minusDays(7), 1, false);
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxEventJpaRepository.findAll()).extracting(OutboxEvent::getId)
+                .containsExactlyInAnyOrder(old.getId(), recent.getId(), pending.getId());
+    }
+
+    private OutboxEvent published(ZonedDateTime publishedAt) {
+        OutboxEvent event = OutboxEvent.create("ORDER", "50", "ORDER_CREATED", "{}");
+        event.markAsPublished();
+        ReflectionTestUtils.setField(event, "publishedAt", publishedAt);
+        return outboxEventJpaRepository.save(event);
+    }
+}
@@ -0,0 +1,270 @@
+package com.loopers.infrastructure.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.Money;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentResult;
+import com.loopers.domain.payment.PaymentType;
+import com.loopers.support.error.CoreException;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HttpClientPaymentGateway 테스트
+ * 지연/장애를 흉내내는 로컬 스텁 서버(JDK HttpServer)와 통신하며 재시도, 서킷 브레이커, fallback 동작을 검증
+ */
+class HttpClientPaymentGatewayTest {
+
+    private static final String TEST_USER_ID = "user123";
+    private static final String TEST_CALLBACK_URL = "http://localhost:8080/api/v1/payments/callback";
+    private static final long READ_TIMEOUT_MS = 600;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_IN_FLIGHT = 50;
+
+    private static final String SUCCESS_BODY =
+            "{\"meta\":{\"result\":\"SUCCESS\"},\"data\":{\"transactionKey\":\"tx-1\",\"status\":\"PENDING\"}}";
+    private static final String FAIL_BODY =
+            "{\"meta\":{\"result\":\"FAIL\",\"errorCode\":\"BAD_REQUEST\",\"message\":\"잘못된 카드 번호\"}}";
+
+    private HttpServer stubServer;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long latencyMs;
+    private volatile int statusCode;
+    private volatile String responseBody;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private RetryRegistry retryRegistry;
+    private CircuitBreaker circuitBreaker;
+    private SimpleMeterRegistry meterRegistry;
+    private HttpClientPaymentGateway paymentGateway;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        latencyMs = 0;
+        statusCode = 200;
+        responseBody = SUCCESS_BODY;
+
+        meterRegistry = new SimpleMeterRegistry();
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext("/api/v1/payments", exchange -> {
+            requestCount.incrementAndGet();
+            sleep(latencyMs);
+            byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(statusCode, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.start();
+
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(10)
+                .minimumNumberOfCalls(5)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(10))
+                .recordExceptions(IOException.class, TimeoutException.class)
+                .ignoreExceptions(CoreException.class)
+                .build());
+        retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(MAX_ATTEMPTS)
+                .waitDuration(Duration.ofMillis(10))
+                .retryExceptions(TimeoutException.class, HttpTimeoutException.class, ConnectException.class)
+                .ignoreExceptions(CoreException.class)
+                .build());
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("paymentGateway");
+
+        paymentGateway = createGateway(MAX_IN_FLIGHT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentGateway.shutdown();
+        stubServer.stop(0);
+    }
+
+    @DisplayName("PG 접수 응답을 PaymentResult로 변환한다")
+    @Test
+    void processPayment_success() {
+        // when
+        PaymentResult result = paymentGateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL).join();
+
+        // then
+        assertThat(result.transactionId()).isEqualTo("tx-1");
+        assertThat(result.status()).isEqualTo("PENDING");
+        assertThat(result.fallback()).isFalse();
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(pgRequestCount("payment", "success")).isEqualTo(1);
+    }
+
+    @DisplayName("응답 지연으로 타임아웃이 나면 재시도 후 fallback 결과로 완료한다")
+    @Test
+    void processPayment_timeout_retriesThenFallback() {
+        // given
+        latencyMs = READ_TIMEOUT_MS * 3;
+
+        // when
+        PaymentResult result = paymentGateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL).join();
+
+        // then
+        assertThat(result.status()).isEqualTo("FAIL");
+        assertThat(result.fallback()).isTrue();
+        assertThat(requestCount.get()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(pgRequestCount("payment", "timeout")).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @DisplayName("PG가 실패 응답을 주면 재시도하지 않고 서킷 브레이커 실패로도 집계하지 않는다")
+    @Test
+    void processPayment_failResponse_noRetry() {
+        // given
+        responseBody = FAIL_BODY;
+
+        // when
+        PaymentResult result = paymentGateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL).join();
+
+        // then
+        assertThat(result.status()).isEqualTo("FAIL");
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @DisplayName("5xx 응답이 이어지면 서킷이 열리고 이후 요청은 PG를 호출하지 않는다")
+    @Test
+    void checkPaymentStatus_serverErrors_opensCircuit() {
+        // given
+        statusCode = 500;
+        responseBody = "{}";
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            PaymentResult result = paymentGateway.checkPaymentStatus("tx-" + i).join();
+            assertThat(result.status()).isEqualTo("PROCESSING");
+        }
+        int requestsBeforeOpen = requestCount.get();
+        PaymentResult shortCircuited = paymentGateway.checkPaymentStatus("tx-open").join();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(requestsBeforeOpen).isEqualTo(5);
+        assertThat(requestCount.get()).isEqualTo(requestsBeforeOpen);
+        assertThat(shortCircuited.status()).isEqualTo("PROCESSING");
+        assertThat(shortCircuited.fallback()).isTrue();
+    }
+
+    @DisplayName("응답을 기다리는 동안 호출 스레드를 점유하지 않아 지연된 요청들이 동시에 진행된다")
+    @Test
+    void checkPaymentStatus_concurrentWithoutBlocking() {
+        // given (읽기 타임아웃보다 충분히 짧은 지연이어야 재시도가 섞이지 않음)
+        paymentGateway.checkPaymentStatus("tx-warmup").join();
+        requestCount.set(0);
+        latencyMs = READ_TIMEOUT_MS / 3;
+        int requests = 20;
+
+        // when
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<PaymentResult>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(paymentGateway.checkPaymentStatus("tx-" + i));
+        }
+        long submitMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        futures.forEach(CompletableFuture::join);
+        long totalMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        // then
+        assertThat(submitMillis).isLessThan(latencyMs);
+        assertThat(totalMillis).isLessThan(latencyMs * requests / 4);
+        assertThat(requestCount.get()).isEqualTo(requests);
+    }
+
+    @DisplayName("완료되지 않은 PG 요청이 max-in-flight 에 도달하면 PG 를 호출하지 않고 fallback 결과로 완료한다")
+    @Test
+    void processPayment_inFlightLimit_fallsBackWithoutCalling() {
+        // given
+        paymentGateway.shutdown();
+        paymentGateway = createGateway(1);
+        latencyMs = READ_TIMEOUT_MS / 3;
+        CompletableFuture<PaymentResult> first = paymentGateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL);
+
+        // when
+        PaymentResult rejected = paymentGateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL).join();
+        PaymentResult completed = first.join();
+        PaymentResult afterRelease = paymentGateway.processPayment(TEST_USER_ID, createTestPayment(), TEST_CALLBACK_URL).join();
+
+        // then
+        assertThat(rejected.status()).isEqualTo("FAIL");
+        assertThat(completed.status()).isEqualTo("PENDING");
+        assertThat(afterRelease.status()).isEqualTo("PENDING");
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    private HttpClientPaymentGateway createGateway(int maxInFlight) {
+        return new HttpClientPaymentGateway(
+                new ObjectMapper(),
+                new PaymentMetrics(meterRegistry),
+                circuitBreakerRegistry,
+                retryRegistry,
+                "http://localhost:" + stubServer.getAddress().getPort(),
+                "135135",
+                READ_TIMEOUT_MS,
+                READ_TIMEOUT_MS,
+                maxInFlight
+        );
+    }
+
+    private long pgRequestCount(String operation, String outcome) {
+        Timer timer = meterRegistry.find("payment.pg.request")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private Payment createTestPayment() {
+        return Payment.createPaymentForCard(
+                new Order(),
+                Money.of(BigDecimal.valueOf(10000)),
+                PaymentType.CARD,
+                CardType.SAMSUNG,
+                "1234-5678-9012-3456"
+        );
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
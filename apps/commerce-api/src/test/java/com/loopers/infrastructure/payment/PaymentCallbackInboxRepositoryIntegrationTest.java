@@ -0,0 +1,118 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInbox;
+import com.loopers.domain.payment.PaymentCallbackInboxRepository;
+import com.loopers.domain.payment.PaymentCallbackInboxService;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// PaymentCallbackInboxWorker 가 테스트 중에 콜백을 점유하지 않도록 폴링 주기를 늘린다.
+@ActiveProfiles("test")
+@SpringBootTest(properties = "payment.callback.inbox.poll-interval-ms=3600000")
+class PaymentCallbackInboxRepositoryIntegrationTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Autowired
+    private PaymentCallbackInboxRepository paymentCallbackInboxRepository;
+    @Autowired
+    private PaymentCallbackInboxService paymentCallbackInboxService;
+    @Autowired
+    private PaymentCallbackInboxJpaRepository paymentCallbackInboxJpaRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("같은 거래, 같은 결과의 재전송 콜백은 INSERT IGNORE 로 한 번만 저장되고, 결과가 다른 콜백은 따로 저장된다.")
+    @Test
+    void saveIfAbsent_dedupesByTransactionAndStatus() {
+        // when
+        boolean first = paymentCallbackInboxRepository.saveIfAbsent("tx-1", "PENDING", null);
+        boolean duplicate = paymentCallbackInboxRepository.saveIfAbsent("tx-1", "PENDING", null);
+        boolean changed = paymentCallbackInboxRepository.saveIfAbsent("tx-1", "SUCCESS", null);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(changed).isTrue();
+        assertThat(paymentCallbackInboxJpaRepository.findAll())
+                .extracting(PaymentCallbackInbox::getCallbackStatus)
+                .containsExactly("PENDING", "SUCCESS");
+    }
+
+    @DisplayName("다른 트랜잭션이 잠근 콜백은 SKIP LOCKED 로 건너뛰고 나머지만 점유한다.")
+    @Test
+    void claim_skipsLockedRows() {
+        // given
+        paymentCallbackInboxRepository.saveIfAbsent("tx-1", "SUCCESS", null);
+        paymentCallbackInboxRepository.saveIfAbsent("tx-2", "SUCCESS", null);
+
+        // when
+        List<String> claimedWhileLocked = transactionTemplate.execute(status -> {
+            List<PaymentCallbackInbox> locked = paymentCallbackInboxRepository.findReceivedForUpdate(ZonedDateTime.now(), 1);
+            assertThat(locked).extracting(PaymentCallbackInbox::getPgTransactionId).containsExactly("tx-1");
+
+            // 잠금을 유지한 채 다른 스레드(다른 커넥션)에서 점유
+            return CompletableFuture.supplyAsync(() -> paymentCallbackInboxService.claim(10, LEASE)).join()
+                    .stream()
+                    .map(PaymentCallbackInbox::getPgTransactionId)
+                    .toList();
+        });
+
+        // then
+        assertThat(claimedWhileLocked).containsExactly("tx-2");
+    }
+
+    @DisplayName("점유가 만료되지 않은 콜백은 다시 점유하지 않는다.")
+    @Test
+    void claim_skipsLeasedRows() {
+        // given
+        paymentCallbackInboxRepository.saveIfAbsent("tx-1", "SUCCESS", null);
+        paymentCallbackInboxService.claim(10, LEASE);
+
+        // when
+        List<PaymentCallbackInbox> claimed = paymentCallbackInboxService.claim(10, LEASE);
+
+        // then
+        assertThat(claimed).isEmpty();
+    }
+
+    @DisplayName("같은 거래의 앞선 콜백이 재시도 대기 중이면 뒤 콜백은 점유하지 않고, 점유되지 않은 앞선 콜백은 같은 배치에 먼저 담긴다.")
+    @Test
+    void claim_holdsLaterCallbackBehindRetryingOne() {
+        // given
+        paymentCallbackInboxRepository.saveIfAbsent("tx-1", "PENDING", null);
+        paymentCallbackInboxRepository.saveIfAbsent("tx-1", "SUCCESS", null);
+        paymentCallbackInboxRepository.saveIfAbsent("tx-2", "SUCCESS", null);
+        List<PaymentCallbackInbox> first = paymentCallbackInboxService.claim(10, LEASE);
+        Long failedId = first.get(0).getId();
+        paymentCallbackInboxService.recordFailure(failedId, "결제 없음");
+        paymentCallbackInboxService.releaseLease(List.of(first.get(1).getId()));
+
+        // when
+        List<PaymentCallbackInbox> claimed = paymentCallbackInboxService.claim(10, LEASE);
+
+        // then
+        assertThat(first).extracting(PaymentCallbackInbox::getCallbackStatus).containsExactly("PENDING", "SUCCESS", "SUCCESS");
+        assertThat(claimed).isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentMetrics paymentMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentMetrics = new PaymentMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("결제 완료 시 PROCESSING → 결과, PENDING → 결과 구간을 함께 기록한다")
+    void recordCompletion_recordsBothSpans() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
+        Payment payment = new Payment();
+        ReflectionTestUtils.setField(payment, "createdAt", createdAt);
+        ReflectionTestUtils.setField(payment, "processingStartedAt", createdAt.plusSeconds(1));
+
+        // when
+        paymentMetrics.recordCompletion(payment, PaymentStatus.SUCCESS, createdAt.plusSeconds(4));
+
+        // then
+        assertThat(meterRegistry.get("payment.lifecycle").tag("from", "PROCESSING").tag("to", "SUCCESS")
+                .timer().totalTime(TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(meterRegistry.get("payment.lifecycle").tag("from", "PENDING").tag("to", "SUCCESS")
+                .timer().totalTime(TimeUnit.SECONDS)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 태그의 PG 요청은 하나의 Timer 에 누적된다")
+    void recordPgRequest_accumulatesPerTags() {
+        // when
+        paymentMetrics.recordPgRequest("status", "success", Duration.ofMillis(100).toNanos());
+        paymentMetrics.recordPgRequest("status", "success", Duration.ofMillis(200).toNanos());
+        paymentMetrics.recordPgRequest("status", "timeout", Duration.ofSeconds(2).toNanos());
+
+        // then
+        assertThat(meterRegistry.get("payment.pg.request").tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("payment.pg.request").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 현황 게이지는 마지막으로 갱신한 값을 보고한다")
+    void backlogGauges_reportLatestValues() {
+        // when
+        paymentMetrics.updateStatusCheckBacklog(12, 3);
+        paymentMetrics.updateCallbackInboxBacklog(7);
+
+        // then
+        assertThat(meterRegistry.get("payment.status.check.backlog").tag("state", "due").gauge().value()).isEqualTo(12);
+        assertThat(meterRegistry.get("payment.status.check.backlog").tag("state", "exhausted").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("payment.callback.inbox.backlog").gauge().value()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.domain.ranking.PeriodType;
+import com.loopers.domain.ranking.RankingType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisRankingRepositoryTest {
+
+    @Test
+    @DisplayName("기간별 랭킹 키는 collector 가 갱신하는 키 형식과 같다")
+    void buildRankingKey() {
+        // given
+        LocalDate date = LocalDate.of(2025, 12, 25);
+
+        // when & then
+        assertThat(RedisRankingRepository.buildRankingKey(RankingType.LIKE, PeriodType.DAILY, date))
+                .isEqualTo("ranking:like:20251225");
+        assertThat(RedisRankingRepository.buildRankingKey(RankingType.LIKE, PeriodType.WEEKLY, date))
+                .isEqualTo("ranking:like:weekly:2025W52");
+        assertThat(RedisRankingRepository.buildRankingKey(RankingType.LIKE, PeriodType.MONTHLY, date))
+                .isEqualTo("ranking:like:monthly:202512");
+    }
+
+    @Test
+    @DisplayName("연말 주차는 ISO 주차 연도를 사용한다")
+    void buildRankingKey_weekBasedYear() {
+        // given - 2025-12-29 (월) 은 2026년 1주차
+        LocalDate date = LocalDate.of(2025, 12, 29);
+
+        // when
+        String key = RedisRankingRepository.buildRankingKey(RankingType.ALL, PeriodType.WEEKLY, date);
+
+        // then
+        assertThat(key).isEqualTo("ranking:all:weekly:2026W01");
+    }
+}
@@ -3,19 +3,27 @@ package com.loopers.infrastructure.scheduler;
 import com.loopers.domain.Money;
 import com.loopers.domain.order.Order;
 import com.loopers.domain.payment.*;
+import com.loopers.infrastructure.payment.PaymentMetrics;
+import com.loopers.infrastructure.scheduler.PaymentStatusCheckResult.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
@@ -24,95 +32,169 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class PaymentStatusCheckSchedulerTest {
 
-    @Mock
-    private PaymentRepository paymentRepository;
-
     @Mock
     private PaymentStatusCheckService paymentStatusCheckService;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+
     private PaymentStatusCheckScheduler scheduler;
 
     private Payment processingPayment;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new PaymentStatusCheckScheduler(paymentStatusCheckService, meterRegistry, new PaymentMetrics(meterRegistry));
+        ReflectionTestUtils.setField(scheduler, "batchSize", 200);
+        ReflectionTestUtils.setField(scheduler, "concurrency", 4);
+        ReflectionTestUtils.setField(scheduler, "updateBatchSize", 2);
+        scheduler.init();
+
         // PROCESSING 상태의 결제 생성
-        processingPayment = Payment.createPaymentForCard(
-                mock(Order.class),
-                Money.of(10000L),
-                PaymentType.CARD,
-                CardType.SAMSUNG,
-                "1234567890123456"
-        );
-        processingPayment.startProcessing("test-pg-transaction-id");
+        processingPayment = createProcessingPayment("test-pg-transaction-id");
     }
 
     @Test
-    @DisplayName("PROCESSING 상태인 결제가 없으면 아무 작업도 수행하지 않는다")
+    @DisplayName("확인 시간이 된 결제가 없으면 아무 작업도 수행하지 않는다")
     void checkProcessingPayments_NoPayments() {
         // given
-        given(paymentRepository.findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt()))
+        given(paymentStatusCheckService.claimDuePayments(anyInt()))
                 .willReturn(Collections.emptyList());
 
         // when
         scheduler.checkProcessingPayments();
 
         // then
-        verify(paymentRepository).findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt());
-        verify(paymentStatusCheckService, never()).checkPaymentStatus(anyString());
+        verify(paymentStatusCheckService).claimDuePayments(200);
+        verify(paymentStatusCheckService, never()).check(any(Payment.class));
+        verify(paymentStatusCheckService, never()).applyResults(anyList());
     }
 
     @Test
-    @DisplayName("PROCESSING 상태인 결제가 있으면 PaymentStatusCheckService를 호출한다")
+    @DisplayName("점유한 결제가 있으면 점유한 엔티티를 그대로 Service에 전달한다")
     void checkProcessingPayments_CallsService() {
         // given
-        List<Payment> processingPayments = Collections.singletonList(processingPayment);
-
-        given(paymentRepository.findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt()))
-                .willReturn(processingPayments);
+        given(paymentStatusCheckService.claimDuePayments(anyInt()))
+                .willReturn(Collections.singletonList(processingPayment));
+        given(paymentStatusCheckService.check(processingPayment))
+                .willReturn(completed(new PaymentStatusCheckResult(processingPayment.getPaymentId(), Outcome.SUCCESS, "결제 완료")));
 
         // when
         scheduler.checkProcessingPayments();
 
         // then
-        verify(paymentRepository).findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt());
-        verify(paymentStatusCheckService).checkPaymentStatus(processingPayment.getPaymentId());
+        verify(paymentStatusCheckService).check(processingPayment);
+        verify(paymentStatusCheckService).applyResults(List.of(
+                new PaymentStatusCheckResult(processingPayment.getPaymentId(), Outcome.SUCCESS, "결제 완료")));
     }
 
     @Test
-    @DisplayName("여러 개의 PROCESSING 결제를 순차적으로 Service에 위임한다")
+    @DisplayName("여러 개의 PROCESSING 결제를 확인하고 결과를 묶음 단위로 반영한다")
+    @SuppressWarnings("unchecked")
     void checkProcessingPayments_MultiplePayments() {
         // given
-        Payment payment1 = Payment.createPaymentForCard(
-                mock(Order.class),
-                Money.of(10000L),
-                PaymentType.CARD,
-                CardType.SAMSUNG,
-                "1234567890123456"
-        );
-        payment1.startProcessing("pg-tx-1");
+        Payment payment1 = createProcessingPayment("pg-tx-1");
+        Payment payment2 = createProcessingPayment("pg-tx-2");
+        Payment payment3 = createProcessingPayment("pg-tx-3");
+
+        given(paymentStatusCheckService.claimDuePayments(anyInt()))
+                .willReturn(Arrays.asList(payment1, payment2, payment3));
+        given(paymentStatusCheckService.check(any(Payment.class)))
+                .willAnswer(invocation -> {
+                    Payment payment = invocation.getArgument(0);
+                    return completed(new PaymentStatusCheckResult(payment.getPaymentId(), Outcome.PROCESSING, "결제 처리 중"));
+                });
 
-        Payment payment2 = Payment.createPaymentForCard(
-                mock(Order.class),
-                Money.of(20000L),
-                PaymentType.CARD,
-                CardType.KB,
-                "9876543210987654"
-        );
-        payment2.startProcessing("pg-tx-2");
+        // when
+        scheduler.checkProcessingPayments();
+
+        // then
+        ArgumentCaptor<List<PaymentStatusCheckResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(paymentStatusCheckService, times(2)).applyResults(captor.capture());
+
+        List<String> appliedIds = captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(PaymentStatusCheckResult::paymentId)
+                .toList();
+        assertThat(captor.getAllValues().get(0)).hasSize(2);
+        assertThat(appliedIds).containsExactly(
+                payment1.getPaymentId(), payment2.getPaymentId(), payment3.getPaymentId());
+    }
+
+    @Test
+    @DisplayName("응답을 기다리는 PG 조회 수는 concurrency 를 넘지 않는다")
+    void checkProcessingPayments_BoundedConcurrency() {
+        // given
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            payments.add(createProcessingPayment("pg-tx-" + i));
+        }
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        given(paymentStatusCheckService.claimDuePayments(anyInt()))
+                .willReturn(payments);
+        given(paymentStatusCheckService.check(any(Payment.class)))
+                .willAnswer(invocation -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Payment payment = invocation.getArgument(0);
+                    // PG 응답 지연을 흉내내어 20ms 뒤에 완료
+                    return CompletableFuture.supplyAsync(() -> {
+                        inFlight.decrementAndGet();
+                        return new PaymentStatusCheckResult(payment.getPaymentId(), Outcome.PROCESSING, "결제 처리 중");
+                    }, CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS));
+                });
+
+        // when
+        scheduler.checkProcessingPayments();
 
-        List<Payment> processingPayments = Arrays.asList(payment1, payment2);
+        // then
+        verify(paymentStatusCheckService, times(20)).check(any(Payment.class));
+        assertThat(maxInFlight.get()).isBetween(2, 4);
+    }
 
-        given(paymentRepository.findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt()))
-                .willReturn(processingPayments);
+    @Test
+    @DisplayName("실행마다 확인 건수, 소요 시간, 결과별 건수를 기록한다")
+    void checkProcessingPayments_RecordsMetrics() {
+        // given
+        Payment payment1 = createProcessingPayment("pg-tx-1");
+        Payment payment2 = createProcessingPayment("pg-tx-2");
+
+        given(paymentStatusCheckService.claimDuePayments(anyInt()))
+                .willReturn(Arrays.asList(payment1, payment2));
+        given(paymentStatusCheckService.check(payment1))
+                .willReturn(completed(new PaymentStatusCheckResult(payment1.getPaymentId(), Outcome.SUCCESS, "결제 완료")));
+        given(paymentStatusCheckService.check(payment2))
+                .willReturn(completed(new PaymentStatusCheckResult(payment2.getPaymentId(), Outcome.ERROR, "PG 시스템 장애")));
 
         // when
         scheduler.checkProcessingPayments();
 
         // then
-        verify(paymentRepository).findProcessingPaymentsForStatusCheck(any(LocalDateTime.class), anyInt());
-        verify(paymentStatusCheckService).checkPaymentStatus(payment1.getPaymentId());
-        verify(paymentStatusCheckService).checkPaymentStatus(payment2.getPaymentId());
+        assertThat(meterRegistry.get("payment.status.check.run").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("payment.status.check.checked").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("payment.status.check.outcome").tag("outcome", "success").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("payment.status.check.outcome").tag("outcome", "error").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("payment.lifecycle").tag("from", "PROCESSING").tag("to", "SUCCESS").timer().count())
+                .isEqualTo(1);
+    }
+
+    private CompletableFuture<PaymentStatusCheckResult> completed(PaymentStatusCheckResult result) {
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private Payment createProcessingPayment(String pgTransactionId) {
+        Payment payment = Payment.createPaymentForCard(
+                mock(Order.class),
+                Money.of(10000L),
+                PaymentType.CARD,
+                CardType.SAMSUNG,
+                "1234567890123456"
+        );
+        payment.startProcessing(pgTransactionId);
+        return payment;
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,9 @@ package com.loopers.infrastructure.scheduler;
 
 import com.loopers.domain.Money;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderCompensationQueueService;
 import com.loopers.domain.payment.*;
+import com.loopers.infrastructure.scheduler.PaymentStatusCheckResult.Outcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,10 +13,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -25,7 +33,13 @@ class PaymentStatusCheckServiceTest {
     private PaymentRepository paymentRepository;
 
     @Mock
-    private PaymentGateway paymentGateway;
+    private AsyncPaymentGateway asyncPaymentGateway;
+
+    @Mock
+    private PaymentStatusCheckPolicy paymentStatusCheckPolicy;
+
+    @Mock
+    private OrderCompensationQueueService orderCompensationQueueService;
 
     @InjectMocks
     private PaymentStatusCheckService paymentStatusCheckService;
@@ -48,158 +62,197 @@ class PaymentStatusCheckServiceTest {
     }
 
     @Test
-    @DisplayName("결제를 찾을 수 없으면 예외를 발생시킨다")
-    void checkPaymentStatus_PaymentNotFound() {
+    @DisplayName("점유한 결제는 확인 횟수에 따른 다음 확인 시간으로 미리 밀어 둔다")
+    void claimDuePayments_SchedulesNextCheck() {
         // given
-        given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.empty());
+        LocalDateTime nextCheckAt = LocalDateTime.now().plusSeconds(10);
+        given(paymentStatusCheckPolicy.getMaxCheckCount()).willReturn(10);
+        given(paymentRepository.findDueForStatusCheckForUpdate(any(LocalDateTime.class), eq(10), eq(200)))
+                .willReturn(List.of(processingPayment));
+        given(paymentStatusCheckPolicy.nextCheckAt(eq(0), any(LocalDateTime.class)))
+                .willReturn(nextCheckAt);
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        List<Payment> claimed = paymentStatusCheckService.claimDuePayments(200);
 
         // then
-        // 예외 발생 시 예외 처리 블록에서도 재조회 시도 (총 2번 호출)
-        verify(paymentRepository, times(2)).findByPaymentId(testPaymentId);
-        verify(paymentGateway, never()).checkPaymentStatus(anyString());
+        assertThat(claimed).containsExactly(processingPayment);
+        assertThat(processingPayment.getNextCheckAt()).isEqualTo(nextCheckAt);
+    }
+
+    @Test
+    @DisplayName("전달받은 결제 엔티티로 PG 조회만 하고 재조회하거나 저장하지 않는다")
+    void check_DoesNotRefetchPayment() {
+        // given
+        given(asyncPaymentGateway.checkPaymentStatus("test-pg-transaction-id"))
+                .willReturn(completedResult("test-pg-transaction-id", "SUCCESS", "결제 완료"));
+
+        // when
+        paymentStatusCheckService.check(processingPayment).join();
+
+        // then
+        verify(paymentRepository, never()).findByPaymentId(anyString());
         verify(paymentRepository, never()).save(any(Payment.class));
     }
 
     @Test
-    @DisplayName("PG 응답이 SUCCESS면 결제를 완료 처리한다")
-    void checkPaymentStatus_UpdateToSuccess() {
+    @DisplayName("PG 응답이 SUCCESS면 SUCCESS 결과를 반환한다")
+    void check_Success() {
+        // given
+        given(asyncPaymentGateway.checkPaymentStatus("test-pg-transaction-id"))
+                .willReturn(completedResult("test-pg-transaction-id", "SUCCESS", "결제 완료"));
+
+        // when
+        PaymentStatusCheckResult result = paymentStatusCheckService.check(processingPayment).join();
+
+        // then
+        assertThat(result.paymentId()).isEqualTo(testPaymentId);
+        assertThat(result.outcome()).isEqualTo(Outcome.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("PG 응답이 FAILED면 FAILED 결과를 반환한다")
+    void check_Failed() {
         // given
-        given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "SUCCESS", "결제 완료"));
+        given(asyncPaymentGateway.checkPaymentStatus("test-pg-transaction-id"))
+                .willReturn(completedResult("test-pg-transaction-id", "FAILED", "결제 실패"));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        PaymentStatusCheckResult result = paymentStatusCheckService.check(processingPayment).join();
 
         // then
-        assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
-        assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1);
-        verify(paymentRepository).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
-        verify(paymentRepository).save(processingPayment);
+        assertThat(result.outcome()).isEqualTo(Outcome.FAILED);
+        assertThat(result.message()).isEqualTo("결제 실패");
     }
 
     @Test
-    @DisplayName("PG 응답이 FAILED면 결제를 실패 처리한다")
-    void checkPaymentStatus_UpdateToFailed() {
+    @DisplayName("PG 응답이 FAIL이면 FAILED 결과를 반환한다")
+    void check_Fail() {
         // given
-        given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "FAILED", "결제 실패"));
+        given(asyncPaymentGateway.checkPaymentStatus("test-pg-transaction-id"))
+                .willReturn(completedResult("test-pg-transaction-id", "FAIL", "카드 승인 거부"));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        PaymentStatusCheckResult result = paymentStatusCheckService.check(processingPayment).join();
 
         // then
-        assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.FAILED);
-        assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1);
-        verify(paymentRepository).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
-        verify(paymentRepository).save(processingPayment);
+        assertThat(result.outcome()).isEqualTo(Outcome.FAILED);
     }
 
     @Test
-    @DisplayName("PG 응답이 FAIL이면 결제를 실패 처리한다")
-    void checkPaymentStatus_UpdateToFail() {
+    @DisplayName("PG 응답이 PROCESSING이면 PROCESSING 결과를 반환한다")
+    void check_StillProcessing() {
         // given
-        given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "FAIL", "카드 승인 거부"));
+        given(asyncPaymentGateway.checkPaymentStatus("test-pg-transaction-id"))
+                .willReturn(completedResult("test-pg-transaction-id", "PROCESSING", "결제 처리 중"));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        PaymentStatusCheckResult result = paymentStatusCheckService.check(processingPayment).join();
 
         // then
-        assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.FAILED);
-        assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1);
-        verify(paymentRepository).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
-        verify(paymentRepository).save(processingPayment);
+        assertThat(result.outcome()).isEqualTo(Outcome.PROCESSING);
+        assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
     }
 
     @Test
-    @DisplayName("PG 응답이 PROCESSING이면 상태를 유지하고 확인 횟수만 증가한다")
-    void checkPaymentStatus_StillProcessing() {
+    @DisplayName("PG 장애로 fallback 결과를 받으면 PROCESSING 이 아닌 ERROR 결과를 반환한다")
+    void check_FallbackIsError() {
         // given
-        given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "PROCESSING", "결제 처리 중"));
+        given(asyncPaymentGateway.checkPaymentStatus("test-pg-transaction-id"))
+                .willReturn(CompletableFuture.completedFuture(PaymentResult.fallbackOf(
+                        "test-pg-transaction-id", "PROCESSING", "결제 시스템 장애로 상태 조회에 실패했습니다.")));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        PaymentStatusCheckResult result = paymentStatusCheckService.check(processingPayment).join();
 
         // then
+        assertThat(result.outcome()).isEqualTo(Outcome.ERROR);
         assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
-        assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1);
-        verify(paymentRepository).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
-        verify(paymentRepository).save(processingPayment);
     }
 
     @Test
-    @DisplayName("PG 상태 확인 중 예외가 발생해도 확인 횟수는 증가하고 저장한다")
-    void checkPaymentStatus_ExceptionDuringPGCheck() {
+    @DisplayName("PG 상태 확인 중 예외가 발생하면 ERROR 결과를 반환한다")
+    void check_ExceptionDuringPGCheck() {
         // given
-        given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.of(processingPayment))
-                .willReturn(Optional.of(processingPayment)); // 예외 블록에서 재조회
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willThrow(new RuntimeException("PG 시스템 장애"));
+        given(asyncPaymentGateway.checkPaymentStatus("test-pg-transaction-id"))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("PG 시스템 장애")));
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        PaymentStatusCheckResult result = paymentStatusCheckService.check(processingPayment).join();
 
         // then
-        assertThat(processingPayment.getStatus()).isEqualTo(PaymentStatus.PROCESSING); // 상태 유지
-        assertThat(processingPayment.getStatusCheckCount()).isEqualTo(1); // 확인 횟수 증가
-        verify(paymentRepository, times(2)).findByPaymentId(testPaymentId); // 초기 조회 + 예외 블록 재조회
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
-        verify(paymentRepository, times(1)).save(processingPayment); // 에러 처리 블록에서 저장
+        assertThat(result.outcome()).isEqualTo(Outcome.ERROR);
+        assertThat(result.message()).isEqualTo("PG 시스템 장애");
     }
 
     @Test
-    @DisplayName("확인 횟수는 PG 호출 후 항상 증가한다")
-    void checkPaymentStatus_IncrementCheckCount() {
+    @DisplayName("PG 호출이 즉시 예외를 던져도 ERROR 결과로 완료한다")
+    void check_SynchronousException() {
         // given
-        given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.of(processingPayment));
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willReturn(new PaymentResult("test-pg-transaction-id", "SUCCESS", "결제 완료"));
+        given(asyncPaymentGateway.checkPaymentStatus("test-pg-transaction-id"))
+                .willThrow(new IllegalStateException("요청 생성 실패"));
+
+        // when
+        PaymentStatusCheckResult result = paymentStatusCheckService.check(processingPayment).join();
+
+        // then
+        assertThat(result.outcome()).isEqualTo(Outcome.ERROR);
+        assertThat(result.message()).isEqualTo("요청 생성 실패");
+    }
 
-        int initialCheckCount = processingPayment.getStatusCheckCount();
+    @Test
+    @DisplayName("결과 반영 시 모든 결제의 확인 횟수를 증가시키고 결과별로 묶어 상태를 전이한다")
+    void applyResults_GroupsByOutcome() {
+        // given
+        List<PaymentStatusCheckResult> results = List.of(
+                new PaymentStatusCheckResult("p1", Outcome.SUCCESS, "결제 완료"),
+                new PaymentStatusCheckResult("p2", Outcome.FAILED, "결제 실패"),
+                new PaymentStatusCheckResult("p3", Outcome.PROCESSING, "결제 처리 중"),
+                new PaymentStatusCheckResult("p4", Outcome.ERROR, "PG 시스템 장애"),
+                new PaymentStatusCheckResult("p5", Outcome.SUCCESS, "결제 완료")
+        );
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyResults(results);
 
         // then
-        assertThat(processingPayment.getStatusCheckCount()).isEqualTo(initialCheckCount + 1);
-        verify(paymentRepository).save(processingPayment);
+        verify(paymentRepository).incrementStatusCheckCount(
+                eq(List.of("p1", "p2", "p3", "p4", "p5")), any(LocalDateTime.class));
+        verify(paymentRepository).completeProcessingPayments(eq(List.of("p1", "p5")), any(LocalDateTime.class));
+        verify(paymentRepository).failProcessingPayments(List.of("p2"));
+        verify(orderCompensationQueueService).requestForFailedPayments(List.of("p2"), true);
     }
 
     @Test
-    @DisplayName("예외 발생 시 확인 횟수 증가 중 또 예외가 발생하면 로그만 남긴다")
-    void checkPaymentStatus_ExceptionDuringIncrementCheckCount() {
+    @DisplayName("전이할 결제가 없으면 확인 횟수만 증가시킨다")
+    void applyResults_OnlyIncrementsCheckCount() {
         // given
-        given(paymentRepository.findByPaymentId(testPaymentId))
-                .willReturn(Optional.of(processingPayment))
-                .willThrow(new RuntimeException("DB 연결 실패")); // 재조회 시 예외
-        given(paymentGateway.checkPaymentStatus("test-pg-transaction-id"))
-                .willThrow(new RuntimeException("PG 시스템 장애"));
+        List<PaymentStatusCheckResult> results = List.of(
+                new PaymentStatusCheckResult("p1", Outcome.PROCESSING, "결제 처리 중"),
+                new PaymentStatusCheckResult("p2", Outcome.ERROR, "PG 시스템 장애")
+        );
 
         // when
-        paymentStatusCheckService.checkPaymentStatus(testPaymentId);
+        paymentStatusCheckService.applyResults(results);
 
         // then
-        verify(paymentRepository, times(2)).findByPaymentId(testPaymentId);
-        verify(paymentGateway).checkPaymentStatus("test-pg-transaction-id");
-        // 예외 처리 블록 내부에서도 예외 발생하면 저장 안 됨 (로그만 남김)
+        verify(paymentRepository).incrementStatusCheckCount(eq(List.of("p1", "p2")), any(LocalDateTime.class));
+        verify(paymentRepository, never()).completeProcessingPayments(anyList(), any(LocalDateTime.class));
+        verify(paymentRepository, never()).failProcessingPayments(anyList());
+        verify(orderCompensationQueueService, never()).requestForFailedPayments(anyList(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("반영할 결과가 없으면 UPDATE를 실행하지 않는다")
+    void applyResults_Empty() {
+        // when
+        paymentStatusCheckService.applyResults(List.of());
+
+        // then
+        verifyNoInteractions(paymentRepository);
+    }
+
+    private CompletableFuture<PaymentResult> completedResult(String transactionId, String status, String message) {
+        return CompletableFuture.completedFuture(new PaymentResult(transactionId, status, message));
     }
 }
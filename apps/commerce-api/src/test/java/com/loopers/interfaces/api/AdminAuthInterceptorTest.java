@@ -0,0 +1,69 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdminAuthInterceptorTest {
+
+    private AdminAuthInterceptor adminAuthInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        adminAuthInterceptor = new AdminAuthInterceptor();
+        ReflectionTestUtils.setField(adminAuthInterceptor, "adminLdap", "loopers.admin");
+    }
+
+    @Test
+    @DisplayName("관리자 헤더가 있으면 요청을 통과시킨다")
+    void preHandle_allowsAdmin() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AdminAuthInterceptor.ADMIN_HEADER, "loopers.admin");
+
+        // when
+        boolean result = adminAuthInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("관리자 헤더가 없거나 값이 다르면 FORBIDDEN 을 던진다")
+    void preHandle_rejectsNonAdmin() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AdminAuthInterceptor.ADMIN_HEADER, "someone");
+
+        // when
+        CoreException result = assertThrows(CoreException.class,
+                () -> adminAuthInterceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("관리자 값이 설정되지 않았으면 빈 헤더를 포함한 모든 요청에 FORBIDDEN 을 던진다")
+    void preHandle_rejectsAllWhenUnset() {
+        // given
+        ReflectionTestUtils.setField(adminAuthInterceptor, "adminLdap", "");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AdminAuthInterceptor.ADMIN_HEADER, "");
+
+        // when
+        CoreException result = assertThrows(CoreException.class,
+                () -> adminAuthInterceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.FORBIDDEN);
+    }
+}
@@ -0,0 +1,89 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.domain.ranking.PeriodType;
+import com.loopers.domain.ranking.RankingType;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RankingPageTokenTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 25);
+
+    @Test
+    @DisplayName("다음 페이지 토큰을 디코딩하면 같은 조건의 다음 페이지가 된다")
+    void next_roundTrip() {
+        // when
+        String cursor = RankingPageToken.next(RankingType.LIKE, PeriodType.WEEKLY, DATE, 0, 20, 45);
+        RankingPageToken token = RankingPageToken.decode(cursor);
+
+        // then
+        assertThat(token).isEqualTo(new RankingPageToken(RankingType.LIKE, PeriodType.WEEKLY, DATE, 1, 20));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 다음 토큰은 null 이다")
+    void next_lastPage() {
+        // when
+        String cursor = RankingPageToken.next(RankingType.ALL, PeriodType.DAILY, DATE, 2, 20, 45);
+
+        // then
+        assertThat(cursor).isNull();
+    }
+
+    @Test
+    @DisplayName("항목 수가 맞지 않는 토큰은 BAD_REQUEST 예외가 발생한다")
+    void decode_malformed() {
+        // when
+        CoreException result = assertThrows(CoreException.class, () -> RankingPageToken.decode(encode("ALL|DAILY")));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어난 토큰은 BAD_REQUEST 예외가 발생한다")
+    void decode_sizeOutOfRange() {
+        // when
+        CoreException result = assertThrows(CoreException.class,
+                () -> RankingPageToken.decode(encode("ALL|DAILY|20251225|0|101")));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Base64 가 아닌 토큰은 BAD_REQUEST 예외가 발생한다")
+    void decode_notBase64() {
+        // when
+        CoreException result = assertThrows(CoreException.class, () -> RankingPageToken.decode("not-base64!"));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("순위가 int 범위를 넘는 페이지의 토큰은 BAD_REQUEST 예외가 발생한다")
+    void decode_pageOverflow() {
+        // given
+        String cursor = encode("ALL|DAILY|20251225|" + (Integer.MAX_VALUE / 100) + "|100");
+
+        // when
+        CoreException result = assertThrows(CoreException.class, () -> RankingPageToken.decode(cursor));
+
+        // then
+        assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,186 @@
+package com.loopers.support.async;
+
+import com.loopers.support.async.BulkheadExecutor.RejectionPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BulkheadExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 작업 수는 maxConcurrent 를 넘지 않는다")
+    void execute_boundedConcurrency() throws InterruptedException {
+        // given
+        executor = new BulkheadExecutor("test", 3, 100, RejectionPolicy.ABORT, meterRegistry);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(30);
+
+        // when
+        for (int i = 0; i < 30; i++) {
+            executor.execute(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                sleep(10);
+                inFlight.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업과 대기 중인 작업 수를 메트릭으로 노출한다")
+    void execute_exposesActiveAndQueuedGauges() throws InterruptedException {
+        // given
+        executor = new BulkheadExecutor("test", 2, 10, RejectionPolicy.ABORT, meterRegistry);
+        CountDownLatch started = new CountDownLatch(2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+        }
+
+        // then
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("bulkhead.active").tag("name", "test").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("bulkhead.queued").tag("name", "test").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ABORT 정책은 대기열이 가득 차면 호출 스레드에서 실행하지 않고 예외를 던진다")
+    void execute_abortWhenQueueFull() throws InterruptedException {
+        // given
+        executor = new BulkheadExecutor("test", 1, 1, RejectionPolicy.ABORT, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> await(release));
+
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            if (Thread.currentThread() == caller) {
+                ranOnCaller.incrementAndGet();
+            }
+        })).isInstanceOf(TaskRejectedException.class);
+        assertThat(ranOnCaller.get()).isZero();
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("name", "test").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DISCARD 정책은 대기열이 가득 차면 작업을 버리고 거부 건수만 기록한다")
+    void execute_discardWhenQueueFull() throws InterruptedException {
+        // given
+        executor = new BulkheadExecutor("test", 1, 1, RejectionPolicy.DISCARD, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> await(release));
+
+        // when
+        executor.execute(() -> { });
+
+        // then
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("name", "test").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS 정책은 대기열이 가득 차면 버리지 않고 호출 스레드에서 실행한다")
+    void execute_callerRunsWhenQueueFull() throws InterruptedException {
+        // given
+        executor = new BulkheadExecutor("test", 1, 1, RejectionPolicy.CALLER_RUNS, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> await(release));
+
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger();
+
+        // when
+        executor.execute(() -> {
+            if (Thread.currentThread() == caller) {
+                ranOnCaller.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(ranOnCaller.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("name", "test").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 작업까지 실행한 뒤 새 작업은 거부한다")
+    void destroy_drainsQueueThenRejects() throws InterruptedException {
+        // given
+        executor = new BulkheadExecutor("test", 1, 10, RejectionPolicy.ABORT, meterRegistry);
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                sleep(5);
+                completed.incrementAndGet();
+            });
+        }
+
+        // when
+        executor.destroy();
+
+        // then
+        assertThat(completed.get()).isEqualTo(5);
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.loopers.support.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheTest {
+
+    private static final long TTL_MS = 1000L;
+
+    private final LocalCache<String, String> cache = new LocalCache<>(TTL_MS, 2);
+
+    @Test
+    @DisplayName("ttl 이 지나기 전까지만 값을 반환한다")
+    void get_untilTtl() {
+        // given
+        cache.put("a", "A", 0L);
+
+        // when & then
+        assertThat(cache.get("a", TTL_MS - 1)).contains("A");
+        assertThat(cache.get("a", TTL_MS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 먼저 보관한 키를 제거하고 새 값은 보관한다")
+    void put_evictsEldest() {
+        // given
+        cache.put("a", "A", 0L);
+        cache.put("b", "B", 1L);
+
+        // when
+        cache.put("c", "C", 2L);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", 2L)).isEmpty();
+        assertThat(cache.get("b", 2L)).contains("B");
+        assertThat(cache.get("c", 2L)).contains("C");
+    }
+
+    @Test
+    @DisplayName("이미 있는 키를 다시 채우면 값과 만료 시각만 바뀌고 크기는 늘지 않는다")
+    void put_replaceExisting() {
+        // given
+        cache.put("a", "A", 0L);
+        cache.put("b", "B", 0L);
+
+        // when
+        cache.put("a", "A2", TTL_MS);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", TTL_MS)).contains("A2");
+        assertThat(cache.get("b", TTL_MS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제거한 키는 조회되지 않고 다시 채우면 새 값을 반환한다")
+    void remove_thenPut() {
+        // given
+        cache.put("a", "A", 0L);
+
+        // when
+        cache.remove("a");
+
+        // then
+        assertThat(cache.get("a", 1L)).isEmpty();
+        cache.put("a", "A2", 1L);
+        assertThat(cache.get("a", 1L)).contains("A2");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -25,6 +27,12 @@ public class RankingFacade {
     @Value("${ranking.ttl-days:2}")
     private int rankingTtlDays;
 
+    @Value("${ranking.period.weekly-ttl-days:14}")
+    private int weeklyTtlDays;
+
+    @Value("${ranking.period.monthly-ttl-days:62}")
+    private int monthlyTtlDays;
+
     @Value("${ranking.weight.like:0.2}")
     private double likeWeight;
 
@@ -38,8 +46,10 @@ public class RankingFacade {
     private static final String VIEW_RANKING_KEY_PREFIX = "ranking:view";
     private static final String ORDER_RANKING_KEY_PREFIX = "ranking:order";
     private static final String ALL_RANKING_KEY_PREFIX = "ranking:all";
+    private static final String RANKING_VERSION_KEY = "ranking:version";
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
 
     /**
      * 좋아요 랭킹 증분 업데이트 (가중치 적용)
@@ -73,6 +83,15 @@ public class RankingFacade {
         incrementRankingWithCompositeScores(ALL_RANKING_KEY_PREFIX, compositeScores);
     }
 
+    /**
+     * 랭킹 버전 증가 (INCR ranking:version)
+     * 한 번의 증분 반영을 마친 뒤 호출하며, commerce-api 는 버전이 바뀌면 랭킹 응답 캐시를 다시 채운다.
+     */
+    public void bumpRankingVersion() {
+        Long version = redisTemplate.opsForValue().increment(RANKING_VERSION_KEY);
+        log.debug("랭킹 버전 증가 - version: {}", version);
+    }
+
     /**
      * 랭킹 증분 업데이트 공통 로직 (가중치 적용)
      * @param prefix 랭킹 키 prefix (like/view/order)
@@ -85,48 +104,34 @@ public class RankingFacade {
             return;
         }
 
-        String todayKey = prefix + ":" + LocalDate.now().format(DATE_FORMATTER);
-
-        try {
-            redisTemplate.executePipelined(new SessionCallback<Object>() {
-                @Override
-                public Object execute(RedisOperations operations) throws DataAccessException {
-                    ZSetOperations<String, String> zSetOps = operations.opsForZSet();
-
-                    for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
-                        if (entry.getValue() == 0) continue;
-
-                        // 가중치 적용: score = delta × weight
-                        double score = entry.getValue() * weight;
-                        zSetOps.incrementScore(todayKey, entry.getKey().toString(), score);
-                    }
-
-                    operations.expire(todayKey, rankingTtlDays, TimeUnit.DAYS);
-                    return null;
-                }
-            });
-
-            log.info("{} 랭킹 증분 업데이트 완료 (가중치: {}) - 키: {}, 항목 수: {}",
-                    prefix, weight, todayKey, deltas.size());
+        // 가중치 적용: score = delta × weight
+        Map<Long, Double> scores = new HashMap<>();
+        deltas.forEach((productId, delta) -> scores.put(productId, delta * weight));
 
-        } catch (Exception e) {
-            log.error("{} 랭킹 증분 업데이트 실패 - 키: {}", prefix, todayKey, e);
-            throw new RuntimeException("랭킹 증분 업데이트 실패: " + todayKey, e);
-        }
+        incrementRankingWithCompositeScores(prefix, scores);
     }
 
     /**
-     * 종합 점수로 랭킹 증분 업데이트 (가중치 이미 적용된 점수)
+     * 점수로 랭킹 증분 업데이트 (가중치 이미 적용된 점수)
+     *
+     * 일간 키와 함께 이번 주/이번 달 키에도 같은 점수를 ZINCRBY 하여,
+     * 주간/월간 랭킹도 배치 집계 없이 Redis 에서 바로 조회할 수 있게 한다.
+     *
      * @param prefix 랭킹 키 prefix
-     * @param compositeScores 상품별 종합 점수 (Double)
+     * @param scores 상품별 점수 (Double)
      */
-    private void incrementRankingWithCompositeScores(String prefix, Map<Long, Double> compositeScores) {
-        if (compositeScores == null || compositeScores.isEmpty()) {
-            log.warn("종합 점수 없음, {} 랭킹 갱신 스킵", prefix);
+    private void incrementRankingWithCompositeScores(String prefix, Map<Long, Double> scores) {
+        if (scores == null || scores.isEmpty()) {
+            log.warn("점수 없음, {} 랭킹 갱신 스킵", prefix);
             return;
         }
 
-        String todayKey = prefix + ":" + LocalDate.now().format(DATE_FORMATTER);
+        LocalDate today = LocalDate.now();
+        Map<String, Integer> keyTtlDays = Map.of(
+                dailyKey(prefix, today), rankingTtlDays,
+                weeklyKey(prefix, today), weeklyTtlDays,
+                monthlyKey(prefix, today), monthlyTtlDays
+        );
 
         try {
             redisTemplate.executePipelined(new SessionCallback<Object>() {
@@ -134,23 +139,47 @@ public class RankingFacade {
                 public Object execute(RedisOperations operations) throws DataAccessException {
                     ZSetOperations<String, String> zSetOps = operations.opsForZSet();
 
-                    for (Map.Entry<Long, Double> entry : compositeScores.entrySet()) {
+                    for (Map.Entry<Long, Double> entry : scores.entrySet()) {
                         if (entry.getValue() == 0.0) continue;
 
-                        zSetOps.incrementScore(todayKey, entry.getKey().toString(), entry.getValue());
+                        for (String key : keyTtlDays.keySet()) {
+                            zSetOps.incrementScore(key, entry.getKey().toString(), entry.getValue());
+                        }
                     }
 
-                    operations.expire(todayKey, rankingTtlDays, TimeUnit.DAYS);
+                    keyTtlDays.forEach((key, ttlDays) -> operations.expire(key, ttlDays, TimeUnit.DAYS));
                     return null;
                 }
             });
 
             log.info("{} 랭킹 증분 업데이트 완료 - 키: {}, 항목 수: {}",
-                    prefix, todayKey, compositeScores.size());
+                    prefix, keyTtlDays.keySet(), scores.size());
 
         } catch (Exception e) {
-            log.error("{} 랭킹 증분 업데이트 실패 - 키: {}", prefix, todayKey, e);
-            throw new RuntimeException("랭킹 증분 업데이트 실패: " + todayKey, e);
+            log.error("{} 랭킹 증분 업데이트 실패 - 키: {}", prefix, keyTtlDays.keySet(), e);
+            throw new RuntimeException("랭킹 증분 업데이트 실패: " + keyTtlDays.keySet(), e);
         }
     }
+
+    /**
+     * 일간 키 (ranking:like:20251225)
+     */
+    static String dailyKey(String prefix, LocalDate date) {
+        return prefix + ":" + date.format(DATE_FORMATTER);
+    }
+
+    /**
+     * 주간 키 (ranking:like:weekly:2025W52) - ISO 주차 기준
+     */
+    static String weeklyKey(String prefix, LocalDate date) {
+        return prefix + ":weekly:" + String.format("%dW%02d",
+                date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+
+    /**
+     * 월간 키 (ranking:like:monthly:202512)
+     */
+    static String monthlyKey(String prefix, LocalDate date) {
+        return prefix + ":monthly:" + date.format(MONTH_FORMATTER);
+    }
 }
@@ -74,6 +74,9 @@ public class RankingScheduler {
                 rankingFacade.incrementProductAllRanking(compositeScores);
             }
 
+            // 모든 랭킹 키 반영 후 버전 증가 (commerce-api 랭킹 응답 캐시 무효화)
+            rankingFacade.bumpRankingVersion();
+
             for (ProductMetricsDaily record : unprocessedRecords) {
                 record.markAsProcessed();
             }
@@ -0,0 +1,54 @@
+package com.loopers.batch.coupon;
+
+import com.loopers.domain.coupon.CouponGrantRepository;
+import com.loopers.domain.coupon.UserIdRange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 지급 대상 사용자 PK 범위를 gridSize 개 구간으로 나누는 Partitioner
+ * 각 구간은 minId, maxId (양 끝 포함) 를 ExecutionContext 에 담아 워커 Step 으로 전달된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CouponGrantPartitioner implements Partitioner {
+
+    private final CouponGrantRepository couponGrantRepository;
+    private final String gender;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        Optional<UserIdRange> range = couponGrantRepository.findTargetUserIdRange(gender);
+        if (range.isEmpty()) {
+            log.info("쿠폰 지급 대상 사용자 없음 - gender: {}", gender);
+            return partitions;
+        }
+
+        long minId = range.get().minId();
+        long maxId = range.get().maxId();
+        long size = (maxId - minId) / gridSize + 1;
+
+        long start = minId;
+        for (int i = 0; start <= maxId; i++) {
+            long end = Math.min(start + size - 1, maxId);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong("minId", start);
+            context.putLong("maxId", end);
+            partitions.put("partition" + i, context);
+
+            start = end + 1;
+        }
+
+        log.info("쿠폰 지급 대상 분할 - id: {} ~ {}, 파티션: {}개", minId, maxId, partitions.size());
+        return partitions;
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.batch.coupon;
+
+import com.loopers.domain.coupon.CouponGrantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CouponGrantWriter implements ItemWriter<Long> {
+    private final CouponGrantRepository couponGrantRepository;
+    private final Long couponId;
+
+    @Override
+    public void write(Chunk<? extends Long> chunk) {
+        List<Long> userIds = new ArrayList<>(chunk.getItems());
+
+        couponGrantRepository.grant(couponId, userIds);
+
+        log.info("쿠폰 일괄 지급 완료 - couponId: {}, {} 건", couponId, userIds.size());
+    }
+}
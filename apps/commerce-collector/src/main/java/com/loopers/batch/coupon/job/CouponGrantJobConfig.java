@@ -0,0 +1,187 @@
+package com.loopers.batch.coupon.job;
+
+import com.loopers.batch.coupon.CouponGrantPartitioner;
+import com.loopers.batch.coupon.CouponGrantWriter;
+import com.loopers.batch.listener.ChunkListener;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import com.loopers.domain.coupon.CouponGrantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 쿠폰 일괄 지급 Job
+ *
+ * 전체 사용자 또는 성별 세그먼트에 쿠폰을 지급한다.
+ * 1. validateCouponGrantStep   : 지급 가능한 쿠폰인지 확인 (최대 발급 수량 제한이 있는 쿠폰은 지급하지 않음)
+ * 2. couponGrantManagerStep    : 사용자 PK 범위를 grid-size 개로 나누어 스레드별로 지급
+ *    - 각 파티션은 PK 키셋 페이징으로 사용자를 읽고 (JdbcPagingItemReader), multi-row INSERT IGNORE 로 저장
+ *    - 재시작 시 파티션별로 마지막 커밋 이후부터 이어서 처리
+ *    - 이미 지급된 (사용자, 쿠폰) 은 유니크 키로 건너뛰므로 같은 쿠폰으로 다시 실행해도 중복 지급되지 않음
+ * 3. syncIssuanceCountStep     : 쿠폰 발급 수량을 실제 지급 건수로 보정
+ *
+ * Job Parameters: couponId (필수), gender (선택, MALE/FEMALE), requestedAt (재지급 시 새 JobInstance 생성용)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class CouponGrantJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final CouponGrantRepository couponGrantRepository;
+
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final ChunkListener chunkListener;
+
+    @Value("${coupon.grant.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${coupon.grant.grid-size:4}")
+    private int gridSize;
+
+    @Bean
+    public Job couponGrantJob() {
+        return new JobBuilder("couponGrantJob", jobRepository)
+                .start(validateCouponGrantStep())
+                .next(couponGrantManagerStep())
+                .next(syncIssuanceCountStep())
+                .listener(jobListener)          // Job Listener
+                .build();
+    }
+
+    @Bean
+    public Step validateCouponGrantStep() {
+        return new StepBuilder("validateCouponGrantStep", jobRepository)
+                .tasklet(validateCouponGrantTasklet(null), transactionManager)
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    @Bean
+    public Step couponGrantManagerStep() {
+        return new StepBuilder("couponGrantManagerStep", jobRepository)
+                .partitioner("couponGrantWorkerStep", couponGrantPartitioner(null))
+                .step(couponGrantWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(couponGrantTaskExecutor())
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    @Bean
+    public Step couponGrantWorkerStep() {
+        return new StepBuilder("couponGrantWorkerStep", jobRepository)
+                .<Long, Long>chunk(chunkSize, transactionManager)
+                .reader(couponGrantUserReader(null, null, null))
+                .writer(couponGrantWriter(null))
+                .listener(stepMonitorListener)          // Step Listener
+                .listener(chunkListener)                // Chunk Listener
+                .build();
+    }
+
+    @Bean
+    public Step syncIssuanceCountStep() {
+        return new StepBuilder("syncIssuanceCountStep", jobRepository)
+                .tasklet(syncIssuanceCountTasklet(null), transactionManager)
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet validateCouponGrantTasklet(@Value("#{jobParameters['couponId']}") Long couponId) {
+        return (contribution, chunkContext) -> {
+            if (couponId == null || !couponGrantRepository.isGrantable(couponId)) {
+                throw new IllegalStateException("지급할 수 없는 쿠폰입니다 - couponId: " + couponId);
+            }
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    @Bean
+    @StepScope
+    public CouponGrantPartitioner couponGrantPartitioner(@Value("#{jobParameters['gender']}") String gender) {
+        return new CouponGrantPartitioner(couponGrantRepository, gender);
+    }
+
+    /**
+     * 파티션 범위 안의 사용자 PK 를 키셋 페이징으로 조회 (WHERE id > 마지막 id ORDER BY id LIMIT chunkSize)
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> couponGrantUserReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId,
+            @Value("#{jobParameters['gender']}") String gender
+    ) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("minId", minId);
+        parameters.put("maxId", maxId);
+
+        String where = "WHERE id BETWEEN :minId AND :maxId AND deleted_at IS NULL";
+        if (gender != null) {
+            where += " AND gender = :gender";
+            parameters.put("gender", gender);
+        }
+
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("couponGrantUserReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id")
+                .fromClause("FROM users")
+                .whereClause(where)
+                .parameterValues(parameters)
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> rs.getLong("id"))
+                .pageSize(chunkSize)  // Chunk Size와 일치
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<Long> couponGrantWriter(@Value("#{jobParameters['couponId']}") Long couponId) {
+        return new CouponGrantWriter(couponGrantRepository, couponId);
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet syncIssuanceCountTasklet(@Value("#{jobParameters['couponId']}") Long couponId) {
+        return (contribution, chunkContext) -> {
+            couponGrantRepository.syncIssuanceCount(couponId);
+            log.info("쿠폰 발급 수량 보정 완료 - couponId: {}", couponId);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    // 애플리케이션 공용 실행기를 대체하지 않도록 Bean 으로 등록하지 않는다
+    private TaskExecutor couponGrantTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("coupon-grant-");
+        executor.setConcurrencyLimit(gridSize);
+        return executor;
+    }
+}
@@ -8,6 +8,22 @@ import org.springframework.batch.item.ItemProcessor;
  * 월간 집계 DTO를 ProductMetricsMonthly 엔티티로 변환하는 Processor
  */
 public class MonthlyMetricsProcessor implements ItemProcessor<MonthlyAggregationDto, ProductMetricsMonthly> {
+
+    private final double likeWeight;
+    private final double viewWeight;
+    private final double orderWeight;
+
+    /**
+     * @param likeWeight 좋아요 가중치 (ranking.weight.like)
+     * @param viewWeight 조회 가중치 (ranking.weight.view)
+     * @param orderWeight 주문 가중치 (ranking.weight.order)
+     */
+    public MonthlyMetricsProcessor(double likeWeight, double viewWeight, double orderWeight) {
+        this.likeWeight = likeWeight;
+        this.viewWeight = viewWeight;
+        this.orderWeight = orderWeight;
+    }
+
     @Override
     public ProductMetricsMonthly process(MonthlyAggregationDto dto) {
         // DTO를 도메인 엔티티로 변환
@@ -19,13 +35,18 @@ public class MonthlyMetricsProcessor implements ItemProcessor<MonthlyAggregation
                 dto.getPeriodEndDate()
         );
 
-        // 집계 메트릭 업데이트
+        // 집계 메트릭 + 종합 점수 업데이트 (조회 시 정렬만 하도록 미리 계산)
         metrics.updateMetrics(
                 dto.getTotalLikeCount(),
                 dto.getTotalViewCount(),
-                dto.getTotalOrderCount()
+                dto.getTotalOrderCount(),
+                calculateCompositeScore(dto.getTotalLikeCount(), dto.getTotalViewCount(), dto.getTotalOrderCount())
         );
 
         return metrics;
     }
+
+    private double calculateCompositeScore(Long likeCount, Long viewCount, Long orderCount) {
+        return likeCount * likeWeight + viewCount * viewWeight + orderCount * orderWeight;
+    }
 }
@@ -43,6 +43,15 @@ public class ProductMetricsMonthlyJobConfig {
     private final StepMonitorListener stepMonitorListener;
     private final ChunkListener chunkListener;
 
+    @Value("${ranking.weight.like:0.2}")
+    private double likeWeight;
+
+    @Value("${ranking.weight.view:0.1}")
+    private double viewWeight;
+
+    @Value("${ranking.weight.order:0.6}")
+    private double orderWeight;
+
     @Bean
     public Job productMetricsMonthlyJob() {
         return new JobBuilder("productMetricsMonthlyJob", jobRepository)
@@ -89,7 +98,7 @@ public class ProductMetricsMonthlyJobConfig {
     @Bean
     @StepScope
     public ItemProcessor<MonthlyAggregationDto, ProductMetricsMonthly> monthlyMetricsProcessor() {
-        return new MonthlyMetricsProcessor();
+        return new MonthlyMetricsProcessor(likeWeight, viewWeight, orderWeight);
     }
 
     @Bean
@@ -45,6 +45,15 @@ public class ProductMetricsWeeklyJobConfig {
     private final StepMonitorListener stepMonitorListener;
     private final ChunkListener chunkListener;
 
+    @Value("${ranking.weight.like:0.2}")
+    private double likeWeight;
+
+    @Value("${ranking.weight.view:0.1}")
+    private double viewWeight;
+
+    @Value("${ranking.weight.order:0.6}")
+    private double orderWeight;
+
     @Bean
     public Job productMetricsWeeklyJob() {
         return new JobBuilder("productMetricsWeeklyJob", jobRepository)
@@ -93,7 +102,7 @@ public class ProductMetricsWeeklyJobConfig {
     @Bean
     @StepScope
     public ItemProcessor<WeeklyAggregationDto, ProductMetricsWeekly> weeklyMetricsProcessor() {
-        return new WeeklyMetricsProcessor();
+        return new WeeklyMetricsProcessor(likeWeight, viewWeight, orderWeight);
     }
 
     @Bean
@@ -0,0 +1,31 @@
+package com.loopers.domain.coupon;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponGrantRepository {
+
+    /**
+     * 지급 가능한 쿠폰인지 확인 (존재, 활성, 삭제되지 않음, 최대 발급 수량 제한 없음)
+     * 파티션이 병렬로 지급하므로 발급 수량 제한이 있는 쿠폰은 지급하지 않는다. (선착순 발급으로만 발급)
+     */
+    boolean isGrantable(Long couponId);
+
+    /**
+     * 지급 대상 사용자 PK 범위 조회
+     *
+     * @param gender 성별 (null 이면 전체 사용자)
+     */
+    Optional<UserIdRange> findTargetUserIdRange(String gender);
+
+    /**
+     * 쿠폰 일괄 지급
+     * 이미 지급된 (사용자, 쿠폰) 은 uk_issued_coupons_user_coupon 에 의해 건너뛴다.
+     */
+    void grant(Long couponId, List<Long> userIds);
+
+    /**
+     * 발급 수량을 실제 발급된 쿠폰 수로 맞춘다.
+     */
+    int syncIssuanceCount(Long couponId);
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 쿠폰 일괄 지급 대상 사용자 PK 범위 (양 끝 포함)
+ */
+public record UserIdRange(long minId, long maxId) {
+}
@@ -22,7 +22,11 @@ import java.time.ZonedDateTime;
                 )
         },
         indexes = {
-                @Index(name = "idx_year_month", columnList = "year, month"),
+                // 랭킹 정렬 기준별 인덱스 (기간 조건 + 정렬 컬럼 + product_id 로 filesort 없이 상위 N건 조회)
+                @Index(name = "idx_monthly_composite_score", columnList = "year, month, composite_score DESC, product_id"),
+                @Index(name = "idx_monthly_like_count", columnList = "year, month, total_like_count DESC, product_id"),
+                @Index(name = "idx_monthly_view_count", columnList = "year, month, total_view_count DESC, product_id"),
+                @Index(name = "idx_monthly_order_count", columnList = "year, month, total_order_count DESC, product_id"),
                 @Index(name = "idx_product_id", columnList = "product_id")
         }
 )
@@ -60,6 +64,12 @@ public class ProductMetricsMonthly extends BaseEntity {
     @Column(name = "total_order_count", nullable = false)
     private Long totalOrderCount = 0L;
 
+    /**
+     * 종합 점수 (집계 시 ranking.weight.* 가중치로 계산하여 저장)
+     */
+    @Column(name = "composite_score", nullable = false)
+    private Double compositeScore = 0.0;
+
     /**
      * 마지막 집계 시각
      */
@@ -91,11 +101,13 @@ public class ProductMetricsMonthly extends BaseEntity {
     public void updateMetrics(
             Long likeCount,
             Long viewCount,
-            Long orderCount
+            Long orderCount,
+            double compositeScore
     ) {
         this.totalLikeCount = likeCount;
         this.totalViewCount = viewCount;
         this.totalOrderCount = orderCount;
+        this.compositeScore = compositeScore;
         this.aggregatedAt = ZonedDateTime.now();
     }
 
@@ -106,6 +118,7 @@ public class ProductMetricsMonthly extends BaseEntity {
         this.totalLikeCount = 0L;
         this.totalViewCount = 0L;
         this.totalOrderCount = 0L;
+        this.compositeScore = 0.0;
         this.aggregatedAt = null;
     }
 }
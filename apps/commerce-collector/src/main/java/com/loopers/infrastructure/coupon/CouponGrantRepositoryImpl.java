@@ -0,0 +1,80 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.CouponGrantRepository;
+import com.loopers.domain.coupon.UserIdRange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class CouponGrantRepositoryImpl implements CouponGrantRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean isGrantable(Long couponId) {
+        Integer count = jdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*) FROM coupons
+                WHERE id = ? AND is_active = TRUE AND max_issuance_limit IS NULL AND deleted_at IS NULL
+                """,
+                Integer.class,
+                couponId
+        );
+        return count != null && count > 0;
+    }
+
+    @Override
+    public Optional<UserIdRange> findTargetUserIdRange(String gender) {
+        String sql = """
+            SELECT MIN(id) AS min_id, MAX(id) AS max_id
+            FROM users
+            WHERE deleted_at IS NULL
+              AND (? IS NULL OR gender = ?)
+        """;
+
+        return jdbcTemplate.query(sql, rs -> {
+            rs.next();
+            long minId = rs.getLong("min_id");
+            if (rs.wasNull()) {
+                return Optional.empty();
+            }
+            return Optional.of(new UserIdRange(minId, rs.getLong("max_id")));
+        }, gender, gender);
+    }
+
+    @Override
+    public void grant(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        // rewriteBatchedStatements 옵션으로 multi-row INSERT 로 전송됨
+        String sql = """
+            INSERT IGNORE INTO issued_coupons
+                (user_id, coupon_id, status, created_at, updated_at)
+            VALUES (?, ?, 'USABLE', UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))
+        """;
+
+        jdbcTemplate.batchUpdate(sql, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, couponId);
+        });
+    }
+
+    @Override
+    public int syncIssuanceCount(Long couponId) {
+        String sql = """
+            UPDATE coupons c
+            SET c.current_issuance_count = (SELECT COUNT(*) FROM issued_coupons ic WHERE ic.coupon_id = c.id),
+                c.updated_at = UTC_TIMESTAMP(6)
+            WHERE c.id = ?
+        """;
+
+        return jdbcTemplate.update(sql, couponId);
+    }
+}
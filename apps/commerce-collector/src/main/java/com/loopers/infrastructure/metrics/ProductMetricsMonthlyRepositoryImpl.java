@@ -37,13 +37,14 @@ public class ProductMetricsMonthlyRepositoryImpl implements ProductMetricsMonthl
         String sql = """
             INSERT INTO mv_product_metrics_monthly
                 (product_id, year, month, period_start_date, period_end_date,
-                 total_like_count, total_view_count, total_order_count,
+                 total_like_count, total_view_count, total_order_count, composite_score,
                  aggregated_at, created_at, updated_at)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
             ON DUPLICATE KEY UPDATE
                 total_like_count = VALUES(total_like_count),
                 total_view_count = VALUES(total_view_count),
                 total_order_count = VALUES(total_order_count),
+                composite_score = VALUES(composite_score),
                 aggregated_at = VALUES(aggregated_at),
                 updated_at = NOW()
         """;
@@ -60,7 +61,8 @@ public class ProductMetricsMonthlyRepositoryImpl implements ProductMetricsMonthl
                 ps.setLong(6, metrics.getTotalLikeCount());
                 ps.setLong(7, metrics.getTotalViewCount());
                 ps.setLong(8, metrics.getTotalOrderCount());
-                ps.setTimestamp(9, metrics.getAggregatedAt() != null
+                ps.setDouble(9, metrics.getCompositeScore());
+                ps.setTimestamp(10, metrics.getAggregatedAt() != null
                         ? Timestamp.from(metrics.getAggregatedAt().toInstant())
                         : new Timestamp(System.currentTimeMillis()));
             }
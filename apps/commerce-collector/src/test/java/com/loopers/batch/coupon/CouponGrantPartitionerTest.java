@@ -0,0 +1,78 @@
+package com.loopers.batch.coupon;
+
+import com.loopers.domain.coupon.CouponGrantRepository;
+import com.loopers.domain.coupon.UserIdRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CouponGrantPartitionerTest {
+
+    @Mock
+    private CouponGrantRepository couponGrantRepository;
+
+    @Test
+    @DisplayName("사용자 PK 범위를 겹치거나 빠지는 구간 없이 gridSize 개로 나눈다")
+    void partition_coversWholeRange() {
+        // given
+        given(couponGrantRepository.findTargetUserIdRange(null)).willReturn(Optional.of(new UserIdRange(1L, 10L)));
+        CouponGrantPartitioner partitioner = new CouponGrantPartitioner(couponGrantRepository, null);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+        // then
+        List<ExecutionContext> ranges = partitions.values().stream()
+                .sorted(Comparator.comparingLong(context -> context.getLong("minId")))
+                .toList();
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0).getLong("minId")).isEqualTo(1L);
+        assertThat(ranges.get(0).getLong("maxId")).isEqualTo(4L);
+        assertThat(ranges.get(1).getLong("minId")).isEqualTo(5L);
+        assertThat(ranges.get(1).getLong("maxId")).isEqualTo(8L);
+        assertThat(ranges.get(2).getLong("minId")).isEqualTo(9L);
+        assertThat(ranges.get(2).getLong("maxId")).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("사용자 수가 gridSize 보다 적으면 구간 수도 줄어든다")
+    void partition_smallRange() {
+        // given
+        given(couponGrantRepository.findTargetUserIdRange("FEMALE")).willReturn(Optional.of(new UserIdRange(7L, 7L)));
+        CouponGrantPartitioner partitioner = new CouponGrantPartitioner(couponGrantRepository, "FEMALE");
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // then
+        assertThat(partitions).hasSize(1);
+        assertThat(partitions.get("partition0").getLong("minId")).isEqualTo(7L);
+        assertThat(partitions.get("partition0").getLong("maxId")).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("지급 대상 사용자가 없으면 구간을 만들지 않는다")
+    void partition_noTarget() {
+        // given
+        given(couponGrantRepository.findTargetUserIdRange(null)).willReturn(Optional.empty());
+        CouponGrantPartitioner partitioner = new CouponGrantPartitioner(couponGrantRepository, null);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // then
+        assertThat(partitions).isEmpty();
+    }
+}
@@ -0,0 +1,186 @@
+package com.loopers.batch.coupon.job;
+
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.*;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = {
+        "spring.batch.job.enabled=false",
+        "spring.batch.jdbc.initialize-schema=always",
+        "coupon.grant.chunk-size=10",
+        "coupon.grant.grid-size=3"
+})
+class CouponGrantJobTest {
+
+    private static final long COUPON_ID = 1L;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    private Job couponGrantJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(couponGrantJob);
+        jobRepositoryTestUtils.removeJobExecutions();
+
+        // commerce-api 가 관리하는 테이블이므로 테스트에서 직접 생성
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS users (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                gender VARCHAR(10) NOT NULL,
+                deleted_at DATETIME(6) NULL
+            )
+        """);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS coupons (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                is_active BOOLEAN NOT NULL,
+                max_issuance_limit INT NULL,
+                current_issuance_count INT NOT NULL DEFAULT 0,
+                updated_at DATETIME(6) NULL,
+                deleted_at DATETIME(6) NULL
+            )
+        """);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS issued_coupons (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                coupon_id BIGINT NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                created_at DATETIME(6) NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                CONSTRAINT uk_issued_coupons_user_coupon UNIQUE (user_id, coupon_id)
+            )
+        """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS issued_coupons");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS coupons");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS users");
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("대상 사용자 전원에게 쿠폰을 한 장씩 지급하고 발급 수량을 보정한다")
+    void couponGrantJob_grantsAllTargetUsers() throws Exception {
+        // given: 남성 25명, 여성 20명, 탈퇴한 여성 1명
+        insertUsers("MALE", 25);
+        insertUsers("FEMALE", 20);
+        jdbcTemplate.update("INSERT INTO users (gender, deleted_at) VALUES ('FEMALE', NOW())");
+        jdbcTemplate.update("INSERT INTO coupons (id, is_active) VALUES (?, TRUE)", COUPON_ID);
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(parameters("FEMALE", 1L));
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(countIssued()).isEqualTo(20);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_issuance_count FROM coupons WHERE id = ?", Integer.class, COUPON_ID)).isEqualTo(20);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT DISTINCT u.gender FROM issued_coupons ic JOIN users u ON u.id = ic.user_id", String.class))
+                .containsExactly("FEMALE");
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰으로 다시 실행해도 이미 지급된 사용자에게는 중복 지급되지 않는다")
+    void couponGrantJob_idempotentPerUserAndCoupon() throws Exception {
+        // given
+        insertUsers("MALE", 30);
+        jdbcTemplate.update("INSERT INTO coupons (id, is_active) VALUES (?, TRUE)", COUPON_ID);
+        jobLauncherTestUtils.launchJob(parameters(null, 1L));
+
+        insertUsers("FEMALE", 5);
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(parameters(null, 2L));
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(countIssued()).isEqualTo(35);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT user_id) FROM issued_coupons", Integer.class)).isEqualTo(35);
+    }
+
+    @Test
+    @DisplayName("비활성화된 쿠폰은 지급하지 않고 Job 이 실패한다")
+    void couponGrantJob_inactiveCoupon() throws Exception {
+        // given
+        insertUsers("MALE", 5);
+        jdbcTemplate.update("INSERT INTO coupons (id, is_active) VALUES (?, FALSE)", COUPON_ID);
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(parameters(null, 1L));
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(countIssued()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 발급 수량 제한이 있는 쿠폰은 지급하지 않고 Job 이 실패한다")
+    void couponGrantJob_limitedCoupon() throws Exception {
+        // given
+        insertUsers("MALE", 5);
+        jdbcTemplate.update("INSERT INTO coupons (id, is_active, max_issuance_limit) VALUES (?, TRUE, 3)", COUPON_ID);
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(parameters(null, 1L));
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(countIssued()).isZero();
+    }
+
+    private void insertUsers(String gender, int count) {
+        List<Object[]> rows = IntStream.range(0, count)
+                .mapToObj(i -> new Object[]{gender})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO users (gender) VALUES (?)", rows);
+    }
+
+    private Integer countIssued() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issued_coupons WHERE coupon_id = ?", Integer.class, COUPON_ID);
+    }
+
+    private JobParameters parameters(String gender, Long requestedAt) {
+        JobParametersBuilder builder = new JobParametersBuilder()
+                .addLong("couponId", COUPON_ID)
+                .addLong("requestedAt", requestedAt);
+        if (gender != null) {
+            builder.addString("gender", gender);
+        }
+        return builder.toJobParameters();
+    }
+}
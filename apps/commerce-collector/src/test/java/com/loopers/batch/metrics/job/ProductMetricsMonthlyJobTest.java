@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @SpringBootTest
 @SpringBatchTest
@@ -119,6 +120,7 @@ class ProductMetricsMonthlyJobTest {
         assertThat(firstProduct.getTotalLikeCount()).isEqualTo(310L);  // 10 * 31일
         assertThat(firstProduct.getTotalViewCount()).isEqualTo(3100L); // 100 * 31일
         assertThat(firstProduct.getTotalOrderCount()).isEqualTo(155L); // 5 * 31일
+        assertThat(firstProduct.getCompositeScore()).isCloseTo(465.0, within(0.0001)); // 310*0.2 + 3100*0.1 + 155*0.6
         assertThat(firstProduct.getAggregatedAt()).isNotNull();
     }
 
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @SpringBootTest
 @SpringBatchTest
@@ -119,6 +120,7 @@ class ProductMetricsWeeklyJobTest {
         assertThat(firstProduct.getTotalLikeCount()).isEqualTo(70L);  // 10 * 7일
         assertThat(firstProduct.getTotalViewCount()).isEqualTo(700L); // 100 * 7일
         assertThat(firstProduct.getTotalOrderCount()).isEqualTo(35L); // 5 * 7일
+        assertThat(firstProduct.getCompositeScore()).isCloseTo(105.0, within(0.0001)); // 70*0.2 + 700*0.1 + 35*0.6
         assertThat(firstProduct.getAggregatedAt()).isNotNull();
     }
 
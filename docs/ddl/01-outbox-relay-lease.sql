@@ -0,0 +1,9 @@
+-- Outbox 다중 노드 릴레이 점유(lease) 컬럼
+-- aggregate_hash 는 애플리케이션이 aggregateId.hashCode() 로 채운다.
+-- 기존 row 는 0(파티션 0)으로 채워지므로, partition-count 를 늘리기 전에 기존 PENDING/FAILED 이벤트가 모두 발행되었는지 확인한다.
+ALTER TABLE outbox_events
+    ADD COLUMN aggregate_hash INT NOT NULL DEFAULT 0,
+    ADD COLUMN lease_owner VARCHAR(255) NULL,
+    ADD COLUMN lease_expires_at DATETIME(6) NULL,
+    ADD INDEX idx_outbox_events_status_created_at (status, created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,5 @@
+-- Outbox 즉시 발행 시 같은 aggregate 의 앞선 미발행 이벤트 확인용 인덱스
+-- (OutboxEventJpaRepository.findClaimableByIdsForUpdate 의 NOT EXISTS 서브쿼리)
+ALTER TABLE outbox_events
+    ADD INDEX idx_outbox_events_aggregate (aggregate_type, aggregate_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
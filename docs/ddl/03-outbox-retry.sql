@@ -0,0 +1,17 @@
+-- Outbox 발행 재시도(backoff) / PARKED 상태
+-- status 는 ENUM 컬럼이므로 PARKED 값을 추가한다. (값 추가만이므로 기존 row 는 변경되지 않음)
+ALTER TABLE outbox_events
+    MODIFY COLUMN status ENUM ('PENDING', 'PUBLISHED', 'FAILED', 'PARKED') NOT NULL;
+
+ALTER TABLE outbox_events
+    ADD COLUMN attempt_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at DATETIME(6) NULL,
+    ADD COLUMN last_error VARCHAR(500) NULL,
+    ADD INDEX idx_outbox_events_status_next_attempt_at (status, next_attempt_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 이전 버전에서 FAILED 로 남은 이벤트는 재시도 시각이 없어 조회되지 않으므로 바로 재시도되도록 채운다.
+UPDATE outbox_events
+SET next_attempt_at = UTC_TIMESTAMP(6)
+WHERE status = 'FAILED'
+  AND next_attempt_at IS NULL;
@@ -0,0 +1,5 @@
+-- 보관 기간이 지난 PUBLISHED 이벤트 정리용 인덱스
+-- (OutboxEventJpaRepository.findPublishedBeforeForUpdate / deletePublishedBefore 가 published_at 순서로 읽고 삭제)
+ALTER TABLE outbox_events
+    ADD INDEX idx_outbox_events_status_published_at (status, published_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
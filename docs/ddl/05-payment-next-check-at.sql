@@ -0,0 +1,6 @@
+-- 결제 상태 확인 스케줄 (PaymentStatusCheckScheduler 가 next_check_at 이 지난 PROCESSING 결제를 SKIP LOCKED 로 점유)
+-- 기존 PROCESSING 결제는 next_check_at 이 NULL 로 남으며, 조회 조건(IS NULL OR <= now)에 포함되어 다음 주기에 바로 확인된다.
+ALTER TABLE payment
+    ADD COLUMN next_check_at DATETIME(6) NULL,
+    ADD INDEX idx_payment_status_next_check_at (status, next_check_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
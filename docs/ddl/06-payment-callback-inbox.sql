@@ -0,0 +1,20 @@
+-- PG 콜백 수신함 (Inbox)
+-- (pg_transaction_id, callback_status) 유니크 키로 같은 결과의 재전송 콜백은 INSERT IGNORE 로 한 번만 저장된다.
+CREATE TABLE payment_callback_inbox
+(
+    id                BIGINT                                   NOT NULL AUTO_INCREMENT,
+    pg_transaction_id VARCHAR(255)                             NOT NULL,
+    callback_status   VARCHAR(255)                             NOT NULL,
+    reason            VARCHAR(500)                             NULL,
+    status            ENUM ('RECEIVED', 'PROCESSED', 'FAILED') NOT NULL,
+    lease_expires_at  DATETIME(6)                              NULL,
+    attempt_count     INT                                      NOT NULL,
+    last_error        VARCHAR(500)                             NULL,
+    processed_at      DATETIME(6)                              NULL,
+    created_at        DATETIME(6)                              NOT NULL,
+    updated_at        DATETIME(6)                              NOT NULL,
+    deleted_at        DATETIME(6)                              NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_payment_callback_inbox_pg_transaction_id_callback_status (pg_transaction_id, callback_status),
+    KEY idx_payment_callback_inbox_status_id (status, id)
+);
@@ -0,0 +1,5 @@
+-- 결제 상태 전이 메트릭용 PG 접수(PROCESSING 전환) 시각
+-- 기존 결제는 NULL 로 남으며, 이 경우 PROCESSING → 결과 구간은 기록하지 않는다. (PaymentMetrics.recordCompletion)
+ALTER TABLE payment
+    ADD COLUMN processing_started_at DATETIME(6) NULL,
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,19 @@
+-- 주문 보상 대기열
+-- order_id 유니크 키로 같은 주문의 보상 요청은 한 번만 저장되며, (status, id) 인덱스로 PENDING 건을 오래된 순서로 점유한다.
+CREATE TABLE order_compensation
+(
+    id               BIGINT                                     NOT NULL AUTO_INCREMENT,
+    order_id         BIGINT                                     NOT NULL,
+    refund_point     BIT                                        NOT NULL,
+    status           ENUM ('PENDING', 'COMPLETED', 'FAILED')    NOT NULL,
+    lease_expires_at DATETIME(6)                                NULL,
+    attempt_count    INT                                        NOT NULL,
+    last_error       VARCHAR(500)                               NULL,
+    completed_at     DATETIME(6)                                NULL,
+    created_at       DATETIME(6)                                NOT NULL,
+    updated_at       DATETIME(6)                                NOT NULL,
+    deleted_at       DATETIME(6)                                NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_order_compensation_order_id (order_id),
+    KEY idx_order_compensation_status_id (status, id)
+);
@@ -0,0 +1,6 @@
+-- 선착순 쿠폰 발급 저장(INSERT IGNORE)의 멱등성을 위한 사용자별 쿠폰 유니크 키
+-- 적용 전 중복 발급 row 가 없는지 확인한다. (결과가 있으면 정리 후 적용)
+--   SELECT user_id, coupon_id, COUNT(*) FROM issued_coupons GROUP BY user_id, coupon_id HAVING COUNT(*) > 1;
+ALTER TABLE issued_coupons
+    ADD UNIQUE KEY uk_issued_coupons_user_coupon (user_id, coupon_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
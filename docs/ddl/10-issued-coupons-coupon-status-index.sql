@@ -0,0 +1,5 @@
+-- 발급 쿠폰 만료 처리용 인덱스
+-- 종료 쿠폰의 USABLE 발급 건 존재 확인(EXISTS)과 청크 잠금 조회(coupon_id, status, id > ?)가 이 인덱스를 따라간다.
+ALTER TABLE issued_coupons
+    ADD INDEX idx_issued_coupons_coupon_status (coupon_id, status),
+    ALGORITHM = INPLACE, LOCK = NONE;
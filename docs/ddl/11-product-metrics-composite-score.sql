@@ -0,0 +1,27 @@
+-- 주간/월간 랭킹 종합 점수 컬럼 및 정렬 기준별 인덱스
+-- 종합 점수를 집계 시 저장하여, 랭킹 조회가 (기간 조건 + 정렬 컬럼 + product_id) 인덱스를 따라 filesort 없이 상위 N건을 읽는다.
+-- 기존 기간 인덱스(idx_year_week, idx_year_month)는 새 인덱스의 prefix 이므로 제거한다.
+-- 적용 후 기존 기간은 배치를 다시 실행해 composite_score 를 채운다. (그 전까지는 0)
+ALTER TABLE mv_product_metrics_weekly
+    ADD COLUMN composite_score DOUBLE NOT NULL DEFAULT 0,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE mv_product_metrics_weekly
+    ADD INDEX idx_weekly_composite_score (year, week, composite_score DESC, product_id),
+    ADD INDEX idx_weekly_like_count (year, week, total_like_count DESC, product_id),
+    ADD INDEX idx_weekly_view_count (year, week, total_view_count DESC, product_id),
+    ADD INDEX idx_weekly_order_count (year, week, total_order_count DESC, product_id),
+    DROP INDEX idx_year_week,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE mv_product_metrics_monthly
+    ADD COLUMN composite_score DOUBLE NOT NULL DEFAULT 0,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE mv_product_metrics_monthly
+    ADD INDEX idx_monthly_composite_score (year, month, composite_score DESC, product_id),
+    ADD INDEX idx_monthly_like_count (year, month, total_like_count DESC, product_id),
+    ADD INDEX idx_monthly_view_count (year, month, total_view_count DESC, product_id),
+    ADD INDEX idx_monthly_order_count (year, month, total_order_count DESC, product_id),
+    DROP INDEX idx_year_month,
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,18 @@
+package com.loopers.kafka;
+
+/**
+ * Outbox 이벤트 발행 시 Kafka 헤더로 함께 전달하는 envelope 필드
+ * Consumer 는 본문을 파싱하지 않고 헤더만으로 라우팅/중복 체크를 할 수 있다.
+ */
+public final class EventHeaders {
+
+    public static final String EVENT_ID = "eventId";
+    public static final String EVENT_TYPE = "eventType";
+    public static final String AGGREGATE_TYPE = "aggregateType";
+    public static final String AGGREGATE_ID = "aggregateId";
+    public static final String CONTENT_TYPE = "contentType";
+
+    private EventHeaders() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+}